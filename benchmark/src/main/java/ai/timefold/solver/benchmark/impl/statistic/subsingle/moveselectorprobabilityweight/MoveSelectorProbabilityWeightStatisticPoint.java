@@ -0,0 +1,35 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.moveselectorprobabilityweight;
+
+import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
+
+public class MoveSelectorProbabilityWeightStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final String moveSelector;
+    private final double probabilityWeight;
+
+    public MoveSelectorProbabilityWeightStatisticPoint(long timeMillisSpent, String moveSelector,
+            double probabilityWeight) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.moveSelector = moveSelector;
+        this.probabilityWeight = probabilityWeight;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public String getMoveSelector() {
+        return moveSelector;
+    }
+
+    public double getProbabilityWeight() {
+        return probabilityWeight;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithStrings(timeMillisSpent, moveSelector, Double.toString(probabilityWeight));
+    }
+
+}
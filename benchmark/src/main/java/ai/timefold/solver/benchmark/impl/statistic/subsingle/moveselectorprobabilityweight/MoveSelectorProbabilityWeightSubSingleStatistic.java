@@ -0,0 +1,66 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.moveselectorprobabilityweight;
+
+import static java.util.Collections.singletonList;
+
+import java.util.List;
+
+import ai.timefold.solver.benchmark.config.statistic.SingleStatisticType;
+import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
+import ai.timefold.solver.benchmark.impl.report.LineChart;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+
+import io.micrometer.core.instrument.Tags;
+
+public class MoveSelectorProbabilityWeightSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, MoveSelectorProbabilityWeightStatisticPoint, LineChart<Long, Double>> {
+
+    private MoveSelectorProbabilityWeightSubSingleStatistic() {
+        // For JAXB.
+    }
+
+    public MoveSelectorProbabilityWeightSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.MOVE_SELECTOR_PROBABILITY_WEIGHT);
+    }
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag) {
+        registry.addListener(SolverMetric.MOVE_SELECTOR_PROBABILITY_WEIGHT,
+                timeMillisSpent -> registry.getMeterIds(SolverMetric.MOVE_SELECTOR_PROBABILITY_WEIGHT, runTag)
+                        .forEach(meterId -> {
+                            String moveSelector = meterId.getTag("move.selector");
+                            registry.getGaugeValue(SolverMetric.MOVE_SELECTOR_PROBABILITY_WEIGHT,
+                                    runTag.and("move.selector", moveSelector),
+                                    probabilityWeight -> pointList.add(new MoveSelectorProbabilityWeightStatisticPoint(
+                                            timeMillisSpent, moveSelector, probabilityWeight.doubleValue())));
+                        }));
+    }
+
+    @Override
+    protected String getCsvHeader() {
+        return MoveSelectorProbabilityWeightStatisticPoint.buildCsvLine("timeMillisSpent", "moveSelector",
+                "probabilityWeight");
+    }
+
+    @Override
+    protected MoveSelectorProbabilityWeightStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new MoveSelectorProbabilityWeightStatisticPoint(Long.parseLong(csvLine.get(0)),
+                csvLine.get(1), Double.parseDouble(csvLine.get(2)));
+    }
+
+    @Override
+    protected List<LineChart<Long, Double>> generateCharts(BenchmarkReport benchmarkReport) {
+        LineChart.Builder<Long, Double> builder = new LineChart.Builder<>();
+        for (MoveSelectorProbabilityWeightStatisticPoint point : getPointList()) {
+            builder.add(point.getMoveSelector(), point.getTimeMillisSpent(), point.getProbabilityWeight());
+        }
+        return singletonList(builder.build("moveSelectorProbabilityWeightSubSingleStatisticChart",
+                subSingleBenchmarkResult.getName() + " move selector probability weight statistic",
+                "Time spent", "Probability weight", true, true, false));
+    }
+
+}
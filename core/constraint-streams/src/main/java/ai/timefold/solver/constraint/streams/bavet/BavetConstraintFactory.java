@@ -7,6 +7,7 @@ import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import ai.timefold.solver.constraint.streams.bavet.common.BavetAbstractConstraintStream;
+import ai.timefold.solver.constraint.streams.bavet.common.LambdaCanonicalizer;
 import ai.timefold.solver.constraint.streams.bavet.uni.BavetAbstractUniConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.uni.BavetForEachUniConstraintStream;
 import ai.timefold.solver.constraint.streams.common.InnerConstraintFactory;
@@ -26,6 +27,8 @@ public final class BavetConstraintFactory<Solution_>
 
     private final Map<BavetAbstractConstraintStream<Solution_>, BavetAbstractConstraintStream<Solution_>> sharingStreamMap =
             new HashMap<>(256);
+    private final LambdaCanonicalizer lambdaCanonicalizer = new LambdaCanonicalizer();
+    private int sharedStreamCount = 0;
 
     public BavetConstraintFactory(SolutionDescriptor<Solution_> solutionDescriptor, EnvironmentMode environmentMode) {
         this.solutionDescriptor = solutionDescriptor;
@@ -62,10 +65,28 @@ public final class BavetConstraintFactory<Solution_>
      */
     public <Stream_ extends BavetAbstractConstraintStream<Solution_>> Stream_ share(Stream_ stream,
             Consumer<Stream_> consumer) {
-        return (Stream_) sharingStreamMap.computeIfAbsent(stream, k -> {
+        Stream_ sharedStream = (Stream_) sharingStreamMap.computeIfAbsent(stream, k -> {
             consumer.accept(stream);
             return stream;
         });
+        if (sharedStream != stream) {
+            sharedStreamCount++;
+        }
+        return sharedStream;
+    }
+
+    /**
+     * Enables node sharing for streams built from lambdas which are equivalent, but not the same instance.
+     * To be called on every lambda before it is passed to a stream that is {@link #share(BavetAbstractConstraintStream)
+     * shared}.
+     *
+     * @param function sometimes null
+     * @param <Function_> the type of the function, typically a functional interface
+     * @return null if the function is null, otherwise an equivalent function
+     * @see LambdaCanonicalizer
+     */
+    public <Function_> Function_ canonicalize(Function_ function) {
+        return lambdaCanonicalizer.canonicalize(function);
     }
 
     // ************************************************************************
@@ -147,4 +168,20 @@ public final class BavetConstraintFactory<Solution_>
         return defaultConstraintPackage;
     }
 
+    /**
+     * @return at least 0, the number of streams which were not added to the network,
+     *         because an equal stream was already present
+     */
+    public int getSharedStreamCount() {
+        return sharedStreamCount;
+    }
+
+    /**
+     * @return at least 0, the number of lambdas which were replaced by an equivalent lambda,
+     *         so that the streams which use them can be shared
+     */
+    public int getCanonicalizedLambdaCount() {
+        return lambdaCanonicalizer.getCanonicalizedLambdaCount();
+    }
+
 }
@@ -1,17 +1,26 @@
 package ai.timefold.solver.constraint.streams.bavet;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 
+import ai.timefold.solver.constraint.streams.bavet.common.NodeProfiler;
 import ai.timefold.solver.constraint.streams.bavet.common.PropagationQueue;
 import ai.timefold.solver.constraint.streams.bavet.common.Propagator;
 import ai.timefold.solver.constraint.streams.bavet.uni.AbstractForEachUniNode;
 import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
 import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.analysis.ConstraintStreamProfile;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 
 /**
  * The type is public to make it easier for Bavet-specific minimal bug reproducers to be created.
@@ -25,7 +34,13 @@ public final class BavetConstraintSession<Score_ extends Score<Score_>> {
     private final AbstractScoreInliner<Score_> scoreInliner;
     private final Map<Class<?>, List<AbstractForEachUniNode<Object>>> declaredClassToNodeMap;
     private final Propagator[][] layeredNodes; // First level is the layer, second determines iteration order.
+    // First level is the layer, second is a group of nodes which propagate independently from the other groups.
+    private final Propagator[][][] layeredNodeGroups; // Null if parallel propagation is disabled.
+    private final int parallelPropagationThreshold;
+    private final NodeProfiler[] nodeProfilers; // Null if profiling is disabled, otherwise indexed by node id.
+    private final NodeProfiler[][] layeredNodeProfilers; // Null if profiling is disabled.
     private final Map<Class<?>, AbstractForEachUniNode<Object>[]> effectiveClassToNodeArrayMap;
+    private boolean propagating = false; // Remains true if a propagation failed.
 
     BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner) {
         this(scoreInliner, Collections.emptyMap(), new Propagator[0][0]);
@@ -34,16 +49,93 @@ public final class BavetConstraintSession<Score_ extends Score<Score_>> {
     BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner,
             Map<Class<?>, List<AbstractForEachUniNode<Object>>> declaredClassToNodeMap,
             Propagator[][] layeredNodes) {
+        this(scoreInliner, declaredClassToNodeMap, layeredNodes, null, Integer.MAX_VALUE, null);
+    }
+
+    BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner,
+            Map<Class<?>, List<AbstractForEachUniNode<Object>>> declaredClassToNodeMap,
+            Propagator[][] layeredNodes, Propagator[][][] layeredNodeGroups, int parallelPropagationThreshold,
+            NodeProfiler[] nodeProfilers) {
         this.scoreInliner = scoreInliner;
         this.declaredClassToNodeMap = declaredClassToNodeMap;
         this.layeredNodes = layeredNodes;
+        this.layeredNodeGroups = layeredNodeGroups;
+        this.parallelPropagationThreshold = parallelPropagationThreshold;
+        this.nodeProfilers = nodeProfilers;
+        this.layeredNodeProfilers = nodeProfilers == null ? null : layerNodeProfilers(nodeProfilers, layeredNodes.length);
         this.effectiveClassToNodeArrayMap = new IdentityHashMap<>(declaredClassToNodeMap.size());
     }
 
+    private static NodeProfiler[][] layerNodeProfilers(NodeProfiler[] nodeProfilers, int layerCount) {
+        var layeredNodeProfilerLists = new ArrayList<List<NodeProfiler>>(layerCount);
+        for (var i = 0; i < layerCount; i++) {
+            layeredNodeProfilerLists.add(new ArrayList<>());
+        }
+        for (var nodeProfiler : nodeProfilers) {
+            layeredNodeProfilerLists.get((int) nodeProfiler.getNode().getLayerIndex())
+                    .add(nodeProfiler);
+        }
+        return layeredNodeProfilerLists.stream()
+                .map(layer -> layer.toArray(new NodeProfiler[0]))
+                .toArray(NodeProfiler[][]::new);
+    }
+
     public void insert(Object fact) {
         var factClass = fact.getClass();
         for (var node : findNodes(factClass)) {
-            node.insert(fact);
+            if (nodeProfilers == null) {
+                node.insert(fact);
+            } else {
+                var start = System.nanoTime();
+                node.insert(fact);
+                nodeProfilers[(int) node.getId()].recordInsert(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Inserts all the facts, like {@link #insert(Object)} does for each of them, but faster.
+     * Every forEach node makes room for all of its facts in advance,
+     * and the nodes of a class are only looked up once for a run of facts of that class.
+     * Therefore, it works best if the facts of a class are next to each other,
+     * as they are when they come from the collections of a planning solution.
+     *
+     * @param facts never null
+     */
+    public void insertAll(Collection<?> facts) {
+        if (nodeProfilers != null) { // The profilers record every insert separately.
+            facts.forEach(this::insert);
+            return;
+        }
+        var classToFactCountMap = new IdentityHashMap<Class<?>, int[]>();
+        Class<?> lastFactClass = null;
+        int[] lastFactCount = null;
+        for (var fact : facts) {
+            var factClass = fact.getClass();
+            if (factClass != lastFactClass) {
+                lastFactClass = factClass;
+                lastFactCount = classToFactCountMap.computeIfAbsent(factClass, k -> new int[1]);
+            }
+            lastFactCount[0]++;
+        }
+        var nodeToFactCountMap = new IdentityHashMap<AbstractForEachUniNode<Object>, int[]>();
+        for (var entry : classToFactCountMap.entrySet()) {
+            for (var node : findNodes(entry.getKey())) {
+                nodeToFactCountMap.computeIfAbsent(node, k -> new int[1])[0] += entry.getValue()[0];
+            }
+        }
+        nodeToFactCountMap.forEach((node, factCount) -> node.ensureCapacity(factCount[0]));
+        lastFactClass = null;
+        AbstractForEachUniNode<Object>[] lastNodes = null;
+        for (var fact : facts) {
+            var factClass = fact.getClass();
+            if (factClass != lastFactClass) {
+                lastFactClass = factClass;
+                lastNodes = findNodes(factClass);
+            }
+            for (var node : lastNodes) {
+                node.insert(fact);
+            }
         }
     }
 
@@ -65,30 +157,67 @@ public final class BavetConstraintSession<Score_ extends Score<Score_>> {
     public void update(Object fact) {
         var factClass = fact.getClass();
         for (var node : findNodes(factClass)) {
-            node.update(fact);
+            if (nodeProfilers == null) {
+                node.update(fact);
+            } else {
+                var start = System.nanoTime();
+                node.update(fact);
+                nodeProfilers[(int) node.getId()].recordUpdate(System.nanoTime() - start);
+            }
         }
     }
 
     public void retract(Object fact) {
         var factClass = fact.getClass();
         for (var node : findNodes(factClass)) {
-            node.retract(fact);
+            if (nodeProfilers == null) {
+                node.retract(fact);
+            } else {
+                var start = System.nanoTime();
+                node.retract(fact);
+                nodeProfilers[(int) node.getId()].recordRetract(System.nanoTime() - start);
+            }
         }
     }
 
     public Score_ calculateScore(int initScore) {
+        calculateScoreInLayers();
+        return scoreInliner.extractScore(initScore);
+    }
+
+    public boolean isPrimitiveScoreSupported() {
+        return scoreInliner.isPrimitiveScoreSupported();
+    }
+
+    public void calculatePrimitiveScore(int initScore, PrimitiveScore<Score_> primitiveScore) {
+        calculateScoreInLayers();
+        scoreInliner.extractPrimitiveScore(initScore, primitiveScore);
+    }
+
+    private void calculateScoreInLayers() {
+        propagating = true;
         var layerCount = layeredNodes.length;
         for (var layerIndex = 0; layerIndex < layerCount; layerIndex++) {
             calculateScoreInLayer(layerIndex);
         }
-        return scoreInliner.extractScore(initScore);
+        propagating = false;
     }
 
     private void calculateScoreInLayer(int layerIndex) {
+        if (layeredNodeProfilers != null) {
+            for (var nodeProfiler : layeredNodeProfilers[layerIndex]) {
+                nodeProfiler.recordPropagation();
+            }
+        }
         var nodesInLayer = layeredNodes[layerIndex];
         var nodeCount = nodesInLayer.length;
         if (nodeCount == 1) {
             nodesInLayer[0].propagateEverything();
+        } else if (isPropagatedInParallel(layerIndex)) {
+            var nodeGroups = layeredNodeGroups[layerIndex];
+            propagateInParallel(nodeGroups, Propagator::propagateRetracts);
+            propagateInParallel(nodeGroups, Propagator::propagateUpdates);
+            propagateInParallel(nodeGroups, Propagator::propagateInserts);
         } else {
             for (var node : nodesInLayer) {
                 node.propagateRetracts();
@@ -102,6 +231,69 @@ public final class BavetConstraintSession<Score_ extends Score<Score_>> {
         }
     }
 
+    private boolean isPropagatedInParallel(int layerIndex) {
+        if (layeredNodeGroups == null || layeredNodeGroups[layerIndex].length == 1) {
+            return false;
+        }
+        var queuedCount = 0;
+        for (var node : layeredNodes[layerIndex]) {
+            queuedCount += node.size();
+            if (queuedCount >= parallelPropagationThreshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs the operation on every node, each group in its own task.
+     * Only returns after all the tasks have finished,
+     * so that the next operation (or the next layer) sees all the changes made by this one.
+     *
+     * @param nodeGroups never null, at least 2 groups
+     * @param operation never null
+     */
+    private static void propagateInParallel(Propagator[][] nodeGroups, Consumer<Propagator> operation) {
+        var taskList = new ArrayList<ForkJoinTask<?>>(nodeGroups.length);
+        for (var nodeGroup : nodeGroups) {
+            taskList.add(ForkJoinTask.adapt(() -> {
+                for (var node : nodeGroup) {
+                    operation.accept(node);
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(taskList);
+    }
+
+    /**
+     * A session can not be reused if a propagation failed, as its nodes might be in an inconsistent state,
+     * or if it is profiled, as the profile would then include the previous working solutions.
+     *
+     * @return true if {@link #retractAll()} may be called to reuse this session
+     */
+    public boolean isReusable() {
+        return !propagating && nodeProfilers == null;
+    }
+
+    /**
+     * Retracts every fact and propagates those retracts,
+     * so that the session holds no facts and no score anymore,
+     * but keeps its nodes, including their indexes, queues and groups at their current capacity.
+     * Afterwards, the session can be used for the facts of another working solution
+     * with the same constraint weights.
+     */
+    public void retractAll() {
+        if (!isReusable()) {
+            throw new IllegalStateException("Impossible state: the session (" + this + ") is not reusable.");
+        }
+        for (var nodeList : declaredClassToNodeMap.values()) {
+            for (var node : nodeList) {
+                node.retractAll();
+            }
+        }
+        calculateScoreInLayers();
+    }
+
     public AbstractScoreInliner<Score_> getScoreInliner() {
         return scoreInliner;
     }
@@ -110,8 +302,30 @@ public final class BavetConstraintSession<Score_ extends Score<Score_>> {
         return scoreInliner.getConstraintIdToConstraintMatchTotalMap();
     }
 
+    public Map<String, ConstraintMatchTotal<Score_>> getLazyConstraintMatchTotalMap() {
+        return scoreInliner.getLazyConstraintIdToConstraintMatchTotalMap();
+    }
+
+    public ConstraintMatchTotal<Score_> getConstraintMatchTotal(ConstraintRef constraintRef) {
+        return scoreInliner.getConstraintMatchTotal(constraintRef);
+    }
+
     public Map<Object, Indictment<Score_>> getIndictmentMap() {
         return scoreInliner.getIndictmentMap();
     }
 
+    /**
+     * @return null if profiling is disabled
+     */
+    public ConstraintStreamProfile getProfile() {
+        if (nodeProfilers == null) {
+            return null;
+        }
+        var nodeProfileList = Arrays.stream(layeredNodeProfilers)
+                .flatMap(Arrays::stream)
+                .map(NodeProfiler::toNodeProfile)
+                .toList();
+        return new ConstraintStreamProfile(nodeProfileList);
+    }
+
 }
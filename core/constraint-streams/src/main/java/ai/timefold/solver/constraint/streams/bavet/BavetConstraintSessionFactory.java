@@ -10,6 +10,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractConcatNode;
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractIfExistsNode;
@@ -19,13 +21,17 @@ import ai.timefold.solver.constraint.streams.bavet.common.BavetAbstractConstrain
 import ai.timefold.solver.constraint.streams.bavet.common.BavetConcatConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.common.BavetIfExistsConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.common.BavetJoinConstraintStream;
+import ai.timefold.solver.constraint.streams.bavet.common.BavetScoringConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.common.BavetStreamBinaryOperation;
 import ai.timefold.solver.constraint.streams.bavet.common.NodeBuildHelper;
+import ai.timefold.solver.constraint.streams.bavet.common.NodeProfiler;
 import ai.timefold.solver.constraint.streams.bavet.common.PropagationQueue;
 import ai.timefold.solver.constraint.streams.bavet.common.Propagator;
+import ai.timefold.solver.constraint.streams.bavet.common.TupleLifecycleSpecializer;
 import ai.timefold.solver.constraint.streams.bavet.uni.AbstractForEachUniNode;
 import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
 import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
@@ -34,11 +40,36 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final List<BavetConstraint<Solution_>> constraintList;
+    private final Integer parallelPropagationThreshold;
+    private final boolean tupleRecycling;
+    private final boolean profilingEnabled;
+    private final TupleLifecycleSpecializer tupleLifecycleSpecializer; // Null if filter specialization is disabled.
+    // Shared by all sessions, so that the node network plan is only determined once for every set of enabled constraints.
+    private final Map<Set<Constraint>, NodeNetworkPlan<Solution_>> nodeNetworkPlanMap = new ConcurrentHashMap<>();
 
     public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             List<BavetConstraint<Solution_>> constraintList) {
+        this(solutionDescriptor, constraintList, null, false, false, false);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param constraintList never null
+     * @param parallelPropagationThreshold null if nodes are always propagated sequentially
+     * @param tupleRecycling true if join nodes recycle their retracted tuples
+     * @param profilingEnabled true if the sessions should profile their nodes
+     * @param filterSpecialization true if every filter should get a class of its own
+     */
+    public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            List<BavetConstraint<Solution_>> constraintList, Integer parallelPropagationThreshold, boolean tupleRecycling,
+            boolean profilingEnabled, boolean filterSpecialization) {
         this.solutionDescriptor = solutionDescriptor;
         this.constraintList = constraintList;
+        this.parallelPropagationThreshold = parallelPropagationThreshold;
+        this.tupleRecycling = tupleRecycling;
+        this.profilingEnabled = profilingEnabled;
+        // Shared by all sessions, so that only the first session defines the classes.
+        this.tupleLifecycleSpecializer = filterSpecialization ? new TupleLifecycleSpecializer() : null;
     }
 
     // ************************************************************************
@@ -46,9 +77,16 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
     // ************************************************************************
 
     public BavetConstraintSession<Score_> buildSession(Solution_ workingSolution, boolean constraintMatchEnabled) {
+        return buildSession(buildConstraintWeightMap(workingSolution), constraintMatchEnabled);
+    }
+
+    /**
+     * @param workingSolution null if the constraint weights do not depend on the solution
+     * @return never null, only contains the constraints with a non-zero weight
+     */
+    public Map<Constraint, Score_> buildConstraintWeightMap(Solution_ workingSolution) {
         ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
         Score_ zeroScore = scoreDefinition.getZeroScore();
-        Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet = new LinkedHashSet<>();
         Map<Constraint, Score_> constraintWeightMap = new HashMap<>(constraintList.size());
         for (BavetConstraint<Solution_> constraint : constraintList) {
             Score_ constraintWeight = constraint.extractConstraintWeight(workingSolution);
@@ -57,39 +95,69 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
              * Note: Node sharing happens earlier, in BavetConstraintFactory#share(Stream_).
              */
             if (!constraintWeight.equals(zeroScore)) {
-                /*
-                 * Relies on BavetConstraintFactory#share(Stream_) occurring for all constraint stream instances
-                 * to ensure there are no 2 equal ConstraintStream instances (with different child stream lists).
-                 */
-                constraint.collectActiveConstraintStreams(constraintStreamSet);
                 constraintWeightMap.put(constraint, constraintWeight);
             }
         }
+        return constraintWeightMap;
+    }
+
+    /**
+     * @param constraintWeightMap never null, as built by {@link #buildConstraintWeightMap(Object)}
+     * @param constraintMatchEnabled true if the session needs to track constraint matches
+     * @return never null
+     */
+    public BavetConstraintSession<Score_> buildSession(Map<Constraint, Score_> constraintWeightMap,
+            boolean constraintMatchEnabled) {
+        ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
         AbstractScoreInliner<Score_> scoreInliner =
                 AbstractScoreInliner.buildScoreInliner(scoreDefinition, constraintWeightMap, constraintMatchEnabled);
-        if (constraintStreamSet.isEmpty()) { // All constraints were disabled.
+        if (constraintWeightMap.isEmpty()) { // All constraints were disabled.
             return new BavetConstraintSession<>(scoreInliner);
         }
+        Set<Constraint> enabledConstraintSet = Set.copyOf(constraintWeightMap.keySet());
+        NodeNetworkPlan<Solution_> nodeNetworkPlan = nodeNetworkPlanMap.get(enabledConstraintSet);
+        Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet;
+        List<BavetAbstractConstraintStream<Solution_>> reversedConstraintStreamList;
+        if (nodeNetworkPlan == null) {
+            constraintStreamSet = new LinkedHashSet<>();
+            for (BavetConstraint<Solution_> constraint : constraintList) {
+                if (enabledConstraintSet.contains(constraint)) {
+                    /*
+                     * Relies on BavetConstraintFactory#share(Stream_) occurring for all constraint stream instances
+                     * to ensure there are no 2 equal ConstraintStream instances (with different child stream lists).
+                     */
+                    constraint.collectActiveConstraintStreams(constraintStreamSet);
+                }
+            }
+            reversedConstraintStreamList = new ArrayList<>(constraintStreamSet);
+            Collections.reverse(reversedConstraintStreamList);
+        } else {
+            constraintStreamSet = nodeNetworkPlan.constraintStreamSet();
+            reversedConstraintStreamList = nodeNetworkPlan.reversedConstraintStreamList();
+        }
         /*
          * Build constraintStreamSet in reverse order to create downstream nodes first
          * so every node only has final variables (some of which have downstream node method references).
          */
-        NodeBuildHelper<Score_> buildHelper = new NodeBuildHelper<>(constraintStreamSet, scoreInliner);
-        List<BavetAbstractConstraintStream<Solution_>> reversedConstraintStreamList = new ArrayList<>(constraintStreamSet);
-        Collections.reverse(reversedConstraintStreamList);
+        NodeBuildHelper<Score_> buildHelper = new NodeBuildHelper<>(constraintStreamSet, scoreInliner, tupleRecycling,
+                profilingEnabled, tupleLifecycleSpecializer);
         for (BavetAbstractConstraintStream<Solution_> constraintStream : reversedConstraintStreamList) {
             constraintStream.buildNode(buildHelper);
         }
         List<AbstractNode> nodeList = buildHelper.destroyAndGetNodeList();
+        if (nodeNetworkPlan == null) {
+            nodeNetworkPlan = buildNodeNetworkPlan(constraintStreamSet, reversedConstraintStreamList, nodeList, buildHelper);
+            nodeNetworkPlanMap.putIfAbsent(enabledConstraintSet, nodeNetworkPlan);
+        } else if (nodeList.size() != nodeNetworkPlan.layerIndexes().length) {
+            throw new IllegalStateException("Impossible state: The node count (" + nodeList.size()
+                    + ") differs from the node count (" + nodeNetworkPlan.layerIndexes().length
+                    + ") of the node network plan.");
+        }
         Map<Class<?>, List<AbstractForEachUniNode<Object>>> declaredClassToNodeMap = new LinkedHashMap<>();
-        long nextNodeId = 0;
-        for (AbstractNode node : nodeList) {
-            /*
-             * Nodes are iterated first to last, starting with forEach(), the ultimate parent.
-             * Parents are guaranteed to come before children.
-             */
-            node.setId(nextNodeId++);
-            node.setLayerIndex(determineLayerIndex(node, buildHelper));
+        for (int i = 0; i < nodeList.size(); i++) {
+            AbstractNode node = nodeList.get(i);
+            node.setId(i);
+            node.setLayerIndex(nodeNetworkPlan.layerIndexes()[i]);
             if (node instanceof AbstractForEachUniNode<?> forEachUniNode) {
                 Class<?> forEachClass = forEachUniNode.getForEachClass();
                 List<AbstractForEachUniNode<Object>> forEachUniNodeList =
@@ -103,18 +171,198 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                 forEachUniNodeList.add((AbstractForEachUniNode<Object>) forEachUniNode);
             }
         }
-        SortedMap<Long, List<Propagator>> layerMap = new TreeMap<>();
+        int[][] layeredNodeIds = nodeNetworkPlan.layeredNodeIds();
+        Propagator[][] layeredNodes = new Propagator[layeredNodeIds.length][];
+        for (int i = 0; i < layeredNodeIds.length; i++) {
+            layeredNodes[i] = toPropagators(nodeList, layeredNodeIds[i]);
+        }
+        NodeProfiler[] nodeProfilers = profilingEnabled
+                ? buildNodeProfilers(nodeList, constraintWeightMap.keySet(), buildHelper)
+                : null;
+        if (parallelPropagationThreshold == null) {
+            return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, layeredNodes, null,
+                    Integer.MAX_VALUE, nodeProfilers);
+        }
+        int[][][] layeredNodeGroupIds = nodeNetworkPlan.layeredNodeGroupIds();
+        Propagator[][][] layeredNodeGroups = new Propagator[layeredNodeGroupIds.length][][];
+        for (int i = 0; i < layeredNodeGroupIds.length; i++) {
+            layeredNodeGroups[i] = new Propagator[layeredNodeGroupIds[i].length][];
+            for (int j = 0; j < layeredNodeGroupIds[i].length; j++) {
+                layeredNodeGroups[i][j] = toPropagators(nodeList, layeredNodeGroupIds[i][j]);
+            }
+        }
+        return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, layeredNodes, layeredNodeGroups,
+                parallelPropagationThreshold, nodeProfilers);
+    }
+
+    private static Propagator[] toPropagators(List<AbstractNode> nodeList, int[] nodeIds) {
+        Propagator[] propagators = new Propagator[nodeIds.length];
+        for (int i = 0; i < nodeIds.length; i++) {
+            propagators[i] = nodeList.get(nodeIds[i]).getPropagator();
+        }
+        return propagators;
+    }
+
+    /**
+     * Determines the layer of every node, which only depends on the structure of the node network.
+     *
+     * @param constraintStreamSet never null
+     * @param reversedConstraintStreamList never null, the order in which the nodes were built
+     * @param nodeList never null, freshly built
+     * @param buildHelper never null, the one which built the nodes
+     * @return never null
+     */
+    private NodeNetworkPlan<Solution_> buildNodeNetworkPlan(Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet,
+            List<BavetAbstractConstraintStream<Solution_>> reversedConstraintStreamList, List<AbstractNode> nodeList,
+            NodeBuildHelper<Score_> buildHelper) {
+        long[] layerIndexes = new long[nodeList.size()];
+        long nextNodeId = 0;
+        for (AbstractNode node : nodeList) {
+            /*
+             * Nodes are iterated first to last, starting with forEach(), the ultimate parent.
+             * Parents are guaranteed to come before children.
+             */
+            node.setId(nextNodeId);
+            node.setLayerIndex(determineLayerIndex(node, buildHelper));
+            layerIndexes[(int) nextNodeId] = node.getLayerIndex();
+            nextNodeId++;
+        }
+        SortedMap<Long, List<AbstractNode>> layerMap = new TreeMap<>();
         for (AbstractNode node : nodeList) {
             layerMap.computeIfAbsent(node.getLayerIndex(), k -> new ArrayList<>())
-                    .add(node.getPropagator());
+                    .add(node);
         }
         int layerCount = layerMap.size();
-        Propagator[][] layeredNodes = new Propagator[layerCount][];
+        int[][] layeredNodeIds = new int[layerCount][];
         for (int i = 0; i < layerCount; i++) {
-            List<Propagator> layer = layerMap.get((long) i);
-            layeredNodes[i] = layer.toArray(new Propagator[0]);
+            layeredNodeIds[i] = toNodeIds(layerMap.get((long) i));
         }
-        return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, layeredNodes);
+        int[][][] layeredNodeGroupIds = parallelPropagationThreshold == null ? null
+                : groupIndependentNodes(nodeList, layerCount, constraintStreamSet, buildHelper);
+        return new NodeNetworkPlan<>(constraintStreamSet, reversedConstraintStreamList, layerIndexes, layeredNodeIds,
+                layeredNodeGroupIds);
+    }
+
+    private static int[] toNodeIds(List<AbstractNode> nodeList) {
+        return nodeList.stream()
+                .mapToInt(node -> (int) node.getId())
+                .toArray();
+    }
+
+    /**
+     * Attributes every node to the constraints which use it.
+     * A node is shared by multiple constraints if their constraint streams start the same way.
+     *
+     * @param nodeList never null, the index of a node in it is equal to its id
+     * @param constraintSet never null, only the constraints which are not disabled
+     * @param buildHelper never null
+     * @return never null, the index of a profiler is equal to the id of its node
+     */
+    private NodeProfiler[] buildNodeProfilers(List<AbstractNode> nodeList, Set<Constraint> constraintSet,
+            NodeBuildHelper<Score_> buildHelper) {
+        Map<BavetAbstractConstraintStream<Solution_>, Set<ConstraintRef>> streamToConstraintRefSetMap = new HashMap<>();
+        for (Constraint constraint : constraintSet) {
+            Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet = new LinkedHashSet<>();
+            ((BavetConstraint<Solution_>) constraint).collectActiveConstraintStreams(constraintStreamSet);
+            for (BavetAbstractConstraintStream<Solution_> constraintStream : constraintStreamSet) {
+                streamToConstraintRefSetMap.computeIfAbsent(constraintStream, k -> new TreeSet<>())
+                        .add(constraint.getConstraintRef());
+            }
+        }
+        NodeProfiler[] nodeProfilers = new NodeProfiler[nodeList.size()];
+        for (AbstractNode node : nodeList) {
+            NodeProfiler nodeProfiler = buildHelper.getNodeProfiler(node);
+            if (nodeProfiler == null) {
+                throw new IllegalStateException("Impossible state: The node (" + node + ") has no profiler.");
+            }
+            nodeProfiler.setConstraintRefs(
+                    streamToConstraintRefSetMap.getOrDefault(buildHelper.getNodeCreatingStream(node), Set.of()));
+            nodeProfilers[(int) node.getId()] = nodeProfiler;
+        }
+        return nodeProfilers;
+    }
+
+    /**
+     * Splits every layer into groups of nodes which can propagate in parallel with the other groups of that layer.
+     * Nodes of the same layer are independent by construction, except in two cases, where they end up in one group:
+     * <ul>
+     * <li>Both are parents of the same {@link AbstractJoinNode}, {@link AbstractIfExistsNode} or
+     * {@link AbstractConcatNode}, which therefore receives tuples from both of them.</li>
+     * <li>Both feed a scorer, as all scorers write into the same {@link AbstractScoreInliner}.
+     * Keeping those nodes in one group serializes all score impacts
+     * and keeps the order of constraint matches the same as with sequential propagation.</li>
+     * </ul>
+     * Within a group, nodes keep the iteration order of their layer.
+     *
+     * @param nodeList never null, the index of a node in it is equal to its id
+     * @param layerCount at least 1
+     * @param constraintStreamSet never null
+     * @param buildHelper never null
+     * @return never null, node ids; first level is the layer, second is the group, third determines iteration order
+     */
+    private int[][][] groupIndependentNodes(List<AbstractNode> nodeList, int layerCount,
+            Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet, NodeBuildHelper<Score_> buildHelper) {
+        int nodeCount = nodeList.size();
+        int[] groupRoots = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            groupRoots[i] = i;
+        }
+        for (AbstractNode node : nodeList) {
+            if (node instanceof AbstractJoinNode<?, ?, ?> || node instanceof AbstractIfExistsNode<?, ?>
+                    || node instanceof AbstractConcatNode<?, ?, ?>) {
+                var nodeCreator = (BavetStreamBinaryOperation<?>) buildHelper.getNodeCreatingStream(node);
+                var leftParentNode = buildHelper.findParentNode(nodeCreator.getLeftParent());
+                var rightParentNode = buildHelper.findParentNode(nodeCreator.getRightParent());
+                if (leftParentNode.getLayerIndex() == rightParentNode.getLayerIndex()) {
+                    unionGroups(groupRoots, leftParentNode, rightParentNode);
+                }
+            }
+        }
+        AbstractNode[] scoringNodes = new AbstractNode[layerCount]; // The first node per layer which feeds a scorer.
+        for (BavetAbstractConstraintStream<Solution_> constraintStream : constraintStreamSet) {
+            if (constraintStream instanceof BavetScoringConstraintStream<?>) {
+                var scoringNode = buildHelper.findParentNode(constraintStream.getParent());
+                int layerIndex = (int) scoringNode.getLayerIndex();
+                if (scoringNodes[layerIndex] == null) {
+                    scoringNodes[layerIndex] = scoringNode;
+                } else {
+                    unionGroups(groupRoots, scoringNodes[layerIndex], scoringNode);
+                }
+            }
+        }
+        List<Map<Integer, List<AbstractNode>>> layerGroupMapList = new ArrayList<>(layerCount);
+        for (int i = 0; i < layerCount; i++) {
+            layerGroupMapList.add(new LinkedHashMap<>());
+        }
+        for (AbstractNode node : nodeList) {
+            int groupRoot = findGroupRoot(groupRoots, (int) node.getId());
+            layerGroupMapList.get((int) node.getLayerIndex())
+                    .computeIfAbsent(groupRoot, k -> new ArrayList<>())
+                    .add(node);
+        }
+        int[][][] layeredNodeGroupIds = new int[layerCount][][];
+        for (int i = 0; i < layerCount; i++) {
+            layeredNodeGroupIds[i] = layerGroupMapList.get(i).values().stream()
+                    .map(BavetConstraintSessionFactory::toNodeIds)
+                    .toArray(int[][]::new);
+        }
+        return layeredNodeGroupIds;
+    }
+
+    private static void unionGroups(int[] groupRoots, AbstractNode node, AbstractNode otherNode) {
+        int groupRoot = findGroupRoot(groupRoots, (int) node.getId());
+        int otherGroupRoot = findGroupRoot(groupRoots, (int) otherNode.getId());
+        if (groupRoot != otherGroupRoot) {
+            groupRoots[Math.max(groupRoot, otherGroupRoot)] = Math.min(groupRoot, otherGroupRoot);
+        }
+    }
+
+    private static int findGroupRoot(int[] groupRoots, int nodeId) {
+        while (groupRoots[nodeId] != nodeId) {
+            groupRoots[nodeId] = groupRoots[groupRoots[nodeId]]; // Path halving.
+            nodeId = groupRoots[nodeId];
+        }
+        return nodeId;
     }
 
     /**
@@ -160,4 +408,23 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
         return Math.max(leftParentNode.getLayerIndex(), rightParentNode.getLayerIndex()) + 1;
     }
 
+    /**
+     * Everything about the node network of a session which only depends on the constraints that are enabled.
+     * Building the nodes from the same constraint streams in the same order always yields the same nodes
+     * in the same order, so the node with id {@code i} is always in layer {@code layerIndexes[i]}.
+     * Immutable, so it is shared by all sessions built with the same enabled constraints.
+     *
+     * @param constraintStreamSet never null, the active constraint streams
+     * @param reversedConstraintStreamList never null, the order in which to build the nodes
+     * @param layerIndexes never null, the layer of every node, indexed by node id
+     * @param layeredNodeIds never null, the node ids of every layer, in iteration order
+     * @param layeredNodeGroupIds null if nodes are always propagated sequentially,
+     *        otherwise the node ids of every group of every layer
+     */
+    private record NodeNetworkPlan<Solution_>(Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet,
+            List<BavetAbstractConstraintStream<Solution_>> reversedConstraintStreamList, long[] layerIndexes,
+            int[][] layeredNodeIds, int[][][] layeredNodeGroupIds) {
+
+    }
+
 }
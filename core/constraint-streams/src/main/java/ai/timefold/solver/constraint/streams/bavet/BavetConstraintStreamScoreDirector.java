@@ -5,13 +5,16 @@ import java.util.Map;
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.analysis.ConstraintStreamProfile;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
 import ai.timefold.solver.core.impl.score.director.AbstractScoreDirector;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 
 /**
  * FP streams implementation of {@link ScoreDirector}, which only recalculates the {@link Score}
@@ -37,8 +40,11 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void setWorkingSolution(Solution_ workingSolution) {
+        if (session != null) {
+            scoreDirectorFactory.releaseSession(session);
+        }
         session = scoreDirectorFactory.newSession(workingSolution, constraintMatchEnabledPreference);
-        getSolutionDescriptor().visitAll(workingSolution, session::insert);
+        session.insertAll(getSolutionDescriptor().getAllEntitiesAndProblemFacts(workingSolution));
         super.setWorkingSolution(workingSolution);
     }
 
@@ -50,6 +56,17 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return score;
     }
 
+    @Override
+    public boolean isPrimitiveScoreSupported() {
+        return session != null && session.isPrimitiveScoreSupported();
+    }
+
+    @Override
+    protected void calculatePrimitiveScore(PrimitiveScore<Score_> primitiveScore) {
+        variableListenerSupport.assertNotificationQueuesAreEmpty();
+        session.calculatePrimitiveScore(getWorkingInitScore(), primitiveScore);
+    }
+
     @Override
     public boolean isConstraintMatchEnabled() {
         return constraintMatchEnabledPreference;
@@ -64,6 +81,24 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return session.getConstraintMatchTotalMap();
     }
 
+    @Override
+    public Map<String, ConstraintMatchTotal<Score_>> getLazyConstraintMatchTotalMap() {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method getLazyConstraintMatchTotalMap().");
+        }
+        return session.getLazyConstraintMatchTotalMap();
+    }
+
+    @Override
+    public ConstraintMatchTotal<Score_> getConstraintMatchTotal(ConstraintRef constraintRef) {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method getConstraintMatchTotal().");
+        }
+        return session.getConstraintMatchTotal(constraintRef);
+    }
+
     @Override
     public Map<Object, Indictment<Score_>> getIndictmentMap() {
         if (workingSolution == null) {
@@ -73,6 +108,15 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return session.getIndictmentMap();
     }
 
+    @Override
+    public ConstraintStreamProfile getConstraintStreamProfile() {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method getConstraintStreamProfile().");
+        }
+        return session.getProfile();
+    }
+
     @Override
     public boolean requiresFlushing() {
         return true; // Tuple refresh happens during score calculation.
@@ -81,7 +125,10 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     @Override
     public void close() {
         super.close();
-        session = null;
+        if (session != null) {
+            scoreDirectorFactory.releaseSession(session);
+            session = null;
+        }
     }
 
     // ************************************************************************
@@ -1,28 +1,64 @@
 package ai.timefold.solver.constraint.streams.bavet;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import ai.timefold.solver.constraint.streams.common.AbstractConstraintStreamScoreDirectorFactory;
 import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
         extends AbstractConstraintStreamScoreDirectorFactory<Solution_, Score_> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BavetConstraintStreamScoreDirectorFactory.class);
+
     private final BavetConstraintSessionFactory<Solution_, Score_> constraintSessionFactory;
     private final List<BavetConstraint<Solution_>> constraintList;
+    // Null if session reuse is disabled, otherwise holds sessions which were released and hold no facts.
+    private final BlockingQueue<BavetConstraintSession<Score_>> sessionPool;
 
     public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintProvider constraintProvider, EnvironmentMode environmentMode) {
+        this(solutionDescriptor, constraintProvider, environmentMode, null, false, false, false, false);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param constraintProvider never null
+     * @param environmentMode never null
+     * @param parallelPropagationThreshold null if nodes are always propagated sequentially,
+     *        see {@link ScoreDirectorFactoryConfig#getConstraintStreamParallelPropagationThreshold()}
+     * @param tupleRecycling see {@link ScoreDirectorFactoryConfig#getConstraintStreamTupleRecycling()}
+     * @param profilingEnabled see {@link ScoreDirectorFactoryConfig#getConstraintStreamProfilingEnabled()}
+     * @param filterSpecialization see {@link ScoreDirectorFactoryConfig#getConstraintStreamFilterSpecialization()}
+     * @param sessionReuse see {@link ScoreDirectorFactoryConfig#getConstraintStreamSessionReuse()}
+     */
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, EnvironmentMode environmentMode, Integer parallelPropagationThreshold,
+            boolean tupleRecycling, boolean profilingEnabled, boolean filterSpecialization, boolean sessionReuse) {
         super(solutionDescriptor);
         BavetConstraintFactory<Solution_> constraintFactory = new BavetConstraintFactory<>(solutionDescriptor, environmentMode);
         constraintList = constraintFactory.buildConstraints(constraintProvider);
-        constraintSessionFactory = new BavetConstraintSessionFactory<>(solutionDescriptor, constraintList);
+        LOGGER.debug("Built {} constraints, sharing the nodes of {} streams with an equal stream, "
+                + "after replacing {} lambdas by an equivalent lambda.",
+                constraintList.size(), constraintFactory.getSharedStreamCount(),
+                constraintFactory.getCanonicalizedLambdaCount());
+        constraintSessionFactory = new BavetConstraintSessionFactory<>(solutionDescriptor, constraintList,
+                parallelPropagationThreshold, tupleRecycling, profilingEnabled, filterSpecialization);
+        // Every thread can hold a session, more would only keep memory occupied.
+        sessionPool = sessionReuse ? new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors()) : null;
     }
 
     @Override
@@ -32,8 +68,52 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
                 expectShadowVariablesInCorrectState);
     }
 
+    /**
+     * If session reuse is enabled, this returns a {@link #releaseSession(BavetConstraintSession) released} session
+     * with the same constraint weights, if there is one.
+     *
+     * @param workingSolution null if the constraint weights do not depend on the solution
+     * @param constraintMatchEnabled true if the session needs to track constraint matches
+     * @return never null, holds no facts
+     */
     public BavetConstraintSession<Score_> newSession(Solution_ workingSolution, boolean constraintMatchEnabled) {
-        return constraintSessionFactory.buildSession(workingSolution, constraintMatchEnabled);
+        if (sessionPool == null) {
+            return constraintSessionFactory.buildSession(workingSolution, constraintMatchEnabled);
+        }
+        Map<Constraint, Score_> constraintWeightMap = constraintSessionFactory.buildConstraintWeightMap(workingSolution);
+        BavetConstraintSession<Score_> reusedSession = null;
+        List<BavetConstraintSession<Score_>> otherSessionList = new ArrayList<>(0);
+        BavetConstraintSession<Score_> session;
+        while (reusedSession == null && (session = sessionPool.poll()) != null) {
+            AbstractScoreInliner<Score_> scoreInliner = session.getScoreInliner();
+            if (scoreInliner.isConstraintMatchEnabled() == constraintMatchEnabled
+                    && scoreInliner.getConstraintWeightMap().equals(constraintWeightMap)) {
+                reusedSession = session;
+            } else {
+                otherSessionList.add(session);
+            }
+        }
+        // Sessions for other constraint weights remain available, unless the pool filled up in the meantime.
+        for (BavetConstraintSession<Score_> otherSession : otherSessionList) {
+            sessionPool.offer(otherSession);
+        }
+        return reusedSession != null ? reusedSession
+                : constraintSessionFactory.buildSession(constraintWeightMap, constraintMatchEnabled);
+    }
+
+    /**
+     * Called when a score director no longer uses the session,
+     * so that a later {@link #newSession(Object, boolean)} can reuse it, if session reuse is enabled.
+     * The session must not be used by the caller afterwards.
+     *
+     * @param session never null
+     */
+    public void releaseSession(BavetConstraintSession<Score_> session) {
+        if (sessionPool == null || !session.isReusable()) {
+            return;
+        }
+        session.retractAll();
+        sessionPool.offer(session); // If the pool is full, the session is left to the garbage collector.
     }
 
     @Override
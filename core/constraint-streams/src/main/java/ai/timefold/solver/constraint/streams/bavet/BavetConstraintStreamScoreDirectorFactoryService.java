@@ -41,12 +41,24 @@ public final class BavetConstraintStreamScoreDirectorFactoryService<Solution_, S
                         "The constraintProviderClass (" + config.getConstraintProviderClass()
                                 + ") does not implement " + ConstraintProvider.class.getSimpleName() + ".");
             }
+            Integer parallelPropagationThreshold = config.getConstraintStreamParallelPropagationThreshold();
+            if (parallelPropagationThreshold != null && parallelPropagationThreshold < 1) {
+                throw new IllegalArgumentException("The constraintStreamParallelPropagationThreshold ("
+                        + parallelPropagationThreshold + ") must be at least 1.");
+            }
+            boolean tupleRecycling = Objects.requireNonNullElse(config.getConstraintStreamTupleRecycling(), false);
+            boolean profilingEnabled = Objects.requireNonNullElse(config.getConstraintStreamProfilingEnabled(), false);
+            boolean filterSpecialization =
+                    Objects.requireNonNullElse(config.getConstraintStreamFilterSpecialization(), false);
+            boolean sessionReuse = Objects.requireNonNullElse(config.getConstraintStreamSessionReuse(), false);
             return () -> {
                 ConstraintProvider constraintProvider = ConfigUtils.newInstance(config,
                         "constraintProviderClass", config.getConstraintProviderClass());
                 ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
                         config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
-                return buildScoreDirectorFactory(solutionDescriptor, constraintProvider, environmentMode);
+                return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
+                        environmentMode, parallelPropagationThreshold, tupleRecycling, profilingEnabled,
+                        filterSpecialization, sessionReuse);
             };
         } else {
             if (config.getConstraintProviderCustomProperties() != null) {
@@ -72,7 +72,8 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
 
     @Override
     public BavetAbstractBiConstraintStream<Solution_, A, B> filter(BiPredicate<A, B> predicate) {
-        return shareAndAddChild(new BavetFilterBiConstraintStream<>(constraintFactory, this, predicate));
+        return shareAndAddChild(new BavetFilterBiConstraintStream<>(constraintFactory, this,
+                constraintFactory.canonicalize(predicate)));
     }
 
     // ************************************************************************
@@ -84,7 +85,8 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
     public final <C> TriConstraintStream<A, B, C> join(UniConstraintStream<C> otherStream,
             TriJoiner<A, B, C>... joiners) {
         var other = (BavetAbstractUniConstraintStream<Solution_, C>) otherStream;
-        var joinerComber = TriJoinerComber.comb(joiners);
+        var joinerComber = TriJoinerComber.comb(joiners)
+                .canonicalize(constraintFactory::canonicalize);
         var leftBridge = new BavetForeBridgeBiConstraintStream<>(constraintFactory, this);
         var rightBridge = new BavetForeBridgeUniConstraintStream<>(constraintFactory, other);
         var joinStream = new BavetJoinTriConstraintStream<>(constraintFactory, leftBridge, rightBridge,
@@ -156,7 +158,8 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
     private <C> BiConstraintStream<A, B> ifExistsOrNot(boolean shouldExist, UniConstraintStream<C> otherStream,
             TriJoiner<A, B, C>[] joiners) {
         var other = (BavetAbstractUniConstraintStream<Solution_, C>) otherStream;
-        var joinerComber = TriJoinerComber.comb(joiners);
+        var joinerComber = TriJoinerComber.comb(joiners)
+                .canonicalize(constraintFactory::canonicalize);
         var parentBridgeC = other.shareAndAddChild(new BavetForeBridgeUniConstraintStream<>(constraintFactory, other));
         return constraintFactory.share(
                 new BavetIfExistsBiConstraintStream<>(constraintFactory, this, parentBridgeC,
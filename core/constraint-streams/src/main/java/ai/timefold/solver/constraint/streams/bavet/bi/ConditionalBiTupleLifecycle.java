@@ -15,8 +15,29 @@ final class ConditionalBiTupleLifecycle<A, B> extends AbstractConditionalTupleLi
     }
 
     @Override
-    protected boolean test(BiTuple<A, B> tuple) {
-        return predicate.test(tuple.factA, tuple.factB);
+    public void insert(BiTuple<A, B> tuple) {
+        if (predicate.test(tuple.factA, tuple.factB)) {
+            tupleLifecycle.insert(tuple);
+        }
+    }
+
+    @Override
+    public void update(BiTuple<A, B> tuple) {
+        if (predicate.test(tuple.factA, tuple.factB)) {
+            tupleLifecycle.update(tuple);
+        } else {
+            tupleLifecycle.retract(tuple);
+        }
+    }
+
+    @Override
+    public void retract(BiTuple<A, B> tuple) {
+        tupleLifecycle.retract(tuple);
+    }
+
+    @Override
+    public BiPredicate<A, B> getPredicate() {
+        return predicate;
     }
 
 }
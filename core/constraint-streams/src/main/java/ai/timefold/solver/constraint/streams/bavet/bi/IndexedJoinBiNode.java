@@ -23,13 +23,13 @@ final class IndexedJoinBiNode<A, B> extends AbstractIndexedJoinNode<UniTuple<A>,
             int outputStoreSize,
             int outputStoreIndexOutEntryA, int outputStoreIndexOutEntryB,
             Indexer<UniTuple<A>> indexerA,
-            Indexer<UniTuple<B>> indexerB) {
+            Indexer<UniTuple<B>> indexerB, boolean tupleRecycling) {
         super(mappingB,
                 inputStoreIndexA, inputStoreIndexEntryA, inputStoreIndexOutTupleListA,
                 inputStoreIndexB, inputStoreIndexEntryB, inputStoreIndexOutTupleListB,
                 nextNodesTupleLifecycle, filtering != null,
                 outputStoreIndexOutEntryA, outputStoreIndexOutEntryB,
-                indexerA, indexerB);
+                indexerA, indexerB, tupleRecycling);
         this.mappingA = mappingA;
         this.filtering = filtering;
         this.outputStoreSize = outputStoreSize;
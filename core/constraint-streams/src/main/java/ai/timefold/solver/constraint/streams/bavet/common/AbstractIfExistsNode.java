@@ -46,6 +46,13 @@ public abstract class AbstractIfExistsNode<LeftTuple_ extends AbstractTuple, Rig
 
     protected abstract boolean testFiltering(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple);
 
+    /**
+     * Only meant for profiling.
+     *
+     * @return at least 0; the number of left and right tuples this node currently holds
+     */
+    abstract int getIndexerSize();
+
     protected void initCounterLeft(ExistsCounter<LeftTuple_> counter) {
         if (shouldExist ? counter.countRight > 0 : counter.countRight == 0) {
             // Counters start out dead
@@ -212,4 +212,9 @@ public abstract class AbstractIndexedIfExistsNode<LeftTuple_ extends AbstractTup
 
     protected abstract IndexProperties createIndexProperties(LeftTuple_ leftTuple);
 
+    @Override
+    final int getIndexerSize() {
+        return indexerLeft.totalSize() + indexerRight.totalSize();
+    }
+
 }
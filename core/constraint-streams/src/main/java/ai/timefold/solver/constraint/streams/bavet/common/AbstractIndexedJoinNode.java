@@ -38,9 +38,10 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends AbstractTuple,
             int inputStoreIndexLeftEntry, int inputStoreIndexLeftOutTupleList, int inputStoreIndexRightProperties,
             int inputStoreIndexRightEntry, int inputStoreIndexRightOutTupleList,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, boolean isFiltering, int outputStoreIndexLeftOutEntry,
-            int outputStoreIndexRightOutEntry, Indexer<LeftTuple_> indexerLeft, Indexer<UniTuple<Right_>> indexerRight) {
+            int outputStoreIndexRightOutEntry, Indexer<LeftTuple_> indexerLeft, Indexer<UniTuple<Right_>> indexerRight,
+            boolean tupleRecycling) {
         super(inputStoreIndexLeftOutTupleList, inputStoreIndexRightOutTupleList, nextNodesTupleLifecycle, isFiltering,
-                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry);
+                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry, tupleRecycling);
         this.mappingRight = mappingRight;
         this.inputStoreIndexLeftProperties = inputStoreIndexLeftProperties;
         this.inputStoreIndexLeftEntry = inputStoreIndexLeftEntry;
@@ -58,7 +59,7 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends AbstractTuple,
         }
         IndexProperties indexProperties = createIndexPropertiesLeft(leftTuple);
 
-        ElementAwareList<OutTuple_> outTupleListLeft = new ElementAwareList<>();
+        ElementAwareList<OutTuple_> outTupleListLeft = newOutTupleList();
         leftTuple.setStore(inputStoreIndexLeftOutTupleList, outTupleListLeft);
         indexAndPropagateLeft(leftTuple, indexProperties);
     }
@@ -104,7 +105,7 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends AbstractTuple,
         ElementAwareListEntry<LeftTuple_> leftEntry = leftTuple.removeStore(inputStoreIndexLeftEntry);
         ElementAwareList<OutTuple_> outTupleListLeft = leftTuple.removeStore(inputStoreIndexLeftOutTupleList);
         indexerLeft.remove(indexProperties, leftEntry);
-        outTupleListLeft.forEach(this::retractOutTuple);
+        retractOutTupleList(outTupleListLeft);
     }
 
     @Override
@@ -115,7 +116,7 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends AbstractTuple,
         }
         IndexProperties indexProperties = mappingRight.apply(rightTuple.factA);
 
-        ElementAwareList<OutTuple_> outTupleListRight = new ElementAwareList<>();
+        ElementAwareList<OutTuple_> outTupleListRight = newOutTupleList();
         rightTuple.setStore(inputStoreIndexRightOutTupleList, outTupleListRight);
         indexAndPropagateRight(rightTuple, indexProperties);
     }
@@ -161,9 +162,14 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends AbstractTuple,
         ElementAwareListEntry<UniTuple<Right_>> rightEntry = rightTuple.removeStore(inputStoreIndexRightEntry);
         ElementAwareList<OutTuple_> outTupleListRight = rightTuple.removeStore(inputStoreIndexRightOutTupleList);
         indexerRight.remove(indexProperties, rightEntry);
-        outTupleListRight.forEach(this::retractOutTuple);
+        retractOutTupleList(outTupleListRight);
     }
 
     protected abstract IndexProperties createIndexPropertiesLeft(LeftTuple_ leftTuple);
 
+    @Override
+    final int getIndexerSize() {
+        return indexerLeft.totalSize() + indexerRight.totalSize();
+    }
+
 }
@@ -4,6 +4,8 @@ import static ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleStat
 import static ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleState.CREATING;
 import static ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleState.DYING;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.function.Consumer;
 
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
@@ -28,22 +30,58 @@ public abstract class AbstractJoinNode<LeftTuple_ extends AbstractTuple, Right_,
         extends AbstractNode
         implements LeftTupleLifecycle<LeftTuple_>, RightTupleLifecycle<UniTuple<Right_>> {
 
+    /**
+     * The maximum number of out tuples, and separately of out tuple lists, kept for reuse.
+     * A retract of many tuples at once, such as a large step, would otherwise keep them all in memory
+     * for the lifetime of the node; beyond this size, retracted tuples are left to the garbage collector.
+     */
+    static final int RECYCLED_TUPLE_STACK_CAPACITY = 1000;
+
     protected final int inputStoreIndexLeftOutTupleList;
     protected final int inputStoreIndexRightOutTupleList;
     private final boolean isFiltering;
     private final int outputStoreIndexLeftOutEntry;
     private final int outputStoreIndexRightOutEntry;
+    /**
+     * Null unless tuple recycling is enabled.
+     * At most {@link #RECYCLED_TUPLE_STACK_CAPACITY} out tuples whose retract has already been propagated,
+     * still holding their (removed) out tuple list entries.
+     * By the time such a tuple is reused, all downstream nodes are guaranteed to be done with it,
+     * because this node only creates out tuples while its parents propagate, which happens in lower layers.
+     */
+    private final Deque<OutTuple_> recycledOutTupleStack;
+    /**
+     * Null unless tuple recycling is enabled.
+     * At most {@link #RECYCLED_TUPLE_STACK_CAPACITY} out tuple lists of retracted left and right tuples,
+     * all of them empty.
+     */
+    private final Deque<ElementAwareList<OutTuple_>> recycledOutTupleListStack;
     private final StaticPropagationQueue<OutTuple_> propagationQueue;
 
     protected AbstractJoinNode(int inputStoreIndexLeftOutTupleList, int inputStoreIndexRightOutTupleList,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, boolean isFiltering,
-            int outputStoreIndexLeftOutEntry, int outputStoreIndexRightOutEntry) {
+            int outputStoreIndexLeftOutEntry, int outputStoreIndexRightOutEntry, boolean tupleRecycling) {
         this.inputStoreIndexLeftOutTupleList = inputStoreIndexLeftOutTupleList;
         this.inputStoreIndexRightOutTupleList = inputStoreIndexRightOutTupleList;
         this.isFiltering = isFiltering;
         this.outputStoreIndexLeftOutEntry = outputStoreIndexLeftOutEntry;
         this.outputStoreIndexRightOutEntry = outputStoreIndexRightOutEntry;
-        this.propagationQueue = new StaticPropagationQueue<>(nextNodesTupleLifecycle);
+        if (tupleRecycling) {
+            this.recycledOutTupleStack = new ArrayDeque<>();
+            this.recycledOutTupleListStack = new ArrayDeque<>();
+            this.propagationQueue =
+                    new StaticPropagationQueue<>(nextNodesTupleLifecycle, 1000, this::recycleOutTuple);
+        } else {
+            this.recycledOutTupleStack = null;
+            this.recycledOutTupleListStack = null;
+            this.propagationQueue = new StaticPropagationQueue<>(nextNodesTupleLifecycle);
+        }
+    }
+
+    private void recycleOutTuple(OutTuple_ outTuple) {
+        if (recycledOutTupleStack.size() < RECYCLED_TUPLE_STACK_CAPACITY) {
+            recycledOutTupleStack.push(outTuple);
+        }
     }
 
     protected abstract OutTuple_ createOutTuple(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple);
@@ -54,8 +92,20 @@ public abstract class AbstractJoinNode<LeftTuple_ extends AbstractTuple, Right_,
 
     protected abstract boolean testFiltering(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple);
 
+    /**
+     * Only meant for profiling.
+     *
+     * @return at least 0; the number of left and right tuples this node currently holds
+     */
+    abstract int getIndexerSize();
+
     protected final void insertOutTuple(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple) {
-        OutTuple_ outTuple = createOutTuple(leftTuple, rightTuple);
+        OutTuple_ outTuple = recycledOutTupleStack == null ? null : recycledOutTupleStack.poll();
+        if (outTuple != null) {
+            reuseOutTuple(outTuple, leftTuple, rightTuple);
+            return;
+        }
+        outTuple = createOutTuple(leftTuple, rightTuple);
         ElementAwareList<OutTuple_> outTupleListLeft = leftTuple.getStore(inputStoreIndexLeftOutTupleList);
         ElementAwareListEntry<OutTuple_> outEntryLeft = outTupleListLeft.add(outTuple);
         outTuple.setStore(outputStoreIndexLeftOutEntry, outEntryLeft);
@@ -65,6 +115,44 @@ public abstract class AbstractJoinNode<LeftTuple_ extends AbstractTuple, Right_,
         propagationQueue.insert(outTuple);
     }
 
+    private void reuseOutTuple(OutTuple_ outTuple, LeftTuple_ leftTuple, UniTuple<Right_> rightTuple) {
+        ElementAwareListEntry<OutTuple_> outEntryLeft = outTuple.getStore(outputStoreIndexLeftOutEntry);
+        ElementAwareListEntry<OutTuple_> outEntryRight = outTuple.getStore(outputStoreIndexRightOutEntry);
+        outTuple.clearStore(); // Drops whatever the downstream nodes left behind.
+        setOutTupleLeftFacts(outTuple, leftTuple);
+        setOutTupleRightFact(outTuple, rightTuple);
+        ElementAwareList<OutTuple_> outTupleListLeft = leftTuple.getStore(inputStoreIndexLeftOutTupleList);
+        outTupleListLeft.add(outEntryLeft);
+        outTuple.setStore(outputStoreIndexLeftOutEntry, outEntryLeft);
+        ElementAwareList<OutTuple_> outTupleListRight = rightTuple.getStore(inputStoreIndexRightOutTupleList);
+        outTupleListRight.add(outEntryRight);
+        outTuple.setStore(outputStoreIndexRightOutEntry, outEntryRight);
+        propagationQueue.insert(outTuple);
+    }
+
+    /**
+     * @return never null, empty
+     */
+    protected final ElementAwareList<OutTuple_> newOutTupleList() {
+        if (recycledOutTupleListStack == null || recycledOutTupleListStack.isEmpty()) {
+            return new ElementAwareList<>();
+        }
+        return recycledOutTupleListStack.pop();
+    }
+
+    /**
+     * Retracts all out tuples in the list, which must no longer be stored in its left or right tuple.
+     *
+     * @param outTupleList never null
+     */
+    protected final void retractOutTupleList(ElementAwareList<OutTuple_> outTupleList) {
+        outTupleList.forEach(this::retractOutTuple);
+        // outTupleList is now empty
+        if (recycledOutTupleListStack != null && recycledOutTupleListStack.size() < RECYCLED_TUPLE_STACK_CAPACITY) {
+            recycledOutTupleListStack.push(outTupleList);
+        }
+    }
+
     protected final void insertOutTupleFiltered(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple) {
         if (!isFiltering || testFiltering(leftTuple, rightTuple)) {
             insertOutTuple(leftTuple, rightTuple);
@@ -150,9 +238,9 @@ public abstract class AbstractJoinNode<LeftTuple_ extends AbstractTuple, Right_,
     }
 
     protected final void retractOutTuple(OutTuple_ outTuple) {
-        ElementAwareListEntry<OutTuple_> outEntryLeft = outTuple.removeStore(outputStoreIndexLeftOutEntry);
+        ElementAwareListEntry<OutTuple_> outEntryLeft = extractOutEntry(outTuple, outputStoreIndexLeftOutEntry);
         outEntryLeft.remove();
-        ElementAwareListEntry<OutTuple_> outEntryRight = outTuple.removeStore(outputStoreIndexRightOutEntry);
+        ElementAwareListEntry<OutTuple_> outEntryRight = extractOutEntry(outTuple, outputStoreIndexRightOutEntry);
         outEntryRight.remove();
         TupleState state = outTuple.state;
         if (!state.isActive()) {
@@ -163,6 +251,12 @@ public abstract class AbstractJoinNode<LeftTuple_ extends AbstractTuple, Right_,
         propagationQueue.retract(outTuple, state == CREATING ? ABORTING : DYING);
     }
 
+    private ElementAwareListEntry<OutTuple_> extractOutEntry(OutTuple_ outTuple, int outputStoreIndexOutEntry) {
+        // A recycled out tuple keeps its entries, so that they can be added to the out tuple lists again.
+        return recycledOutTupleStack == null ? outTuple.removeStore(outputStoreIndexOutEntry)
+                : outTuple.getStore(outputStoreIndexOutEntry);
+    }
+
     @Override
     public Propagator getPropagator() {
         return propagationQueue;
@@ -25,6 +25,10 @@ public abstract class AbstractNode {
         this.id = id;
     }
 
+    public final long getId() {
+        return id;
+    }
+
     public final void setLayerIndex(long layerIndex) {
         if (layerIndex < 0) {
             throw new IllegalArgumentException("Impossible state: layer index (" + layerIndex + ") must be at least 0.");
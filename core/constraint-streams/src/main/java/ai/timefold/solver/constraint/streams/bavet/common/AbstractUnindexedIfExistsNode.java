@@ -150,4 +150,9 @@ public abstract class AbstractUnindexedIfExistsNode<LeftTuple_ extends AbstractT
         }
     }
 
+    @Override
+    final int getIndexerSize() {
+        return leftCounterList.size() + rightTupleList.size();
+    }
+
 }
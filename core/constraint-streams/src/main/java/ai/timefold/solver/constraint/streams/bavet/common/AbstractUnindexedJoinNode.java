@@ -27,9 +27,9 @@ public abstract class AbstractUnindexedJoinNode<LeftTuple_ extends AbstractTuple
     protected AbstractUnindexedJoinNode(int inputStoreIndexLeftEntry, int inputStoreIndexLeftOutTupleList,
             int inputStoreIndexRightEntry, int inputStoreIndexRightOutTupleList,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, boolean isFiltering, int outputStoreIndexLeftOutEntry,
-            int outputStoreIndexRightOutEntry) {
+            int outputStoreIndexRightOutEntry, boolean tupleRecycling) {
         super(inputStoreIndexLeftOutTupleList, inputStoreIndexRightOutTupleList, nextNodesTupleLifecycle, isFiltering,
-                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry);
+                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry, tupleRecycling);
         this.inputStoreIndexLeftEntry = inputStoreIndexLeftEntry;
         this.inputStoreIndexRightEntry = inputStoreIndexRightEntry;
     }
@@ -42,7 +42,7 @@ public abstract class AbstractUnindexedJoinNode<LeftTuple_ extends AbstractTuple
         }
         ElementAwareListEntry<LeftTuple_> leftEntry = leftTupleList.add(leftTuple);
         leftTuple.setStore(inputStoreIndexLeftEntry, leftEntry);
-        ElementAwareList<OutTuple_> outTupleListLeft = new ElementAwareList<>();
+        ElementAwareList<OutTuple_> outTupleListLeft = newOutTupleList();
         leftTuple.setStore(inputStoreIndexLeftOutTupleList, outTupleListLeft);
         for (UniTuple<Right_> tuple : rightTupleList) {
             insertOutTupleFiltered(leftTuple, tuple);
@@ -69,7 +69,7 @@ public abstract class AbstractUnindexedJoinNode<LeftTuple_ extends AbstractTuple
         }
         ElementAwareList<OutTuple_> outTupleListLeft = leftTuple.removeStore(inputStoreIndexLeftOutTupleList);
         leftEntry.remove();
-        outTupleListLeft.forEach(this::retractOutTuple);
+        retractOutTupleList(outTupleListLeft);
     }
 
     @Override
@@ -80,7 +80,7 @@ public abstract class AbstractUnindexedJoinNode<LeftTuple_ extends AbstractTuple
         }
         ElementAwareListEntry<UniTuple<Right_>> rightEntry = rightTupleList.add(rightTuple);
         rightTuple.setStore(inputStoreIndexRightEntry, rightEntry);
-        ElementAwareList<OutTuple_> outTupleListRight = new ElementAwareList<>();
+        ElementAwareList<OutTuple_> outTupleListRight = newOutTupleList();
         rightTuple.setStore(inputStoreIndexRightOutTupleList, outTupleListRight);
         for (LeftTuple_ tuple : leftTupleList) {
             insertOutTupleFiltered(tuple, rightTuple);
@@ -107,7 +107,12 @@ public abstract class AbstractUnindexedJoinNode<LeftTuple_ extends AbstractTuple
         }
         ElementAwareList<OutTuple_> outTupleListRight = rightTuple.removeStore(inputStoreIndexRightOutTupleList);
         rightEntry.remove();
-        outTupleListRight.forEach(this::retractOutTuple);
+        retractOutTupleList(outTupleListRight);
+    }
+
+    @Override
+    final int getIndexerSize() {
+        return leftTupleList.size() + rightTupleList.size();
     }
 
 }
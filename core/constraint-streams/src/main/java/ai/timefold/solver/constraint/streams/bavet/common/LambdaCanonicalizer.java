@@ -0,0 +1,134 @@
+package ai.timefold.solver.constraint.streams.bavet.common;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces a lambda by an equivalent lambda it has seen before, so that the streams which use them are equal
+ * and therefore share their nodes.
+ * <p>
+ * Lambdas do not implement equals(), so two lambdas are only equal if they are the same instance.
+ * That is the case for a lambda which captures nothing, as the JVM reuses the same instance for every evaluation
+ * of the lambda expression or method reference.
+ * A lambda which captures variables, such as the arguments of a helper method which builds part of a constraint,
+ * is a different instance for every evaluation.
+ * Two such lambdas are equivalent if they come from the same lambda expression (and therefore have the same class)
+ * and they captured the same values.
+ * Captured values are the same if they are the same instance, or if they are equal immutable values,
+ * such as strings and boxed primitives.
+ * Captured lambdas are canonicalized first, so that equivalent lambdas which capture equivalent lambdas are found too.
+ * <p>
+ * Lambdas from different lambda expressions, even if they are method references to the same method,
+ * are never equivalent, as the JVM does not expose what a lambda does.
+ * <p>
+ * This class is not thread-safe; it is meant to be used while building constraints.
+ */
+public final class LambdaCanonicalizer {
+
+    private final Map<LambdaKey, Object> canonicalLambdaMap = new HashMap<>();
+    private final Map<Class<?>, Field[]> capturedFieldsMap = new HashMap<>();
+    private int canonicalizedLambdaCount = 0;
+
+    /**
+     * @param function sometimes null
+     * @param <Function_> the type of the function, typically a functional interface
+     * @return null if the function is null, otherwise an equivalent function which may be the same instance
+     */
+    public <Function_> Function_ canonicalize(Function_ function) {
+        if (function == null || !isLambda(function.getClass())) {
+            return function;
+        }
+        List<Object> capturedValueList = readCapturedValues(function);
+        if (capturedValueList == null || capturedValueList.isEmpty()) {
+            // The captured values are inaccessible, or nothing is captured and the lambda is already unique.
+            return function;
+        }
+        Function_ canonicalFunction =
+                (Function_) canonicalLambdaMap.computeIfAbsent(new LambdaKey(function.getClass(), capturedValueList),
+                        k -> function);
+        if (canonicalFunction != function) {
+            canonicalizedLambdaCount++;
+        }
+        return canonicalFunction;
+    }
+
+    /**
+     * @return at least 0, the number of times {@link #canonicalize(Object)} returned a different instance
+     */
+    public int getCanonicalizedLambdaCount() {
+        return canonicalizedLambdaCount;
+    }
+
+    private static boolean isLambda(Class<?> clazz) {
+        // Lambda classes are spun at runtime by the LambdaMetafactory.
+        return clazz.isSynthetic() && clazz.isHidden();
+    }
+
+    private List<Object> readCapturedValues(Object function) {
+        Field[] capturedFields =
+                capturedFieldsMap.computeIfAbsent(function.getClass(), LambdaCanonicalizer::findCapturedFields);
+        if (capturedFields == null) {
+            return null;
+        }
+        List<Object> capturedValueList = new ArrayList<>(capturedFields.length);
+        for (Field capturedField : capturedFields) {
+            Object capturedValue;
+            try {
+                capturedValue = capturedField.get(function);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+            capturedValueList.add(toComparableValue(canonicalize(capturedValue)));
+        }
+        return capturedValueList;
+    }
+
+    private static Field[] findCapturedFields(Class<?> lambdaClass) {
+        Field[] capturedFields = Arrays.stream(lambdaClass.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .toArray(Field[]::new);
+        try {
+            for (Field capturedField : capturedFields) {
+                capturedField.setAccessible(true);
+            }
+        } catch (RuntimeException e) { // For example, the lambda is in a module which is not open to us.
+            return null;
+        }
+        return capturedFields;
+    }
+
+    private static Object toComparableValue(Object capturedValue) {
+        if (capturedValue == null || capturedValue instanceof String || capturedValue instanceof Integer
+                || capturedValue instanceof Long || capturedValue instanceof Double || capturedValue instanceof Float
+                || capturedValue instanceof Short || capturedValue instanceof Byte || capturedValue instanceof Character
+                || capturedValue instanceof Boolean || capturedValue instanceof Enum<?>
+                || capturedValue instanceof Class<?>) {
+            return capturedValue;
+        }
+        // Mutable values which are equal now are not guaranteed to stay equal, so only the same instance will do.
+        return new IdentityValue(capturedValue);
+    }
+
+    private record LambdaKey(Class<?> lambdaClass, List<Object> capturedValueList) {
+    }
+
+    private record IdentityValue(Object value) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityValue other && value == other.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+
+    }
+
+}
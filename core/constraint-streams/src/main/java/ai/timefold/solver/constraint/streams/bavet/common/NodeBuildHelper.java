@@ -23,6 +23,9 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
 
     private final Set<? extends ConstraintStream> activeStreamSet;
     private final AbstractScoreInliner<Score_> scoreInliner;
+    private final boolean tupleRecycling;
+    private final Map<AbstractNode, NodeProfiler> nodeProfilerMap; // Null if profiling is disabled.
+    private final TupleLifecycleSpecializer tupleLifecycleSpecializer; // Null if specialization is disabled.
     private final Map<AbstractNode, BavetAbstractConstraintStream<?>> nodeCreatorMap;
     private final Map<ConstraintStream, TupleLifecycle<? extends AbstractTuple>> tupleLifecycleMap;
     private final Map<ConstraintStream, Integer> storeIndexMap;
@@ -30,9 +33,17 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
     private List<AbstractNode> reversedNodeList;
 
     public NodeBuildHelper(Set<? extends ConstraintStream> activeStreamSet, AbstractScoreInliner<Score_> scoreInliner) {
+        this(activeStreamSet, scoreInliner, false, false, null);
+    }
+
+    public NodeBuildHelper(Set<? extends ConstraintStream> activeStreamSet, AbstractScoreInliner<Score_> scoreInliner,
+            boolean tupleRecycling, boolean profilingEnabled, TupleLifecycleSpecializer tupleLifecycleSpecializer) {
         this.activeStreamSet = activeStreamSet;
         this.scoreInliner = scoreInliner;
+        this.tupleRecycling = tupleRecycling;
+        this.tupleLifecycleSpecializer = tupleLifecycleSpecializer;
         int activeStreamSetSize = activeStreamSet.size();
+        this.nodeProfilerMap = profilingEnabled ? new HashMap<>(Math.max(16, activeStreamSetSize)) : null;
         this.nodeCreatorMap = new HashMap<>(Math.max(16, activeStreamSetSize));
         this.tupleLifecycleMap = new HashMap<>(Math.max(16, activeStreamSetSize));
         this.storeIndexMap = new HashMap<>(Math.max(16, activeStreamSetSize / 2));
@@ -47,6 +58,13 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
         return scoreInliner;
     }
 
+    /**
+     * @return true if join nodes should recycle their retracted tuples
+     */
+    public boolean isTupleRecycling() {
+        return tupleRecycling;
+    }
+
     public void addNode(AbstractNode node, BavetAbstractConstraintStream<?> creator) {
         addNode(node, creator, creator);
     }
@@ -58,7 +76,9 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
             if (parent == null) {
                 throw new IllegalStateException("Impossible state: The node (" + node + ") has no parent (" + parent + ").");
             }
-            putInsertUpdateRetract(parent, (TupleLifecycle<? extends AbstractTuple>) node);
+            putInsertUpdateRetract(parent, profile(node, (TupleLifecycle<? extends AbstractTuple>) node));
+        } else if (nodeProfilerMap != null) { // ForEach nodes receive their facts directly from the session.
+            nodeProfilerMap.put(node, new NodeProfiler(node));
         }
     }
 
@@ -67,8 +87,19 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
             BavetAbstractConstraintStream<?> rightParent) {
         reversedNodeList.add(node);
         nodeCreatorMap.put(node, creator);
-        putInsertUpdateRetract(leftParent, TupleLifecycle.ofLeft((LeftTupleLifecycle<? extends AbstractTuple>) node));
-        putInsertUpdateRetract(rightParent, TupleLifecycle.ofRight((RightTupleLifecycle<? extends AbstractTuple>) node));
+        putInsertUpdateRetract(leftParent,
+                profile(node, TupleLifecycle.ofLeft((LeftTupleLifecycle<? extends AbstractTuple>) node)));
+        putInsertUpdateRetract(rightParent,
+                profile(node, TupleLifecycle.ofRight((RightTupleLifecycle<? extends AbstractTuple>) node)));
+    }
+
+    private <Tuple_ extends AbstractTuple> TupleLifecycle<Tuple_> profile(AbstractNode node,
+            TupleLifecycle<Tuple_> tupleLifecycle) {
+        if (nodeProfilerMap == null) {
+            return tupleLifecycle;
+        }
+        NodeProfiler nodeProfiler = nodeProfilerMap.computeIfAbsent(node, NodeProfiler::new);
+        return new ProfilingTupleLifecycle<>(tupleLifecycle, nodeProfiler);
     }
 
     public <Tuple_ extends AbstractTuple> void putInsertUpdateRetract(ConstraintStream stream,
@@ -80,7 +111,12 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
             List<? extends AbstractConstraintStream<?>> childStreamList,
             Function<TupleLifecycle<Tuple_>, AbstractConditionalTupleLifecycle<Tuple_>> tupleLifecycleFunction) {
         TupleLifecycle<Tuple_> tupleLifecycle = getAggregatedTupleLifecycle(childStreamList);
-        putInsertUpdateRetract(stream, tupleLifecycleFunction.apply(tupleLifecycle));
+        AbstractConditionalTupleLifecycle<Tuple_> conditionalTupleLifecycle = tupleLifecycleFunction.apply(tupleLifecycle);
+        if (tupleLifecycleSpecializer == null) {
+            putInsertUpdateRetract(stream, conditionalTupleLifecycle);
+        } else {
+            putInsertUpdateRetract(stream, tupleLifecycleSpecializer.specialize(stream, conditionalTupleLifecycle));
+        }
     }
 
     public <Tuple_ extends AbstractTuple> TupleLifecycle<Tuple_> getAggregatedTupleLifecycle(
@@ -134,6 +170,14 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
         return nodeList;
     }
 
+    /**
+     * @param node never null
+     * @return null if profiling is disabled
+     */
+    public NodeProfiler getNodeProfiler(AbstractNode node) {
+        return nodeProfilerMap == null ? null : nodeProfilerMap.get(node);
+    }
+
     public BavetAbstractConstraintStream<?> getNodeCreatingStream(AbstractNode node) {
         return nodeCreatorMap.get(node);
     }
@@ -0,0 +1,81 @@
+package ai.timefold.solver.constraint.streams.bavet.common;
+
+import java.util.Collections;
+import java.util.Set;
+
+import ai.timefold.solver.constraint.streams.bavet.BavetConstraintSession;
+import ai.timefold.solver.core.api.score.analysis.NodeProfile;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+
+/**
+ * Counts the tuples which a single {@link AbstractNode} receives and propagates,
+ * and measures the time the node spends processing the tuples it receives.
+ * The time spent propagating is not measured,
+ * as that is the time the nodes downstream spend processing the tuples they receive.
+ * <p>
+ * Tuples are received through {@link ProfilingTupleLifecycle},
+ * or directly from {@link BavetConstraintSession} in case of the forEach nodes.
+ * A node only ever receives tuples from a single thread at a time, so the counters need no synchronization.
+ */
+public final class NodeProfiler {
+
+    private final AbstractNode node;
+    private Set<ConstraintRef> constraintRefs = Collections.emptySet();
+
+    private long insertCount = 0L;
+    private long updateCount = 0L;
+    private long retractCount = 0L;
+    private long propagationCount = 0L;
+    private long nanosSpent = 0L;
+
+    /**
+     * @param node never null
+     */
+    public NodeProfiler(AbstractNode node) {
+        this.node = node;
+    }
+
+    public AbstractNode getNode() {
+        return node;
+    }
+
+    public void setConstraintRefs(Set<ConstraintRef> constraintRefs) {
+        this.constraintRefs = constraintRefs;
+    }
+
+    public void recordInsert(long nanos) {
+        insertCount++;
+        nanosSpent += nanos;
+    }
+
+    public void recordUpdate(long nanos) {
+        updateCount++;
+        nanosSpent += nanos;
+    }
+
+    public void recordRetract(long nanos) {
+        retractCount++;
+        nanosSpent += nanos;
+    }
+
+    /**
+     * To be called right before the node starts its propagation.
+     */
+    public void recordPropagation() {
+        propagationCount += node.getPropagator().size();
+    }
+
+    public NodeProfile toNodeProfile() {
+        long indexerSize;
+        if (node instanceof AbstractJoinNode<?, ?, ?> joinNode) {
+            indexerSize = joinNode.getIndexerSize();
+        } else if (node instanceof AbstractIfExistsNode<?, ?> ifExistsNode) {
+            indexerSize = ifExistsNode.getIndexerSize();
+        } else {
+            indexerSize = 0L;
+        }
+        return new NodeProfile(node.toString(), node.getLayerIndex(), constraintRefs, insertCount, updateCount,
+                retractCount, propagationCount, nanosSpent, indexerSize);
+    }
+
+}
@@ -0,0 +1,45 @@
+package ai.timefold.solver.constraint.streams.bavet.common;
+
+import java.util.Objects;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
+
+final class ProfilingTupleLifecycle<Tuple_ extends AbstractTuple>
+        implements TupleLifecycle<Tuple_> {
+
+    private final TupleLifecycle<Tuple_> tupleLifecycle;
+    private final NodeProfiler nodeProfiler;
+
+    ProfilingTupleLifecycle(TupleLifecycle<Tuple_> tupleLifecycle, NodeProfiler nodeProfiler) {
+        this.tupleLifecycle = Objects.requireNonNull(tupleLifecycle);
+        this.nodeProfiler = Objects.requireNonNull(nodeProfiler);
+    }
+
+    @Override
+    public void insert(Tuple_ tuple) {
+        long start = System.nanoTime();
+        tupleLifecycle.insert(tuple);
+        nodeProfiler.recordInsert(System.nanoTime() - start);
+    }
+
+    @Override
+    public void update(Tuple_ tuple) {
+        long start = System.nanoTime();
+        tupleLifecycle.update(tuple);
+        nodeProfiler.recordUpdate(System.nanoTime() - start);
+    }
+
+    @Override
+    public void retract(Tuple_ tuple) {
+        long start = System.nanoTime();
+        tupleLifecycle.retract(tuple);
+        nodeProfiler.recordRetract(System.nanoTime() - start);
+    }
+
+    @Override
+    public String toString() {
+        return "profiled " + tupleLifecycle;
+    }
+
+}
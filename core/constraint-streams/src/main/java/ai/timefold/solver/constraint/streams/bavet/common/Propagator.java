@@ -35,6 +35,12 @@ import ai.timefold.solver.constraint.streams.bavet.BavetConstraintSession;
  * <p>
  * As this is critical to the correctness of Bavet,
  * there is specific test coverage for these corner cases.
+ * <p>
+ * Optionally, {@link BavetConstraintSession} propagates the nodes of a layer in parallel.
+ * The retracts, updates and inserts remain separate steps, each of which has to finish on all nodes
+ * before the next one starts.
+ * Nodes which are parents of the same join node (see the example above) or which feed into scorers
+ * are never propagated in parallel with one another.
  *
  * @see PropagationQueue More information about propagation.
  */
@@ -56,6 +62,13 @@ public sealed interface Propagator permits PropagationQueue {
      */
     void propagateInserts();
 
+    /**
+     * An estimate of the work that the next propagation event will have to do.
+     *
+     * @return at least 0; the number of tuples waiting to be propagated
+     */
+    int size();
+
     /**
      * Convenience method for cases where the node layer only contains a single node,
      * and therefore it can be propagated all at once.
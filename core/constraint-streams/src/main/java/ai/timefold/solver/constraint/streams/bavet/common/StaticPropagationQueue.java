@@ -21,26 +21,60 @@ public final class StaticPropagationQueue<Tuple_ extends AbstractTuple>
 
     private final Deque<Tuple_> retractQueue;
     private final Deque<Tuple_> updateQueue;
-    private final Deque<Tuple_> insertQueue;
+    private Deque<Tuple_> insertQueue;
+    private int insertQueueCapacity;
     private final Consumer<Tuple_> retractPropagator;
     private final Consumer<Tuple_> updatePropagator;
     private final Consumer<Tuple_> insertPropagator;
+    /**
+     * Null unless the node recycles its tuples.
+     * Receives every tuple which ended up {@link TupleState#DEAD} as a result of retract propagation.
+     */
+    private final Consumer<Tuple_> deadTupleConsumer;
 
     public StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle, int size) {
+        this(nextNodesTupleLifecycle, size, null);
+    }
+
+    /**
+     * @param nextNodesTupleLifecycle never null
+     * @param size initial capacity estimate
+     * @param deadTupleConsumer null if the node does not recycle its tuples;
+     *        the tuples it receives may still be referenced by the queues of this propagator,
+     *        until {@link #propagateInserts()} is finished.
+     */
+    public StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle, int size,
+            Consumer<Tuple_> deadTupleConsumer) {
         // Guesstimate that updates are dominant.
         this.retractQueue = new ArrayDeque<>(size / 20);
         this.updateQueue = new ArrayDeque<>((size / 20) * 18);
-        this.insertQueue = new ArrayDeque<>(size / 20);
+        this.insertQueueCapacity = size / 20;
+        this.insertQueue = new ArrayDeque<>(insertQueueCapacity);
         // Don't create these lambdas over and over again.
         this.retractPropagator = nextNodesTupleLifecycle::retract;
         this.updatePropagator = nextNodesTupleLifecycle::update;
         this.insertPropagator = nextNodesTupleLifecycle::insert;
+        this.deadTupleConsumer = deadTupleConsumer;
     }
 
     public StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle) {
         this(nextNodesTupleLifecycle, 1000);
     }
 
+    /**
+     * Makes room for the given number of inserts in advance,
+     * so that the insert queue does not grow step by step while they are added.
+     * Only has an effect while the insert queue is empty.
+     *
+     * @param insertCount {@code >= 0}
+     */
+    public void ensureInsertCapacity(int insertCount) {
+        if (insertCount > insertQueueCapacity && insertQueue.isEmpty()) {
+            insertQueue = new ArrayDeque<>(insertCount);
+            insertQueueCapacity = insertCount;
+        }
+    }
+
     @Override
     public void insert(Tuple_ carrier) {
         if (carrier.state == TupleState.CREATING) {
@@ -73,6 +107,11 @@ public final class StaticPropagationQueue<Tuple_ extends AbstractTuple>
         retractQueue.add(carrier);
     }
 
+    @Override
+    public int size() {
+        return retractQueue.size() + updateQueue.size() + insertQueue.size();
+    }
+
     @Override
     public void propagateRetracts() {
         if (retractQueue.isEmpty()) {
@@ -80,8 +119,18 @@ public final class StaticPropagationQueue<Tuple_ extends AbstractTuple>
         }
         for (Tuple_ tuple : retractQueue) {
             switch (tuple.state) {
-                case DYING -> propagate(tuple, retractPropagator, TupleState.DEAD);
-                case ABORTING -> tuple.state = TupleState.DEAD;
+                case DYING -> {
+                    propagate(tuple, retractPropagator, TupleState.DEAD);
+                    if (deadTupleConsumer != null) {
+                        deadTupleConsumer.accept(tuple);
+                    }
+                }
+                case ABORTING -> {
+                    tuple.state = TupleState.DEAD;
+                    if (deadTupleConsumer != null) {
+                        deadTupleConsumer.accept(tuple);
+                    }
+                }
             }
         }
         retractQueue.clear();
@@ -0,0 +1,105 @@
+package ai.timefold.solver.constraint.streams.bavet.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractConditionalTupleLifecycle;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.api.score.stream.ConstraintStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Gives every filter stream a copy of the class of its {@link AbstractConditionalTupleLifecycle},
+ * defined as a {@link MethodHandles.Lookup#defineHiddenClass(byte[], boolean, MethodHandles.Lookup.ClassOption...)
+ * hidden class} from the bytecode of that class.
+ * <p>
+ * The JIT compiler profiles the receiver types of a call site per class, not per instance.
+ * All filters of the same cardinality share the call sites of the same class,
+ * so in a network with many filters, those call sites see many predicate types and many downstream types,
+ * which prevents inlining.
+ * The call sites of a copy only ever see the predicate and the downstream type of its single filter.
+ * <p>
+ * Copies are cached per filter stream, so only the first session of a score director factory defines them.
+ * If a copy cannot be defined, for example because the bytecode is not available in a native image,
+ * specialization is switched off and the filters keep the class they were built with.
+ * <p>
+ * This class is thread-safe, as multiple sessions may be built at the same time, for example by move threads.
+ */
+public final class TupleLifecycleSpecializer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TupleLifecycleSpecializer.class);
+    private static final MethodType CONSTRUCTOR_TYPE =
+            MethodType.methodType(TupleLifecycle.class, Object.class, TupleLifecycle.class);
+
+    private final Map<Class<?>, byte[]> bytecodeMap = new ConcurrentHashMap<>();
+    private final Map<ConstraintStream, MethodHandle> constructorMap = new ConcurrentHashMap<>();
+    private volatile boolean enabled = true;
+
+    /**
+     * @param stream never null, the filter stream which built the tuple lifecycle
+     * @param tupleLifecycle never null
+     * @return never null, an instance of the copy of the class of the tuple lifecycle,
+     *         or the tuple lifecycle itself if specialization is switched off
+     */
+    public <Tuple_ extends AbstractTuple> TupleLifecycle<Tuple_> specialize(ConstraintStream stream,
+            AbstractConditionalTupleLifecycle<Tuple_> tupleLifecycle) {
+        if (!enabled) {
+            return tupleLifecycle;
+        }
+        Class<?> tupleLifecycleClass = tupleLifecycle.getClass();
+        MethodHandle constructor;
+        try {
+            constructor = constructorMap.computeIfAbsent(stream, k -> defineCopy(tupleLifecycleClass));
+        } catch (RuntimeException | LinkageError e) {
+            enabled = false;
+            LOGGER.warn("Switching off the specialization of constraint stream filters, "
+                    + "because the class ({}) could not be copied.", tupleLifecycleClass, e);
+            return tupleLifecycle;
+        }
+        try {
+            return (TupleLifecycle<Tuple_>) constructor.invokeExact(tupleLifecycle.getPredicate(),
+                    tupleLifecycle.getTupleLifecycle());
+        } catch (Throwable e) {
+            throw new IllegalStateException("Impossible state: the copy of the class (" + tupleLifecycleClass
+                    + ") failed to construct an instance for the stream (" + stream + ").", e);
+        }
+    }
+
+    private MethodHandle defineCopy(Class<?> tupleLifecycleClass) {
+        byte[] bytecode = bytecodeMap.computeIfAbsent(tupleLifecycleClass, TupleLifecycleSpecializer::readBytecode);
+        try {
+            // The copy is defined in the package of the original, so it has the same access.
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(tupleLifecycleClass, MethodHandles.lookup())
+                    .defineHiddenClass(bytecode, true);
+            Class<?> copyClass = lookup.lookupClass();
+            MethodHandle constructor = lookup.unreflectConstructor(copyClass.getDeclaredConstructors()[0]);
+            return constructor.asType(CONSTRUCTOR_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Impossible state: the class (" + tupleLifecycleClass
+                    + ") is not accessible.", e);
+        }
+    }
+
+    private static byte[] readBytecode(Class<?> tupleLifecycleClass) {
+        String resourceName = tupleLifecycleClass.getSimpleName() + ".class";
+        try (InputStream inputStream = tupleLifecycleClass.getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("The bytecode of the class (" + tupleLifecycleClass
+                        + ") is not available as a resource (" + resourceName + ").");
+            }
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed reading the bytecode of the class (" + tupleLifecycleClass + ").", e);
+        }
+    }
+
+}
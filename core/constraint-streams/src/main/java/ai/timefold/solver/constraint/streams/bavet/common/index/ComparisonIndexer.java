@@ -149,6 +149,15 @@ final class ComparisonIndexer<T, Key_ extends Comparable<Key_>> implements Index
         return comparisonMap.isEmpty();
     }
 
+    @Override
+    public int totalSize() {
+        int totalSize = 0;
+        for (Indexer<T> downstreamIndexer : comparisonMap.values()) {
+            totalSize += downstreamIndexer.totalSize();
+        }
+        return totalSize;
+    }
+
     @Override
     public String toString() {
         return "size = " + comparisonMap.size();
@@ -81,6 +81,15 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
         return downstreamIndexerMap.isEmpty();
     }
 
+    @Override
+    public int totalSize() {
+        int totalSize = 0;
+        for (Indexer<T> downstreamIndexer : downstreamIndexerMap.values()) {
+            totalSize += downstreamIndexer.totalSize();
+        }
+        return totalSize;
+    }
+
     @Override
     public String toString() {
         return "size = " + downstreamIndexerMap.size();
@@ -20,7 +20,7 @@ import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
  *        For example for {@code from(A).join(B)}, the tuple is {@code UniTuple<A>} xor {@code UniTuple<B>}.
  *        For example for {@code Bi<A, B>.join(C)}, the tuple is {@code BiTuple<A, B>} xor {@code UniTuple<C>}.
  */
-public sealed interface Indexer<T> permits ComparisonIndexer, EqualsIndexer, NoneIndexer {
+public sealed interface Indexer<T> permits ComparisonIndexer, EqualsIndexer, IntervalIndexer, NoneIndexer, PrimitiveEqualsIndexer {
 
     ElementAwareListEntry<T> put(IndexProperties indexProperties, T tuple);
 
@@ -32,4 +32,11 @@ public sealed interface Indexer<T> permits ComparisonIndexer, EqualsIndexer, Non
 
     boolean isEmpty();
 
+    /**
+     * Only meant for profiling, as it visits every index key.
+     *
+     * @return at least 0; the number of elements in this indexer, regardless of their index properties
+     */
+    int totalSize();
+
 }
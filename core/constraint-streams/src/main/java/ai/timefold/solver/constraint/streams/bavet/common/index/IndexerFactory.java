@@ -31,6 +31,13 @@ import ai.timefold.solver.core.impl.util.Triple;
  * <p>
  * Example 1: EQUAL+LESS_THAN joiner will become EqualsIndexer -> ComparisonIndexer -> NoneIndexer.
  * <p>
+ * Equal joiners whose key is not composite use {@link PrimitiveEqualsIndexer} instead of {@link EqualsIndexer},
+ * which stores integral and enum keys without boxing them into map nodes,
+ * until a key of another type shows that the joiner's keys are not primitive;
+ * see {@link PrimitiveKeyHint}.
+ * Two consecutive comparison joiners of opposite direction, such as those produced by {@code Joiners.overlapping(...)},
+ * become a single {@link IntervalIndexer} instead of two chained {@link ComparisonIndexer}s.
+ * <p>
  * Indexers have an id, which is the position of the indexer in the chain.
  * Top-most indexer has id 0, and the id increases as we go down the hierarchy.
  * Each {@link AbstractTuple tuple} is assigned an {@link IndexProperties} instance,
@@ -65,6 +72,10 @@ public class IndexerFactory<Right_> {
 
     private final AbstractJoiner<Right_> joiner;
     private final NavigableMap<Integer, JoinerType> joinerTypeMap;
+    /**
+     * Per index property, null unless it is a single (not composite) equal joiner.
+     */
+    private final PrimitiveKeyHint[] primitiveKeyHints;
 
     public IndexerFactory(AbstractJoiner<Right_> joiner) {
         this.joiner = joiner;
@@ -85,6 +96,27 @@ public class IndexerFactory<Right_> {
                 }
             }
         }
+        primitiveKeyHints = buildPrimitiveKeyHints();
+    }
+
+    private PrimitiveKeyHint[] buildPrimitiveKeyHints() {
+        if (joinerTypeMap == null) {
+            var isEqual = joiner.getJoinerCount() == 1 && joiner.getJoinerType(0) == JoinerType.EQUAL;
+            return new PrimitiveKeyHint[] { isEqual ? new PrimitiveKeyHint() : null };
+        }
+        var hints = new PrimitiveKeyHint[joinerTypeMap.size()];
+        var indexPropertyId = 0;
+        var startIndexInclusive = 0;
+        for (var entry : joinerTypeMap.entrySet()) {
+            var keyFunctionLength = entry.getKey() - startIndexInclusive;
+            // Composite keys such as Pair can not be primitive.
+            if (entry.getValue() == JoinerType.EQUAL && keyFunctionLength == 1) {
+                hints[indexPropertyId] = new PrimitiveKeyHint();
+            }
+            startIndexInclusive = entry.getKey();
+            indexPropertyId++;
+        }
+        return hints;
     }
 
     public boolean hasJoiners() {
@@ -544,22 +576,41 @@ public class IndexerFactory<Right_> {
         } else if (joiner.getJoinerCount() == 1) { // Single joiner maps directly to EqualsIndexer or ComparisonIndexer.
             var joinerType = joiner.getJoinerType(0);
             if (joinerType == JoinerType.EQUAL) {
-                return new EqualsIndexer<>(NoneIndexer::new);
+                return buildEqualsIndexer(0, NoneIndexer::new);
             } else {
                 return new ComparisonIndexer<>(isLeftBridge ? joinerType : joinerType.flip(), NoneIndexer::new);
             }
         }
+        var joinerTypeList = new ArrayList<>(joinerTypeMap.values());
+        var indexerCount = joinerTypeList.size();
+        // Opposite comparison joiners next to each other (such as from overlapping()) share a single IntervalIndexer.
+        var startsInterval = new boolean[indexerCount];
+        for (var i = 0; i < indexerCount - 1; i++) {
+            if (IntervalIndexer.isIntervalPair(joinerTypeList.get(i), joinerTypeList.get(i + 1))) {
+                startsInterval[i] = true;
+                i++; // The next joiner is consumed by this interval.
+            }
+        }
         // The following code builds the children first, so it needs to iterate over the joiners in reverse order.
-        var descendingJoinerTypeMap = joinerTypeMap.descendingMap();
         Supplier<Indexer<T>> downstreamIndexerSupplier = NoneIndexer::new;
-        var indexPropertyId = descendingJoinerTypeMap.size() - 1;
-        for (var entry : descendingJoinerTypeMap.entrySet()) {
-            var joinerType = entry.getValue();
+        var indexPropertyId = indexerCount - 1;
+        while (indexPropertyId >= 0) {
+            var joinerType = joinerTypeList.get(indexPropertyId);
             var actualDownstreamIndexerSupplier = downstreamIndexerSupplier;
+            if (indexPropertyId > 0 && startsInterval[indexPropertyId - 1]) {
+                var firstIndexPropertyId = indexPropertyId - 1;
+                var firstJoinerType = joinerTypeList.get(firstIndexPropertyId);
+                var actualFirstJoinerType = isLeftBridge ? firstJoinerType : firstJoinerType.flip();
+                var actualSecondJoinerType = isLeftBridge ? joinerType : joinerType.flip();
+                downstreamIndexerSupplier = () -> new IntervalIndexer<>(actualFirstJoinerType, firstIndexPropertyId,
+                        actualSecondJoinerType, actualDownstreamIndexerSupplier);
+                indexPropertyId -= 2;
+                continue;
+            }
             var effectivelyFinalIndexPropertyId = indexPropertyId;
             if (joinerType == JoinerType.EQUAL) {
                 downstreamIndexerSupplier =
-                        () -> new EqualsIndexer<>(effectivelyFinalIndexPropertyId, actualDownstreamIndexerSupplier);
+                        () -> buildEqualsIndexer(effectivelyFinalIndexPropertyId, actualDownstreamIndexerSupplier);
             } else {
                 var actualJoinerType = isLeftBridge ? joinerType : joinerType.flip();
                 downstreamIndexerSupplier = () -> new ComparisonIndexer<>(actualJoinerType, effectivelyFinalIndexPropertyId,
@@ -570,4 +621,12 @@ public class IndexerFactory<Right_> {
         return downstreamIndexerSupplier.get();
     }
 
+    private <T> Indexer<T> buildEqualsIndexer(int indexPropertyId, Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        var primitiveKeyHint = primitiveKeyHints[indexPropertyId];
+        if (primitiveKeyHint == null || primitiveKeyHint.isNonPrimitive()) {
+            return new EqualsIndexer<>(indexPropertyId, downstreamIndexerSupplier);
+        }
+        return new PrimitiveEqualsIndexer<>(indexPropertyId, primitiveKeyHint, downstreamIndexerSupplier);
+    }
+
 }
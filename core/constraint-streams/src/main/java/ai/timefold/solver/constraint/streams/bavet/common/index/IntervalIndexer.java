@@ -0,0 +1,323 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.impl.score.stream.JoinerType;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+/**
+ * Replaces two chained {@link ComparisonIndexer}s for a pair of comparison joiners pointing in opposite directions,
+ * such as the pair that {@link ai.timefold.solver.core.api.score.stream.Joiners#overlapping} decomposes into.
+ * Every indexed tuple has an interval of a start key and an end key.
+ * A lookup visits all tuples whose start key is lower than the start bound of the lookup
+ * and whose end key is greater than the end bound of the lookup.
+ * <p>
+ * The intervals are kept in an AVL tree ordered by start key (then end key),
+ * where every node also tracks the maximum end key of its subtree.
+ * A lookup therefore prunes every subtree which ends too early and stops at the first node which starts too late,
+ * which visits all k matching intervals in O(log n + k),
+ * instead of walking every interval that starts early enough, as nested comparison indexers would.
+ * <p>
+ * Consumes two consecutive index properties; the downstream indexers start at the property following them.
+ *
+ * @param <T> The element type. Often a tuple.
+ * @param <Key_> The type of both the start and end keys.
+ */
+final class IntervalIndexer<T, Key_ extends Comparable<Key_>> implements Indexer<T> {
+
+    private final int startPropertyIndex;
+    private final boolean startHasOrEquals;
+    private final int endPropertyIndex;
+    private final boolean endHasOrEquals;
+    private final Supplier<Indexer<T>> downstreamIndexerSupplier;
+    private Node<T, Key_> root = null;
+    private int nodeCount = 0;
+
+    /**
+     * @param firstJoinerType already flipped for a right bridge, never {@link JoinerType#EQUAL}
+     * @param firstPropertyIndex index of the property of the first joiner
+     * @param secondJoinerType already flipped for a right bridge, must be of the opposite direction as the first
+     * @param downstreamIndexerSupplier never null
+     */
+    public IntervalIndexer(JoinerType firstJoinerType, int firstPropertyIndex, JoinerType secondJoinerType,
+            Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        if (!isIntervalPair(firstJoinerType, secondJoinerType)) {
+            throw new IllegalArgumentException("Impossible state: the joinerTypes (" + firstJoinerType + ", "
+                    + secondJoinerType + ") do not form an interval.");
+        }
+        /*
+         * The start key is the one that must be lower than its bound (LESS_THAN),
+         * the end key is the one that must be greater than its bound (GREATER_THAN).
+         */
+        boolean firstIsStart = isLessThan(firstJoinerType);
+        JoinerType startJoinerType = firstIsStart ? firstJoinerType : secondJoinerType;
+        JoinerType endJoinerType = firstIsStart ? secondJoinerType : firstJoinerType;
+        this.startPropertyIndex = firstIsStart ? firstPropertyIndex : firstPropertyIndex + 1;
+        this.startHasOrEquals = startJoinerType == JoinerType.LESS_THAN_OR_EQUAL;
+        this.endPropertyIndex = firstIsStart ? firstPropertyIndex + 1 : firstPropertyIndex;
+        this.endHasOrEquals = endJoinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+        this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
+    }
+
+    static boolean isIntervalPair(JoinerType firstJoinerType, JoinerType secondJoinerType) {
+        return (isLessThan(firstJoinerType) && isGreaterThan(secondJoinerType))
+                || (isGreaterThan(firstJoinerType) && isLessThan(secondJoinerType));
+    }
+
+    private static boolean isLessThan(JoinerType joinerType) {
+        return joinerType == JoinerType.LESS_THAN || joinerType == JoinerType.LESS_THAN_OR_EQUAL;
+    }
+
+    private static boolean isGreaterThan(JoinerType joinerType) {
+        return joinerType == JoinerType.GREATER_THAN || joinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+    }
+
+    @Override
+    public ElementAwareListEntry<T> put(IndexProperties indexProperties, T tuple) {
+        Key_ start = indexProperties.toKey(startPropertyIndex);
+        Key_ end = indexProperties.toKey(endPropertyIndex);
+        Node<T, Key_> node = find(start, end);
+        if (node == null) {
+            node = new Node<>(start, end, downstreamIndexerSupplier.get());
+            root = insert(root, node);
+            nodeCount++;
+        }
+        return node.downstreamIndexer.put(indexProperties, tuple);
+    }
+
+    @Override
+    public void remove(IndexProperties indexProperties, ElementAwareListEntry<T> entry) {
+        Key_ start = indexProperties.toKey(startPropertyIndex);
+        Key_ end = indexProperties.toKey(endPropertyIndex);
+        Node<T, Key_> node = find(start, end);
+        if (node == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
+                    + ") with indexProperties (" + indexProperties
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        node.downstreamIndexer.remove(indexProperties, entry);
+        if (node.downstreamIndexer.isEmpty()) {
+            root = delete(root, start, end);
+            nodeCount--;
+        }
+    }
+
+    @Override
+    public int size(IndexProperties indexProperties) {
+        if (root == null) {
+            return 0;
+        }
+        Key_ startBound = indexProperties.toKey(startPropertyIndex);
+        Key_ endBound = indexProperties.toKey(endPropertyIndex);
+        return size(root, startBound, endBound, indexProperties);
+    }
+
+    private int size(Node<T, Key_> node, Key_ startBound, Key_ endBound, IndexProperties indexProperties) {
+        int size = 0;
+        while (node != null && endMatches(node.maxEnd, endBound)) {
+            size += size(node.left, startBound, endBound, indexProperties);
+            if (!startMatches(node.start, startBound)) { // The right subtree starts even later.
+                break;
+            }
+            if (endMatches(node.end, endBound)) {
+                size += node.downstreamIndexer.size(indexProperties);
+            }
+            node = node.right;
+        }
+        return size;
+    }
+
+    @Override
+    public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
+        if (root == null) {
+            return;
+        }
+        Key_ startBound = indexProperties.toKey(startPropertyIndex);
+        Key_ endBound = indexProperties.toKey(endPropertyIndex);
+        forEach(root, startBound, endBound, indexProperties, tupleConsumer);
+    }
+
+    private void forEach(Node<T, Key_> node, Key_ startBound, Key_ endBound, IndexProperties indexProperties,
+            Consumer<T> tupleConsumer) {
+        // Iterates over the right spine to keep the recursion depth bounded by the tree height.
+        while (node != null && endMatches(node.maxEnd, endBound)) {
+            forEach(node.left, startBound, endBound, indexProperties, tupleConsumer);
+            if (!startMatches(node.start, startBound)) { // The right subtree starts even later.
+                return;
+            }
+            if (endMatches(node.end, endBound)) {
+                node.downstreamIndexer.forEach(indexProperties, tupleConsumer);
+            }
+            node = node.right;
+        }
+    }
+
+    private boolean startMatches(Key_ start, Key_ startBound) {
+        int comparison = start.compareTo(startBound);
+        return comparison < 0 || (startHasOrEquals && comparison == 0);
+    }
+
+    private boolean endMatches(Key_ end, Key_ endBound) {
+        int comparison = end.compareTo(endBound);
+        return comparison > 0 || (endHasOrEquals && comparison == 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public int totalSize() {
+        return totalSize(root);
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> int totalSize(Node<T, Key_> node) {
+        if (node == null) {
+            return 0;
+        }
+        return totalSize(node.left) + node.downstreamIndexer.totalSize() + totalSize(node.right);
+    }
+
+    // ************************************************************************
+    // AVL tree, augmented with the maximum end key of each subtree
+    // ************************************************************************
+
+    private static <Key_ extends Comparable<Key_>> int compare(Key_ startA, Key_ endA, Key_ startB, Key_ endB) {
+        int comparison = startA.compareTo(startB);
+        return comparison != 0 ? comparison : endA.compareTo(endB);
+    }
+
+    private Node<T, Key_> find(Key_ start, Key_ end) {
+        Node<T, Key_> node = root;
+        while (node != null) {
+            int comparison = compare(start, end, node.start, node.end);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> insert(Node<T, Key_> node, Node<T, Key_> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compare(newNode.start, newNode.end, node.start, node.end) < 0) {
+            node.left = insert(node.left, newNode);
+        } else {
+            node.right = insert(node.right, newNode);
+        }
+        return rebalance(node);
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> delete(Node<T, Key_> node, Key_ start, Key_ end) {
+        int comparison = compare(start, end, node.start, node.end);
+        if (comparison < 0) {
+            node.left = delete(node.left, start, end);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, start, end);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+            Node<T, Key_> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> deleteMin(Node<T, Key_> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> rebalance(Node<T, Key_> node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> rotateLeft(Node<T, Key_> node) {
+        Node<T, Key_> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> rotateRight(Node<T, Key_> node) {
+        Node<T, Key_> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + nodeCount;
+    }
+
+    private static final class Node<T, Key_ extends Comparable<Key_>> {
+
+        private final Key_ start;
+        private final Key_ end;
+        private final Indexer<T> downstreamIndexer;
+        private Node<T, Key_> left = null;
+        private Node<T, Key_> right = null;
+        private int height = 1;
+        private Key_ maxEnd;
+
+        private Node(Key_ start, Key_ end, Indexer<T> downstreamIndexer) {
+            this.start = start;
+            this.end = end;
+            this.downstreamIndexer = downstreamIndexer;
+            this.maxEnd = end;
+        }
+
+        private void update() {
+            height = 1 + Math.max(height(left), height(right));
+            Key_ max = end;
+            if (left != null && left.maxEnd.compareTo(max) > 0) {
+                max = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.compareTo(max) > 0) {
+                max = right.maxEnd;
+            }
+            maxEnd = max;
+        }
+
+    }
+
+}
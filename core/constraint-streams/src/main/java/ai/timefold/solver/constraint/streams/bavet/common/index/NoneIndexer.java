@@ -34,6 +34,11 @@ final class NoneIndexer<T> implements Indexer<T> {
         return tupleList.size() == 0;
     }
 
+    @Override
+    public int totalSize() {
+        return tupleList.size();
+    }
+
     @Override
     public String toString() {
         return "size = " + tupleList.size();
@@ -0,0 +1,350 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+/**
+ * Behaves like {@link EqualsIndexer}, but is optimized for keys which are integral numbers or enums,
+ * such as planning ids and enum-based categories.
+ * Such keys are stored as a primitive long in an open-addressing table with linear probing,
+ * which avoids both {@link Object#hashCode()}/{@link Object#equals(Object)} calls
+ * and the allocation of a map node per key on the hot path.
+ * <p>
+ * The type of the key is only known at runtime, as the key functions of the joiners are not typed.
+ * Therefore the first key ever put into the indexer determines its key class;
+ * as long as all subsequent keys are of that same class, the primitive table is used.
+ * If the first key is not primitive, or if a key of another class arrives later,
+ * the indexer permanently falls back to a {@link HashMap}, same as {@link EqualsIndexer},
+ * and tells its {@link PrimitiveKeyHint}, so that {@link IndexerFactory} builds {@link EqualsIndexer}s
+ * for that property from then on.
+ * Null keys are supported in both modes.
+ *
+ * @param <T> The element type. Often a tuple.
+ */
+final class PrimitiveEqualsIndexer<T> implements Indexer<T> {
+
+    private static final int INITIAL_CAPACITY = 16; // Must be a power of 2.
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L; // Fibonacci hashing.
+
+    private final int propertyIndex;
+    private final PrimitiveKeyHint primitiveKeyHint;
+    private final Supplier<Indexer<T>> downstreamIndexerSupplier;
+
+    private Class<?> keyClass = null; // Null until the first non-null key is put.
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY]; // Holds Indexer<T> instances, see getValue(int).
+    private int mask = INITIAL_CAPACITY - 1;
+    private int size = 0;
+    private Indexer<T> nullKeyIndexer = null;
+    private Map<Object, Indexer<T>> fallbackIndexerMap = null; // Once set, the primitive table is no longer used.
+
+    public PrimitiveEqualsIndexer(Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        this(0, new PrimitiveKeyHint(), downstreamIndexerSupplier);
+    }
+
+    /**
+     * @param primitiveKeyHint never null, shared with the other indexers of the same property of the same node
+     */
+    public PrimitiveEqualsIndexer(int propertyIndex, PrimitiveKeyHint primitiveKeyHint,
+            Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        this.propertyIndex = propertyIndex;
+        this.primitiveKeyHint = Objects.requireNonNull(primitiveKeyHint);
+        this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
+    }
+
+    @Override
+    public ElementAwareListEntry<T> put(IndexProperties indexProperties, T tuple) {
+        Object indexKey = indexProperties.toKey(propertyIndex);
+        if (fallbackIndexerMap == null) {
+            if (indexKey == null) {
+                if (nullKeyIndexer == null) {
+                    nullKeyIndexer = downstreamIndexerSupplier.get();
+                }
+                return nullKeyIndexer.put(indexProperties, tuple);
+            }
+            Class<?> indexKeyClass = determineKeyClass(indexKey);
+            if (keyClass == null && indexKeyClass != null) {
+                keyClass = indexKeyClass;
+            }
+            if (indexKeyClass != null && indexKeyClass == keyClass) {
+                return putPrimitive(toPrimitiveKey(indexKey), indexProperties, tuple);
+            }
+            switchToFallback();
+        }
+        // Avoids computeIfAbsent in order to not create lambdas on the hot path.
+        Indexer<T> downstreamIndexer = fallbackIndexerMap.get(indexKey);
+        if (downstreamIndexer == null) {
+            downstreamIndexer = downstreamIndexerSupplier.get();
+            fallbackIndexerMap.put(indexKey, downstreamIndexer);
+        }
+        return downstreamIndexer.put(indexProperties, tuple);
+    }
+
+    private ElementAwareListEntry<T> putPrimitive(long key, IndexProperties indexProperties, T tuple) {
+        int slot = findSlot(key);
+        Indexer<T> downstreamIndexer = getValue(slot);
+        if (downstreamIndexer == null) {
+            downstreamIndexer = downstreamIndexerSupplier.get();
+            keys[slot] = key;
+            values[slot] = downstreamIndexer;
+            size++;
+            if (size * 2 > values.length) { // Keep the load factor at or below 0.5, linear probing degrades above that.
+                resize(values.length * 2);
+            }
+        }
+        return downstreamIndexer.put(indexProperties, tuple);
+    }
+
+    @Override
+    public void remove(IndexProperties indexProperties, ElementAwareListEntry<T> entry) {
+        Object indexKey = indexProperties.toKey(propertyIndex);
+        if (fallbackIndexerMap != null) {
+            Indexer<T> downstreamIndexer = fallbackIndexerMap.get(indexKey);
+            if (downstreamIndexer == null) {
+                throw newMissingTupleException(indexProperties, entry);
+            }
+            downstreamIndexer.remove(indexProperties, entry);
+            if (downstreamIndexer.isEmpty()) {
+                fallbackIndexerMap.remove(indexKey);
+            }
+            return;
+        }
+        if (indexKey == null) {
+            if (nullKeyIndexer == null) {
+                throw newMissingTupleException(indexProperties, entry);
+            }
+            nullKeyIndexer.remove(indexProperties, entry);
+            if (nullKeyIndexer.isEmpty()) {
+                nullKeyIndexer = null;
+            }
+            return;
+        }
+        int slot = findExistingSlot(indexKey);
+        if (slot < 0) {
+            throw newMissingTupleException(indexProperties, entry);
+        }
+        Indexer<T> downstreamIndexer = getValue(slot);
+        downstreamIndexer.remove(indexProperties, entry);
+        if (downstreamIndexer.isEmpty()) {
+            removeSlot(slot);
+            if (size == 0) { // Allows the indexer to be reused with a different key class.
+                keyClass = null;
+            }
+        }
+    }
+
+    private IllegalStateException newMissingTupleException(IndexProperties indexProperties,
+            ElementAwareListEntry<T> entry) {
+        return new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
+                + ") with indexProperties (" + indexProperties
+                + ") doesn't exist in the indexer " + this + ".");
+    }
+
+    @Override
+    public int size(IndexProperties indexProperties) {
+        Indexer<T> downstreamIndexer = getDownstreamIndexer(indexProperties.toKey(propertyIndex));
+        if (downstreamIndexer == null) {
+            return 0;
+        }
+        return downstreamIndexer.size(indexProperties);
+    }
+
+    @Override
+    public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
+        Indexer<T> downstreamIndexer = getDownstreamIndexer(indexProperties.toKey(propertyIndex));
+        if (downstreamIndexer == null) {
+            return;
+        }
+        downstreamIndexer.forEach(indexProperties, tupleConsumer);
+    }
+
+    private Indexer<T> getDownstreamIndexer(Object indexKey) {
+        if (fallbackIndexerMap != null) {
+            return fallbackIndexerMap.get(indexKey);
+        } else if (indexKey == null) {
+            return nullKeyIndexer;
+        }
+        int slot = findExistingSlot(indexKey);
+        return slot < 0 ? null : getValue(slot);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (fallbackIndexerMap != null) {
+            return fallbackIndexerMap.isEmpty();
+        }
+        return size == 0 && nullKeyIndexer == null;
+    }
+
+    @Override
+    public int totalSize() {
+        int totalSize = 0;
+        if (fallbackIndexerMap != null) {
+            for (Indexer<T> downstreamIndexer : fallbackIndexerMap.values()) {
+                totalSize += downstreamIndexer.totalSize();
+            }
+            return totalSize;
+        }
+        for (int slot = 0; slot < values.length; slot++) {
+            Indexer<T> downstreamIndexer = getValue(slot);
+            if (downstreamIndexer != null) {
+                totalSize += downstreamIndexer.totalSize();
+            }
+        }
+        if (nullKeyIndexer != null) {
+            totalSize += nullKeyIndexer.totalSize();
+        }
+        return totalSize;
+    }
+
+    @SuppressWarnings("unchecked") // Only putPrimitive() stores values, and those are always Indexer<T>.
+    private Indexer<T> getValue(int slot) {
+        return (Indexer<T>) values[slot];
+    }
+
+    private int findExistingSlot(Object indexKey) {
+        if (keyClass == null || determineKeyClass(indexKey) != keyClass) { // Different key class can never be equal.
+            return -1;
+        }
+        int slot = findSlot(toPrimitiveKey(indexKey));
+        return values[slot] == null ? -1 : slot;
+    }
+
+    /**
+     * @return the slot holding the key, or the empty slot where the key would be inserted
+     */
+    private int findSlot(long key) {
+        int slot = hash(key);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int hash(long key) {
+        long hash = key * HASH_MULTIPLIER;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * Backward shift deletion; unlike tombstones, it keeps the probe sequences short
+     * under the constant insert/retract churn of incremental score calculation.
+     */
+    private void removeSlot(int slot) {
+        int gap = slot;
+        int current = (slot + 1) & mask;
+        while (values[current] != null) {
+            int ideal = hash(keys[current]);
+            if (((current - ideal) & mask) >= ((current - gap) & mask)) {
+                keys[gap] = keys[current];
+                values[gap] = values[current];
+                gap = current;
+            }
+            current = (current + 1) & mask;
+        }
+        keys[gap] = 0L;
+        values[gap] = null;
+        size--;
+    }
+
+    private void resize(int newCapacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[newCapacity];
+        values = new Object[newCapacity];
+        mask = newCapacity - 1;
+        for (int i = 0; i < oldValues.length; i++) {
+            Object value = oldValues[i];
+            if (value != null) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = value;
+            }
+        }
+    }
+
+    private void switchToFallback() {
+        primitiveKeyHint.nonPrimitiveKeySeen();
+        fallbackIndexerMap = new HashMap<>(Math.max(16, size * 2));
+        for (int i = 0; i < values.length; i++) {
+            Indexer<T> value = getValue(i);
+            if (value != null) {
+                fallbackIndexerMap.put(fromPrimitiveKey(keys[i]), value);
+            }
+        }
+        if (nullKeyIndexer != null) {
+            fallbackIndexerMap.put(null, nullKeyIndexer);
+            nullKeyIndexer = null;
+        }
+        keyClass = null;
+        keys = null;
+        values = null;
+        size = 0;
+    }
+
+    /**
+     * @param key never null
+     * @return null if the key can not be represented as a primitive long without losing {@link Object#equals(Object)}
+     *         semantics
+     */
+    private static Class<?> determineKeyClass(Object key) {
+        if (key instanceof Enum<?> enumKey) {
+            return enumKey.getDeclaringClass(); // Enum constants with a body are anonymous subclasses.
+        }
+        Class<?> clz = key.getClass();
+        if (clz == Integer.class || clz == Long.class || clz == Short.class || clz == Byte.class
+                || clz == Character.class) {
+            return clz;
+        }
+        return null;
+    }
+
+    private static long toPrimitiveKey(Object key) {
+        if (key instanceof Integer integerKey) {
+            return integerKey;
+        } else if (key instanceof Long longKey) {
+            return longKey;
+        } else if (key instanceof Enum<?> enumKey) {
+            return enumKey.ordinal();
+        } else if (key instanceof Short shortKey) {
+            return shortKey;
+        } else if (key instanceof Byte byteKey) {
+            return byteKey;
+        } else if (key instanceof Character characterKey) {
+            return characterKey;
+        }
+        throw new IllegalStateException("Impossible state: the key (" + key + ") of type (" + key.getClass()
+                + ") is not primitive.");
+    }
+
+    private Object fromPrimitiveKey(long key) {
+        if (keyClass == Integer.class) {
+            return (int) key;
+        } else if (keyClass == Long.class) {
+            return key;
+        } else if (keyClass.isEnum()) {
+            return keyClass.getEnumConstants()[(int) key];
+        } else if (keyClass == Short.class) {
+            return (short) key;
+        } else if (keyClass == Byte.class) {
+            return (byte) key;
+        } else if (keyClass == Character.class) {
+            return (char) key;
+        }
+        throw new IllegalStateException("Impossible state: the key class (" + keyClass + ") is not primitive.");
+    }
+
+    @Override
+    public String toString() {
+        if (fallbackIndexerMap != null) {
+            return "size = " + fallbackIndexerMap.size();
+        }
+        return "size = " + (size + (nullKeyIndexer == null ? 0 : 1));
+    }
+
+}
@@ -0,0 +1,28 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+/**
+ * Whether the keys of a single equal joiner of a node have all been primitive so far.
+ * The key functions of the joiners are not typed, so the key type is only known once keys arrive.
+ * <p>
+ * Shared by all {@link PrimitiveEqualsIndexer}s that {@link IndexerFactory} builds for the same property of a node,
+ * on both the left and the right side, because an equal joiner compares keys of the same type.
+ * Once any of them sees a key that is not primitive,
+ * {@link IndexerFactory} builds plain {@link EqualsIndexer}s for that property instead,
+ * so a joiner on, for example, entities or strings only pays for the primitive attempt once.
+ */
+final class PrimitiveKeyHint {
+
+    private boolean nonPrimitive = false;
+
+    /**
+     * @return true if a key of this property was not primitive, or was of another class than earlier keys
+     */
+    boolean isNonPrimitive() {
+        return nonPrimitive;
+    }
+
+    void nonPrimitiveKeySeen() {
+        nonPrimitive = true;
+    }
+
+}
@@ -2,38 +2,37 @@ package ai.timefold.solver.constraint.streams.bavet.common.tuple;
 
 import java.util.Objects;
 
+/**
+ * Passes on the tuples which pass a predicate, and retracts those which no longer do.
+ * <p>
+ * Every subclass implements {@link #insert(AbstractTuple)}, {@link #update(AbstractTuple)}
+ * and {@link #retract(AbstractTuple)} itself, instead of inheriting them,
+ * so that every copy of it made by {@link ai.timefold.solver.constraint.streams.bavet.common.TupleLifecycleSpecializer}
+ * calls the predicate and the downstream {@link TupleLifecycle} from call sites of its own.
+ * For the same reason, every subclass has a single constructor,
+ * which takes {@link #getPredicate()} and {@link #getTupleLifecycle()}, in that order.
+ */
 public abstract class AbstractConditionalTupleLifecycle<Tuple_ extends AbstractTuple>
         implements TupleLifecycle<Tuple_> {
 
-    private final TupleLifecycle<Tuple_> tupleLifecycle;
+    protected final TupleLifecycle<Tuple_> tupleLifecycle;
 
     protected AbstractConditionalTupleLifecycle(TupleLifecycle<Tuple_> tupleLifecycle) {
         this.tupleLifecycle = Objects.requireNonNull(tupleLifecycle);
     }
 
-    @Override
-    public final void insert(Tuple_ tuple) {
-        if (test(tuple)) {
-            tupleLifecycle.insert(tuple);
-        }
-    }
+    /**
+     * @return never null, the first argument of the constructor
+     */
+    public abstract Object getPredicate();
 
-    @Override
-    public final void update(Tuple_ tuple) {
-        if (test(tuple)) {
-            tupleLifecycle.update(tuple);
-        } else {
-            tupleLifecycle.retract(tuple);
-        }
+    /**
+     * @return never null, the second argument of the constructor
+     */
+    public TupleLifecycle<Tuple_> getTupleLifecycle() {
+        return tupleLifecycle;
     }
 
-    @Override
-    public final void retract(Tuple_ tuple) {
-        tupleLifecycle.retract(tuple);
-    }
-
-    abstract protected boolean test(Tuple_ tuple);
-
     @Override
     public String toString() {
         return "Conditional " + tupleLifecycle;
@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.common.tuple;
 
+import java.util.Arrays;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintStream;
@@ -59,4 +60,16 @@ public abstract sealed class AbstractTuple permits UniTuple, BiTuple, TriTuple,
         return value;
     }
 
+    /**
+     * Only for tuples that are being recycled,
+     * as not every node removes what it stored in a tuple when that tuple is retracted.
+     */
+    public final void clearStore() {
+        if (storeIsArray) {
+            Arrays.fill((Object[]) store, null);
+        } else {
+            store = null;
+        }
+    }
+
 }
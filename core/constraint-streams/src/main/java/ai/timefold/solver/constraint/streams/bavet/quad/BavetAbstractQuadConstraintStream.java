@@ -70,7 +70,8 @@ public abstract class BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>
 
     @Override
     public BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> filter(QuadPredicate<A, B, C, D> predicate) {
-        return shareAndAddChild(new BavetFilterQuadConstraintStream<>(constraintFactory, this, predicate));
+        return shareAndAddChild(new BavetFilterQuadConstraintStream<>(constraintFactory, this,
+                constraintFactory.canonicalize(predicate)));
     }
 
     // ************************************************************************
@@ -136,7 +137,8 @@ public abstract class BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>
     private <E> QuadConstraintStream<A, B, C, D> ifExistsOrNot(boolean shouldExist,
             UniConstraintStream<E> otherStream, PentaJoiner<A, B, C, D, E>[] joiners) {
         var other = (BavetAbstractUniConstraintStream<Solution_, E>) otherStream;
-        var joinerComber = PentaJoinerComber.comb(joiners);
+        var joinerComber = PentaJoinerComber.comb(joiners)
+                .canonicalize(constraintFactory::canonicalize);
         var parentBridgeD = other.shareAndAddChild(new BavetForeBridgeUniConstraintStream<>(constraintFactory, other));
         return constraintFactory.share(
                 new BavetIfExistsQuadConstraintStream<>(constraintFactory, this, parentBridgeD,
@@ -69,14 +69,15 @@ public final class BavetJoinQuadConstraintStream<Solution_, A, B, C, D>
                         buildHelper.reserveTupleStoreIndex(rightParent.getTupleSource()),
                         downstream, filtering, outputStoreSize + 2,
                         outputStoreSize, outputStoreSize + 1,
-                        indexerFactory.buildIndexer(true), indexerFactory.buildIndexer(false))
+                        indexerFactory.buildIndexer(true), indexerFactory.buildIndexer(false),
+                        buildHelper.isTupleRecycling())
                 : new UnindexedJoinQuadNode<>(
                         buildHelper.reserveTupleStoreIndex(leftParent.getTupleSource()),
                         buildHelper.reserveTupleStoreIndex(leftParent.getTupleSource()),
                         buildHelper.reserveTupleStoreIndex(rightParent.getTupleSource()),
                         buildHelper.reserveTupleStoreIndex(rightParent.getTupleSource()),
                         downstream, filtering, outputStoreSize + 2,
-                        outputStoreSize, outputStoreSize + 1);
+                        outputStoreSize, outputStoreSize + 1, buildHelper.isTupleRecycling());
         buildHelper.addNode(node, this, leftParent, rightParent);
     }
 
@@ -15,7 +15,29 @@ final class ConditionalQuadTupleLifecycle<A, B, C, D> extends AbstractConditiona
     }
 
     @Override
-    protected boolean test(QuadTuple<A, B, C, D> tuple) {
-        return predicate.test(tuple.factA, tuple.factB, tuple.factC, tuple.factD);
+    public void insert(QuadTuple<A, B, C, D> tuple) {
+        if (predicate.test(tuple.factA, tuple.factB, tuple.factC, tuple.factD)) {
+            tupleLifecycle.insert(tuple);
+        }
     }
+
+    @Override
+    public void update(QuadTuple<A, B, C, D> tuple) {
+        if (predicate.test(tuple.factA, tuple.factB, tuple.factC, tuple.factD)) {
+            tupleLifecycle.update(tuple);
+        } else {
+            tupleLifecycle.retract(tuple);
+        }
+    }
+
+    @Override
+    public void retract(QuadTuple<A, B, C, D> tuple) {
+        tupleLifecycle.retract(tuple);
+    }
+
+    @Override
+    public QuadPredicate<A, B, C, D> getPredicate() {
+        return predicate;
+    }
+
 }
@@ -26,13 +26,13 @@ final class IndexedJoinQuadNode<A, B, C, D>
             int outputStoreSize,
             int outputStoreIndexOutEntryABC, int outputStoreIndexOutEntryD,
             Indexer<TriTuple<A, B, C>> indexerABC,
-            Indexer<UniTuple<D>> indexerD) {
+            Indexer<UniTuple<D>> indexerD, boolean tupleRecycling) {
         super(mappingD,
                 inputStoreIndexABC, inputStoreIndexEntryABC, inputStoreIndexOutTupleListABC,
                 inputStoreIndexD, inputStoreIndexEntryD, inputStoreIndexOutTupleListD,
                 nextNodesTupleLifecycle, filtering != null,
                 outputStoreIndexOutEntryABC, outputStoreIndexOutEntryD,
-                indexerABC, indexerD);
+                indexerABC, indexerD, tupleRecycling);
         this.mappingABC = mappingABC;
         this.filtering = filtering;
         this.outputStoreSize = outputStoreSize;
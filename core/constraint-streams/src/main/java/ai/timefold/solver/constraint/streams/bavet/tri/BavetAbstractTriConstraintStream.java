@@ -71,7 +71,8 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
 
     @Override
     public BavetAbstractTriConstraintStream<Solution_, A, B, C> filter(TriPredicate<A, B, C> predicate) {
-        return shareAndAddChild(new BavetFilterTriConstraintStream<>(constraintFactory, this, predicate));
+        return shareAndAddChild(new BavetFilterTriConstraintStream<>(constraintFactory, this,
+                constraintFactory.canonicalize(predicate)));
     }
 
     // ************************************************************************
@@ -83,7 +84,8 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     public final <D> QuadConstraintStream<A, B, C, D> join(UniConstraintStream<D> otherStream,
             QuadJoiner<A, B, C, D>... joiners) {
         var other = (BavetAbstractUniConstraintStream<Solution_, D>) otherStream;
-        var joinerComber = QuadJoinerComber.comb(joiners);
+        var joinerComber = QuadJoinerComber.comb(joiners)
+                .canonicalize(constraintFactory::canonicalize);
         var leftBridge = new BavetForeBridgeTriConstraintStream<>(constraintFactory, this);
         var rightBridge = new BavetForeBridgeUniConstraintStream<>(constraintFactory, other);
         var joinStream = new BavetJoinQuadConstraintStream<>(constraintFactory, leftBridge, rightBridge,
@@ -158,7 +160,8 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     private <D> TriConstraintStream<A, B, C> ifExistsOrNot(boolean shouldExist, UniConstraintStream<D> otherStream,
             QuadJoiner<A, B, C, D>[] joiners) {
         var other = (BavetAbstractUniConstraintStream<Solution_, D>) otherStream;
-        var joinerComber = QuadJoinerComber.comb(joiners);
+        var joinerComber = QuadJoinerComber.comb(joiners)
+                .canonicalize(constraintFactory::canonicalize);
         var parentBridgeD = other.shareAndAddChild(new BavetForeBridgeUniConstraintStream<>(constraintFactory, other));
         return constraintFactory.share(
                 new BavetIfExistsTriConstraintStream<>(constraintFactory, this, parentBridgeD,
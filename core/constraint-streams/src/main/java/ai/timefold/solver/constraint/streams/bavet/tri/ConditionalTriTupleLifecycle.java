@@ -14,8 +14,29 @@ final class ConditionalTriTupleLifecycle<A, B, C> extends AbstractConditionalTup
     }
 
     @Override
-    protected boolean test(TriTuple<A, B, C> tuple) {
-        return predicate.test(tuple.factA, tuple.factB, tuple.factC);
+    public void insert(TriTuple<A, B, C> tuple) {
+        if (predicate.test(tuple.factA, tuple.factB, tuple.factC)) {
+            tupleLifecycle.insert(tuple);
+        }
+    }
+
+    @Override
+    public void update(TriTuple<A, B, C> tuple) {
+        if (predicate.test(tuple.factA, tuple.factB, tuple.factC)) {
+            tupleLifecycle.update(tuple);
+        } else {
+            tupleLifecycle.retract(tuple);
+        }
+    }
+
+    @Override
+    public void retract(TriTuple<A, B, C> tuple) {
+        tupleLifecycle.retract(tuple);
+    }
+
+    @Override
+    public TriPredicate<A, B, C> getPredicate() {
+        return predicate;
     }
 
 }
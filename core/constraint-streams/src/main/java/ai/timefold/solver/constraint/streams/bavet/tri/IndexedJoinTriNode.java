@@ -26,13 +26,13 @@ final class IndexedJoinTriNode<A, B, C>
             int outputStoreSize,
             int outputStoreIndexOutEntryAB, int outputStoreIndexOutEntryC,
             Indexer<BiTuple<A, B>> indexerAB,
-            Indexer<UniTuple<C>> indexerC) {
+            Indexer<UniTuple<C>> indexerC, boolean tupleRecycling) {
         super(mappingC,
                 inputStoreIndexAB, inputStoreIndexEntryAB, inputStoreIndexOutTupleListAB,
                 inputStoreIndexC, inputStoreIndexEntryC, inputStoreIndexOutTupleListC,
                 nextNodesTupleLifecycle, filtering != null,
                 outputStoreIndexOutEntryAB, outputStoreIndexOutEntryC,
-                indexerAB, indexerC);
+                indexerAB, indexerC, tupleRecycling);
         this.mappingAB = mappingAB;
         this.filtering = filtering;
         this.outputStoreSize = outputStoreSize;
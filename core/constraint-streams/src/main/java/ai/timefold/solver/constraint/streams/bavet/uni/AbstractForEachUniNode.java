@@ -25,7 +25,8 @@ public abstract sealed class AbstractForEachUniNode<A>
     private final Class<A> forEachClass;
     private final int outputStoreSize;
     private final StaticPropagationQueue<UniTuple<A>> propagationQueue;
-    protected final Map<A, UniTuple<A>> tupleMap = new IdentityHashMap<>(1000);
+    protected Map<A, UniTuple<A>> tupleMap = new IdentityHashMap<>(1000);
+    private int tupleMapCapacity = 1000;
 
     public AbstractForEachUniNode(Class<A> forEachClass, TupleLifecycle<UniTuple<A>> nextNodesTupleLifecycle,
             int outputStoreSize) {
@@ -34,6 +35,20 @@ public abstract sealed class AbstractForEachUniNode<A>
         this.propagationQueue = new StaticPropagationQueue<>(nextNodesTupleLifecycle);
     }
 
+    /**
+     * Makes room for the given number of facts in advance, before they are {@link #insert(Object) inserted}.
+     * Only has an effect while this node holds no facts.
+     *
+     * @param factCount {@code >= 0}, including the facts which this node might filter out
+     */
+    public final void ensureCapacity(int factCount) {
+        if (factCount > tupleMapCapacity && tupleMap.isEmpty()) {
+            tupleMap = new IdentityHashMap<>(factCount);
+            tupleMapCapacity = factCount;
+        }
+        propagationQueue.ensureInsertCapacity(factCount);
+    }
+
     public void insert(A a) {
         UniTuple<A> tuple = new UniTuple<>(a, outputStoreSize);
         UniTuple<A> old = tupleMap.put(a, tuple);
@@ -62,6 +77,10 @@ public abstract sealed class AbstractForEachUniNode<A>
         if (tuple == null) {
             throw new IllegalStateException("The fact (" + a + ") was never inserted, so it cannot retract.");
         }
+        innerRetract(a, tuple);
+    }
+
+    private void innerRetract(A a, UniTuple<A> tuple) {
         TupleState state = tuple.state;
         if (state.isDirty()) {
             if (state == TupleState.DYING || state == TupleState.ABORTING) {
@@ -73,6 +92,17 @@ public abstract sealed class AbstractForEachUniNode<A>
         }
     }
 
+    /**
+     * Retracts every fact which was inserted and not retracted since.
+     * Unlike {@link #retract(Object)}, this does not test any filter, as it only retracts what is actually inserted.
+     */
+    public final void retractAll() {
+        for (var entry : tupleMap.entrySet()) {
+            innerRetract(entry.getKey(), entry.getValue());
+        }
+        tupleMap.clear(); // Keeps the capacity of the map.
+    }
+
     @Override
     public Propagator getPropagator() {
         return propagationQueue;
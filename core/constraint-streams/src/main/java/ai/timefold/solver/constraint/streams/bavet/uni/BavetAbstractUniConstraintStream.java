@@ -72,7 +72,8 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
 
     @Override
     public BavetAbstractUniConstraintStream<Solution_, A> filter(Predicate<A> predicate) {
-        return shareAndAddChild(new BavetFilterUniConstraintStream<>(constraintFactory, this, predicate));
+        return shareAndAddChild(new BavetFilterUniConstraintStream<>(constraintFactory, this,
+                constraintFactory.canonicalize(predicate)));
     }
 
     // ************************************************************************
@@ -90,10 +91,11 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     @Override
     public final <B> BiConstraintStream<A, B> join(UniConstraintStream<B> otherStream, BiJoinerComber<A, B> joinerComber) {
         var other = (BavetAbstractUniConstraintStream<Solution_, B>) otherStream;
+        var canonicalJoinerComber = joinerComber.canonicalize(constraintFactory::canonicalize);
         var leftBridge = new BavetForeBridgeUniConstraintStream<>(constraintFactory, this);
         var rightBridge = new BavetForeBridgeUniConstraintStream<>(constraintFactory, other);
         var joinStream = new BavetJoinBiConstraintStream<>(constraintFactory, leftBridge, rightBridge,
-                joinerComber.getMergedJoiner(), joinerComber.getMergedFiltering());
+                canonicalJoinerComber.getMergedJoiner(), canonicalJoinerComber.getMergedFiltering());
         return constraintFactory.share(joinStream, joinStream_ -> {
             // Connect the bridges upstream, as it is an actual new join.
             getChildStreamList().add(leftBridge);
@@ -160,7 +162,8 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     private <B> UniConstraintStream<A> ifExistsOrNot(boolean shouldExist, UniConstraintStream<B> otherStream,
             BiJoiner<A, B>[] joiners) {
         var other = (BavetAbstractUniConstraintStream<Solution_, B>) otherStream;
-        var joinerComber = BiJoinerComber.comb(joiners);
+        var joinerComber = BiJoinerComber.comb(joiners)
+                .canonicalize(constraintFactory::canonicalize);
         var parentBridgeB = other.shareAndAddChild(new BavetForeBridgeUniConstraintStream<>(constraintFactory, other));
         return constraintFactory.share(
                 new BavetIfExistsUniConstraintStream<>(constraintFactory, this, parentBridgeB,
@@ -15,7 +15,29 @@ final class ConditionalUniTupleLifecycle<A> extends AbstractConditionalTupleLife
     }
 
     @Override
-    protected boolean test(UniTuple<A> tuple) {
-        return predicate.test(tuple.factA);
+    public void insert(UniTuple<A> tuple) {
+        if (predicate.test(tuple.factA)) {
+            tupleLifecycle.insert(tuple);
+        }
     }
+
+    @Override
+    public void update(UniTuple<A> tuple) {
+        if (predicate.test(tuple.factA)) {
+            tupleLifecycle.update(tuple);
+        } else {
+            tupleLifecycle.retract(tuple);
+        }
+    }
+
+    @Override
+    public void retract(UniTuple<A> tuple) {
+        tupleLifecycle.retract(tuple);
+    }
+
+    @Override
+    public Predicate<A> getPredicate() {
+        return predicate;
+    }
+
 }
@@ -2,6 +2,7 @@ package ai.timefold.solver.constraint.streams.common;
 
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import ai.timefold.solver.core.impl.score.stream.JoinerType;
 
@@ -31,4 +32,25 @@ public abstract class AbstractJoiner<Right_> {
         return joinerTypes[index];
     }
 
+    /**
+     * @param mappings never null
+     * @param mappingCanonicalizer never null, returns a mapping equivalent to the one it receives
+     * @param <Mapping_> the type of the mappings
+     * @return the same array if none of its mappings were replaced, otherwise a copy with the replaced mappings
+     */
+    protected static <Mapping_> Mapping_[] canonicalizeMappings(Mapping_[] mappings,
+            UnaryOperator<Object> mappingCanonicalizer) {
+        Mapping_[] canonicalMappings = mappings;
+        for (int i = 0; i < mappings.length; i++) {
+            Mapping_ canonicalMapping = (Mapping_) mappingCanonicalizer.apply(mappings[i]);
+            if (canonicalMapping != mappings[i]) {
+                if (canonicalMappings == mappings) {
+                    canonicalMappings = mappings.clone();
+                }
+                canonicalMappings[i] = canonicalMapping;
+            }
+        }
+        return canonicalMappings;
+    }
+
 }
@@ -3,6 +3,7 @@ package ai.timefold.solver.constraint.streams.common.bi;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiPredicate;
+import java.util.function.UnaryOperator;
 
 import ai.timefold.solver.core.api.score.stream.bi.BiJoiner;
 
@@ -50,7 +51,10 @@ public final class BiJoinerComber<A, B> {
             case 1:
                 return filteringList.get(0);
             case 2:
-                return filteringList.get(0).and(filteringList.get(1));
+                // Not BiPredicate.and(), as its lambda is defined in the JDK and cannot be canonicalized for node sharing.
+                BiPredicate<A, B> firstFiltering = filteringList.get(0);
+                BiPredicate<A, B> secondFiltering = filteringList.get(1);
+                return (A a, B b) -> firstFiltering.test(a, b) && secondFiltering.test(a, b);
             default:
                 // Avoid predicate.and() when more than 2 predicates for debugging and potentially performance
                 return (A a, B b) -> {
@@ -86,6 +90,15 @@ public final class BiJoinerComber<A, B> {
         return mergedFiltering;
     }
 
+    /**
+     * @param canonicalizer never null, returns a function equivalent to the one it receives
+     * @return never null, an equivalent comber with its mappings and its filtering replaced by their equivalents
+     */
+    public BiJoinerComber<A, B> canonicalize(UnaryOperator<Object> canonicalizer) {
+        return new BiJoinerComber<>(mergedJoiner.canonicalize(canonicalizer),
+                (BiPredicate<A, B>) canonicalizer.apply(mergedFiltering));
+    }
+
     public void addJoiner(DefaultBiJoiner<A, B> extraJoiner) {
         mergedJoiner = mergedJoiner.and(extraJoiner);
     }
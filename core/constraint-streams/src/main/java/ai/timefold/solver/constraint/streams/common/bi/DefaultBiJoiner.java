@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import ai.timefold.solver.constraint.streams.common.AbstractJoiner;
 import ai.timefold.solver.core.api.score.stream.bi.BiJoiner;
@@ -52,6 +53,19 @@ public final class DefaultBiJoiner<A, B> extends AbstractJoiner<B> implements Bi
         return new DefaultBiJoiner<>(newLeftMappings, newJoinerTypes, newRightMappings);
     }
 
+    /**
+     * @param mappingCanonicalizer never null, returns a mapping equivalent to the one it receives
+     * @return this if none of the mappings were replaced, otherwise an equivalent joiner with the replaced mappings
+     */
+    public DefaultBiJoiner<A, B> canonicalize(UnaryOperator<Object> mappingCanonicalizer) {
+        Function[] newLeftMappings = canonicalizeMappings(leftMappings, mappingCanonicalizer);
+        Function[] newRightMappings = canonicalizeMappings(rightMappings, mappingCanonicalizer);
+        if (newLeftMappings == leftMappings && newRightMappings == rightMappings) {
+            return this;
+        }
+        return new DefaultBiJoiner<>(newLeftMappings, joinerTypes, newRightMappings);
+    }
+
     public Function<A, Object> getLeftMapping(int index) {
         return (Function<A, Object>) leftMappings[index];
     }
@@ -10,6 +10,7 @@ import ai.timefold.solver.constraint.streams.common.AbstractConstraint;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatch;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.impl.score.buildin.BendableBigDecimalScoreDefinition;
@@ -27,6 +28,7 @@ import ai.timefold.solver.core.impl.score.buildin.SimpleScoreDefinition;
 import ai.timefold.solver.core.impl.score.constraint.DefaultConstraintMatchTotal;
 import ai.timefold.solver.core.impl.score.constraint.DefaultIndictment;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 import ai.timefold.solver.core.impl.util.CollectionUtils;
 import ai.timefold.solver.core.impl.util.ElementAwareList;
 import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
@@ -106,7 +108,8 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
 
     protected final boolean constraintMatchEnabled;
     protected final Map<Constraint, Score_> constraintWeightMap;
-    private final Map<Constraint, ElementAwareList<ConstraintMatchCarrier<Score_>>> constraintMatchMap;
+    private final Map<Constraint, ConstraintMatchGroup<Score_>> constraintMatchMap;
+    private final Map<ConstraintRef, ConstraintMatchGroup<Score_>> constraintRefToConstraintMatchMap;
     private Map<String, ConstraintMatchTotal<Score_>> constraintIdToConstraintMatchTotalMap = null;
     private Map<Object, Indictment<Score_>> indictmentMap = null;
 
@@ -116,10 +119,15 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
         this.constraintWeightMap = constraintWeightMap;
         this.constraintMatchMap =
                 constraintMatchEnabled ? CollectionUtils.newIdentityHashMap(constraintWeightMap.size()) : null;
+        this.constraintRefToConstraintMatchMap =
+                constraintMatchEnabled ? CollectionUtils.newHashMap(constraintWeightMap.size()) : null;
         if (constraintMatchEnabled) {
-            for (var constraint : constraintWeightMap.keySet()) {
+            for (var entry : constraintWeightMap.entrySet()) {
                 // Ensure that even constraints without matches have their entry.
-                constraintMatchMap.put(constraint, new ElementAwareList<>());
+                var constraint = entry.getKey();
+                var constraintMatchGroup = new ConstraintMatchGroup<>(constraint, entry.getValue());
+                constraintMatchMap.put(constraint, constraintMatchGroup);
+                constraintRefToConstraintMatchMap.put(constraint.getConstraintRef(), constraintMatchGroup);
             }
         }
     }
@@ -134,6 +142,23 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
 
     public abstract Score_ extractScore(int initScore);
 
+    /**
+     * @return true if {@link #extractPrimitiveScore(int, PrimitiveScore)} is implemented
+     */
+    public boolean isPrimitiveScoreSupported() {
+        return false;
+    }
+
+    /**
+     * Like {@link #extractScore(int)}, but without creating a {@link Score} instance.
+     *
+     * @param initScore {@code <= 0}
+     * @param primitiveScore never null, receives the score
+     */
+    public void extractPrimitiveScore(int initScore, PrimitiveScore<Score_> primitiveScore) {
+        throw new UnsupportedOperationException("The score inliner (" + this + ") does not support primitive scores.");
+    }
+
     /**
      * Create a new instance of {@link WeightedScoreImpacter} for a particular constraint.
      *
@@ -144,33 +169,35 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
 
     protected final UndoScoreImpacter addConstraintMatch(Constraint constraint, Score_ score,
             ConstraintMatchSupplier<Score_> constraintMatchSupplier, UndoScoreImpacter undoScoreImpact) {
-        ElementAwareList<ConstraintMatchCarrier<Score_>> constraintMatchList = getConstraintMatchList(constraint);
+        ConstraintMatchGroup<Score_> constraintMatchGroup = getConstraintMatchGroup(constraint);
         /*
          * Creating a constraint match is a heavy operation which may yet be undone.
          * Defer creation of the constraint match until a later point.
          */
         ElementAwareListEntry<ConstraintMatchCarrier<Score_>> entry =
-                constraintMatchList.add(new ConstraintMatchCarrier<>(constraintMatchSupplier, constraint, score));
-        clearMaps();
+                constraintMatchGroup.carrierList.add(new ConstraintMatchCarrier<>(constraintMatchSupplier, constraint, score));
+        clearMaps(constraintMatchGroup);
         return () -> {
             undoScoreImpact.run();
             entry.remove();
-            clearMaps();
+            clearMaps(constraintMatchGroup);
         };
     }
 
-    private ElementAwareList<ConstraintMatchCarrier<Score_>> getConstraintMatchList(Constraint constraint) {
+    private ConstraintMatchGroup<Score_> getConstraintMatchGroup(Constraint constraint) {
         // Optimization: computeIfAbsent() would have created a lambda on the hot path.
-        ElementAwareList<ConstraintMatchCarrier<Score_>> constraintMatchList = constraintMatchMap.get(constraint);
-        if (constraintMatchList == null) {
+        ConstraintMatchGroup<Score_> constraintMatchGroup = constraintMatchMap.get(constraint);
+        if (constraintMatchGroup == null) {
             throw new IllegalStateException(
                     "Impossible state: Unknown constraint (%s)."
                             .formatted(constraint.getConstraintRef()));
         }
-        return constraintMatchList;
+        return constraintMatchGroup;
     }
 
-    private void clearMaps() {
+    private void clearMaps(ConstraintMatchGroup<Score_> constraintMatchGroup) {
+        // Only the constraint match total of the affected constraint needs to be rebuilt.
+        constraintMatchGroup.constraintMatchTotal = null;
         constraintIdToConstraintMatchTotalMap = null;
         indictmentMap = null;
     }
@@ -179,7 +206,30 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
         return constraintMatchEnabled;
     }
 
+    /**
+     * @return never null, the weights of the constraints which are not disabled
+     */
+    public Map<Constraint, Score_> getConstraintWeightMap() {
+        return constraintWeightMap;
+    }
+
     public final Map<String, ConstraintMatchTotal<Score_>> getConstraintIdToConstraintMatchTotalMap() {
+        var constraintIdToConstraintMatchTotalMap = getLazyConstraintIdToConstraintMatchTotalMap();
+        for (var constraintMatchTotal : constraintIdToConstraintMatchTotalMap.values()) {
+            constraintMatchTotal.getConstraintMatchSet(); // Creates the constraint matches while they are up to date.
+        }
+        return constraintIdToConstraintMatchTotalMap;
+    }
+
+    /**
+     * Like {@link #getConstraintIdToConstraintMatchTotalMap()},
+     * but the constraint matches are only created on the first call of {@link ConstraintMatchTotal#getConstraintMatchSet()}.
+     * Those constraint matches reflect the state of the session at that time,
+     * so only use this if they are not needed after the session changes.
+     *
+     * @return never null
+     */
+    public final Map<String, ConstraintMatchTotal<Score_>> getLazyConstraintIdToConstraintMatchTotalMap() {
         if (constraintIdToConstraintMatchTotalMap == null) {
             rebuildConstraintMatchTotals();
         }
@@ -188,20 +238,31 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
 
     private void rebuildConstraintMatchTotals() {
         var constraintIdToConstraintMatchTotalMap = new TreeMap<String, ConstraintMatchTotal<Score_>>();
-        for (var entry : constraintMatchMap.entrySet()) {
-            var constraint = entry.getKey();
-            var constraintMatchTotal =
-                    new DefaultConstraintMatchTotal<>(constraint.getConstraintRef(), constraintWeightMap.get(constraint));
-            for (var carrier : entry.getValue()) {
-                // Constraint match instances are only created here when we actually need them.
-                var constraintMatch = carrier.get();
-                constraintMatchTotal.addConstraintMatch(constraintMatch);
-            }
-            constraintIdToConstraintMatchTotalMap.put(constraint.getConstraintRef().constraintId(), constraintMatchTotal);
+        for (var constraintMatchGroup : constraintMatchMap.values()) {
+            var constraintMatchTotal = constraintMatchGroup.getConstraintMatchTotal();
+            constraintIdToConstraintMatchTotalMap.put(constraintMatchTotal.getConstraintRef().constraintId(),
+                    constraintMatchTotal);
         }
         this.constraintIdToConstraintMatchTotalMap = constraintIdToConstraintMatchTotalMap;
     }
 
+    /**
+     * Unlike {@link #getConstraintIdToConstraintMatchTotalMap()},
+     * this only builds the constraint match total of a single constraint, if it changed since it was last built.
+     *
+     * @param constraintRef never null
+     * @return null if the constraint is unknown, for example because its weight is zero
+     */
+    public final ConstraintMatchTotal<Score_> getConstraintMatchTotal(ConstraintRef constraintRef) {
+        var constraintMatchGroup = constraintRefToConstraintMatchMap.get(constraintRef);
+        if (constraintMatchGroup == null) {
+            return null;
+        }
+        var constraintMatchTotal = constraintMatchGroup.getConstraintMatchTotal();
+        constraintMatchTotal.getConstraintMatchSet(); // Creates the constraint matches while they are up to date.
+        return constraintMatchTotal;
+    }
+
     public final Map<Object, Indictment<Score_>> getIndictmentMap() {
         if (indictmentMap == null) {
             rebuildIndictments();
@@ -211,8 +272,8 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
 
     private void rebuildIndictments() {
         var workingIndictmentMap = new LinkedHashMap<Object, Indictment<Score_>>();
-        for (var entry : constraintMatchMap.entrySet()) {
-            for (var carrier : entry.getValue()) {
+        for (var constraintMatchGroup : constraintMatchMap.values()) {
+            for (var carrier : constraintMatchGroup.carrierList) {
                 // Constraint match instances are only created here when we actually need them.
                 var constraintMatch = carrier.get();
                 for (var indictedObject : constraintMatch.getIndictedObjectList()) {
@@ -244,6 +305,36 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
         return indictment;
     }
 
+    /**
+     * The constraint matches of a single constraint, and their {@link ConstraintMatchTotal} if it is up to date.
+     */
+    private static final class ConstraintMatchGroup<Score_ extends Score<Score_>> {
+
+        private final Constraint constraint;
+        private final Score_ constraintWeight;
+        private final ElementAwareList<ConstraintMatchCarrier<Score_>> carrierList = new ElementAwareList<>();
+        private ConstraintMatchTotal<Score_> constraintMatchTotal = null;
+
+        private ConstraintMatchGroup(Constraint constraint, Score_ constraintWeight) {
+            this.constraint = constraint;
+            this.constraintWeight = constraintWeight;
+        }
+
+        private ConstraintMatchTotal<Score_> getConstraintMatchTotal() {
+            if (constraintMatchTotal == null) {
+                var workingConstraintMatchTotal =
+                        new DefaultConstraintMatchTotal<>(constraint.getConstraintRef(), constraintWeight);
+                for (var carrier : carrierList) {
+                    // Constraint match instances are only created when the constraint match set is requested.
+                    workingConstraintMatchTotal.addConstraintMatch(carrier, carrier.score);
+                }
+                constraintMatchTotal = workingConstraintMatchTotal;
+            }
+            return constraintMatchTotal;
+        }
+
+    }
+
     private static final class ConstraintMatchCarrier<Score_ extends Score<Score_>>
             implements
             Supplier<ConstraintMatch<Score_>> {
@@ -5,6 +5,7 @@ import java.util.Map;
 import ai.timefold.solver.constraint.streams.common.AbstractConstraint;
 import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 
 final class HardMediumSoftLongScoreInliner extends AbstractScoreInliner<HardMediumSoftLongScore> {
 
@@ -53,6 +54,16 @@ final class HardMediumSoftLongScoreInliner extends AbstractScoreInliner<HardMedi
         return HardMediumSoftLongScore.ofUninitialized(initScore, hardScore, mediumScore, softScore);
     }
 
+    @Override
+    public boolean isPrimitiveScoreSupported() {
+        return true;
+    }
+
+    @Override
+    public void extractPrimitiveScore(int initScore, PrimitiveScore<HardMediumSoftLongScore> primitiveScore) {
+        primitiveScore.setLevels(initScore, hardScore, mediumScore, softScore);
+    }
+
     @Override
     public String toString() {
         return HardMediumSoftLongScore.class.getSimpleName() + " inliner";
@@ -5,6 +5,7 @@ import java.util.Map;
 import ai.timefold.solver.constraint.streams.common.AbstractConstraint;
 import ai.timefold.solver.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 
 final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSoftScore> {
 
@@ -40,6 +41,16 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
         return HardMediumSoftScore.ofUninitialized(initScore, hardScore, mediumScore, softScore);
     }
 
+    @Override
+    public boolean isPrimitiveScoreSupported() {
+        return true;
+    }
+
+    @Override
+    public void extractPrimitiveScore(int initScore, PrimitiveScore<HardMediumSoftScore> primitiveScore) {
+        primitiveScore.setLevels(initScore, hardScore, mediumScore, softScore);
+    }
+
     @Override
     public String toString() {
         return HardMediumSoftScore.class.getSimpleName() + " inliner";
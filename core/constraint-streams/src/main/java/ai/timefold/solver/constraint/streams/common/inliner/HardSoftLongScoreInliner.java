@@ -5,6 +5,7 @@ import java.util.Map;
 import ai.timefold.solver.constraint.streams.common.AbstractConstraint;
 import ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 
 final class HardSoftLongScoreInliner extends AbstractScoreInliner<HardSoftLongScore> {
 
@@ -42,6 +43,16 @@ final class HardSoftLongScoreInliner extends AbstractScoreInliner<HardSoftLongSc
         return HardSoftLongScore.ofUninitialized(initScore, hardScore, softScore);
     }
 
+    @Override
+    public boolean isPrimitiveScoreSupported() {
+        return true;
+    }
+
+    @Override
+    public void extractPrimitiveScore(int initScore, PrimitiveScore<HardSoftLongScore> primitiveScore) {
+        primitiveScore.setLevels(initScore, hardScore, softScore);
+    }
+
     @Override
     public String toString() {
         return HardSoftLongScore.class.getSimpleName() + " inliner";
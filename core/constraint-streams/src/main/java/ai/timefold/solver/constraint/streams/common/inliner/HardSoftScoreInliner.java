@@ -5,6 +5,7 @@ import java.util.Map;
 import ai.timefold.solver.constraint.streams.common.AbstractConstraint;
 import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 
 final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore> {
 
@@ -34,6 +35,16 @@ final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore> {
         return HardSoftScore.ofUninitialized(initScore, hardScore, softScore);
     }
 
+    @Override
+    public boolean isPrimitiveScoreSupported() {
+        return true;
+    }
+
+    @Override
+    public void extractPrimitiveScore(int initScore, PrimitiveScore<HardSoftScore> primitiveScore) {
+        primitiveScore.setLevels(initScore, hardScore, softScore);
+    }
+
     @Override
     public String toString() {
         return HardSoftScore.class.getSimpleName() + " inliner";
@@ -5,6 +5,7 @@ import java.util.Map;
 import ai.timefold.solver.constraint.streams.common.AbstractConstraint;
 import ai.timefold.solver.core.api.score.buildin.simplelong.SimpleLongScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 
 final class SimpleLongScoreInliner extends AbstractScoreInliner<SimpleLongScore> {
 
@@ -30,6 +31,16 @@ final class SimpleLongScoreInliner extends AbstractScoreInliner<SimpleLongScore>
         return SimpleLongScore.ofUninitialized(initScore, score);
     }
 
+    @Override
+    public boolean isPrimitiveScoreSupported() {
+        return true;
+    }
+
+    @Override
+    public void extractPrimitiveScore(int initScore, PrimitiveScore<SimpleLongScore> primitiveScore) {
+        primitiveScore.setLevels(initScore, score);
+    }
+
     @Override
     public String toString() {
         return SimpleLongScore.class.getSimpleName() + " inliner";
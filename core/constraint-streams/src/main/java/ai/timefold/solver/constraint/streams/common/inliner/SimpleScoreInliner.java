@@ -5,6 +5,7 @@ import java.util.Map;
 import ai.timefold.solver.constraint.streams.common.AbstractConstraint;
 import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 
 final class SimpleScoreInliner extends AbstractScoreInliner<SimpleScore> {
 
@@ -27,6 +28,16 @@ final class SimpleScoreInliner extends AbstractScoreInliner<SimpleScore> {
         return SimpleScore.ofUninitialized(initScore, score);
     }
 
+    @Override
+    public boolean isPrimitiveScoreSupported() {
+        return true;
+    }
+
+    @Override
+    public void extractPrimitiveScore(int initScore, PrimitiveScore<SimpleScore> primitiveScore) {
+        primitiveScore.setLevels(initScore, score);
+    }
+
     @Override
     public String toString() {
         return SimpleScore.class.getSimpleName() + " inliner";
@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import ai.timefold.solver.constraint.streams.common.AbstractJoiner;
 import ai.timefold.solver.core.api.function.QuadFunction;
@@ -53,6 +54,19 @@ public final class DefaultPentaJoiner<A, B, C, D, E> extends AbstractJoiner<E> i
         return new DefaultPentaJoiner<>(newLeftMappings, newJoinerTypes, newRightMappings);
     }
 
+    /**
+     * @param mappingCanonicalizer never null, returns a mapping equivalent to the one it receives
+     * @return this if none of the mappings were replaced, otherwise an equivalent joiner with the replaced mappings
+     */
+    public DefaultPentaJoiner<A, B, C, D, E> canonicalize(UnaryOperator<Object> mappingCanonicalizer) {
+        QuadFunction[] newLeftMappings = canonicalizeMappings(leftMappings, mappingCanonicalizer);
+        Function[] newRightMappings = canonicalizeMappings(rightMappings, mappingCanonicalizer);
+        if (newLeftMappings == leftMappings && newRightMappings == rightMappings) {
+            return this;
+        }
+        return new DefaultPentaJoiner<>(newLeftMappings, joinerTypes, newRightMappings);
+    }
+
     public QuadFunction<A, B, C, D, Object> getLeftMapping(int index) {
         return (QuadFunction<A, B, C, D, Object>) leftMappings[index];
     }
@@ -2,6 +2,7 @@ package ai.timefold.solver.constraint.streams.common.penta;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import ai.timefold.solver.core.api.function.PentaPredicate;
 import ai.timefold.solver.core.api.score.stream.penta.PentaJoiner;
@@ -90,4 +91,13 @@ public final class PentaJoinerComber<A, B, C, D, E> {
         return mergedFiltering;
     }
 
+    /**
+     * @param canonicalizer never null, returns a function equivalent to the one it receives
+     * @return never null, an equivalent comber with its mappings and its filtering replaced by their equivalents
+     */
+    public PentaJoinerComber<A, B, C, D, E> canonicalize(UnaryOperator<Object> canonicalizer) {
+        return new PentaJoinerComber<>(mergedJoiner.canonicalize(canonicalizer),
+                (PentaPredicate<A, B, C, D, E>) canonicalizer.apply(mergedFiltering));
+    }
+
 }
@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import ai.timefold.solver.constraint.streams.common.AbstractJoiner;
 import ai.timefold.solver.core.api.function.TriFunction;
@@ -54,6 +55,19 @@ public final class DefaultQuadJoiner<A, B, C, D> extends AbstractJoiner<D> imple
         return new DefaultQuadJoiner<>(newLeftMappings, newJoinerTypes, newRightMappings);
     }
 
+    /**
+     * @param mappingCanonicalizer never null, returns a mapping equivalent to the one it receives
+     * @return this if none of the mappings were replaced, otherwise an equivalent joiner with the replaced mappings
+     */
+    public DefaultQuadJoiner<A, B, C, D> canonicalize(UnaryOperator<Object> mappingCanonicalizer) {
+        TriFunction[] newLeftMappings = canonicalizeMappings(leftMappings, mappingCanonicalizer);
+        Function[] newRightMappings = canonicalizeMappings(rightMappings, mappingCanonicalizer);
+        if (newLeftMappings == leftMappings && newRightMappings == rightMappings) {
+            return this;
+        }
+        return new DefaultQuadJoiner<>(newLeftMappings, joinerTypes, newRightMappings);
+    }
+
     public TriFunction<A, B, C, Object> getLeftMapping(int index) {
         return (TriFunction<A, B, C, Object>) leftMappings[index];
     }
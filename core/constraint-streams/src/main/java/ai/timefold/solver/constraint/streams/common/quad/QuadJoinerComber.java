@@ -2,6 +2,7 @@ package ai.timefold.solver.constraint.streams.common.quad;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import ai.timefold.solver.core.api.function.QuadPredicate;
 import ai.timefold.solver.core.api.score.stream.quad.QuadJoiner;
@@ -88,4 +89,13 @@ public final class QuadJoinerComber<A, B, C, D> {
         return mergedFiltering;
     }
 
+    /**
+     * @param canonicalizer never null, returns a function equivalent to the one it receives
+     * @return never null, an equivalent comber with its mappings and its filtering replaced by their equivalents
+     */
+    public QuadJoinerComber<A, B, C, D> canonicalize(UnaryOperator<Object> canonicalizer) {
+        return new QuadJoinerComber<>(mergedJoiner.canonicalize(canonicalizer),
+                (QuadPredicate<A, B, C, D>) canonicalizer.apply(mergedFiltering));
+    }
+
 }
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import ai.timefold.solver.constraint.streams.common.AbstractJoiner;
 import ai.timefold.solver.core.api.score.stream.tri.TriJoiner;
@@ -54,6 +55,19 @@ public final class DefaultTriJoiner<A, B, C> extends AbstractJoiner<C> implement
         return new DefaultTriJoiner<>(newLeftMappings, newJoinerTypes, newRightMappings);
     }
 
+    /**
+     * @param mappingCanonicalizer never null, returns a mapping equivalent to the one it receives
+     * @return this if none of the mappings were replaced, otherwise an equivalent joiner with the replaced mappings
+     */
+    public DefaultTriJoiner<A, B, C> canonicalize(UnaryOperator<Object> mappingCanonicalizer) {
+        BiFunction[] newLeftMappings = canonicalizeMappings(leftMappings, mappingCanonicalizer);
+        Function[] newRightMappings = canonicalizeMappings(rightMappings, mappingCanonicalizer);
+        if (newLeftMappings == leftMappings && newRightMappings == rightMappings) {
+            return this;
+        }
+        return new DefaultTriJoiner<>(newLeftMappings, joinerTypes, newRightMappings);
+    }
+
     public BiFunction<A, B, Object> getLeftMapping(int index) {
         return (BiFunction<A, B, Object>) leftMappings[index];
     }
@@ -2,6 +2,7 @@ package ai.timefold.solver.constraint.streams.common.tri;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import ai.timefold.solver.core.api.function.TriPredicate;
 import ai.timefold.solver.core.api.score.stream.tri.TriJoiner;
@@ -87,4 +88,13 @@ public final class TriJoinerComber<A, B, C> {
         return mergedFiltering;
     }
 
+    /**
+     * @param canonicalizer never null, returns a function equivalent to the one it receives
+     * @return never null, an equivalent comber with its mappings and its filtering replaced by their equivalents
+     */
+    public TriJoinerComber<A, B, C> canonicalize(UnaryOperator<Object> canonicalizer) {
+        return new TriJoinerComber<>(mergedJoiner.canonicalize(canonicalizer),
+                (TriPredicate<A, B, C>) canonicalizer.apply(mergedFiltering));
+    }
+
 }
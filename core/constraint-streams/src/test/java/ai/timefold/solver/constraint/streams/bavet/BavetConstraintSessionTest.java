@@ -0,0 +1,74 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+
+class BavetConstraintSessionTest {
+
+    private static Constraint[] defineConstraints(ConstraintFactory factory) {
+        return new Constraint[] {
+                factory.forEach(TestdataEntity.class)
+                        .join(TestdataValue.class, equal(TestdataEntity::getValue, value -> value))
+                        .groupBy((entity, value) -> value, ConstraintCollectors.countBi())
+                        .penalize(SimpleScore.ONE, (value, count) -> count * count)
+                        .asConstraint("Value load"),
+                factory.forEachIncludingUnassigned(TestdataEntity.class)
+                        .filter(entity -> entity.getValue() == null)
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint("Unassigned entity")
+        };
+    }
+
+    @Test
+    void insertAllSameAsInsert() {
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                TestdataSolution.buildSolutionDescriptor(), BavetConstraintSessionTest::defineConstraints,
+                EnvironmentMode.REPRODUCIBLE);
+        var solution = TestdataSolution.generateSolution(10, 2000);
+        var random = new Random(37);
+        for (var entity : solution.getEntityList()) {
+            entity.setValue(random.nextInt(12) < 10 ? solution.getValueList().get(random.nextInt(10)) : null);
+        }
+        // Mix the classes, so that runs of facts of the same class are short.
+        List<Object> facts = new ArrayList<>(solution.getEntityList());
+        for (int i = 0; i < solution.getValueList().size(); i++) {
+            facts.add(i * 150, solution.getValueList().get(i));
+        }
+
+        var session = scoreDirectorFactory.newSession(solution, true);
+        facts.forEach(session::insert);
+        var bulkSession = scoreDirectorFactory.newSession(solution, true);
+        bulkSession.insertAll(facts);
+        assertThat(bulkSession.calculateScore(0)).isEqualTo(session.calculateScore(0));
+        assertThat(bulkSession.getConstraintMatchTotalMap())
+                .hasToString(session.getConstraintMatchTotalMap().toString());
+
+        for (int i = 0; i < 100; i++) {
+            var entity = solution.getEntityList().get(random.nextInt(2000));
+            entity.setValue(random.nextBoolean() ? solution.getValueList().get(random.nextInt(10)) : null);
+            session.update(entity);
+            bulkSession.update(entity);
+        }
+        session.retract(solution.getValueList().get(3));
+        bulkSession.retract(solution.getValueList().get(3));
+        assertThat(bulkSession.calculateScore(0)).isEqualTo(session.calculateScore(0));
+        assertThat(bulkSession.getConstraintMatchTotalMap())
+                .hasToString(session.getConstraintMatchTotalMap().toString());
+    }
+
+}
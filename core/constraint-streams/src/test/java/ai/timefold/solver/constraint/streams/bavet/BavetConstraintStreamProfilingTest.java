@@ -0,0 +1,165 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ai.timefold.solver.core.api.score.analysis.NodeProfile;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.monitoring.MonitoringConfig;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testutil.TestMeterRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Metrics;
+
+class BavetConstraintStreamProfilingTest {
+
+    private static final String CONSTRAINT_PACKAGE = TestdataSolution.class.getPackageName();
+    private static final ConstraintRef CONFLICT = ConstraintRef.of(CONSTRAINT_PACKAGE, "Conflict");
+    private static final ConstraintRef UNUSED_VALUE = ConstraintRef.of(CONSTRAINT_PACKAGE, "Unused value");
+
+    private static Constraint[] defineConstraints(ConstraintFactory factory) {
+        return new Constraint[] {
+                factory.forEach(TestdataEntity.class)
+                        .join(TestdataEntity.class, equal(TestdataEntity::getValue))
+                        .filter((a, b) -> a != b)
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint("Conflict"),
+                factory.forEach(TestdataValue.class)
+                        .ifNotExists(TestdataEntity.class, equal(value -> value, TestdataEntity::getValue))
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint("Unused value")
+        };
+    }
+
+    @Test
+    void profile() {
+        var scoreDirector = buildScoreDirector(true);
+        var solution = TestdataSolution.generateSolution(5, 20);
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.calculateScore();
+
+        var profile = scoreDirector.getConstraintStreamProfile();
+        assertThat(profile.nodeProfiles())
+                .hasSize(4) // 2 forEach nodes, a join node and an ifExists node.
+                .allSatisfy(nodeProfile -> assertThat(nodeProfile.constraintRefs()).isNotEmpty());
+        assertThat(profile.constraintProfileMap()).containsOnlyKeys(CONFLICT, UNUSED_VALUE);
+
+        var entityNodeProfile = profile.nodeProfiles().get(0);
+        assertThat(entityNodeProfile.layerIndex()).isZero();
+        assertThat(entityNodeProfile.constraintRefs()).containsExactlyInAnyOrder(CONFLICT, UNUSED_VALUE);
+        assertThat(entityNodeProfile.isExclusive()).isFalse();
+        assertThat(entityNodeProfile.insertCount()).isEqualTo(20);
+        assertThat(entityNodeProfile.propagationCount()).isEqualTo(20);
+        assertThat(entityNodeProfile.indexerSize()).isZero();
+
+        var joinNodeProfile = findJoiningNodeProfile(profile.getConstraintProfile(CONFLICT).nodeProfiles());
+        assertThat(joinNodeProfile.layerIndex()).isEqualTo(1);
+        assertThat(joinNodeProfile.insertCount()).isEqualTo(40); // Every entity is inserted left and right.
+        assertThat(joinNodeProfile.indexerSize()).isEqualTo(40);
+        assertThat(joinNodeProfile.propagationCount()).isEqualTo(5 * 4 * 4); // 4 entities share each of the 5 values.
+        assertThat(joinNodeProfile.fanOut()).isEqualTo(2.0);
+
+        var ifExistsNodeProfile = findJoiningNodeProfile(profile.getConstraintProfile(UNUSED_VALUE).nodeProfiles());
+        assertThat(ifExistsNodeProfile.insertCount()).isEqualTo(25);
+        assertThat(ifExistsNodeProfile.indexerSize()).isEqualTo(25);
+        assertThat(ifExistsNodeProfile.propagationCount()).isZero(); // Every value is used.
+
+        var entity = solution.getEntityList().get(0);
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(solution.getValueList().get(1));
+        scoreDirector.afterVariableChanged(entity, "value");
+        scoreDirector.calculateScore();
+
+        var updatedJoinNodeProfile = findJoiningNodeProfile(
+                scoreDirector.getConstraintStreamProfile().getConstraintProfile(CONFLICT).nodeProfiles());
+        assertThat(updatedJoinNodeProfile.updateCount()).isEqualTo(2);
+        assertThat(updatedJoinNodeProfile.indexerSize()).isEqualTo(40);
+    }
+
+    private static NodeProfile findJoiningNodeProfile(List<NodeProfile> nodeProfiles) {
+        // The forEach nodes are in layer 0, the join and ifExists nodes are above them.
+        var joiningNodeProfiles = nodeProfiles.stream()
+                .filter(nodeProfile -> nodeProfile.layerIndex() == 1)
+                .toList();
+        assertThat(joiningNodeProfiles).hasSize(1);
+        var joiningNodeProfile = joiningNodeProfiles.get(0);
+        assertThat(joiningNodeProfile.isExclusive()).isTrue();
+        return joiningNodeProfile;
+    }
+
+    @Test
+    void profilingDisabled() {
+        var scoreDirector = buildScoreDirector(false);
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(5, 20));
+        scoreDirector.calculateScore();
+        assertThat(scoreDirector.getConstraintStreamProfile()).isNull();
+    }
+
+    @Test
+    void removeGaugesWhenSolvingEnded() {
+        var meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        try {
+            var solverConfig = new SolverConfig()
+                    .withSolutionClass(TestdataSolution.class)
+                    .withEntityClasses(TestdataEntity.class)
+                    .withConstraintProviderClass(ProfiledConstraintProvider.class)
+                    .withMonitoringConfig(new MonitoringConfig()
+                            .withSolverMetricList(List.of(SolverMetric.CONSTRAINT_STREAM_PROFILE)))
+                    .withPhases(new LocalSearchPhaseConfig()
+                            .withTerminationConfig(new TerminationConfig().withStepCountLimit(20)));
+            var solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+            var gaugeCountDuringSolving = new AtomicLong();
+            solver.addEventListener(event -> gaugeCountDuringSolving.set(countProfileGauges(meterRegistry)));
+            var solution = TestdataSolution.generateSolution(5, 20);
+            solution.getEntityList().forEach(entity -> entity.setValue(solution.getValueList().get(0)));
+            solver.solve(solution);
+
+            assertThat(gaugeCountDuringSolving.get()).isEqualTo(4L); // Time and tuple count of both constraints.
+            assertThat(countProfileGauges(meterRegistry)).isZero();
+        } finally {
+            Metrics.removeRegistry(meterRegistry);
+        }
+    }
+
+    private static long countProfileGauges(TestMeterRegistry meterRegistry) {
+        return meterRegistry.getMeters().stream()
+                .filter(meter -> meter.getId().getName().startsWith(SolverMetric.CONSTRAINT_STREAM_PROFILE.getMeterId()))
+                .count();
+    }
+
+    public static final class ProfiledConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return BavetConstraintStreamProfilingTest.defineConstraints(constraintFactory);
+        }
+
+    }
+
+    private static InnerScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector(boolean profilingEnabled) {
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                TestdataSolution.buildSolutionDescriptor(), BavetConstraintStreamProfilingTest::defineConstraints,
+                EnvironmentMode.REPRODUCIBLE, null, false, profilingEnabled, false, false);
+        return scoreDirectorFactory.buildScoreDirector(false, false);
+    }
+
+}
@@ -0,0 +1,107 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+
+class BavetFilterSpecializationTest {
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(
+            Set.of(StackWalker.Option.RETAIN_CLASS_REFERENCE, StackWalker.Option.SHOW_HIDDEN_FRAMES));
+
+    private static Constraint[] defineConstraints(ConstraintFactory factory, AtomicBoolean calledFromCopy) {
+        return new Constraint[] {
+                factory.forEach(TestdataEntity.class)
+                        .filter(entity -> {
+                            calledFromCopy.set(isCalledFromCopy());
+                            return entity.getCode().hashCode() % 3 != 0;
+                        })
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint("Uni filter"),
+                factory.forEach(TestdataEntity.class)
+                        .join(TestdataEntity.class, equal(TestdataEntity::getValue))
+                        .filter((a, b) -> a != b)
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint("Bi filter"),
+                factory.forEach(TestdataEntity.class)
+                        .join(TestdataEntity.class, equal(TestdataEntity::getValue))
+                        .join(TestdataValue.class)
+                        .filter((a, b, value) -> a != b && a.getValue() == value)
+                        .reward(SimpleScore.ONE)
+                        .asConstraint("Tri filter")
+        };
+    }
+
+    private static boolean isCalledFromCopy() {
+        return STACK_WALKER.walk(frames -> frames.anyMatch(frame -> frame.getDeclaringClass().isHidden()
+                && frame.getDeclaringClass().getName().contains("ConditionalUniTupleLifecycle")));
+    }
+
+    @Test
+    void sameScoreAndMatchesAsWithoutSpecialization() {
+        var solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        var calledFromCopy = new AtomicBoolean();
+        var specializedCalledFromCopy = new AtomicBoolean();
+        var scoreDirector = buildScoreDirector(
+                new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                        factory -> defineConstraints(factory, calledFromCopy), EnvironmentMode.REPRODUCIBLE));
+        var specializedScoreDirector = buildScoreDirector(
+                new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                        factory -> defineConstraints(factory, specializedCalledFromCopy), EnvironmentMode.REPRODUCIBLE,
+                        null, false, false, true, false));
+        var solution = TestdataSolution.generateSolution(5, 30);
+        var specializedSolution = TestdataSolution.generateSolution(5, 30);
+        scoreDirector.setWorkingSolution(solution);
+        specializedScoreDirector.setWorkingSolution(specializedSolution);
+        assertSameResult(scoreDirector, specializedScoreDirector);
+        assertThat(calledFromCopy.get()).isFalse();
+        assertThat(specializedCalledFromCopy.get()).isTrue();
+
+        var random = new Random(37);
+        for (int i = 0; i < 200; i++) {
+            int entityIndex = random.nextInt(30);
+            int valueIndex = random.nextInt(5);
+            changeValue(scoreDirector, solution, entityIndex, valueIndex);
+            changeValue(specializedScoreDirector, specializedSolution, entityIndex, valueIndex);
+            if (i % 3 == 0) {
+                assertSameResult(scoreDirector, specializedScoreDirector);
+            }
+        }
+        assertSameResult(scoreDirector, specializedScoreDirector);
+    }
+
+    private static InnerScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector(
+            BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory) {
+        return scoreDirectorFactory.buildScoreDirector(false, true);
+    }
+
+    private static void changeValue(InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            TestdataSolution solution, int entityIndex, int valueIndex) {
+        TestdataEntity entity = solution.getEntityList().get(entityIndex);
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(solution.getValueList().get(valueIndex));
+        scoreDirector.afterVariableChanged(entity, "value");
+    }
+
+    private static void assertSameResult(InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            InnerScoreDirector<TestdataSolution, SimpleScore> specializedScoreDirector) {
+        assertThat(specializedScoreDirector.calculateScore()).isEqualTo(scoreDirector.calculateScore());
+        assertThat(specializedScoreDirector.getConstraintMatchTotalMap())
+                .hasToString(scoreDirector.getConstraintMatchTotalMap().toString());
+    }
+
+}
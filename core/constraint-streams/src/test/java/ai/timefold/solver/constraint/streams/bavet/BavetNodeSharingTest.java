@@ -0,0 +1,97 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static ai.timefold.solver.core.api.score.stream.Joiners.filtering;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.timefold.solver.core.api.score.stream.bi.BiConstraintStream;
+import ai.timefold.solver.core.api.score.stream.uni.UniConstraintStream;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BavetNodeSharingTest {
+
+    private BavetConstraintFactory<TestdataSolution> constraintFactory;
+
+    @BeforeEach
+    void setUp() {
+        constraintFactory = new BavetConstraintFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                EnvironmentMode.REPRODUCIBLE);
+    }
+
+    private UniConstraintStream<TestdataEntity> entitiesWithCode(String code) {
+        return constraintFactory.forEach(TestdataEntity.class)
+                .filter(entity -> code.equals(entity.getCode()));
+    }
+
+    private BiConstraintStream<TestdataEntity, TestdataValue> entitiesWithValueOtherThan(TestdataValue value) {
+        return constraintFactory.forEach(TestdataEntity.class)
+                .join(TestdataValue.class,
+                        equal(TestdataEntity::getValue, v -> v == value ? null : v));
+    }
+
+    private BiConstraintStream<TestdataEntity, TestdataEntity> pairsWithCode(String code) {
+        return constraintFactory.forEach(TestdataEntity.class)
+                .join(TestdataEntity.class,
+                        filtering((a, b) -> code.equals(a.getCode())),
+                        filtering((a, b) -> code.equals(b.getCode())));
+    }
+
+    @Test
+    void filterCapturingEqualValue() {
+        var stream = entitiesWithCode(new String("a"));
+        assertThat(entitiesWithCode(new String("a"))).isSameAs(stream);
+        assertThat(entitiesWithCode("b")).isNotSameAs(stream);
+        assertThat(constraintFactory.getSharedStreamCount()).isEqualTo(3); // forEach twice and the filter once.
+        assertThat(constraintFactory.getCanonicalizedLambdaCount()).isEqualTo(1);
+    }
+
+    @Test
+    void filterCapturingMutableValue() {
+        var value = new TestdataValue("v1");
+        var stream = constraintFactory.forEach(TestdataEntity.class)
+                .filter(entity -> entity.getValue() == value);
+        var sameValueStream = constraintFactory.forEach(TestdataEntity.class)
+                .filter(entity -> entity.getValue() == value);
+        assertThat(sameValueStream).isNotSameAs(stream); // Different lambda expressions are never equivalent.
+        assertThat(buildFilterCapturing(value)).isSameAs(buildFilterCapturing(value));
+        // Equal, but not the same instance, so it could stop being equal later.
+        assertThat(buildFilterCapturing(new TestdataValue("v1"))).isNotSameAs(buildFilterCapturing(value));
+    }
+
+    private UniConstraintStream<TestdataEntity> buildFilterCapturing(TestdataValue value) {
+        return constraintFactory.forEach(TestdataEntity.class)
+                .filter(entity -> entity.getValue() == value);
+    }
+
+    @Test
+    void joinWithCapturingMapping() {
+        var value = new TestdataValue("v1");
+        var stream = entitiesWithValueOtherThan(value);
+        assertThat(entitiesWithValueOtherThan(value)).isSameAs(stream);
+        assertThat(entitiesWithValueOtherThan(new TestdataValue("v2"))).isNotSameAs(stream);
+    }
+
+    @Test
+    void joinWithMergedFilteringJoiners() {
+        var stream = pairsWithCode("a");
+        assertThat(pairsWithCode("a")).isSameAs(stream);
+        assertThat(pairsWithCode("b")).isNotSameAs(stream);
+    }
+
+    @Test
+    void ifExistsWithMergedFilteringJoiners() {
+        var stream = entitiesWithCode("a");
+        assertThat(ifExistsOther(stream)).isSameAs(ifExistsOther(stream));
+    }
+
+    private UniConstraintStream<TestdataEntity> ifExistsOther(UniConstraintStream<TestdataEntity> stream) {
+        return stream.ifExists(TestdataEntity.class, filtering((a, b) -> a != b), filtering((a, b) -> b.getValue() != null));
+    }
+
+}
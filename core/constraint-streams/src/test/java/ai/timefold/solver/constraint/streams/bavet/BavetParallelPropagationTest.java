@@ -0,0 +1,121 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+
+class BavetParallelPropagationTest {
+
+    private static Constraint[] defineConstraints(ConstraintFactory factory) {
+        return new Constraint[] {
+                factory.forEachUniquePair(TestdataEntity.class, equal(TestdataEntity::getValue))
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint("Conflict"),
+                factory.forEach(TestdataEntity.class)
+                        .groupBy(TestdataEntity::getValue, ConstraintCollectors.count())
+                        .penalize(SimpleScore.ONE, (value, count) -> count * count)
+                        .asConstraint("Balance"),
+                factory.forEach(TestdataValue.class)
+                        .ifNotExists(TestdataEntity.class, equal(value -> value, TestdataEntity::getValue))
+                        .penalize(SimpleScore.ONE, value -> 10)
+                        .asConstraint("Unused value"),
+                factory.forEach(TestdataEntity.class)
+                        .filter(entity -> entity.getValue().getCode().endsWith("0"))
+                        .reward(SimpleScore.ONE)
+                        .asConstraint("Round value"),
+                factory.forEach(TestdataEntity.class)
+                        .map(entity -> entity.getCode().length())
+                        .concat(factory.forEach(TestdataValue.class)
+                                .map(value -> value.getCode().length()))
+                        .penalize(SimpleScore.ONE, length -> length)
+                        .asConstraint("Code length")
+        };
+    }
+
+    @Test
+    void sameScoreAndMatchesAsSequential() {
+        var solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        var sequentialScoreDirector = buildScoreDirector(
+                new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                        BavetParallelPropagationTest::defineConstraints, EnvironmentMode.REPRODUCIBLE));
+        var parallelScoreDirector = buildScoreDirector(
+                new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                        BavetParallelPropagationTest::defineConstraints, EnvironmentMode.REPRODUCIBLE, 1, false, false, false,
+                        false));
+        assertSameResultAfterChanges(sequentialScoreDirector, parallelScoreDirector);
+    }
+
+    @Test
+    void sameScoreAndMatchesAsSequentialWithSharedNodeNetworkPlan() {
+        var solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        var sequentialScoreDirector = buildScoreDirector(
+                new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                        BavetParallelPropagationTest::defineConstraints, EnvironmentMode.REPRODUCIBLE));
+        var parallelScoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                solutionDescriptor,
+                BavetParallelPropagationTest::defineConstraints, EnvironmentMode.REPRODUCIBLE, 1, false, false, false,
+                false);
+        // The first session determines the node network plan, the second one reuses it.
+        var firstParallelScoreDirector = buildScoreDirector(parallelScoreDirectorFactory);
+        firstParallelScoreDirector.setWorkingSolution(TestdataSolution.generateSolution(2, 2));
+        firstParallelScoreDirector.calculateScore();
+        var parallelScoreDirector = buildScoreDirector(parallelScoreDirectorFactory);
+        assertSameResultAfterChanges(sequentialScoreDirector, parallelScoreDirector);
+    }
+
+    private static void assertSameResultAfterChanges(
+            InnerScoreDirector<TestdataSolution, SimpleScore> sequentialScoreDirector,
+            InnerScoreDirector<TestdataSolution, SimpleScore> parallelScoreDirector) {
+        var sequentialSolution = TestdataSolution.generateSolution(20, 200);
+        var parallelSolution = TestdataSolution.generateSolution(20, 200);
+        sequentialScoreDirector.setWorkingSolution(sequentialSolution);
+        parallelScoreDirector.setWorkingSolution(parallelSolution);
+        assertSameResult(sequentialScoreDirector, parallelScoreDirector);
+
+        var random = new Random(37);
+        for (int i = 0; i < 500; i++) {
+            int entityIndex = random.nextInt(200);
+            int valueIndex = random.nextInt(20);
+            changeValue(sequentialScoreDirector, sequentialSolution, entityIndex, valueIndex);
+            changeValue(parallelScoreDirector, parallelSolution, entityIndex, valueIndex);
+            if (i % 10 == 0) {
+                assertSameResult(sequentialScoreDirector, parallelScoreDirector);
+            }
+        }
+        assertSameResult(sequentialScoreDirector, parallelScoreDirector);
+    }
+
+    private static InnerScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector(
+            BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory) {
+        return scoreDirectorFactory.buildScoreDirector(false, true);
+    }
+
+    private static void changeValue(InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            TestdataSolution solution, int entityIndex, int valueIndex) {
+        TestdataEntity entity = solution.getEntityList().get(entityIndex);
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(solution.getValueList().get(valueIndex));
+        scoreDirector.afterVariableChanged(entity, "value");
+    }
+
+    private static void assertSameResult(InnerScoreDirector<TestdataSolution, SimpleScore> sequentialScoreDirector,
+            InnerScoreDirector<TestdataSolution, SimpleScore> parallelScoreDirector) {
+        assertThat(parallelScoreDirector.calculateScore()).isEqualTo(sequentialScoreDirector.calculateScore());
+        assertThat(parallelScoreDirector.getConstraintMatchTotalMap())
+                .hasToString(sequentialScoreDirector.getConstraintMatchTotalMap().toString());
+    }
+
+}
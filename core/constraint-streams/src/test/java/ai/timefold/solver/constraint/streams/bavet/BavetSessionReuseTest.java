@@ -0,0 +1,148 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static ai.timefold.solver.core.api.score.stream.Joiners.filtering;
+import static ai.timefold.solver.core.api.score.stream.Joiners.lessThan;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+
+class BavetSessionReuseTest {
+
+    private static Constraint[] defineConstraints(ConstraintFactory factory) {
+        return new Constraint[] {
+                factory.forEach(TestdataEntity.class)
+                        .join(TestdataEntity.class, equal(TestdataEntity::getValue),
+                                lessThan(TestdataEntity::getCode, TestdataEntity::getCode))
+                        .groupBy((a, b) -> a.getValue(), ConstraintCollectors.countBi())
+                        .penalize(SimpleScore.ONE, (value, count) -> count)
+                        .asConstraint("Join group"),
+                factory.forEach(TestdataValue.class)
+                        .ifNotExists(TestdataEntity.class, equal(value -> value, TestdataEntity::getValue))
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint("Unused value"),
+                factory.forEachIncludingUnassigned(TestdataEntity.class)
+                        .filter(entity -> entity.getValue() == null)
+                        .join(TestdataValue.class, filtering((entity, value) -> value.getCode().endsWith("0")))
+                        .reward(SimpleScore.ONE)
+                        .asConstraint("Unassigned")
+        };
+    }
+
+    @Test
+    void sameScoreAndMatchesAsNewSession() {
+        var solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        var reusingScoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                solutionDescriptor, BavetSessionReuseTest::defineConstraints, EnvironmentMode.REPRODUCIBLE, null, false,
+                false, false, true);
+        var reusingScoreDirector = buildScoreDirector(reusingScoreDirectorFactory, true);
+        var random = new Random(37);
+        var previousSolution = TestdataSolution.generateSolution(5, 30);
+        reusingScoreDirector.setWorkingSolution(previousSolution);
+        changeValues(reusingScoreDirector, previousSolution, random);
+        reusingScoreDirector.calculateScore();
+        // Leave some changes unpropagated, they must be retracted too.
+        changeValues(reusingScoreDirector, previousSolution, random);
+        var session = reusingScoreDirector.getSession();
+
+        var solution = TestdataSolution.generateSolution(5, 30);
+        var reusedSolution = TestdataSolution.generateSolution(5, 30);
+        reusingScoreDirector.setWorkingSolution(reusedSolution);
+        assertThat(reusingScoreDirector.getSession()).isSameAs(session);
+        var scoreDirector = buildScoreDirector(
+                new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                        BavetSessionReuseTest::defineConstraints, EnvironmentMode.REPRODUCIBLE), true);
+        scoreDirector.setWorkingSolution(solution);
+        assertSameResultAfterChanges(scoreDirector, solution, reusingScoreDirector, reusedSolution);
+
+        // Another score director of the same factory reuses the session once the first one is closed.
+        reusingScoreDirector.close();
+        var otherReusingScoreDirector = buildScoreDirector(reusingScoreDirectorFactory, true);
+        var otherReusedSolution = TestdataSolution.generateSolution(5, 30);
+        otherReusingScoreDirector.setWorkingSolution(otherReusedSolution);
+        assertThat(otherReusingScoreDirector.getSession()).isSameAs(session);
+        var otherSolution = TestdataSolution.generateSolution(5, 30);
+        scoreDirector.setWorkingSolution(otherSolution);
+        assertSameResultAfterChanges(scoreDirector, otherSolution, otherReusingScoreDirector, otherReusedSolution);
+    }
+
+    @Test
+    void sessionWithoutConstraintMatchesNotReusedWithConstraintMatches() {
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                TestdataSolution.buildSolutionDescriptor(), BavetSessionReuseTest::defineConstraints,
+                EnvironmentMode.REPRODUCIBLE, null, false, false, false, true);
+        var scoreDirector = buildScoreDirector(scoreDirectorFactory, false);
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(5, 30));
+        scoreDirector.calculateScore();
+        var session = scoreDirector.getSession();
+        scoreDirector.close();
+
+        var constraintMatchScoreDirector = buildScoreDirector(scoreDirectorFactory, true);
+        constraintMatchScoreDirector.setWorkingSolution(TestdataSolution.generateSolution(5, 30));
+        assertThat(constraintMatchScoreDirector.getSession()).isNotSameAs(session);
+        constraintMatchScoreDirector.close();
+        // The session without constraint matches is still available.
+        var otherScoreDirector = buildScoreDirector(scoreDirectorFactory, false);
+        otherScoreDirector.setWorkingSolution(TestdataSolution.generateSolution(5, 30));
+        assertThat(otherScoreDirector.getSession()).isSameAs(session);
+    }
+
+    private static BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector(
+            BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory,
+            boolean constraintMatchEnabled) {
+        return scoreDirectorFactory.buildScoreDirector(false, constraintMatchEnabled, true);
+    }
+
+    private static void changeValues(InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            TestdataSolution solution, Random random) {
+        for (int i = 0; i < 20; i++) {
+            changeValue(scoreDirector, solution, random.nextInt(30), random.nextInt(6));
+        }
+    }
+
+    private static void changeValue(InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            TestdataSolution solution, int entityIndex, int valueIndex) {
+        TestdataEntity entity = solution.getEntityList().get(entityIndex);
+        scoreDirector.beforeVariableChanged(entity, "value");
+        // The extra index unassigns the entity.
+        entity.setValue(valueIndex == solution.getValueList().size() ? null : solution.getValueList().get(valueIndex));
+        scoreDirector.afterVariableChanged(entity, "value");
+    }
+
+    private static void assertSameResultAfterChanges(InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            TestdataSolution solution, InnerScoreDirector<TestdataSolution, SimpleScore> reusingScoreDirector,
+            TestdataSolution reusedSolution) {
+        assertSameResult(scoreDirector, reusingScoreDirector);
+        var random = new Random(41);
+        for (int i = 0; i < 200; i++) {
+            int entityIndex = random.nextInt(30);
+            int valueIndex = random.nextInt(6);
+            changeValue(scoreDirector, solution, entityIndex, valueIndex);
+            changeValue(reusingScoreDirector, reusedSolution, entityIndex, valueIndex);
+            if (i % 3 == 0) {
+                assertSameResult(scoreDirector, reusingScoreDirector);
+            }
+        }
+        assertSameResult(scoreDirector, reusingScoreDirector);
+    }
+
+    private static void assertSameResult(InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            InnerScoreDirector<TestdataSolution, SimpleScore> reusingScoreDirector) {
+        assertThat(reusingScoreDirector.calculateScore()).isEqualTo(scoreDirector.calculateScore());
+        assertThat(reusingScoreDirector.getConstraintMatchTotalMap())
+                .hasToString(scoreDirector.getConstraintMatchTotalMap().toString());
+    }
+
+}
@@ -1,11 +1,28 @@
 package ai.timefold.solver.constraint.streams.bavet;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import ai.timefold.solver.constraint.streams.common.AbstractSolutionManagerTest;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintJustification;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
 import ai.timefold.solver.core.api.score.stream.ConstraintStreamImplType;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.api.solver.SolverFactory;
 import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataConstraintProvider;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
 import ai.timefold.solver.core.impl.testdata.domain.list.allows_unassigned.pinned.TestdataPinnedUnassignedValuesListConstraintProvider;
 
+import org.junit.jupiter.api.Test;
+
 final class BavetSolutionManagerTest extends AbstractSolutionManagerTest {
 
     @Override
@@ -22,4 +39,107 @@ final class BavetSolutionManagerTest extends AbstractSolutionManagerTest {
                 .withConstraintStreamImplType(ConstraintStreamImplType.BAVET);
     }
 
+    @Test
+    void explanationJustificationsDoNotChangeWithSolution() {
+        var solverConfig = new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                        .withConstraintProviderClass(ValueJustifyingConstraintProvider.class)
+                        .withConstraintStreamImplType(ConstraintStreamImplType.BAVET));
+        SolutionManager<TestdataSolution, SimpleScore> solutionManager =
+                SolutionManager.create(SolverFactory.create(solverConfig));
+        var solution = TestdataSolution.generateSolution(2, 3);
+
+        var scoreExplanation = solutionManager.explain(solution);
+        // The constraint matches are created lazily, but not after the explained solution changes.
+        var otherValue = solution.getValueList().get(1);
+        solution.getEntityList().forEach(entity -> entity.setValue(otherValue));
+        var constraintMatchTotal = scoreExplanation.getConstraintMatchTotalMap().values().iterator().next();
+        assertThat(constraintMatchTotal.getConstraintMatchSet())
+                .map(constraintMatch -> ((ValueJustification) constraintMatch.getJustification()).valueCode())
+                .containsExactlyInAnyOrder("Generated Value 0", "Generated Value 1", "Generated Value 0");
+        assertThat(scoreExplanation.getJustificationList(ValueJustification.class))
+                .map(ValueJustification::valueCode)
+                .containsExactlyInAnyOrder("Generated Value 0", "Generated Value 1", "Generated Value 0");
+    }
+
+    @Test
+    void diffWithChangedProblemFacts() {
+        var solverConfig = new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                        .withConstraintProviderClass(UnusedValueConstraintProvider.class)
+                        .withConstraintStreamImplType(ConstraintStreamImplType.BAVET));
+        SolutionManager<TestdataSolution, SimpleScore> solutionManager =
+                SolutionManager.create(SolverFactory.create(solverConfig));
+        var oldSolution = TestdataSolution.generateSolution(3, 3);
+        // What if there was one more value, with the same planning entities and planning variables?
+        var newSolution = TestdataSolution.generateSolution(3, 3);
+        newSolution.getValueList().add(new TestdataValue("Extra value"));
+
+        var scoreAnalysisDiff = solutionManager.diff(oldSolution, newSolution);
+        assertThat(scoreAnalysisDiff.score()).isEqualTo(SimpleScore.of(-1));
+        assertThat(scoreAnalysisDiff.constraintAnalyses())
+                .singleElement()
+                .satisfies(constraintAnalysis -> assertThat(constraintAnalysis.matches()).hasSize(1));
+    }
+
+    public static final class UnusedValueConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataValue.class)
+                            .ifNotExists(TestdataEntity.class, Joiners.equal(value -> value, TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Unused value")
+            };
+        }
+
+    }
+
+    @Test
+    void constraintMatchTotalJustificationsDoNotChangeWithSolution() {
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                TestdataSolution.buildSolutionDescriptor(), new ValueJustifyingConstraintProvider(),
+                EnvironmentMode.REPRODUCIBLE);
+        try (var scoreDirector = scoreDirectorFactory.buildScoreDirector(false, true)) {
+            var solution = TestdataSolution.generateSolution(2, 3);
+            scoreDirector.setWorkingSolution(solution);
+            scoreDirector.calculateScore();
+            var constraintMatchTotal = scoreDirector.getConstraintMatchTotalMap().values().iterator().next();
+
+            var otherValue = solution.getValueList().get(1);
+            for (var entity : solution.getEntityList()) {
+                scoreDirector.beforeVariableChanged(entity, "value");
+                entity.setValue(otherValue);
+                scoreDirector.afterVariableChanged(entity, "value");
+            }
+            scoreDirector.calculateScore();
+            assertThat(constraintMatchTotal.getConstraintMatchSet())
+                    .map(constraintMatch -> ((ValueJustification) constraintMatch.getJustification()).valueCode())
+                    .containsExactlyInAnyOrder("Generated Value 0", "Generated Value 1", "Generated Value 0");
+        }
+    }
+
+    public static final class ValueJustifyingConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .penalize(SimpleScore.ONE)
+                            // Reads the planning variable only when the justification is created.
+                            .justifyWith((entity, score) -> new ValueJustification(entity.getValue().getCode()))
+                            .asConstraint("Justified with value")
+            };
+        }
+
+    }
+
+    public record ValueJustification(String valueCode) implements ConstraintJustification {
+    }
+
 }
@@ -0,0 +1,122 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static ai.timefold.solver.core.api.score.stream.Joiners.filtering;
+import static ai.timefold.solver.core.api.score.stream.Joiners.lessThan;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+
+class BavetTupleRecyclingTest {
+
+    private static Constraint[] defineConstraints(ConstraintFactory factory) {
+        return new Constraint[] {
+                factory.forEach(TestdataEntity.class)
+                        .join(TestdataEntity.class, equal(TestdataEntity::getValue),
+                                lessThan(TestdataEntity::getCode, TestdataEntity::getCode))
+                        .join(TestdataValue.class, filtering((a, b, value) -> a.getValue() != value))
+                        .groupBy((a, b, value) -> value, ConstraintCollectors.countTri())
+                        .penalize(SimpleScore.ONE, (value, count) -> count)
+                        .asConstraint("Join join group"),
+                factory.forEach(TestdataValue.class)
+                        .join(TestdataEntity.class, equal(value -> value, TestdataEntity::getValue))
+                        .ifNotExists(TestdataEntity.class, equal((value, entity) -> value, TestdataEntity::getValue),
+                                filtering((value, entity, other) -> other.getCode().compareTo(entity.getCode()) < 0))
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint("Join ifNotExists"),
+                factory.forEach(TestdataEntity.class)
+                        .join(TestdataValue.class, filtering((entity, value) -> entity.getValue() == value))
+                        .concat(factory.forEach(TestdataEntity.class)
+                                .join(TestdataValue.class))
+                        .reward(SimpleScore.ONE)
+                        .asConstraint("Join concat")
+        };
+    }
+
+    @Test
+    void sameScoreAndMatchesAsWithoutRecycling() {
+        var solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        var scoreDirector = buildScoreDirector(
+                new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                        BavetTupleRecyclingTest::defineConstraints, EnvironmentMode.REPRODUCIBLE));
+        var recyclingScoreDirector = buildScoreDirector(
+                new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                        BavetTupleRecyclingTest::defineConstraints, EnvironmentMode.REPRODUCIBLE, null, true, false, false,
+                        false));
+        var solution = TestdataSolution.generateSolution(10, 50);
+        var recyclingSolution = TestdataSolution.generateSolution(10, 50);
+        scoreDirector.setWorkingSolution(solution);
+        recyclingScoreDirector.setWorkingSolution(recyclingSolution);
+        assertSameResult(scoreDirector, recyclingScoreDirector);
+
+        var random = new Random(37);
+        for (int i = 0; i < 500; i++) {
+            int entityIndex = random.nextInt(50);
+            int valueIndex = random.nextInt(10);
+            changeValue(scoreDirector, solution, entityIndex, valueIndex);
+            changeValue(recyclingScoreDirector, recyclingSolution, entityIndex, valueIndex);
+            if (i % 3 == 0) {
+                assertSameResult(scoreDirector, recyclingScoreDirector);
+            }
+        }
+        assertSameResult(scoreDirector, recyclingScoreDirector);
+    }
+
+    @Test
+    void sameScoreAndMatchesWhenRetractingMoreTuplesThanRecycled() {
+        var solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        var scoreDirector = buildScoreDirector(
+                new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                        BavetTupleRecyclingTest::defineConstraints, EnvironmentMode.REPRODUCIBLE));
+        var recyclingScoreDirector = buildScoreDirector(
+                new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                        BavetTupleRecyclingTest::defineConstraints, EnvironmentMode.REPRODUCIBLE, null, true, false, false,
+                        false));
+        var solution = TestdataSolution.generateSolution(3, 60);
+        var recyclingSolution = TestdataSolution.generateSolution(3, 60);
+        scoreDirector.setWorkingSolution(solution);
+        recyclingScoreDirector.setWorkingSolution(recyclingSolution);
+
+        // All 60 entities joined with each other retract 1770 tuples at once, more than a join node recycles.
+        for (int valueIndex : new int[] { 0, 1, 0, 2 }) {
+            for (int entityIndex = 0; entityIndex < 60; entityIndex++) {
+                changeValue(scoreDirector, solution, entityIndex, valueIndex);
+                changeValue(recyclingScoreDirector, recyclingSolution, entityIndex, valueIndex);
+            }
+            assertSameResult(scoreDirector, recyclingScoreDirector);
+        }
+    }
+
+    private static InnerScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector(
+            BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory) {
+        return scoreDirectorFactory.buildScoreDirector(false, true);
+    }
+
+    private static void changeValue(InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            TestdataSolution solution, int entityIndex, int valueIndex) {
+        TestdataEntity entity = solution.getEntityList().get(entityIndex);
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(solution.getValueList().get(valueIndex));
+        scoreDirector.afterVariableChanged(entity, "value");
+    }
+
+    private static void assertSameResult(InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            InnerScoreDirector<TestdataSolution, SimpleScore> recyclingScoreDirector) {
+        assertThat(recyclingScoreDirector.calculateScore()).isEqualTo(scoreDirector.calculateScore());
+        assertThat(recyclingScoreDirector.getConstraintMatchTotalMap())
+                .hasToString(scoreDirector.getConstraintMatchTotalMap().toString());
+    }
+
+}
@@ -59,6 +59,7 @@ class EqualsAndComparisonIndexerTest extends AbstractIndexerTest {
         assertThat(getTuples(indexer, "F", 35)).containsOnly(bethTuple);
         assertThat(getTuples(indexer, "F", 30)).containsOnly(bethTuple);
         assertThat(getTuples(indexer, "F", 20)).isEmpty();
+        assertThat(indexer.totalSize()).isEqualTo(5);
     }
 
     private static UniTuple<String> newTuple(String factA) {
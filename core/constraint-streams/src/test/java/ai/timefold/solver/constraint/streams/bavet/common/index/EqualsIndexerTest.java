@@ -59,6 +59,7 @@ class EqualsIndexerTest extends AbstractIndexerTest {
         assertThat(getTuples(indexer, new Pair<>("F", 40))).containsOnly(annTuple, ednaTuple);
         assertThat(getTuples(indexer, new Pair<>("F", 30))).containsOnly(bethTuple);
         assertThat(getTuples(indexer, new Pair<>("F", 20))).isEmpty();
+        assertThat(indexer.totalSize()).isEqualTo(5);
     }
 
     private static UniTuple<String> newTuple(String factA) {
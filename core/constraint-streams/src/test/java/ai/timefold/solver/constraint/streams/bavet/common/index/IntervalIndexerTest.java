@@ -0,0 +1,92 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.constraint.streams.common.bi.DefaultBiJoiner;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+import org.junit.jupiter.api.Test;
+
+class IntervalIndexerTest extends AbstractIndexerTest {
+
+    private record Shift(String name, int start, int end) {
+
+    }
+
+    private final DefaultBiJoiner<Shift, Shift> joiner =
+            (DefaultBiJoiner<Shift, Shift>) Joiners.overlapping(Shift::start, Shift::end);
+
+    @Test
+    void factoryPicksIntervalIndexer() {
+        Indexer<UniTuple<Shift>> leftIndexer = new IndexerFactory(joiner).buildIndexer(true);
+        assertThat(leftIndexer).isInstanceOf(IntervalIndexer.class);
+        Indexer<UniTuple<Shift>> rightIndexer = new IndexerFactory(joiner).buildIndexer(false);
+        assertThat(rightIndexer).isInstanceOf(IntervalIndexer.class);
+    }
+
+    @Test
+    void isEmpty() {
+        Indexer<UniTuple<Shift>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThat(getTuples(indexer, 10, 8)).isEmpty();
+    }
+
+    @Test
+    void removeTwice() {
+        Indexer<UniTuple<Shift>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        UniTuple<Shift> annTuple = newTuple(new Shift("Ann", 8, 14));
+        ElementAwareListEntry<UniTuple<Shift>> annEntry = indexer.put(new ManyIndexProperties(8, 14), annTuple);
+
+        indexer.remove(new ManyIndexProperties(8, 14), annEntry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(new ManyIndexProperties(8, 14), annEntry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visitLeftBridge() {
+        // Left tuples are indexed by (start, end) and looked up by the (end, start) of the right tuple.
+        Indexer<UniTuple<Shift>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        UniTuple<Shift> annTuple = newTuple(new Shift("Ann", 8, 14));
+        indexer.put(new ManyIndexProperties(8, 14), annTuple);
+        UniTuple<Shift> bethTuple = newTuple(new Shift("Beth", 12, 18));
+        indexer.put(new ManyIndexProperties(12, 18), bethTuple);
+        UniTuple<Shift> ericTuple = newTuple(new Shift("Eric", 16, 22));
+        indexer.put(new ManyIndexProperties(16, 22), ericTuple);
+        UniTuple<Shift> dianaTuple = newTuple(new Shift("Diana", 12, 18));
+        indexer.put(new ManyIndexProperties(12, 18), dianaTuple);
+
+        assertThat(getTuples(indexer, 14, 8)).containsOnly(annTuple, bethTuple, dianaTuple);
+        assertThat(getTuples(indexer, 22, 16)).containsOnly(bethTuple, dianaTuple, ericTuple);
+        assertThat(getTuples(indexer, 16, 14)).containsOnly(bethTuple, dianaTuple);
+        assertThat(getTuples(indexer, 8, 0)).isEmpty();
+        assertThat(getTuples(indexer, 30, 22)).isEmpty();
+        assertThat(indexer.size(new ManyIndexProperties(13, 12))).isEqualTo(3);
+        assertThat(indexer.totalSize()).isEqualTo(4);
+    }
+
+    @Test
+    void visitRightBridge() {
+        // Right tuples are indexed by (end, start) and looked up by the (start, end) of the left tuple.
+        Indexer<UniTuple<Shift>> indexer = new IndexerFactory(joiner).buildIndexer(false);
+        UniTuple<Shift> annTuple = newTuple(new Shift("Ann", 8, 14));
+        indexer.put(new ManyIndexProperties(14, 8), annTuple);
+        UniTuple<Shift> bethTuple = newTuple(new Shift("Beth", 12, 18));
+        indexer.put(new ManyIndexProperties(18, 12), bethTuple);
+        UniTuple<Shift> ericTuple = newTuple(new Shift("Eric", 16, 22));
+        ElementAwareListEntry<UniTuple<Shift>> ericEntry = indexer.put(new ManyIndexProperties(22, 16), ericTuple);
+
+        assertThat(getTuples(indexer, 8, 14)).containsOnly(annTuple, bethTuple);
+        assertThat(getTuples(indexer, 14, 17)).containsOnly(bethTuple, ericTuple);
+        indexer.remove(new ManyIndexProperties(22, 16), ericEntry);
+        assertThat(getTuples(indexer, 14, 17)).containsOnly(bethTuple);
+    }
+
+    private static UniTuple<Shift> newTuple(Shift shift) {
+        return new UniTuple<>(shift, 0);
+    }
+
+}
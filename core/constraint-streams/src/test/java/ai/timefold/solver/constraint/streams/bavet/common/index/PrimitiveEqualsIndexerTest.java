@@ -0,0 +1,149 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.constraint.streams.common.bi.DefaultBiJoiner;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+import org.junit.jupiter.api.Test;
+
+class PrimitiveEqualsIndexerTest extends AbstractIndexerTest {
+
+    private enum Shade {
+        LIGHT,
+        DARK {
+            @Override
+            public String toString() { // Forces an anonymous subclass.
+                return "Dark";
+            }
+        }
+    }
+
+    private final DefaultBiJoiner<Person, Person> joiner =
+            (DefaultBiJoiner<Person, Person>) Joiners.equal((Person p) -> p.age);
+
+    @Test
+    void factoryPicksPrimitiveIndexerForSimpleKey() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        assertThat(indexer).isInstanceOf(PrimitiveEqualsIndexer.class);
+    }
+
+    @Test
+    void factoryPicksEqualsIndexerAfterNonPrimitiveKey() {
+        IndexerFactory indexerFactory = new IndexerFactory(joiner);
+        Indexer<UniTuple<String>> leftIndexer = indexerFactory.buildIndexer(true);
+        leftIndexer.put(new SingleIndexProperties<>(40), newTuple("Ann-F-40"));
+        assertThat(indexerFactory.buildIndexer(false)).isInstanceOf(PrimitiveEqualsIndexer.class);
+
+        leftIndexer.put(new SingleIndexProperties<>("F"), newTuple("Beth-F-30"));
+        assertThat(indexerFactory.buildIndexer(false)).isInstanceOf(EqualsIndexer.class);
+        assertThat(getTuples(leftIndexer, 40)).hasSize(1);
+        assertThat(getTuples(leftIndexer, "F")).hasSize(1);
+    }
+
+    @Test
+    void isEmpty() {
+        Indexer<UniTuple<String>> indexer = new PrimitiveEqualsIndexer<>(NoneIndexer::new);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThat(getTuples(indexer, 40)).isEmpty();
+        assertThat(getTuples(indexer, "F")).isEmpty();
+    }
+
+    @Test
+    void putAndRemoveIntegers() {
+        Indexer<UniTuple<String>> indexer = new PrimitiveEqualsIndexer<>(NoneIndexer::new);
+        UniTuple<String> annTuple = newTuple("Ann-F-40");
+        ElementAwareListEntry<UniTuple<String>> annEntry = indexer.put(new SingleIndexProperties<>(40), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-F-30");
+        indexer.put(new SingleIndexProperties<>(30), bethTuple);
+        UniTuple<String> ednaTuple = newTuple("Edna-F-40");
+        indexer.put(new SingleIndexProperties<>(40), ednaTuple);
+
+        assertThat(indexer.size(new SingleIndexProperties<>(40))).isEqualTo(2);
+        assertThat(getTuples(indexer, 40)).containsOnly(annTuple, ednaTuple);
+        assertThat(getTuples(indexer, 30)).containsOnly(bethTuple);
+        assertThat(getTuples(indexer, 20)).isEmpty();
+        assertThat(getTuples(indexer, 40L)).isEmpty(); // Integer and Long are never equal.
+
+        indexer.remove(new SingleIndexProperties<>(40), annEntry);
+        assertThat(getTuples(indexer, 40)).containsOnly(ednaTuple);
+        assertThatThrownBy(() -> indexer.remove(new SingleIndexProperties<>(20), annEntry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void manyKeysSurviveResizeAndRemoval() {
+        Indexer<UniTuple<String>> indexer = new PrimitiveEqualsIndexer<>(NoneIndexer::new);
+        List<ElementAwareListEntry<UniTuple<String>>> entryList = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entryList.add(indexer.put(new SingleIndexProperties<>(i * 1024), newTuple("T" + i)));
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            indexer.remove(new SingleIndexProperties<>(i * 1024), entryList.get(i));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertThat(indexer.size(new SingleIndexProperties<>(i * 1024))).isEqualTo(i % 2);
+        }
+        for (int i = 1; i < 1000; i += 2) {
+            indexer.remove(new SingleIndexProperties<>(i * 1024), entryList.get(i));
+        }
+        assertThat(indexer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void enumsAndNulls() {
+        Indexer<UniTuple<String>> indexer = new PrimitiveEqualsIndexer<>(NoneIndexer::new);
+        UniTuple<String> lightTuple = newTuple("Light");
+        indexer.put(new SingleIndexProperties<>(Shade.LIGHT), lightTuple);
+        UniTuple<String> darkTuple = newTuple("Dark");
+        indexer.put(new SingleIndexProperties<>(Shade.DARK), darkTuple);
+        UniTuple<String> nullTuple = newTuple("Null");
+        ElementAwareListEntry<UniTuple<String>> nullEntry = indexer.put(new SingleIndexProperties<>(null), nullTuple);
+
+        assertThat(getTuples(indexer, Shade.LIGHT)).containsOnly(lightTuple);
+        assertThat(getTuples(indexer, Shade.DARK)).containsOnly(darkTuple);
+        assertThat(getTuples(indexer, (Object) null)).containsOnly(nullTuple);
+        assertThat(indexer.totalSize()).isEqualTo(3);
+
+        indexer.remove(new SingleIndexProperties<>(null), nullEntry);
+        assertThat(getTuples(indexer, (Object) null)).isEmpty();
+        assertThat(indexer.isEmpty()).isFalse();
+        assertThat(indexer.totalSize()).isEqualTo(2);
+    }
+
+    @Test
+    void fallbackOnMixedKeys() {
+        Indexer<UniTuple<String>> indexer = new PrimitiveEqualsIndexer<>(NoneIndexer::new);
+        UniTuple<String> intTuple = newTuple("Int");
+        indexer.put(new SingleIndexProperties<>(1), intTuple);
+        UniTuple<String> nullTuple = newTuple("Null");
+        indexer.put(new SingleIndexProperties<>(null), nullTuple);
+        UniTuple<String> longTuple = newTuple("Long");
+        ElementAwareListEntry<UniTuple<String>> longEntry = indexer.put(new SingleIndexProperties<>(1L), longTuple);
+        UniTuple<String> stringTuple = newTuple("String");
+        indexer.put(new SingleIndexProperties<>("1"), stringTuple);
+
+        assertThat(getTuples(indexer, 1)).containsOnly(intTuple);
+        assertThat(getTuples(indexer, 1L)).containsOnly(longTuple);
+        assertThat(getTuples(indexer, "1")).containsOnly(stringTuple);
+        assertThat(getTuples(indexer, (Object) null)).containsOnly(nullTuple);
+        assertThat(indexer.totalSize()).isEqualTo(4);
+
+        indexer.remove(new SingleIndexProperties<>(1L), longEntry);
+        assertThat(getTuples(indexer, 1L)).isEmpty();
+        assertThat(indexer.totalSize()).isEqualTo(3);
+        assertThatThrownBy(() -> indexer.remove(new SingleIndexProperties<>(1L), longEntry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+}
@@ -20,6 +20,7 @@ class HardSoftBigDecimalScoreInlinerTest
     void defaultScore() {
         var scoreInliner = buildScoreInliner(Collections.emptyMap(), constraintMatchEnabled);
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftBigDecimalScore.ZERO);
+        assertThat(scoreInliner.isPrimitiveScoreSupported()).isFalse();
     }
 
     @Test
@@ -8,6 +8,8 @@ import java.util.Map;
 import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.score.buildin.HardSoftScoreDefinition;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 import ai.timefold.solver.core.impl.testdata.domain.score.TestdataHardSoftScoreSolution;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,20 @@ class HardSoftScoreInlinerTest extends AbstractScoreInlinerTest<TestdataHardSoft
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.ZERO);
     }
 
+    @Test
+    void extractPrimitiveScore() {
+        var constraintWeight = HardSoftScore.of(10, 100);
+        var impacter = buildScoreImpacter(constraintWeight);
+        var scoreInliner = (AbstractScoreInliner<HardSoftScore>) impacter.getContext().parent;
+        assertThat(scoreInliner.isPrimitiveScoreSupported()).isTrue();
+
+        impacter.impactScore(2, ConstraintMatchSupplier.empty());
+        var primitiveScore = new PrimitiveScore<>(new HardSoftScoreDefinition());
+        scoreInliner.extractPrimitiveScore(-1, primitiveScore);
+        assertThat(primitiveScore.toScore())
+                .isEqualTo(HardSoftScore.ofUninitialized(-1, 20, 200));
+    }
+
     @Test
     void impactHard() {
         var constraintWeight = HardSoftScore.ofHard(90);
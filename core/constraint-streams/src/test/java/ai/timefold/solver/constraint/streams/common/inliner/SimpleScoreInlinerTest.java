@@ -3,7 +3,9 @@ package ai.timefold.solver.constraint.streams.common.inliner;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
@@ -43,6 +45,51 @@ class SimpleScoreInlinerTest extends AbstractScoreInlinerTest<TestdataSolution,
                 .isEqualTo(SimpleScore.of(0));
     }
 
+    @Test
+    void constraintMatchTotalsAreBuiltPerConstraint() {
+        var constraint1 = buildConstraint(SimpleScore.of(10));
+        var constraint2 = new TestConstraint<>(constraint1.getConstraintFactory(), "Other Constraint", SimpleScore.of(1));
+        var constraintWeightMap = new LinkedHashMap<Constraint, SimpleScore>();
+        constraintWeightMap.put(constraint1, SimpleScore.of(10));
+        constraintWeightMap.put(constraint2, SimpleScore.of(1));
+        var scoreInliner = buildScoreInliner(constraintWeightMap, constraintMatchEnabled);
+        var impacter1 = scoreInliner.buildWeightedScoreImpacter(constraint1);
+        var impacter2 = scoreInliner.buildWeightedScoreImpacter(constraint2);
+        var createdCount = new AtomicInteger();
+        ConstraintMatchSupplier<SimpleScore> constraintMatchSupplier = (constraint, impact) -> {
+            createdCount.incrementAndGet();
+            return ConstraintMatchSupplier.<SimpleScore> empty().apply(constraint, impact);
+        };
+
+        impacter1.impactScore(1, constraintMatchSupplier);
+        var undo = impacter2.impactScore(2, constraintMatchSupplier);
+        var lazyConstraintMatchTotalMap = scoreInliner.getLazyConstraintIdToConstraintMatchTotalMap();
+        var constraintMatchTotal1 = lazyConstraintMatchTotalMap.get(constraint1.getConstraintRef().constraintId());
+        var constraintMatchTotal2 = lazyConstraintMatchTotalMap.get(constraint2.getConstraintRef().constraintId());
+        assertThat(constraintMatchTotal1.getScore()).isEqualTo(SimpleScore.of(10));
+        assertThat(constraintMatchTotal1.getConstraintMatchCount()).isEqualTo(1);
+        assertThat(constraintMatchTotal2.getScore()).isEqualTo(SimpleScore.of(2));
+        assertThat(createdCount.get()).isZero(); // Only the scores were needed.
+
+        assertThat(constraintMatchTotal1.getConstraintMatchSet()).hasSize(1);
+        assertThat(createdCount.get()).isEqualTo(1);
+        // Unless requested lazily, the constraint matches are created right away.
+        assertThat(scoreInliner.getConstraintIdToConstraintMatchTotalMap().values())
+                .containsExactlyInAnyOrder(constraintMatchTotal1, constraintMatchTotal2);
+        assertThat(createdCount.get()).isEqualTo(2);
+
+        undo.run();
+        // The other constraint did not change, so its constraint match total is reused.
+        assertThat(scoreInliner.getConstraintMatchTotal(constraint1.getConstraintRef())).isSameAs(constraintMatchTotal1);
+        var updatedConstraintMatchTotal2 = scoreInliner.getConstraintMatchTotal(constraint2.getConstraintRef());
+        assertThat(updatedConstraintMatchTotal2).isNotSameAs(constraintMatchTotal2);
+        assertThat(updatedConstraintMatchTotal2.getScore()).isEqualTo(SimpleScore.ZERO);
+        assertThat(updatedConstraintMatchTotal2.getConstraintMatchSet()).isEmpty();
+
+        assertThat(scoreInliner.getIndictmentMap()).isEmpty(); // The empty supplier indicts nothing.
+        assertThat(createdCount.get()).isEqualTo(2);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataSolution> buildSolutionDescriptor() {
         return TestdataSolution.buildSolutionDescriptor();
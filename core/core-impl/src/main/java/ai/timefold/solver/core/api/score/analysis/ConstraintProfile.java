@@ -0,0 +1,57 @@
+package ai.timefold.solver.core.api.score.analysis;
+
+import java.util.List;
+import java.util.Objects;
+
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.api.solver.SolutionManager;
+
+/**
+ * Attributes the work done by the constraint stream network to a single constraint.
+ * <p>
+ * Note: Users should never create instances of this type directly.
+ * It is available transitively via {@link SolutionManager#profile(Object)}.
+ *
+ * @param constraintRef never null
+ * @param nodeProfiles never null, never empty; every node the constraint uses, including the nodes it shares
+ *        with other constraints, ordered by {@link NodeProfile#layerIndex()}
+ */
+public record ConstraintProfile(ConstraintRef constraintRef, List<NodeProfile> nodeProfiles) {
+
+    public ConstraintProfile {
+        Objects.requireNonNull(constraintRef, "constraintRef");
+        nodeProfiles = List.copyOf(Objects.requireNonNull(nodeProfiles, "nodeProfiles"));
+    }
+
+    /**
+     * @return at least 0; the time spent by all the nodes of this constraint,
+     *         including the nodes it shares with other constraints
+     */
+    public long nanosSpent() {
+        return nodeProfiles.stream()
+                .mapToLong(NodeProfile::nanosSpent)
+                .sum();
+    }
+
+    /**
+     * Unlike {@link #nanosSpent()}, this is the time which would be saved by removing this constraint.
+     *
+     * @return at least 0; the time spent by the nodes which this constraint does not share with other constraints
+     */
+    public long exclusiveNanosSpent() {
+        return nodeProfiles.stream()
+                .filter(NodeProfile::isExclusive)
+                .mapToLong(NodeProfile::nanosSpent)
+                .sum();
+    }
+
+    /**
+     * @return at least 0; the number of tuples received by all the nodes of this constraint
+     */
+    public long receivedCount() {
+        return nodeProfiles.stream()
+                .mapToLong(NodeProfile::receivedCount)
+                .sum();
+    }
+
+}
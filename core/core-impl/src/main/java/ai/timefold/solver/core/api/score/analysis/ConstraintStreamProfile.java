@@ -0,0 +1,94 @@
+package ai.timefold.solver.core.api.score.analysis;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.api.solver.SolutionManager;
+
+/**
+ * Describes where the constraint stream network spends its time, node by node.
+ * Use it to find out which constraints are the most expensive to calculate,
+ * and whether a different order of the building blocks or a different choice of joiners could make them cheaper.
+ * <p>
+ * Note: the constructors of this record are off-limits.
+ * We ask users to use exclusively {@link SolutionManager#profile(Object)} to obtain instances of this record.
+ *
+ * @param nodeProfiles never null; one for each node in the network, ordered by {@link NodeProfile#layerIndex()}
+ */
+public record ConstraintStreamProfile(List<NodeProfile> nodeProfiles) {
+
+    public ConstraintStreamProfile {
+        nodeProfiles = List.copyOf(Objects.requireNonNull(nodeProfiles, "nodeProfiles"));
+    }
+
+    /**
+     * @return never null; for each constraint identified by its {@link ConstraintRef},
+     *         the nodes it uses, ordered by {@link ConstraintRef}
+     */
+    public Map<ConstraintRef, ConstraintProfile> constraintProfileMap() {
+        var nodeProfileListMap = new TreeMap<ConstraintRef, List<NodeProfile>>();
+        for (var nodeProfile : nodeProfiles) {
+            for (var constraintRef : nodeProfile.constraintRefs()) {
+                nodeProfileListMap.computeIfAbsent(constraintRef, k -> new ArrayList<>())
+                        .add(nodeProfile);
+            }
+        }
+        var constraintProfileMap = new TreeMap<ConstraintRef, ConstraintProfile>();
+        nodeProfileListMap.forEach((constraintRef, nodeProfileList) -> constraintProfileMap.put(constraintRef,
+                new ConstraintProfile(constraintRef, nodeProfileList)));
+        return Collections.unmodifiableMap(constraintProfileMap);
+    }
+
+    /**
+     * @param constraintRef never null
+     * @return null if the constraint is not present in the network, for example because its weight is zero
+     */
+    public ConstraintProfile getConstraintProfile(ConstraintRef constraintRef) {
+        return constraintProfileMap().get(constraintRef);
+    }
+
+    /**
+     * @return at least 0; the time spent by all the nodes in the network
+     */
+    public long nanosSpent() {
+        return nodeProfiles.stream()
+                .mapToLong(NodeProfile::nanosSpent)
+                .sum();
+    }
+
+    /**
+     * Returns a diagnostic text that lists the constraints, the most expensive ones first,
+     * each followed by the nodes it uses.
+     *
+     * @return never null
+     */
+    public String summarize() {
+        var constraintProfiles = constraintProfileMap().values().stream()
+                .sorted(Comparator.comparingLong(ConstraintProfile::nanosSpent).reversed()
+                        .thenComparing(ConstraintProfile::constraintRef))
+                .toList();
+        var summary = new StringBuilder();
+        summary.append("Constraint stream profile (%d nodes, %d ms):%n"
+                .formatted(nodeProfiles.size(), nanosSpent() / 1_000_000L));
+        for (var constraintProfile : constraintProfiles) {
+            summary.append("    %s: %d ms, of which %d ms exclusive%n"
+                    .formatted(constraintProfile.constraintRef().constraintId(),
+                            constraintProfile.nanosSpent() / 1_000_000L,
+                            constraintProfile.exclusiveNanosSpent() / 1_000_000L));
+            for (var nodeProfile : constraintProfile.nodeProfiles()) {
+                summary.append("        %s: %d ms, %d inserts, %d updates, %d retracts, fan-out %.2f, indexer size %d%n"
+                        .formatted(nodeProfile.nodeName(), nodeProfile.nanosSpent() / 1_000_000L,
+                                nodeProfile.insertCount(), nodeProfile.updateCount(), nodeProfile.retractCount(),
+                                nodeProfile.fanOut(), nodeProfile.indexerSize()));
+            }
+        }
+        return summary.toString().stripTrailing();
+    }
+
+}
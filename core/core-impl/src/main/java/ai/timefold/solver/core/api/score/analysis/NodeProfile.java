@@ -0,0 +1,63 @@
+package ai.timefold.solver.core.api.score.analysis;
+
+import java.util.Objects;
+import java.util.Set;
+
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.api.solver.SolutionManager;
+
+/**
+ * Describes the work done by a single node of the constraint stream network.
+ * Nodes are shared between constraints whenever their constraint streams start the same way.
+ * <p>
+ * Note: Users should never create instances of this type directly.
+ * It is available transitively via {@link SolutionManager#profile(Object)}.
+ *
+ * @param nodeName never null, unique within the network, only meant for human consumption
+ * @param layerIndex at least 0; a node only receives tuples from nodes in lower layers
+ * @param constraintRefs never null; the constraints which share this node,
+ *        empty if the node could not be attributed to any constraint, in which case no {@link ConstraintProfile} has it
+ * @param insertCount at least 0; the number of tuples inserted into this node
+ * @param updateCount at least 0; the number of tuples updated in this node
+ * @param retractCount at least 0; the number of tuples retracted from this node
+ * @param propagationCount at least 0; the number of tuples this node has propagated downstream
+ * @param nanosSpent at least 0; the time this node spent processing the tuples it received
+ * @param indexerSize at least 0; the number of tuples currently held by the indexers of this node,
+ *        left and right inputs combined for join and ifExists nodes,
+ *        always 0 for nodes which do not keep their tuples, such as filters and mappers
+ */
+public record NodeProfile(String nodeName, long layerIndex, Set<ConstraintRef> constraintRefs, long insertCount,
+        long updateCount, long retractCount, long propagationCount, long nanosSpent, long indexerSize) {
+
+    public NodeProfile {
+        Objects.requireNonNull(nodeName, "nodeName");
+        Objects.requireNonNull(constraintRefs, "constraintRefs");
+        constraintRefs = Set.copyOf(constraintRefs);
+    }
+
+    /**
+     * @return at least 0; the sum of {@link #insertCount()}, {@link #updateCount()} and {@link #retractCount()}
+     */
+    public long receivedCount() {
+        return insertCount + updateCount + retractCount;
+    }
+
+    /**
+     * The number of tuples this node propagated for every tuple it received.
+     * A join node with a fan-out much higher than 1 is a candidate for a more selective joiner.
+     *
+     * @return at least 0; 0 if the node has not received any tuples yet
+     */
+    public double fanOut() {
+        var receivedCount = receivedCount();
+        return receivedCount == 0 ? 0.0 : propagationCount / (double) receivedCount;
+    }
+
+    /**
+     * @return true if this node is only used by a single constraint
+     */
+    public boolean isExclusive() {
+        return constraintRefs.size() == 1;
+    }
+
+}
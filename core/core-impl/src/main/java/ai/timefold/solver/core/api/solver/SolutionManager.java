@@ -5,16 +5,22 @@ import static ai.timefold.solver.core.api.solver.SolutionUpdatePolicy.UPDATE_ALL
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.lookup.PlanningId;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.ScoreExplanation;
+import ai.timefold.solver.core.api.score.analysis.ConstraintStreamProfile;
+import ai.timefold.solver.core.api.score.analysis.MatchAnalysis;
 import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
 import ai.timefold.solver.core.api.score.calculator.EasyScoreCalculator;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
+import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
 import ai.timefold.solver.core.impl.solver.DefaultSolutionManager;
 
 /**
@@ -61,6 +67,25 @@ public interface SolutionManager<Solution_, Score_ extends Score<Score_>> {
         return new DefaultSolutionManager<>(solverManager);
     }
 
+    /**
+     * Uses a {@link SolverFactory} to build a {@link SolutionManager}
+     * which evaluates the fits of {@link #recommendFit(Object, Object, Function, ScoreAnalysisFetchPolicy)} in parallel.
+     * The fits are split into parts, each of which is evaluated on its own clone of the solution.
+     * One part is evaluated on the calling thread, the others on the executor.
+     * The results are the same as those of a {@link SolutionManager} created by {@link #create(SolverFactory)}.
+     *
+     * @param solverFactory never null
+     * @param recommendFitExecutor never null; it is not shut down by the {@link SolutionManager}
+     * @param recommendFitParallelism at least 1, the number of parts the fits are split into
+     * @return never null
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     * @param <Score_> the actual score type
+     */
+    static <Solution_, Score_ extends Score<Score_>> SolutionManager<Solution_, Score_> create(
+            SolverFactory<Solution_> solverFactory, Executor recommendFitExecutor, int recommendFitParallelism) {
+        return new DefaultSolutionManager<>(solverFactory, recommendFitExecutor, recommendFitParallelism);
+    }
+
     // ************************************************************************
     // Interface methods
     // ************************************************************************
@@ -137,6 +162,61 @@ public interface SolutionManager<Solution_, Score_ extends Score<Score_>> {
     ScoreAnalysis<Score_> analyze(Solution_ solution, ScoreAnalysisFetchPolicy fetchPolicy,
             SolutionUpdatePolicy solutionUpdatePolicy);
 
+    /**
+     * As defined by {@link #diff(Object, Object, ScoreAnalysisFetchPolicy)},
+     * using {@link ScoreAnalysisFetchPolicy#FETCH_ALL}.
+     */
+    default ScoreAnalysis<Score_> diff(Solution_ oldSolution, Solution_ newSolution) {
+        return diff(oldSolution, newSolution, FETCH_ALL);
+    }
+
+    /**
+     * Calculates what changed in the score between two solutions of the same problem,
+     * such as a published plan and a new best solution.
+     * The comparison is in the direction of {@code newSolution - oldSolution},
+     * like {@code analyze(newSolution).diff(analyze(oldSolution))},
+     * except that {@link MatchAnalysis} instances which did not change are left out.
+     * Therefore, only the constraint matches which appeared, disappeared or changed their score are returned.
+     * <p>
+     * If both solutions have the same planning entities and problem facts
+     * and only differ in their genuine planning variables,
+     * the score of the new solution is calculated incrementally from the score of the old solution,
+     * and only the constraints affected by those differences are analyzed again.
+     * That requires {@link PlanningId} on the planning entities and the planning values.
+     * The problem facts are only the same if both solutions share the same problem fact instances,
+     * as a planning clone of a solution does.
+     * Otherwise, for example to compare a solution with a what-if copy in which a problem fact changed,
+     * both solutions are analyzed from scratch.
+     * <p>
+     * Neither solution is changed by this method.
+     *
+     * @param oldSolution never null, must be fully initialized otherwise an exception is thrown
+     * @param newSolution never null, must be fully initialized otherwise an exception is thrown
+     * @param fetchPolicy never null; if unsure, pick {@link ScoreAnalysisFetchPolicy#FETCH_ALL}
+     * @return never null
+     * @throws IllegalStateException when constraint matching is disabled or not supported by the underlying score
+     *         calculator, such as {@link EasyScoreCalculator}.
+     * @see ScoreAnalysis#diff(ScoreAnalysis)
+     */
+    ScoreAnalysis<Score_> diff(Solution_ oldSolution, Solution_ newSolution, ScoreAnalysisFetchPolicy fetchPolicy);
+
+    /**
+     * Calculates the score of the solution from scratch
+     * and reports how much work every node of the constraint stream network did to calculate it,
+     * attributed to the constraints which use that node.
+     * <p>
+     * This only covers the initial calculation of the score.
+     * To profile the incremental score calculation during solving,
+     * enable {@link SolverMetric#CONSTRAINT_STREAM_PROFILE} instead.
+     *
+     * @param solution never null
+     * @return never null
+     * @throws IllegalStateException when profiling is not enabled in the {@link ScoreDirectorFactoryConfig}
+     *         or not supported by the underlying score calculator, which needs to use constraint streams.
+     * @see ScoreDirectorFactoryConfig#getConstraintStreamProfilingEnabled()
+     */
+    ConstraintStreamProfile profile(Solution_ solution);
+
     /**
      * As defined by {@link #recommendFit(Object, Object, Function, ScoreAnalysisFetchPolicy)},
      * with {@link ScoreAnalysisFetchPolicy#FETCH_ALL}.
@@ -248,4 +328,24 @@ public interface SolutionManager<Solution_, Score_ extends Score<Score_>> {
             EntityOrElement_ fittedEntityOrElement, Function<EntityOrElement_, Proposition_> propositionFunction,
             ScoreAnalysisFetchPolicy fetchPolicy);
 
+    /**
+     * As defined by {@link #recommendFit(Object, Object, Function, ScoreAnalysisFetchPolicy)},
+     * but only returns the best fits, at most {@code limit} of them.
+     * For every other fit, only the score is calculated;
+     * neither its {@link ScoreAnalysis} is built nor the proposition function is called.
+     * This is much faster when there are many more possible fits than the user needs to see.
+     *
+     * @param solution never null; must be fully initialized except for one entity or element
+     * @param fittedEntityOrElement never null; must be part of the solution
+     * @param propositionFunction never null
+     * @param fetchPolicy never null
+     * @param limit at least 1, the maximum number of fits to return
+     * @return never null, sorted from best to worst, with at most {@code limit} elements
+     * @param <EntityOrElement_> generic type of the unassigned entity or element
+     * @param <Proposition_> generic type of the user-provided proposition
+     */
+    <EntityOrElement_, Proposition_> List<RecommendedFit<Proposition_, Score_>> recommendFit(Solution_ solution,
+            EntityOrElement_ fittedEntityOrElement, Function<EntityOrElement_, Proposition_> propositionFunction,
+            ScoreAnalysisFetchPolicy fetchPolicy, int limit);
+
 }
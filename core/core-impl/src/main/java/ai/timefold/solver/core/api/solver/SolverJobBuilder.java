@@ -1,11 +1,14 @@
 package ai.timefold.solver.core.api.solver;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
 
 /**
  * Provides a fluent contract that allows customization and submission of planning problems to solve.
@@ -52,6 +55,17 @@ public interface SolverJobBuilder<Solution_, ProblemId_> {
      */
     SolverJobBuilder<Solution_, ProblemId_> withProblemFinder(Function<? super ProblemId_, ? extends Solution_> problemFinder);
 
+    /**
+     * Sets the priority of the problem.
+     * When no solver thread is available, the waiting problem with the highest priority is solved first.
+     * Waiting problems with the same priority are solved in the order they were submitted.
+     *
+     * @param priority higher is solved sooner, defaults to 0
+     * @return this, never null
+     * @see ai.timefold.solver.core.config.solver.SolverManagerConfig#getParallelSolverCount()
+     */
+    SolverJobBuilder<Solution_, ProblemId_> withPriority(int priority);
+
     /**
      * Sets the best solution consumer, which may be called multiple times during the solving process.
      *
@@ -60,6 +74,35 @@ public interface SolverJobBuilder<Solution_, ProblemId_> {
      */
     SolverJobBuilder<Solution_, ProblemId_> withBestSolutionConsumer(Consumer<? super Solution_> bestSolutionConsumer);
 
+    /**
+     * Limits how often the best solution consumer is called.
+     * A new best solution found sooner than the minimum interval after the last consumed best solution
+     * is not consumed, unless an even better solution is found after that interval.
+     * The best solution at the end of the solving process is always consumed.
+     * <p>
+     * If the {@link ai.timefold.solver.core.config.solver.SolverConfig#getLazyBestSolutionCloning() best solution
+     * is cloned lazily}, a best solution that is not consumed is not even cloned.
+     *
+     * @param minimumInterval never null, not negative
+     * @return this, never null
+     */
+    SolverJobBuilder<Solution_, ProblemId_> withBestSolutionConsumerMinimumInterval(Duration minimumInterval);
+
+    /**
+     * Limits how often the best solution consumer is called.
+     * A new best solution is not consumed,
+     * unless its score improves on the score of the last consumed best solution by at least the minimum score delta.
+     * A best solution with a different {@link Score#initScore()} is always consumed,
+     * and so is the best solution at the end of the solving process.
+     * <p>
+     * If the {@link ai.timefold.solver.core.config.solver.SolverConfig#getLazyBestSolutionCloning() best solution
+     * is cloned lazily}, a best solution that is not consumed is not even cloned.
+     *
+     * @param minimumScoreDelta never null, of the same type as the score of the {@link PlanningSolution}
+     * @return this, never null
+     */
+    SolverJobBuilder<Solution_, ProblemId_> withBestSolutionConsumerMinimumScoreDelta(Score<?> minimumScoreDelta);
+
     /**
      * Sets the final best solution consumer, which is called at the end of the solving process and returns the final
      * best solution.
@@ -80,6 +123,31 @@ public interface SolverJobBuilder<Solution_, ProblemId_> {
     SolverJobBuilder<Solution_, ProblemId_>
             withExceptionHandler(BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler);
 
+    /**
+     * Periodically writes the planning variables of the best solution to a checkpoint file,
+     * so that a long solve can resume from there if it is interrupted, for example because the JVM crashed.
+     * The checkpoint is written at most once per checkpoint interval, when a new best solution is found,
+     * and once more at the end of the solving process.
+     * The planning variables are captured on the solver thread, but the file is written on a separate thread,
+     * so solving does not wait for it.
+     * The last checkpoint holds the final best solution:
+     * it is written after solving ended, before the final best solution is consumed,
+     * and it is not deleted afterwards.
+     * <p>
+     * If the checkpoint file already exists when solving starts,
+     * its planning variables are assigned to the problem before solving it,
+     * and the shadow variables are updated accordingly.
+     * Therefore, the problem must be the same planning problem as the one the checkpoint was written for,
+     * but it can be loaded from scratch, with all planning variables unassigned.
+     * Every entity, as well as every value assigned to a planning variable,
+     * must have a {@link ai.timefold.solver.core.api.domain.lookup.PlanningId} to be found again.
+     *
+     * @param checkpointFile never null, the file to write to and resume from
+     * @param checkpointInterval never null, not negative
+     * @return this, never null
+     */
+    SolverJobBuilder<Solution_, ProblemId_> withCheckpoint(Path checkpointFile, Duration checkpointInterval);
+
     /**
      * Sets the solver config override.
      *
@@ -32,7 +32,8 @@ import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyDista
 
 @XmlType(propOrder = {
         "moveSelectorConfigList",
-        "selectorProbabilityWeightFactoryClass"
+        "selectorProbabilityWeightFactoryClass",
+        "adaptiveSelection"
 })
 public class UnionMoveSelectorConfig extends NearbyAutoConfigurationMoveSelectorConfig<UnionMoveSelectorConfig> {
 
@@ -64,6 +65,7 @@ public class UnionMoveSelectorConfig extends NearbyAutoConfigurationMoveSelector
     private List<MoveSelectorConfig> moveSelectorConfigList = null;
 
     private Class<? extends SelectionProbabilityWeightFactory> selectorProbabilityWeightFactoryClass = null;
+    private Boolean adaptiveSelection = null;
 
     // ************************************************************************
     // Constructors and simple getters/setters
@@ -111,6 +113,22 @@ public class UnionMoveSelectorConfig extends NearbyAutoConfigurationMoveSelector
         this.selectorProbabilityWeightFactoryClass = selectorProbabilityWeightFactoryClass;
     }
 
+    /**
+     * If true, the probability weights of the child move selectors are learned during solving,
+     * by rewarding the child move selectors whose moves improve the score.
+     * Each {@link MoveSelectorConfig#getFixedProbabilityWeight()} then only serves as the starting point.
+     * Requires random selection.
+     *
+     * @return sometimes null, false by default
+     */
+    public Boolean getAdaptiveSelection() {
+        return adaptiveSelection;
+    }
+
+    public void setAdaptiveSelection(Boolean adaptiveSelection) {
+        this.adaptiveSelection = adaptiveSelection;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -131,6 +149,11 @@ public class UnionMoveSelectorConfig extends NearbyAutoConfigurationMoveSelector
         return this;
     }
 
+    public UnionMoveSelectorConfig withAdaptiveSelection(Boolean adaptiveSelection) {
+        this.adaptiveSelection = adaptiveSelection;
+        return this;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -149,6 +172,8 @@ public class UnionMoveSelectorConfig extends NearbyAutoConfigurationMoveSelector
                 ConfigUtils.inheritMergeableListConfig(moveSelectorConfigList, inheritedConfig.getMoveSelectorList());
         selectorProbabilityWeightFactoryClass = ConfigUtils.inheritOverwritableProperty(
                 selectorProbabilityWeightFactoryClass, inheritedConfig.getSelectorProbabilityWeightFactoryClass());
+        adaptiveSelection = ConfigUtils.inheritOverwritableProperty(adaptiveSelection,
+                inheritedConfig.getAdaptiveSelection());
         return this;
     }
 
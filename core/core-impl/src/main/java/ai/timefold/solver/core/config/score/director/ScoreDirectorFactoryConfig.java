@@ -23,6 +23,11 @@ import ai.timefold.solver.core.impl.io.jaxb.adapter.JaxbCustomPropertiesAdapter;
         "constraintProviderClass",
         "constraintProviderCustomProperties",
         "constraintStreamImplType",
+        "constraintStreamParallelPropagationThreshold",
+        "constraintStreamTupleRecycling",
+        "constraintStreamProfilingEnabled",
+        "constraintStreamFilterSpecialization",
+        "constraintStreamSessionReuse",
         "incrementalScoreCalculatorClass",
         "incrementalScoreCalculatorCustomProperties",
         "scoreDrlList",
@@ -41,6 +46,11 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     @XmlJavaTypeAdapter(JaxbCustomPropertiesAdapter.class)
     protected Map<String, String> constraintProviderCustomProperties = null;
     protected ConstraintStreamImplType constraintStreamImplType;
+    protected Integer constraintStreamParallelPropagationThreshold = null;
+    protected Boolean constraintStreamTupleRecycling = null;
+    protected Boolean constraintStreamProfilingEnabled = null;
+    protected Boolean constraintStreamFilterSpecialization = null;
+    protected Boolean constraintStreamSessionReuse = null;
 
     protected Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass = null;
 
@@ -101,6 +111,96 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.constraintStreamImplType = constraintStreamImplType;
     }
 
+    /**
+     * Opt-in for propagating independent nodes of the same layer of the constraint stream network in parallel,
+     * on the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * A layer is only propagated in parallel if at least this many tuples are waiting to be propagated in it,
+     * as the overhead of forking would otherwise outweigh the gain.
+     * Only worthwhile for large models calculated from scratch or after large problem changes.
+     * Requires that the constraint functions (filters, mappers, joiners, ...) are thread-safe.
+     *
+     * @return null to disable parallel propagation, otherwise at least 1
+     */
+    public Integer getConstraintStreamParallelPropagationThreshold() {
+        return constraintStreamParallelPropagationThreshold;
+    }
+
+    public void setConstraintStreamParallelPropagationThreshold(Integer constraintStreamParallelPropagationThreshold) {
+        this.constraintStreamParallelPropagationThreshold = constraintStreamParallelPropagationThreshold;
+    }
+
+    /**
+     * Opt-in for recycling the tuples which join nodes of the constraint stream network create,
+     * as well as the lists which track them.
+     * Once such a tuple has been retracted and propagated, it is kept and reused for the next match,
+     * instead of being left to the garbage collector.
+     * Most of these tuples only live for the duration of a single move evaluation,
+     * so recycling them relieves the garbage collector during local search.
+     *
+     * @return null or false to always allocate new tuples
+     */
+    public Boolean getConstraintStreamTupleRecycling() {
+        return constraintStreamTupleRecycling;
+    }
+
+    public void setConstraintStreamTupleRecycling(Boolean constraintStreamTupleRecycling) {
+        this.constraintStreamTupleRecycling = constraintStreamTupleRecycling;
+    }
+
+    /**
+     * Opt-in for profiling the node network of the constraint streams,
+     * to find out which nodes (and therefore which constraints) take the most time.
+     * Every node then counts the tuples it receives and measures the time it spends processing them,
+     * which slows down the score calculation.
+     *
+     * @return null or false to not profile
+     * @see ai.timefold.solver.core.api.solver.SolutionManager#profile(Object)
+     */
+    public Boolean getConstraintStreamProfilingEnabled() {
+        return constraintStreamProfilingEnabled;
+    }
+
+    public void setConstraintStreamProfilingEnabled(Boolean constraintStreamProfilingEnabled) {
+        this.constraintStreamProfilingEnabled = constraintStreamProfilingEnabled;
+    }
+
+    /**
+     * Opt-in for giving every filter of the constraint stream network a class of its own,
+     * defined at runtime as a copy of the shared filter class.
+     * Each filter then calls its predicate and its downstream nodes from call sites that only ever see a single type,
+     * which the JIT compiler can inline, instead of from call sites shared by all the filters of the network.
+     * If such a class cannot be defined (for example in a native image), the shared filter class is used instead.
+     *
+     * @return null or false to use the shared filter classes
+     */
+    public Boolean getConstraintStreamFilterSpecialization() {
+        return constraintStreamFilterSpecialization;
+    }
+
+    public void setConstraintStreamFilterSpecialization(Boolean constraintStreamFilterSpecialization) {
+        this.constraintStreamFilterSpecialization = constraintStreamFilterSpecialization;
+    }
+
+    /**
+     * Opt-in for reusing the node network of the constraint streams
+     * when a score director switches to another working solution or is closed,
+     * instead of building a new one for the next working solution.
+     * All the facts of the previous working solution are retracted from the existing nodes,
+     * which keep their indexes, queues and groups at their current capacity.
+     * Only a node network built for the same constraint weights is reused.
+     * Worthwhile for many short solves or score analyses of small solutions,
+     * where building the node network takes a large share of the time.
+     *
+     * @return null or false to always build a new node network
+     */
+    public Boolean getConstraintStreamSessionReuse() {
+        return constraintStreamSessionReuse;
+    }
+
+    public void setConstraintStreamSessionReuse(Boolean constraintStreamSessionReuse) {
+        this.constraintStreamSessionReuse = constraintStreamSessionReuse;
+    }
+
     public Class<? extends IncrementalScoreCalculator> getIncrementalScoreCalculatorClass() {
         return incrementalScoreCalculatorClass;
     }
@@ -187,6 +287,32 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         return this;
     }
 
+    public ScoreDirectorFactoryConfig
+            withConstraintStreamParallelPropagationThreshold(Integer constraintStreamParallelPropagationThreshold) {
+        this.constraintStreamParallelPropagationThreshold = constraintStreamParallelPropagationThreshold;
+        return this;
+    }
+
+    public ScoreDirectorFactoryConfig withConstraintStreamTupleRecycling(Boolean constraintStreamTupleRecycling) {
+        this.constraintStreamTupleRecycling = constraintStreamTupleRecycling;
+        return this;
+    }
+
+    public ScoreDirectorFactoryConfig withConstraintStreamProfilingEnabled(Boolean constraintStreamProfilingEnabled) {
+        this.constraintStreamProfilingEnabled = constraintStreamProfilingEnabled;
+        return this;
+    }
+
+    public ScoreDirectorFactoryConfig withConstraintStreamFilterSpecialization(Boolean constraintStreamFilterSpecialization) {
+        this.constraintStreamFilterSpecialization = constraintStreamFilterSpecialization;
+        return this;
+    }
+
+    public ScoreDirectorFactoryConfig withConstraintStreamSessionReuse(Boolean constraintStreamSessionReuse) {
+        this.constraintStreamSessionReuse = constraintStreamSessionReuse;
+        return this;
+    }
+
     public ScoreDirectorFactoryConfig
             withIncrementalScoreCalculatorClass(Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass) {
         this.incrementalScoreCalculatorClass = incrementalScoreCalculatorClass;
@@ -246,6 +372,17 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 constraintProviderCustomProperties, inheritedConfig.getConstraintProviderCustomProperties());
         constraintStreamImplType = ConfigUtils.inheritOverwritableProperty(
                 constraintStreamImplType, inheritedConfig.getConstraintStreamImplType());
+        constraintStreamParallelPropagationThreshold = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamParallelPropagationThreshold,
+                inheritedConfig.getConstraintStreamParallelPropagationThreshold());
+        constraintStreamTupleRecycling = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamTupleRecycling, inheritedConfig.getConstraintStreamTupleRecycling());
+        constraintStreamProfilingEnabled = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamProfilingEnabled, inheritedConfig.getConstraintStreamProfilingEnabled());
+        constraintStreamFilterSpecialization = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamFilterSpecialization, inheritedConfig.getConstraintStreamFilterSpecialization());
+        constraintStreamSessionReuse = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamSessionReuse, inheritedConfig.getConstraintStreamSessionReuse());
         incrementalScoreCalculatorClass = ConfigUtils.inheritOverwritableProperty(
                 incrementalScoreCalculatorClass, inheritedConfig.getIncrementalScoreCalculatorClass());
         incrementalScoreCalculatorCustomProperties = ConfigUtils.inheritMergeableMapProperty(
@@ -59,6 +59,8 @@ import ai.timefold.solver.core.impl.solver.random.RandomFactory;
 @XmlType(name = SolverConfig.XML_TYPE_NAME, propOrder = {
         "environmentMode",
         "daemon",
+        "lazyBestSolutionCloning",
+        "incrementalProblemChanges",
         "randomType",
         "randomSeed",
         "randomFactoryClass",
@@ -219,6 +221,8 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
 
     protected EnvironmentMode environmentMode = null;
     protected Boolean daemon = null;
+    protected Boolean lazyBestSolutionCloning = null;
+    protected Boolean incrementalProblemChanges = null;
     protected RandomType randomType = null;
     protected Long randomSeed = null;
     protected Class<? extends RandomFactory> randomFactoryClass = null;
@@ -311,6 +315,47 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.daemon = daemon;
     }
 
+    /**
+     * Opt-in for only cloning a new best solution when it is actually needed,
+     * for example by a {@link ai.timefold.solver.core.api.solver.event.SolverEventListener}
+     * or when {@link Solver#solve(Object)} returns.
+     * Until then, the solver only records the original values of the planning variables that change afterwards,
+     * so a best solution which is superseded by a better one before anyone needs it is never cloned.
+     * Requires that every change to a genuine or shadow variable is announced to the
+     * {@link ai.timefold.solver.core.api.score.director.ScoreDirector}.
+     *
+     * @return null or false to clone every new best solution immediately
+     */
+    public Boolean getLazyBestSolutionCloning() {
+        return lazyBestSolutionCloning;
+    }
+
+    public void setLazyBestSolutionCloning(Boolean lazyBestSolutionCloning) {
+        this.lazyBestSolutionCloning = lazyBestSolutionCloning;
+    }
+
+    /**
+     * Opt-in for applying {@link ai.timefold.solver.core.api.solver.change.ProblemChange}s
+     * that arrive during Local Search between 2 steps, into the running working solution,
+     * instead of terminating and restarting the solver.
+     * The Local Search phase then continues with its current state, for example its tabu list,
+     * and only the caches of its move selectors are rebuilt.
+     * The problem changes are applied to the best solution instead,
+     * if the working solution is worse than the best solution.
+     * <p>
+     * Problem changes arriving during any other phase, or during a multithreaded Local Search phase,
+     * still restart the solver.
+     *
+     * @return null or false to always restart the solver after problem changes
+     */
+    public Boolean getIncrementalProblemChanges() {
+        return incrementalProblemChanges;
+    }
+
+    public void setIncrementalProblemChanges(Boolean incrementalProblemChanges) {
+        this.incrementalProblemChanges = incrementalProblemChanges;
+    }
+
     public RandomType getRandomType() {
         return randomType;
     }
@@ -453,6 +498,16 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withLazyBestSolutionCloning(Boolean lazyBestSolutionCloning) {
+        this.lazyBestSolutionCloning = lazyBestSolutionCloning;
+        return this;
+    }
+
+    public SolverConfig withIncrementalProblemChanges(Boolean incrementalProblemChanges) {
+        this.incrementalProblemChanges = incrementalProblemChanges;
+        return this;
+    }
+
     public SolverConfig withRandomType(RandomType randomType) {
         this.randomType = randomType;
         return this;
@@ -654,6 +709,10 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         classLoader = ConfigUtils.inheritOverwritableProperty(classLoader, inheritedConfig.getClassLoader());
         environmentMode = ConfigUtils.inheritOverwritableProperty(environmentMode, inheritedConfig.getEnvironmentMode());
         daemon = ConfigUtils.inheritOverwritableProperty(daemon, inheritedConfig.getDaemon());
+        lazyBestSolutionCloning = ConfigUtils.inheritOverwritableProperty(lazyBestSolutionCloning,
+                inheritedConfig.getLazyBestSolutionCloning());
+        incrementalProblemChanges = ConfigUtils.inheritOverwritableProperty(incrementalProblemChanges,
+                inheritedConfig.getIncrementalProblemChanges());
         randomType = ConfigUtils.inheritOverwritableProperty(randomType, inheritedConfig.getRandomType());
         randomSeed = ConfigUtils.inheritOverwritableProperty(randomSeed, inheritedConfig.getRandomSeed());
         randomFactoryClass = ConfigUtils.inheritOverwritableProperty(randomFactoryClass,
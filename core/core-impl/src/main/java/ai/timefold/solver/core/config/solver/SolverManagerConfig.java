@@ -1,11 +1,14 @@
 package ai.timefold.solver.core.config.solver;
 
+import java.time.Duration;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
 import jakarta.xml.bind.annotation.XmlType;
+import jakarta.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import ai.timefold.solver.core.config.AbstractConfig;
+import ai.timefold.solver.core.impl.io.jaxb.adapter.JaxbDurationAdapter;
 import ai.timefold.solver.core.config.util.ConfigUtils;
 
 import org.slf4j.Logger;
@@ -13,16 +16,24 @@ import org.slf4j.LoggerFactory;
 
 @XmlType(propOrder = {
         "parallelSolverCount",
-        "threadFactoryClass"
+        "threadFactoryClass",
+        "maximumQueueSize",
+        "activeSolverCount",
+        "timeSlice"
 })
 public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
     public static final String PARALLEL_SOLVER_COUNT_AUTO = "AUTO";
+    public static final Duration DEFAULT_TIME_SLICE = Duration.ofSeconds(1L);
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SolverManagerConfig.class);
 
     protected String parallelSolverCount = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    protected Integer maximumQueueSize = null;
+    protected Integer activeSolverCount = null;
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    protected Duration timeSlice = null;
 
     // Future features:
     // throttlingDelay
@@ -51,6 +62,54 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    /**
+     * The maximum number of submitted problems that wait for a solver thread.
+     * Once that many problems are waiting, submitting another problem fails fast.
+     * Problems with a higher {@link ai.timefold.solver.core.api.solver.SolverJobBuilder#withPriority(int) priority}
+     * are solved first.
+     *
+     * @return null if unbounded
+     */
+    public Integer getMaximumQueueSize() {
+        return maximumQueueSize;
+    }
+
+    public void setMaximumQueueSize(Integer maximumQueueSize) {
+        this.maximumQueueSize = maximumQueueSize;
+    }
+
+    /**
+     * The maximum number of solver threads that are solving at the same time.
+     * If it is lower than the {@link #getParallelSolverCount() parallelSolverCount},
+     * the solver threads take turns round-robin, each solving for a {@link #getTimeSlice() time slice}
+     * before it pauses to let a waiting solver thread solve.
+     * This way, far more problems than CPU cores can be solved at the same time, with a predictable latency.
+     * <p>
+     * A paused solver still counts that time towards its time spent terminations.
+     *
+     * @return null if not capped, in which case every solver thread is solving
+     */
+    public Integer getActiveSolverCount() {
+        return activeSolverCount;
+    }
+
+    public void setActiveSolverCount(Integer activeSolverCount) {
+        this.activeSolverCount = activeSolverCount;
+    }
+
+    /**
+     * Only used if {@link #getActiveSolverCount()} is set.
+     *
+     * @return null defaults to {@link #DEFAULT_TIME_SLICE}
+     */
+    public Duration getTimeSlice() {
+        return timeSlice;
+    }
+
+    public void setTimeSlice(Duration timeSlice) {
+        this.timeSlice = timeSlice;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -65,6 +124,21 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return this;
     }
 
+    public SolverManagerConfig withMaximumQueueSize(Integer maximumQueueSize) {
+        this.maximumQueueSize = maximumQueueSize;
+        return this;
+    }
+
+    public SolverManagerConfig withActiveSolverCount(Integer activeSolverCount) {
+        this.activeSolverCount = activeSolverCount;
+        return this;
+    }
+
+    public SolverManagerConfig withTimeSlice(Duration timeSlice) {
+        this.timeSlice = timeSlice;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -83,7 +157,10 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
                     + ") resulted in a resolvedParallelSolverCount (" + resolvedParallelSolverCount
                     + ") that is lower than 1.");
         }
-        if (resolvedParallelSolverCount > availableProcessorCount) {
+        // With time slicing, only the active solvers compete for the CPUs.
+        int resolvedActiveSolverCount = activeSolverCount == null ? resolvedParallelSolverCount
+                : Math.min(activeSolverCount, resolvedParallelSolverCount);
+        if (resolvedActiveSolverCount > availableProcessorCount) {
             LOGGER.warn("The resolvedParallelSolverCount ({}) is higher "
                     + "than the availableProcessorCount ({}), which is counter-efficient.",
                     resolvedParallelSolverCount, availableProcessorCount);
@@ -92,6 +169,14 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return resolvedParallelSolverCount;
     }
 
+    public Duration resolveTimeSlice() {
+        Duration resolvedTimeSlice = timeSlice == null ? DEFAULT_TIME_SLICE : timeSlice;
+        if (resolvedTimeSlice.isNegative()) {
+            throw new IllegalArgumentException("The timeSlice (" + timeSlice + ") cannot be negative.");
+        }
+        return resolvedTimeSlice;
+    }
+
     protected int getAvailableProcessors() {
         return Runtime.getRuntime().availableProcessors();
     }
@@ -111,6 +196,11 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
                 inheritedConfig.getParallelSolverCount());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        maximumQueueSize = ConfigUtils.inheritOverwritableProperty(maximumQueueSize,
+                inheritedConfig.getMaximumQueueSize());
+        activeSolverCount = ConfigUtils.inheritOverwritableProperty(activeSolverCount,
+                inheritedConfig.getActiveSolverCount());
+        timeSlice = ConfigUtils.inheritOverwritableProperty(timeSlice, inheritedConfig.getTimeSlice());
         return this;
     }
 
@@ -53,7 +53,9 @@ public enum SolverMetric {
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF("timefold.solver.move.type.best.score.diff", new PickedMoveBestScoreDiffStatistic<>(),
             true),
     PICKED_MOVE_TYPE_STEP_SCORE_DIFF("timefold.solver.move.type.step.score.diff", new PickedMoveStepScoreDiffStatistic<>(),
-            false);
+            false),
+    CONSTRAINT_STREAM_PROFILE("timefold.solver.constraint.stream.profile", false),
+    MOVE_SELECTOR_PROBABILITY_WEIGHT("timefold.solver.move.selector.probability.weight", false);
 
     private final String meterId;
     @SuppressWarnings("rawtypes")
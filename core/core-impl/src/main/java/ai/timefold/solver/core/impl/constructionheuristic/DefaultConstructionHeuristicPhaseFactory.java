@@ -23,6 +23,7 @@ import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.util.ConfigUtils;
 import ai.timefold.solver.core.enterprise.TimefoldSolverEnterpriseService;
 import ai.timefold.solver.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
+import ai.timefold.solver.core.impl.constructionheuristic.decider.MultiThreadedConstructionHeuristicDecider;
 import ai.timefold.solver.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
 import ai.timefold.solver.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForagerFactory;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.EntityPlacer;
@@ -36,6 +37,8 @@ import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
 import ai.timefold.solver.core.impl.phase.AbstractPhaseFactory;
 import ai.timefold.solver.core.impl.solver.recaller.BestSolutionRecaller;
 import ai.timefold.solver.core.impl.solver.termination.Termination;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
+import ai.timefold.solver.core.impl.solver.thread.MoveThreadPool;
 
 public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         extends AbstractPhaseFactory<Solution_, ConstructionHeuristicPhaseConfig> {
@@ -172,9 +175,19 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         if (moveThreadCount == null) {
             decider = new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager);
         } else {
-            decider = TimefoldSolverEnterpriseService
-                    .loadOrFail(TimefoldSolverEnterpriseService.Feature.MULTITHREADED_SOLVING)
-                    .buildConstructionHeuristic(moveThreadCount, termination, forager, environmentMode, configPolicy);
+            TimefoldSolverEnterpriseService enterpriseService = TimefoldSolverEnterpriseService.load();
+            if (enterpriseService == null) {
+                // Each move thread evaluates its share of a placement's moves on its own clone of the working solution.
+                int selectedMoveBufferSize = moveThreadCount * Objects.requireNonNullElse(
+                        configPolicy.getMoveThreadBufferSize(), MoveThreadPool.DEFAULT_MOVE_THREAD_BUFFER_SIZE);
+                MoveThreadPool<Solution_> moveThreadPool = new MoveThreadPool<>(configPolicy.getLogIndentation(),
+                        configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD), moveThreadCount);
+                decider = new MultiThreadedConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination,
+                        forager, moveThreadPool, selectedMoveBufferSize);
+            } else {
+                decider = enterpriseService.buildConstructionHeuristic(moveThreadCount, termination, forager,
+                        environmentMode, configPolicy);
+            }
         }
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             decider.setAssertMoveScoreFromScratch(true);
@@ -0,0 +1,125 @@
+package ai.timefold.solver.core.impl.constructionheuristic.decider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import ai.timefold.solver.core.impl.constructionheuristic.placer.Placement;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.termination.Termination;
+import ai.timefold.solver.core.impl.solver.thread.MoveThreadPool;
+
+/**
+ * Evaluates the moves of each {@link Placement} on the move threads of a {@link MoveThreadPool}.
+ * <p>
+ * The moves are selected on the solver thread, in batches of {@link #selectedMoveBufferSize} moves.
+ * The forager then processes the scores on the solver thread in move index order,
+ * so the picked step, including the move picked among moves with the same score, does not depend
+ * on the order in which the move threads finish.
+ * After each step, every move thread does that step on its own working solution too.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MultiThreadedConstructionHeuristicDecider<Solution_> extends ConstructionHeuristicDecider<Solution_> {
+
+    protected final MoveThreadPool<Solution_> moveThreadPool;
+    protected final int selectedMoveBufferSize;
+    protected final List<Move<Solution_>> selectedMoveList;
+
+    /**
+     * @param selectedMoveBufferSize at least 1, the number of moves selected before they are evaluated together
+     */
+    public MultiThreadedConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
+            ConstructionHeuristicForager<Solution_> forager, MoveThreadPool<Solution_> moveThreadPool,
+            int selectedMoveBufferSize) {
+        super(logIndentation, termination, forager);
+        this.moveThreadPool = moveThreadPool;
+        this.selectedMoveBufferSize = selectedMoveBufferSize;
+        this.selectedMoveList = new ArrayList<>(selectedMoveBufferSize);
+    }
+
+    @Override
+    public void setAssertMoveScoreFromScratch(boolean assertMoveScoreFromScratch) {
+        super.setAssertMoveScoreFromScratch(assertMoveScoreFromScratch);
+        moveThreadPool.setAssertMoveScoreFromScratch(assertMoveScoreFromScratch);
+    }
+
+    @Override
+    public void setAssertExpectedUndoMoveScore(boolean assertExpectedUndoMoveScore) {
+        super.setAssertExpectedUndoMoveScore(assertExpectedUndoMoveScore);
+        moveThreadPool.setAssertExpectedUndoMoveScore(assertExpectedUndoMoveScore);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        moveThreadPool.start(phaseScope.getSolverScope());
+    }
+
+    @Override
+    public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
+        ConstructionHeuristicPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
+        Score<?> lastStepScore = phaseScope.getLastCompletedStepScope().getScore();
+        var moveIterator = placement.iterator();
+        int moveIndex = 0;
+        while (moveIterator.hasNext()) {
+            selectedMoveList.clear();
+            while (selectedMoveList.size() < selectedMoveBufferSize && moveIterator.hasNext()) {
+                selectedMoveList.add(moveIterator.next());
+            }
+            Score<?>[] moveScores =
+                    moveThreadPool.evaluateMoves(phaseScope.getSolverScope(), selectedMoveList, lastStepScore);
+            for (int i = 0; i < selectedMoveList.size(); i++) {
+                ConstructionHeuristicMoveScope<Solution_> moveScope =
+                        new ConstructionHeuristicMoveScope<>(stepScope, moveIndex, selectedMoveList.get(i));
+                moveIndex++;
+                moveScope.setScore(moveScores[i]);
+                forager.addMove(moveScope);
+                logger.trace("{}        Move index ({}), score ({}), move ({}).",
+                        logIndentation,
+                        moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getMove());
+                if (forager.isQuitEarly()) {
+                    break;
+                }
+            }
+            if (forager.isQuitEarly()) {
+                break;
+            }
+            phaseScope.getSolverScope().checkYielding();
+            if (termination.isPhaseTerminated(phaseScope)) {
+                break;
+            }
+        }
+        selectedMoveList.clear();
+        pickMove(stepScope);
+    }
+
+    @Override
+    public void stepEnded(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        moveThreadPool.doStep(stepScope.getPhaseScope().getSolverScope(), stepScope.getStep(), stepScope.getScore());
+    }
+
+    @Override
+    public void phaseEnded(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        moveThreadPool.shutdown("Multi-threaded Construction Heuristic");
+    }
+
+    @Override
+    public void solvingError(SolverScope<Solution_> solverScope, Exception exception) {
+        super.solvingError(solverScope, exception);
+        moveThreadPool.shutdown("Multi-threaded Construction Heuristic");
+    }
+
+}
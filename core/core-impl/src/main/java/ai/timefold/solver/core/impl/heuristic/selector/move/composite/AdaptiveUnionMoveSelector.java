@@ -0,0 +1,224 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.composite;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * A random {@link UnionMoveSelector} which learns during solving which child {@link MoveSelector}s pay off
+ * and selects from those more often.
+ * <p>
+ * After every Local Search step, the child move selector that selected the step is rewarded if that step improved
+ * the score.
+ * The quality of every child move selector that selected moves during that step moves towards its reward,
+ * so recent steps weigh more than old steps and the probability weights follow the move types
+ * that are useful in the current stage of the search.
+ * Every child move selector keeps a minimum probability weight, so a move type that only becomes useful later
+ * is still selected.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see UnionMoveSelector
+ */
+public class AdaptiveUnionMoveSelector<Solution_> extends UnionMoveSelector<Solution_> {
+
+    /**
+     * How far a single step moves the quality of a child move selector towards its reward.
+     */
+    protected static final double LEARNING_RATE = 0.1;
+    /**
+     * The part of the probability weights that is divided equally among the child move selectors.
+     */
+    protected static final double EXPLORATION_RATE = 0.1;
+
+    protected final Map<MoveSelector<Solution_>, ChildSelectorStatistic> childSelectorStatisticMap;
+    protected final Map<Move<Solution_>, ChildSelectorStatistic> stepMoveOriginMap = new IdentityHashMap<>();
+
+    /**
+     * @param childMoveSelectorList never null
+     * @param initialQualityMap never null, the quality of a child move selector before any step,
+     *        1.0 for a child move selector that is absent
+     */
+    public AdaptiveUnionMoveSelector(List<MoveSelector<Solution_>> childMoveSelectorList,
+            Map<MoveSelector<Solution_>, Double> initialQualityMap) {
+        super(childMoveSelectorList, true);
+        childSelectorStatisticMap = new LinkedHashMap<>(childMoveSelectorList.size());
+        for (MoveSelector<Solution_> moveSelector : childMoveSelectorList) {
+            double initialQuality = initialQualityMap.getOrDefault(moveSelector, 1.0);
+            if (initialQuality < 0.0) {
+                throw new IllegalArgumentException("The selector (" + this
+                        + ") has a child moveSelector (" + moveSelector
+                        + ") with a negative initial quality (" + initialQuality + ").");
+            }
+            childSelectorStatisticMap.put(moveSelector, new ChildSelectorStatistic(initialQuality));
+        }
+        resetStatistics();
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        super.solvingStarted(solverScope);
+        if (solverScope.isMetricEnabled(SolverMetric.MOVE_SELECTOR_PROBABILITY_WEIGHT)) {
+            childSelectorStatisticMap.forEach((moveSelector, statistic) -> Metrics.gauge(
+                    SolverMetric.MOVE_SELECTOR_PROBABILITY_WEIGHT.getMeterId(),
+                    buildMonitoringTags(solverScope, moveSelector),
+                    statistic, ChildSelectorStatistic::getProbabilityWeight));
+        }
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        // Every phase learns from scratch, because its move selectors might pay off differently.
+        resetStatistics();
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        if (stepScope instanceof LocalSearchStepScope<Solution_> localSearchStepScope) {
+            learn(localSearchStepScope);
+        }
+        stepMoveOriginMap.clear();
+        for (ChildSelectorStatistic statistic : childSelectorStatisticMap.values()) {
+            statistic.selectedDuringStep = false;
+        }
+        super.stepEnded(stepScope);
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        stepMoveOriginMap.clear();
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        if (solverScope.isMetricEnabled(SolverMetric.MOVE_SELECTOR_PROBABILITY_WEIGHT)) {
+            // The solver scope outlives the solve, so the gauges would never be garbage collected.
+            for (MoveSelector<Solution_> moveSelector : childSelectorStatisticMap.keySet()) {
+                Metrics.globalRegistry.remove(new Meter.Id(SolverMetric.MOVE_SELECTOR_PROBABILITY_WEIGHT.getMeterId(),
+                        buildMonitoringTags(solverScope, moveSelector),
+                        null,
+                        null,
+                        Meter.Type.GAUGE));
+            }
+        }
+        super.solvingEnded(solverScope);
+    }
+
+    private static <Solution_> Tags buildMonitoringTags(SolverScope<Solution_> solverScope,
+            MoveSelector<Solution_> moveSelector) {
+        return solverScope.getMonitoringTags().and("move.selector", moveSelector.toString());
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public Iterator<Move<Solution_>> iterator() {
+        return new BiasedRandomUnionMoveIterator<>(childMoveSelectorList,
+                moveSelector -> childSelectorStatisticMap.get(moveSelector).probabilityWeight,
+                workingRandom,
+                (moveSelector, move) -> {
+                    ChildSelectorStatistic statistic = childSelectorStatisticMap.get(moveSelector);
+                    statistic.selectedDuringStep = true;
+                    stepMoveOriginMap.put(move, statistic);
+                });
+    }
+
+    private void learn(LocalSearchStepScope<Solution_> stepScope) {
+        ChildSelectorStatistic stepOrigin = stepMoveOriginMap.get(stepScope.getStep());
+        Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        boolean improved = ((Score) stepScope.getScore()).compareTo(lastStepScore) > 0;
+        double maximumQuality = 0.0;
+        for (ChildSelectorStatistic statistic : childSelectorStatisticMap.values()) {
+            if (statistic.selectedDuringStep) {
+                double reward = (statistic == stepOrigin && improved) ? 1.0 : 0.0;
+                statistic.quality += LEARNING_RATE * (reward - statistic.quality);
+            }
+            maximumQuality = Math.max(maximumQuality, statistic.quality);
+        }
+        if (maximumQuality > 0.0) {
+            // Only the ratios matter, so keep the qualities from converging to zero during a long stagnation.
+            for (ChildSelectorStatistic statistic : childSelectorStatisticMap.values()) {
+                statistic.quality /= maximumQuality;
+            }
+        }
+        updateProbabilityWeights();
+    }
+
+    private void resetStatistics() {
+        for (ChildSelectorStatistic statistic : childSelectorStatisticMap.values()) {
+            statistic.quality = statistic.initialQuality;
+            statistic.selectedDuringStep = false;
+        }
+        updateProbabilityWeights();
+    }
+
+    private void updateProbabilityWeights() {
+        double qualityTotal = 0.0;
+        for (ChildSelectorStatistic statistic : childSelectorStatisticMap.values()) {
+            qualityTotal += statistic.quality;
+        }
+        int childCount = childSelectorStatisticMap.size();
+        for (ChildSelectorStatistic statistic : childSelectorStatisticMap.values()) {
+            if (qualityTotal == 0.0) {
+                statistic.probabilityWeight = 1.0 / childCount;
+            } else {
+                statistic.probabilityWeight = (1.0 - EXPLORATION_RATE) * statistic.quality / qualityTotal
+                        + EXPLORATION_RATE / childCount;
+            }
+        }
+    }
+
+    /**
+     * @param moveSelector never null, a child move selector
+     * @return the probability, between 0.0 and 1.0, to select from that child move selector during the next step
+     */
+    public double getProbabilityWeight(MoveSelector<Solution_> moveSelector) {
+        return childSelectorStatisticMap.get(moveSelector).probabilityWeight;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveUnion(" + childMoveSelectorList + ")";
+    }
+
+    protected static final class ChildSelectorStatistic {
+
+        private final double initialQuality;
+        private double quality;
+        private double probabilityWeight;
+        private boolean selectedDuringStep;
+
+        private ChildSelectorStatistic(double initialQuality) {
+            this.initialQuality = initialQuality;
+        }
+
+        private double getProbabilityWeight() {
+            return probabilityWeight;
+        }
+
+    }
+
+}
@@ -45,6 +45,21 @@ public class UnionMoveSelectorFactory<Solution_>
         List<MoveSelector<Solution_>> moveSelectorList =
                 buildInnerMoveSelectors(moveSelectorConfigList, configPolicy, minimumCacheType, randomSelection);
 
+        if (Boolean.TRUE.equals(config.getAdaptiveSelection())) {
+            if (!randomSelection) {
+                throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                        + ") with adaptiveSelection (" + config.getAdaptiveSelection()
+                        + ") has non-random randomSelection (" + randomSelection + ").");
+            }
+            if (config.getSelectorProbabilityWeightFactoryClass() != null) {
+                throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                        + ") with adaptiveSelection (" + config.getAdaptiveSelection()
+                        + ") cannot have a selectorProbabilityWeightFactoryClass ("
+                        + config.getSelectorProbabilityWeightFactoryClass() + ").");
+            }
+            return new AdaptiveUnionMoveSelector<>(moveSelectorList,
+                    buildFixedProbabilityWeightMap(moveSelectorConfigList, moveSelectorList));
+        }
         SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory;
         if (config.getSelectorProbabilityWeightFactoryClass() != null) {
             if (!randomSelection) {
@@ -57,15 +72,7 @@ public class UnionMoveSelectorFactory<Solution_>
                     "selectorProbabilityWeightFactoryClass", config.getSelectorProbabilityWeightFactoryClass());
         } else if (randomSelection) {
             Map<MoveSelector<Solution_>, Double> fixedProbabilityWeightMap =
-                    new HashMap<>(moveSelectorConfigList.size());
-            for (int i = 0; i < moveSelectorConfigList.size(); i++) {
-                MoveSelectorConfig<?> innerMoveSelectorConfig = moveSelectorConfigList.get(i);
-                MoveSelector<Solution_> moveSelector = moveSelectorList.get(i);
-                Double fixedProbabilityWeight = innerMoveSelectorConfig.getFixedProbabilityWeight();
-                if (fixedProbabilityWeight != null) {
-                    fixedProbabilityWeightMap.put(moveSelector, fixedProbabilityWeight);
-                }
-            }
+                    buildFixedProbabilityWeightMap(moveSelectorConfigList, moveSelectorList);
             if (fixedProbabilityWeightMap.isEmpty()) { // Will end up using UniformRandomUnionMoveIterator.
                 selectorProbabilityWeightFactory = null;
             } else { // Will end up using BiasedRandomUnionMoveIterator.
@@ -76,4 +83,18 @@ public class UnionMoveSelectorFactory<Solution_>
         }
         return new UnionMoveSelector<>(moveSelectorList, randomSelection, selectorProbabilityWeightFactory);
     }
+
+    private static <Solution_> Map<MoveSelector<Solution_>, Double> buildFixedProbabilityWeightMap(
+            List<MoveSelectorConfig> moveSelectorConfigList, List<MoveSelector<Solution_>> moveSelectorList) {
+        Map<MoveSelector<Solution_>, Double> fixedProbabilityWeightMap = new HashMap<>(moveSelectorConfigList.size());
+        for (int i = 0; i < moveSelectorConfigList.size(); i++) {
+            MoveSelectorConfig<?> innerMoveSelectorConfig = moveSelectorConfigList.get(i);
+            MoveSelector<Solution_> moveSelector = moveSelectorList.get(i);
+            Double fixedProbabilityWeight = innerMoveSelectorConfig.getFixedProbabilityWeight();
+            if (fixedProbabilityWeight != null) {
+                fixedProbabilityWeightMap.put(moveSelector, fixedProbabilityWeight);
+            }
+        }
+        return fixedProbabilityWeightMap;
+    }
 }
@@ -4,10 +4,10 @@ import java.util.Objects;
 
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
-import ai.timefold.solver.core.impl.heuristic.move.AbstractSimplifiedMove;
+import ai.timefold.solver.core.impl.heuristic.move.AbstractMove;
 import ai.timefold.solver.core.impl.score.director.VariableDescriptorAwareScoreDirector;
 
-public final class ListAssignMove<Solution_> extends AbstractSimplifiedMove<Solution_> {
+public final class ListAssignMove<Solution_> extends AbstractMove<Solution_> {
 
     private final ListVariableDescriptor<Solution_> variableDescriptor;
     private final Object planningValue;
@@ -43,6 +43,11 @@ public final class ListAssignMove<Solution_> extends AbstractSimplifiedMove<Solu
         return true;
     }
 
+    @Override
+    protected ListUnassignMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new ListUnassignMove<>(variableDescriptor, destinationEntity, destinationIndex);
+    }
+
     @Override
     protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
         var variableDescriptorAwareScoreDirector = (VariableDescriptorAwareScoreDirector<Solution_>) scoreDirector;
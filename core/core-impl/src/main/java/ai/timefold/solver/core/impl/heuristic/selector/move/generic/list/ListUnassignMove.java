@@ -4,10 +4,10 @@ import java.util.Objects;
 
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
-import ai.timefold.solver.core.impl.heuristic.move.AbstractSimplifiedMove;
+import ai.timefold.solver.core.impl.heuristic.move.AbstractMove;
 import ai.timefold.solver.core.impl.score.director.VariableDescriptorAwareScoreDirector;
 
-public class ListUnassignMove<Solution_> extends AbstractSimplifiedMove<Solution_> {
+public class ListUnassignMove<Solution_> extends AbstractMove<Solution_> {
 
     private final ListVariableDescriptor<Solution_> variableDescriptor;
     private final Object sourceEntity;
@@ -44,6 +44,11 @@ public class ListUnassignMove<Solution_> extends AbstractSimplifiedMove<Solution
         return true;
     }
 
+    @Override
+    protected ListAssignMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new ListAssignMove<>(variableDescriptor, getMovedValue(), sourceEntity, sourceIndex);
+    }
+
     @Override
     protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
         var innerScoreDirector = (VariableDescriptorAwareScoreDirector<Solution_>) scoreDirector;
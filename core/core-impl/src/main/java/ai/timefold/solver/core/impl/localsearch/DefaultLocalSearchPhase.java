@@ -7,6 +7,8 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.analysis.ConstraintProfile;
+import ai.timefold.solver.core.api.score.analysis.ConstraintStreamProfile;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
@@ -20,6 +22,7 @@ import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.impl.solver.termination.Termination;
 
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tags;
 
@@ -38,6 +41,8 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
     protected final Map<Tags, AtomicLong> constraintMatchTotalTagsToBestCount = new ConcurrentHashMap<>();
     protected final Map<Tags, List<AtomicReference<Number>>> constraintMatchTotalStepScoreMap = new ConcurrentHashMap<>();
     protected final Map<Tags, List<AtomicReference<Number>>> constraintMatchTotalBestScoreMap = new ConcurrentHashMap<>();
+    protected final Map<Tags, AtomicLong> constraintProfileTagsToNanos = new ConcurrentHashMap<>();
+    protected final Map<Tags, AtomicLong> constraintProfileTagsToTupleCount = new ConcurrentHashMap<>();
 
     private DefaultLocalSearchPhase(Builder<Solution_> builder) {
         super(builder);
@@ -94,6 +99,9 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
             doStep(stepScope);
             stepEnded(stepScope);
             phaseScope.setLastCompletedStepScope(stepScope);
+            if (decider.isProblemChangesBetweenStepsSupported() && solver.applyProblemChangesBetweenSteps(phaseScope)) {
+                decider.problemChangesApplied(phaseScope);
+            }
         }
         phaseEnded(phaseScope);
     }
@@ -172,6 +180,31 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
                 }
             }
         }
+        if (solverScope.isMetricEnabled(SolverMetric.CONSTRAINT_STREAM_PROFILE)) {
+            ConstraintStreamProfile constraintStreamProfile = stepScope.getScoreDirector().getConstraintStreamProfile();
+            if (constraintStreamProfile != null) {
+                for (ConstraintProfile constraintProfile : constraintStreamProfile.constraintProfileMap().values()) {
+                    Tags tags = solverScope.getMonitoringTags().and(
+                            "constraint.package", constraintProfile.constraintRef().packageName(),
+                            "constraint.name", constraintProfile.constraintRef().constraintName());
+                    collectConstraintProfileMetric(".time", tags, constraintProfileTagsToNanos,
+                            constraintProfile.nanosSpent());
+                    collectConstraintProfileMetric(".tuple.count", tags, constraintProfileTagsToTupleCount,
+                            constraintProfile.receivedCount());
+                }
+            }
+        }
+    }
+
+    private static void collectConstraintProfileMetric(String meterIdSuffix, Tags tags, Map<Tags, AtomicLong> valueMap,
+            long value) {
+        if (valueMap.containsKey(tags)) {
+            valueMap.get(tags).set(value);
+        } else {
+            AtomicLong atomicValue = new AtomicLong(value);
+            valueMap.put(tags, atomicValue);
+            Metrics.gauge(SolverMetric.CONSTRAINT_STREAM_PROFILE.getMeterId() + meterIdSuffix, tags, atomicValue);
+        }
     }
 
     private void collectConstraintMatchTotalMetrics(SolverMetric metric, Tags tags, Map<Tags, AtomicLong> countMap,
@@ -210,6 +243,19 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
     public void solvingEnded(SolverScope<Solution_> solverScope) {
         super.solvingEnded(solverScope);
         decider.solvingEnded(solverScope);
+        if (solverScope.isMetricEnabled(SolverMetric.CONSTRAINT_STREAM_PROFILE)) {
+            // Otherwise the gauges of every solve would stay registered in the global registry.
+            removeConstraintProfileMetrics(".time", constraintProfileTagsToNanos);
+            removeConstraintProfileMetrics(".tuple.count", constraintProfileTagsToTupleCount);
+        }
+    }
+
+    private static void removeConstraintProfileMetrics(String meterIdSuffix, Map<Tags, AtomicLong> valueMap) {
+        for (Tags tags : valueMap.keySet()) {
+            Metrics.globalRegistry.remove(new Meter.Id(SolverMetric.CONSTRAINT_STREAM_PROFILE.getMeterId() + meterIdSuffix,
+                    tags, null, null, Meter.Type.GAUGE));
+        }
+        valueMap.clear();
     }
 
     @Override
@@ -29,6 +29,7 @@ import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelectorFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.move.composite.UnionMoveSelectorFactory;
 import ai.timefold.solver.core.impl.localsearch.decider.LocalSearchDecider;
+import ai.timefold.solver.core.impl.localsearch.decider.MultiThreadedLocalSearchDecider;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AcceptorFactory;
 import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
@@ -36,6 +37,8 @@ import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForag
 import ai.timefold.solver.core.impl.phase.AbstractPhaseFactory;
 import ai.timefold.solver.core.impl.solver.recaller.BestSolutionRecaller;
 import ai.timefold.solver.core.impl.solver.termination.Termination;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
+import ai.timefold.solver.core.impl.solver.thread.MoveThreadPool;
 
 public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFactory<Solution_, LocalSearchPhaseConfig> {
 
@@ -80,10 +83,19 @@ public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFact
         if (moveThreadCount == null) {
             decider = new LocalSearchDecider<>(configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager);
         } else {
-            decider = TimefoldSolverEnterpriseService
-                    .loadOrFail(TimefoldSolverEnterpriseService.Feature.MULTITHREADED_SOLVING)
-                    .buildLocalSearch(moveThreadCount, termination, moveSelector, acceptor, forager, environmentMode,
-                            configPolicy);
+            TimefoldSolverEnterpriseService enterpriseService = TimefoldSolverEnterpriseService.load();
+            if (enterpriseService == null) {
+                // Each move thread evaluates its share of the selected moves on its own clone of the working solution.
+                int selectedMoveBufferSize = moveThreadCount * Objects.requireNonNullElse(
+                        configPolicy.getMoveThreadBufferSize(), MoveThreadPool.DEFAULT_MOVE_THREAD_BUFFER_SIZE);
+                MoveThreadPool<Solution_> moveThreadPool = new MoveThreadPool<>(configPolicy.getLogIndentation(),
+                        configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD), moveThreadCount);
+                decider = new MultiThreadedLocalSearchDecider<>(configPolicy.getLogIndentation(), termination, moveSelector,
+                        acceptor, forager, moveThreadPool, selectedMoveBufferSize);
+            } else {
+                decider = enterpriseService.buildLocalSearch(moveThreadCount, termination, moveSelector, acceptor, forager,
+                        environmentMode, configPolicy);
+            }
         }
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             decider.setAssertMoveScoreFromScratch(true);
@@ -10,6 +10,7 @@ import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.impl.solver.termination.Termination;
 
@@ -32,6 +33,11 @@ public class LocalSearchDecider<Solution_> {
     protected boolean assertMoveScoreFromScratch = false;
     protected boolean assertExpectedUndoMoveScore = false;
 
+    /**
+     * Reused for every move, if the score director, the acceptor and the forager support primitive scores.
+     */
+    protected PrimitiveScore<?> primitiveMoveScore = null;
+
     public LocalSearchDecider(String logIndentation, Termination<Solution_> termination,
             MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager) {
         this.logIndentation = logIndentation;
@@ -79,6 +85,13 @@ public class LocalSearchDecider<Solution_> {
         moveSelector.phaseStarted(phaseScope);
         acceptor.phaseStarted(phaseScope);
         forager.phaseStarted(phaseScope);
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        if (!assertMoveScoreFromScratch && scoreDirector.isPrimitiveScoreSupported()
+                && acceptor.isPrimitiveScoreSupported() && forager.isPrimitiveScoreSupported()) {
+            primitiveMoveScore = new PrimitiveScore<>(scoreDirector.getScoreDefinition());
+        } else {
+            primitiveMoveScore = null;
+        }
     }
 
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
@@ -113,19 +126,33 @@ public class LocalSearchDecider<Solution_> {
             throw new IllegalStateException("Impossible state: Local search move selector (" + moveSelector
                     + ") provided a non-doable move (" + moveScope.getMove() + ").");
         }
-        scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, score -> {
-            moveScope.setScore(score);
-            boolean accepted = acceptor.isAccepted(moveScope);
-            moveScope.setAccepted(accepted);
-            forager.addMove(moveScope);
-        });
+        if (primitiveMoveScore == null) {
+            scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, score -> {
+                moveScope.setScore(score);
+                boolean accepted = acceptor.isAccepted(moveScope);
+                moveScope.setAccepted(accepted);
+                forager.addMove(moveScope);
+            });
+        } else {
+            // Only create a Score instance for the moves which the forager might pick.
+            PrimitiveScore<Score_> moveScore = (PrimitiveScore<Score_>) primitiveMoveScore;
+            scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, moveScore, () -> {
+                boolean accepted = acceptor.isAccepted(moveScope, moveScore);
+                moveScope.setAccepted(accepted);
+                if (accepted) {
+                    moveScope.setScore(moveScore.toScore());
+                }
+                forager.addMove(moveScope, moveScore);
+            });
+        }
         if (assertExpectedUndoMoveScore) {
             scoreDirector.assertExpectedUndoMoveScore(moveScope.getMove(),
                     (Score_) moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore());
         }
         logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
                 logIndentation,
-                moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getAccepted(),
+                moveScope.getMoveIndex(), moveScope.getScore() != null ? moveScope.getScore() : primitiveMoveScore,
+                moveScope.getAccepted(),
                 moveScope.getMove());
     }
 
@@ -151,6 +178,31 @@ public class LocalSearchDecider<Solution_> {
         moveSelector.phaseEnded(phaseScope);
         acceptor.phaseEnded(phaseScope);
         forager.phaseEnded(phaseScope);
+        primitiveMoveScore = null;
+    }
+
+    /**
+     * @return false if the working solution cannot change between 2 steps,
+     *         for example because move threads keep their own copy of it
+     */
+    public boolean isProblemChangesBetweenStepsSupported() {
+        return true;
+    }
+
+    /**
+     * Called between 2 steps, after problem changes have been applied to the working solution.
+     * Rebuilds the caches of the move selector, because they might contain entities or values that no longer exist,
+     * or miss new ones.
+     * The acceptor and the forager keep their state.
+     *
+     * @param phaseScope never null
+     */
+    public void problemChangesApplied(LocalSearchPhaseScope<Solution_> phaseScope) {
+        SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(solverScope);
+        moveSelector.solvingStarted(solverScope);
+        moveSelector.phaseStarted(phaseScope);
     }
 
     public void solvingEnded(SolverScope<Solution_> solverScope) {
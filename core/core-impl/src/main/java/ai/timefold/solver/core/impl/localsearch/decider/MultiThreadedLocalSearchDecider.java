@@ -0,0 +1,146 @@
+package ai.timefold.solver.core.impl.localsearch.decider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
+import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.termination.Termination;
+import ai.timefold.solver.core.impl.solver.thread.MoveThreadPool;
+
+/**
+ * Evaluates the selected moves on the move threads of a {@link MoveThreadPool}.
+ * <p>
+ * The moves are selected on the solver thread, in batches of {@link #selectedMoveBufferSize} moves.
+ * The acceptor and the forager then process the scores on the solver thread in move index order,
+ * so the picked step does not depend on the order in which the move threads finish.
+ * After each step, every move thread does that step on its own working solution too.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecider<Solution_> {
+
+    protected final MoveThreadPool<Solution_> moveThreadPool;
+    protected final int selectedMoveBufferSize;
+    protected final List<Move<Solution_>> selectedMoveList;
+
+    /**
+     * @param selectedMoveBufferSize at least 1, the number of moves selected before they are evaluated together
+     */
+    public MultiThreadedLocalSearchDecider(String logIndentation, Termination<Solution_> termination,
+            MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager,
+            MoveThreadPool<Solution_> moveThreadPool, int selectedMoveBufferSize) {
+        super(logIndentation, termination, moveSelector, acceptor, forager);
+        this.moveThreadPool = moveThreadPool;
+        this.selectedMoveBufferSize = selectedMoveBufferSize;
+        this.selectedMoveList = new ArrayList<>(selectedMoveBufferSize);
+    }
+
+    @Override
+    public void setAssertMoveScoreFromScratch(boolean assertMoveScoreFromScratch) {
+        super.setAssertMoveScoreFromScratch(assertMoveScoreFromScratch);
+        moveThreadPool.setAssertMoveScoreFromScratch(assertMoveScoreFromScratch);
+    }
+
+    @Override
+    public void setAssertExpectedUndoMoveScore(boolean assertExpectedUndoMoveScore) {
+        super.setAssertExpectedUndoMoveScore(assertExpectedUndoMoveScore);
+        moveThreadPool.setAssertExpectedUndoMoveScore(assertExpectedUndoMoveScore);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        // Scores are calculated on the move threads, so there is no single primitive score to reuse.
+        primitiveMoveScore = null;
+        moveThreadPool.start(phaseScope.getSolverScope());
+    }
+
+    @Override
+    public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
+        LocalSearchPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
+        InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
+        Score<?> lastStepScore = phaseScope.getLastCompletedStepScope().getScore();
+        var moveIterator = moveSelector.iterator();
+        int moveIndex = 0;
+        while (moveIterator.hasNext()) {
+            selectedMoveList.clear();
+            while (selectedMoveList.size() < selectedMoveBufferSize && moveIterator.hasNext()) {
+                Move<Solution_> move = moveIterator.next();
+                if (!move.isMoveDoable(scoreDirector)) {
+                    throw new IllegalStateException("Impossible state: Local search move selector (" + moveSelector
+                            + ") provided a non-doable move (" + move + ").");
+                }
+                selectedMoveList.add(move);
+            }
+            Score<?>[] moveScores =
+                    moveThreadPool.evaluateMoves(phaseScope.getSolverScope(), selectedMoveList, lastStepScore);
+            for (int i = 0; i < selectedMoveList.size(); i++) {
+                LocalSearchMoveScope<Solution_> moveScope =
+                        new LocalSearchMoveScope<>(stepScope, moveIndex, selectedMoveList.get(i));
+                moveIndex++;
+                processMove(moveScope, moveScores[i]);
+                if (forager.isQuitEarly()) {
+                    break;
+                }
+            }
+            if (forager.isQuitEarly()) {
+                break;
+            }
+            phaseScope.getSolverScope().checkYielding();
+            if (termination.isPhaseTerminated(phaseScope)) {
+                break;
+            }
+        }
+        selectedMoveList.clear();
+        pickMove(stepScope);
+    }
+
+    private void processMove(LocalSearchMoveScope<Solution_> moveScope, Score<?> score) {
+        moveScope.setScore(score);
+        boolean accepted = acceptor.isAccepted(moveScope);
+        moveScope.setAccepted(accepted);
+        forager.addMove(moveScope);
+        logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
+                logIndentation,
+                moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getAccepted(), moveScope.getMove());
+    }
+
+    @Override
+    public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        moveThreadPool.doStep(stepScope.getPhaseScope().getSolverScope(), stepScope.getStep(), stepScope.getScore());
+    }
+
+    @Override
+    public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        moveThreadPool.shutdown("Multi-threaded Local Search");
+    }
+
+    @Override
+    public boolean isProblemChangesBetweenStepsSupported() {
+        // The move threads keep their own copy of the working solution.
+        return false;
+    }
+
+    @Override
+    public void solvingError(SolverScope<Solution_> solverScope, Exception exception) {
+        super.solvingError(solverScope, exception);
+        moveThreadPool.shutdown("Multi-threaded Local Search");
+    }
+
+}
@@ -1,9 +1,11 @@
 package ai.timefold.solver.core.impl.localsearch.decider.acceptor;
 
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
 import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
 import ai.timefold.solver.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 
 /**
  * An Acceptor accepts or rejects a selected {@link Move}.
@@ -19,4 +21,26 @@ public interface Acceptor<Solution_> extends LocalSearchPhaseLifecycleListener<S
      */
     boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * @return true if {@link #isAccepted(LocalSearchMoveScope, PrimitiveScore)} is implemented
+     */
+    default boolean isPrimitiveScoreSupported() {
+        return false;
+    }
+
+    /**
+     * As defined by {@link #isAccepted(LocalSearchMoveScope)},
+     * but for a move of which the score has not been set on the moveScope,
+     * so that no {@link Score} instance is created for moves which are not accepted.
+     * Only called if {@link #isPrimitiveScoreSupported()} is true.
+     *
+     * @param moveScope not null, {@link LocalSearchMoveScope#getScore()} is null
+     * @param moveScore not null, the score of the move
+     * @return true if accepted
+     */
+    default <Score_ extends Score<Score_>> boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope,
+            PrimitiveScore<Score_> moveScore) {
+        throw new UnsupportedOperationException("The acceptor (" + this + ") does not support primitive scores.");
+    }
+
 }
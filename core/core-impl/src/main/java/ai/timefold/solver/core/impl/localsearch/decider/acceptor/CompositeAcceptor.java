@@ -3,9 +3,11 @@ package ai.timefold.solver.core.impl.localsearch.decider.acceptor;
 import java.util.Arrays;
 import java.util.List;
 
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
 /**
@@ -61,6 +63,28 @@ public class CompositeAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
         return true;
     }
 
+    @Override
+    public boolean isPrimitiveScoreSupported() {
+        for (Acceptor<Solution_> acceptor : acceptorList) {
+            if (!acceptor.isPrimitiveScoreSupported()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public <Score_ extends Score<Score_>> boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope,
+            PrimitiveScore<Score_> moveScore) {
+        for (Acceptor<Solution_> acceptor : acceptorList) {
+            boolean accepted = acceptor.isAccepted(moveScope, moveScore);
+            if (!accepted) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         for (Acceptor<Solution_> acceptor : acceptorList) {
@@ -3,9 +3,13 @@ package ai.timefold.solver.core.impl.localsearch.decider.acceptor.hillclimbing;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 
 public class HillClimbingAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
 
+    protected PrimitiveScore<?> lastStepPrimitiveScore;
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -17,4 +21,26 @@ public class HillClimbingAcceptor<Solution_> extends AbstractAcceptor<Solution_>
         return moveScore.compareTo(lastStepScore) >= 0;
     }
 
+    @Override
+    public boolean isPrimitiveScoreSupported() {
+        return true;
+    }
+
+    @Override
+    public <Score_ extends Score<Score_>> boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope,
+            PrimitiveScore<Score_> moveScore) {
+        if (lastStepPrimitiveScore == null) {
+            lastStepPrimitiveScore = new PrimitiveScore<>(moveScore.getScoreDefinition());
+        }
+        PrimitiveScore<Score_> lastStepScore = (PrimitiveScore<Score_>) lastStepPrimitiveScore;
+        lastStepScore.updateScore((Score_) moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore());
+        return moveScore.compareTo(lastStepScore) >= 0;
+    }
+
+    @Override
+    public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        lastStepPrimitiveScore = null;
+    }
+
 }
@@ -5,6 +5,7 @@ import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAccepto
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 
 public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
 
@@ -13,6 +14,8 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
 
     protected Score[] previousScores;
     protected int lateScoreIndex = -1;
+    protected PrimitiveScore<?> latePrimitiveScore;
+    protected PrimitiveScore<?> lastStepPrimitiveScore;
 
     public void setLateAcceptanceSize(int lateAcceptanceSize) {
         this.lateAcceptanceSize = lateAcceptanceSize;
@@ -61,6 +64,34 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
         return false;
     }
 
+    @Override
+    public boolean isPrimitiveScoreSupported() {
+        return true;
+    }
+
+    @Override
+    public <Score_ extends Score<Score_>> boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope,
+            PrimitiveScore<Score_> moveScore) {
+        if (latePrimitiveScore == null) {
+            latePrimitiveScore = new PrimitiveScore<>(moveScore.getScoreDefinition());
+            lastStepPrimitiveScore = new PrimitiveScore<>(moveScore.getScoreDefinition());
+        }
+        PrimitiveScore<Score_> lateScore = (PrimitiveScore<Score_>) latePrimitiveScore;
+        lateScore.updateScore((Score_) previousScores[lateScoreIndex]);
+        if (moveScore.compareTo(lateScore) >= 0) {
+            return true;
+        }
+        if (hillClimbingEnabled) {
+            PrimitiveScore<Score_> lastStepScore = (PrimitiveScore<Score_>) lastStepPrimitiveScore;
+            lastStepScore.updateScore(
+                    (Score_) moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore());
+            if (moveScore.compareTo(lastStepScore) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
@@ -73,6 +104,8 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
         super.phaseEnded(phaseScope);
         previousScores = null;
         lateScoreIndex = -1;
+        latePrimitiveScore = null;
+        lastStepPrimitiveScore = null;
     }
 
 }
@@ -9,6 +9,7 @@ import ai.timefold.solver.core.impl.localsearch.decider.forager.finalist.Finalis
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
 /**
@@ -81,6 +82,22 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
         finalistPodium.addMove(moveScope);
     }
 
+    @Override
+    public boolean isPrimitiveScoreSupported() {
+        return finalistPodium.isPrimitiveScoreSupported();
+    }
+
+    @Override
+    public <Score_ extends Score<Score_>> void addMove(LocalSearchMoveScope<Solution_> moveScope,
+            PrimitiveScore<Score_> moveScore) {
+        selectedMoveCount++;
+        if (moveScope.getAccepted()) {
+            acceptedMoveCount++;
+            checkPickEarly(moveScope);
+        }
+        finalistPodium.addMove(moveScope, moveScore);
+    }
+
     protected void checkPickEarly(LocalSearchMoveScope<Solution_> moveScope) {
         switch (pickEarlyType) {
             case NEVER:
@@ -1,10 +1,12 @@
 package ai.timefold.solver.core.impl.localsearch.decider.forager;
 
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
 import ai.timefold.solver.core.impl.localsearch.decider.LocalSearchDecider;
 import ai.timefold.solver.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 
 /**
  * Collects the moves and picks the next step from those for the {@link LocalSearchDecider}.
@@ -23,6 +25,27 @@ public interface LocalSearchForager<Solution_> extends LocalSearchPhaseLifecycle
      */
     void addMove(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * @return true if {@link #addMove(LocalSearchMoveScope, PrimitiveScore)} is implemented
+     */
+    default boolean isPrimitiveScoreSupported() {
+        return false;
+    }
+
+    /**
+     * As defined by {@link #addMove(LocalSearchMoveScope)},
+     * but the score of a move which is not accepted has not been set on the moveScope.
+     * If such a move might still be picked, its score must be set with {@link PrimitiveScore#toScore()}.
+     * Only called if {@link #isPrimitiveScoreSupported()} is true.
+     *
+     * @param moveScope never null, {@link LocalSearchMoveScope#getScore()} is null unless the move is accepted
+     * @param moveScore never null, the score of the move, reused for the next move
+     */
+    default <Score_ extends Score<Score_>> void addMove(LocalSearchMoveScope<Solution_> moveScope,
+            PrimitiveScore<Score_> moveScore) {
+        throw new UnsupportedOperationException("The forager (" + this + ") does not support primitive scores.");
+    }
+
     /**
      * @return true if no further moves should be selected (and evaluated) for this step.
      */
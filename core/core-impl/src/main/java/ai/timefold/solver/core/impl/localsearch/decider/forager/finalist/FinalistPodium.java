@@ -2,9 +2,11 @@ package ai.timefold.solver.core.impl.localsearch.decider.forager.finalist;
 
 import java.util.List;
 
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
 import ai.timefold.solver.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 
 /**
  * A podium gathers the finalists (the {@link LocalSearchMoveScope}s which might win) and picks the winner.
@@ -21,6 +23,24 @@ public interface FinalistPodium<Solution_> extends LocalSearchPhaseLifecycleList
      */
     void addMove(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * @return true if {@link #addMove(LocalSearchMoveScope, PrimitiveScore)} is implemented
+     */
+    default boolean isPrimitiveScoreSupported() {
+        return false;
+    }
+
+    /**
+     * See {@link LocalSearchForager#addMove(LocalSearchMoveScope, PrimitiveScore)}.
+     *
+     * @param moveScope never null
+     * @param moveScore never null
+     */
+    default <Score_ extends Score<Score_>> void addMove(LocalSearchMoveScope<Solution_> moveScope,
+            PrimitiveScore<Score_> moveScore) {
+        throw new UnsupportedOperationException("The finalist podium (" + this + ") does not support primitive scores.");
+    }
+
     /**
      *
      * @return never null, sometimes empty
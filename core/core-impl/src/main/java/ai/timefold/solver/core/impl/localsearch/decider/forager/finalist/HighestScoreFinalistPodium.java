@@ -4,6 +4,7 @@ import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 
 /**
  * Default implementation of {@link FinalistPodium}.
@@ -13,6 +14,7 @@ import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 public final class HighestScoreFinalistPodium<Solution_> extends AbstractFinalistPodium<Solution_> {
 
     protected Score finalistScore;
+    protected PrimitiveScore<?> finalistPrimitiveScore;
 
     @Override
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
@@ -40,6 +42,39 @@ public final class HighestScoreFinalistPodium<Solution_> extends AbstractFinalis
         }
     }
 
+    @Override
+    public boolean isPrimitiveScoreSupported() {
+        return true;
+    }
+
+    @Override
+    public <Score_ extends Score<Score_>> void addMove(LocalSearchMoveScope<Solution_> moveScope,
+            PrimitiveScore<Score_> moveScore) {
+        if (moveScope.getAccepted()) { // Its score has been set already.
+            addMove(moveScope);
+            return;
+        }
+        if (finalistIsAccepted) {
+            return;
+        }
+        // None of the finalists are accepted, so they have all been added with a primitive score.
+        if (finalistPrimitiveScore == null) {
+            finalistPrimitiveScore = new PrimitiveScore<>(moveScore.getScoreDefinition());
+        }
+        PrimitiveScore<Score_> finalistMoveScore = (PrimitiveScore<Score_>) finalistPrimitiveScore;
+        int scoreComparison = finalistScore == null ? 1 : moveScore.compareTo(finalistMoveScore);
+        if (scoreComparison >= 0) {
+            moveScope.setScore(moveScore.toScore());
+            if (scoreComparison > 0) {
+                finalistScore = moveScope.getScore();
+                finalistMoveScore.setFrom(moveScore);
+                clearAndAddFinalist(moveScope);
+            } else {
+                addFinalist(moveScope);
+            }
+        }
+    }
+
     private int doComparison(Score moveScore) {
         if (finalistScore == null) {
             return 1;
@@ -51,6 +86,7 @@ public final class HighestScoreFinalistPodium<Solution_> extends AbstractFinalis
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
         finalistScore = null;
+        finalistPrimitiveScore = null;
     }
 
 }
@@ -2,10 +2,12 @@ package ai.timefold.solver.core.impl.score.constraint;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatch;
@@ -28,6 +30,7 @@ public final class DefaultConstraintMatchTotal<Score_ extends Score<Score_>> imp
     private final Score_ constraintWeight;
 
     private final Set<ConstraintMatch<Score_>> constraintMatchSet = new LinkedHashSet<>();
+    private List<Supplier<ConstraintMatch<Score_>>> constraintMatchSupplierList = null;
     private Score_ score;
 
     /**
@@ -82,9 +85,16 @@ public final class DefaultConstraintMatchTotal<Score_ extends Score<Score_>> imp
 
     @Override
     public Set<ConstraintMatch<Score_>> getConstraintMatchSet() {
+        materializeConstraintMatches();
         return constraintMatchSet;
     }
 
+    @Override
+    public int getConstraintMatchCount() {
+        // Does not materialize the constraint matches.
+        return constraintMatchSet.size() + (constraintMatchSupplierList == null ? 0 : constraintMatchSupplierList.size());
+    }
+
     @Override
     public Score_ getScore() {
         return score;
@@ -130,7 +140,40 @@ public final class DefaultConstraintMatchTotal<Score_ extends Score<Score_>> imp
         constraintMatchSet.add(constraintMatch);
     }
 
+    /**
+     * Adds a {@link ConstraintMatch} to the collection returned by {@link #getConstraintMatchSet()},
+     * but only creates it when that collection is first requested.
+     * Until then, only {@link #getScore()} and {@link #getConstraintMatchCount()} reflect it.
+     * This avoids creating the {@link ConstraintJustification} and the indicted objects of every constraint match
+     * if only the score of this constraint is needed.
+     * <p>
+     * The supplier might derive the constraint match from the current state of the working solution.
+     * Therefore whoever keeps this instance after that state changes
+     * must call {@link #getConstraintMatchSet()} before it does.
+     *
+     * @param constraintMatchSupplier never null, must return a new instance with the given score
+     * @param score never null
+     */
+    public void addConstraintMatch(Supplier<ConstraintMatch<Score_>> constraintMatchSupplier, Score_ score) {
+        this.score = this.score == null ? score : this.score.add(score);
+        if (constraintMatchSupplierList == null) {
+            constraintMatchSupplierList = new ArrayList<>();
+        }
+        constraintMatchSupplierList.add(constraintMatchSupplier);
+    }
+
+    private void materializeConstraintMatches() {
+        if (constraintMatchSupplierList == null) {
+            return;
+        }
+        for (var constraintMatchSupplier : constraintMatchSupplierList) {
+            constraintMatchSet.add(constraintMatchSupplier.get());
+        }
+        constraintMatchSupplierList = null;
+    }
+
     public void removeConstraintMatch(ConstraintMatch<Score_> constraintMatch) {
+        materializeConstraintMatches();
         score = score.subtract(constraintMatch.getScore());
         boolean removed = constraintMatchSet.remove(constraintMatch);
         if (!removed) {
@@ -76,6 +76,8 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     protected Solution_ workingSolution;
     private int workingInitScore = 0;
     private String undoMoveText;
+    // Null when no snapshot is being recorded
+    private WorkingSolutionSnapshot<Solution_> workingSolutionSnapshot = null;
 
     // Null when tracking disabled
     private final boolean trackingWorkingSolution;
@@ -172,6 +174,10 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         this.allChangesWillBeUndoneBeforeStepEnds = allChangesWillBeUndoneBeforeStepEnds;
     }
 
+    boolean isAllChangesWillBeUndoneBeforeStepEnds() {
+        return allChangesWillBeUndoneBeforeStepEnds;
+    }
+
     @Override
     public long getCalculationCount() {
         return calculationCount;
@@ -204,7 +210,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
      */
     @Override
     public void setWorkingSolution(Solution_ workingSolution) {
-        this.workingSolution = requireNonNull(workingSolution);
+        requireNonNull(workingSolution);
+        materializeWorkingSolutionSnapshot();
+        this.workingSolution = workingSolution;
         var solutionDescriptor = getSolutionDescriptor();
 
         /*
@@ -262,6 +270,32 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return score;
     }
 
+    @Override
+    public void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch,
+            PrimitiveScore<Score_> moveScore, Runnable moveProcessor) {
+        if (assertMoveScoreFromScratch || !isPrimitiveScoreSupported()) {
+            InnerScoreDirector.super.doAndProcessMove(move, assertMoveScoreFromScratch, moveScore, moveProcessor);
+            return;
+        }
+        Move<Solution_> undoMove = move.doMove(this);
+        calculatePrimitiveScore(moveScore);
+        calculationCount++;
+        moveProcessor.run();
+        undoMove.doMoveOnly(this);
+    }
+
+    /**
+     * Only called if {@link #isPrimitiveScoreSupported()} is true.
+     * Unlike {@link #calculateScore()}, it does not set the score on the working solution,
+     * as the move is undone before the step ends anyway.
+     *
+     * @param primitiveScore never null, receives the score
+     */
+    protected void calculatePrimitiveScore(PrimitiveScore<Score_> primitiveScore) {
+        throw new UnsupportedOperationException("The score director (" + getClass().getSimpleName()
+                + ") does not support primitive scores.");
+    }
+
     @Override
     public boolean isWorkingEntityListDirty(long expectedWorkingEntityListRevision) {
         return workingEntityListRevision != expectedWorkingEntityListRevision;
@@ -276,6 +310,31 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return cloneSolution(workingSolution);
     }
 
+    @Override
+    public WorkingSolutionSnapshot<Solution_> snapshotWorkingSolution() {
+        if (workingSolutionSnapshot != null) {
+            workingSolutionSnapshot.discard();
+        }
+        workingSolutionSnapshot = new WorkingSolutionSnapshot<>(this);
+        return workingSolutionSnapshot;
+    }
+
+    void workingSolutionSnapshotEnded(WorkingSolutionSnapshot<Solution_> snapshot) {
+        if (workingSolutionSnapshot == snapshot) {
+            workingSolutionSnapshot = null;
+        }
+    }
+
+    /**
+     * Clones the working solution for the snapshot that is being recorded, if any,
+     * before a change that the snapshot does not record.
+     */
+    private void materializeWorkingSolutionSnapshot() {
+        if (workingSolutionSnapshot != null) {
+            workingSolutionSnapshot.getSolution();
+        }
+    }
+
     @Override
     public Solution_ cloneSolution(Solution_ originalSolution) {
         SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
@@ -357,6 +416,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void close() {
+        materializeWorkingSolutionSnapshot();
         workingSolution = null;
         workingInitScore = 0;
         if (lookUpEnabled) {
@@ -370,6 +430,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     // ************************************************************************
 
     public void beforeEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        materializeWorkingSolutionSnapshot();
         variableListenerSupport.beforeEntityAdded(entityDescriptor, entity);
     }
 
@@ -392,6 +453,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             workingInitScore++;
         }
         assertInitScoreZeroOrLess();
+        if (workingSolutionSnapshot != null && !allChangesWillBeUndoneBeforeStepEnds) {
+            workingSolutionSnapshot.beforeVariableChanged(variableDescriptor, entity);
+        }
         variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
     }
 
@@ -448,6 +512,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
                             Maybe you are using an improperly implemented custom move?"""
                             .formatted(variableDescriptor, entity, fromIndex, toIndex));
         }
+        if (workingSolutionSnapshot != null && !allChangesWillBeUndoneBeforeStepEnds) {
+            workingSolutionSnapshot.beforeListVariableChanged(variableDescriptor, entity);
+        }
         variableListenerSupport.beforeListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
     }
 
@@ -458,6 +525,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     }
 
     public void beforeEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        materializeWorkingSolutionSnapshot();
         workingInitScore += entityDescriptor.countUninitializedVariables(entity);
         assertInitScoreZeroOrLess();
         variableListenerSupport.beforeEntityRemoved(entityDescriptor, entity);
@@ -481,7 +549,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void beforeProblemFactAdded(Object problemFact) {
-        // Do nothing
+        materializeWorkingSolutionSnapshot();
     }
 
     @Override
@@ -494,7 +562,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void beforeProblemPropertyChanged(Object problemFactOrEntity) {
-        // Do nothing
+        materializeWorkingSolutionSnapshot();
     }
 
     @Override
@@ -513,6 +581,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
                     ") from solution (" + workingSolution + ").\n" +
                     "Maybe use before/afterProblemPropertyChanged(...) instead.");
         }
+        materializeWorkingSolutionSnapshot();
     }
 
     @Override
@@ -14,6 +14,7 @@ import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
 import ai.timefold.solver.core.api.domain.variable.VariableListener;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.analysis.ConstraintAnalysis;
+import ai.timefold.solver.core.api.score.analysis.ConstraintStreamProfile;
 import ai.timefold.solver.core.api.score.analysis.MatchAnalysis;
 import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatch;
@@ -24,6 +25,7 @@ import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.score.stream.ConstraintJustification;
 import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
@@ -107,6 +109,32 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap();
 
+    /**
+     * Like {@link #getConstraintMatchTotalMap()},
+     * but some implementations only create the {@link ConstraintMatch}es
+     * on the first call of {@link ConstraintMatchTotal#getConstraintMatchSet()}.
+     * Use it if only the {@link ConstraintMatchTotal#getScore() scores} are needed,
+     * or if the constraint matches are needed before the working solution changes or this score director is closed.
+     *
+     * @return never null
+     * @throws IllegalStateException if {@link #isConstraintMatchEnabled()} returns false
+     */
+    default Map<String, ConstraintMatchTotal<Score_>> getLazyConstraintMatchTotalMap() {
+        return getConstraintMatchTotalMap();
+    }
+
+    /**
+     * Like {@link #getConstraintMatchTotalMap()}, but for a single {@link Constraint}.
+     * Some implementations build it without building the {@link ConstraintMatchTotal}s of the other constraints.
+     *
+     * @param constraintRef never null
+     * @return null if the constraint is not present in the problem
+     * @throws IllegalStateException if {@link #isConstraintMatchEnabled()} returns false
+     */
+    default ConstraintMatchTotal<Score_> getConstraintMatchTotal(ConstraintRef constraintRef) {
+        return getConstraintMatchTotalMap().get(constraintRef.constraintId());
+    }
+
     /**
      * Explains the impact of each planning entity or problem fact on the {@link Score}.
      * An {@link Indictment} is basically the inverse of a {@link ConstraintMatchTotal}:
@@ -126,6 +154,18 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Map<Object, Indictment<Score_>> getIndictmentMap();
 
+    /**
+     * Reports the work done by the constraint stream network since {@link #setWorkingSolution(Object)}.
+     * Call {@link #calculateScore()} before calling this method,
+     * otherwise the changes since the last score calculation are not included yet.
+     *
+     * @return null if this score director does not profile its score calculation
+     * @see ScoreDirectorFactoryConfig#getConstraintStreamProfilingEnabled()
+     */
+    default ConstraintStreamProfile getConstraintStreamProfile() {
+        return null;
+    }
+
     /**
      * @return used to check {@link #isWorkingEntityListDirty(long)} later on
      */
@@ -149,6 +189,35 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Score_ doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Consumer<Score_> moveProcessor);
 
+    /**
+     * Whether {@link #doAndProcessMove(Move, boolean, PrimitiveScore, Runnable)} calculates the score
+     * without creating a {@link Score} instance.
+     *
+     * @return false if the score type or the score calculation does not support it
+     */
+    default boolean isPrimitiveScoreSupported() {
+        return false;
+    }
+
+    /**
+     * As defined by {@link #doAndProcessMove(Move, boolean, Consumer)},
+     * but puts the score in the given carrier instead of returning it.
+     * Unless {@link #isPrimitiveScoreSupported()} is true,
+     * this is no faster than {@link #doAndProcessMove(Move, boolean, Consumer)}.
+     *
+     * @param move never null
+     * @param assertMoveScoreFromScratch true will hurt performance
+     * @param moveScore never null, receives the score of the move before the moveProcessor is called
+     * @param moveProcessor never null, use this to call the acceptor and forager
+     */
+    default void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch,
+            PrimitiveScore<Score_> moveScore, Runnable moveProcessor) {
+        doAndProcessMove(move, assertMoveScoreFromScratch, score -> {
+            moveScore.setScore(score);
+            moveProcessor.run();
+        });
+    }
+
     /**
      * @param expectedWorkingEntityListRevision an
      * @return true if the entityList might have a different set of instances now
@@ -204,6 +273,15 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Solution_ cloneWorkingSolution();
 
+    /**
+     * Like {@link #cloneWorkingSolution()}, but the planning clone is only created when it is first requested,
+     * see {@link WorkingSolutionSnapshot}.
+     * Taking a new snapshot discards the previous one, unless its solution has already been requested.
+     *
+     * @return never null
+     */
+    WorkingSolutionSnapshot<Solution_> snapshotWorkingSolution();
+
     /**
      * Returns a planning clone of the solution,
      * which is not a shallow clone nor a deep clone nor a partition clone.
@@ -353,7 +431,8 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
             }
         }
         var constraintAnalysisMap = new TreeMap<ConstraintRef, ConstraintAnalysis<Score_>>();
-        for (var constraintMatchTotal : getConstraintMatchTotalMap().values()) {
+        // The constraint analyses are built right away, so the constraint matches may be created lazily.
+        for (var constraintMatchTotal : getLazyConstraintMatchTotalMap().values()) {
             var constraintAnalysis = getConstraintAnalysis(constraintMatchTotal, analyzeConstraintMatches);
             constraintAnalysisMap.put(constraintMatchTotal.getConstraintRef(), constraintAnalysis);
         }
@@ -0,0 +1,130 @@
+package ai.timefold.solver.core.impl.score.director;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+
+/**
+ * A mutable carrier of a {@link Score} with only int or long levels,
+ * such as {@link ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore},
+ * which holds its levels as primitives.
+ * It is reused for every move of a step, so that moves can be compared
+ * without creating a {@link Score} instance for each of them.
+ * The {@link Score} is only created by {@link #toScore()},
+ * for example when the move is accepted or becomes a finalist.
+ * <p>
+ * Compares like {@link Score#compareTo(Object)} does for the built-in scores:
+ * first the {@link Score#initScore()}, then every level from the hardest to the softest.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <Score_> the score type to go with the solution
+ */
+public final class PrimitiveScore<Score_ extends Score<Score_>> implements Comparable<PrimitiveScore<Score_>> {
+
+    private final ScoreDefinition<Score_> scoreDefinition;
+    private final long[] levels;
+
+    private int initScore;
+    private Score_ score;
+
+    public PrimitiveScore(ScoreDefinition<Score_> scoreDefinition) {
+        this.scoreDefinition = scoreDefinition;
+        this.levels = new long[scoreDefinition.getLevelsSize()];
+    }
+
+    public ScoreDefinition<Score_> getScoreDefinition() {
+        return scoreDefinition;
+    }
+
+    public void setLevels(int initScore, long level) {
+        this.initScore = initScore;
+        levels[0] = level;
+        score = null;
+    }
+
+    public void setLevels(int initScore, long hardLevel, long softLevel) {
+        this.initScore = initScore;
+        levels[0] = hardLevel;
+        levels[1] = softLevel;
+        score = null;
+    }
+
+    public void setLevels(int initScore, long hardLevel, long mediumLevel, long softLevel) {
+        this.initScore = initScore;
+        levels[0] = hardLevel;
+        levels[1] = mediumLevel;
+        levels[2] = softLevel;
+        score = null;
+    }
+
+    /**
+     * Unlike the other setters, this one keeps the score, so {@link #toScore()} does not create it again.
+     *
+     * @param score never null, with only int or long levels
+     */
+    public void setScore(Score_ score) {
+        initScore = score.initScore();
+        Number[] levelNumbers = score.toLevelNumbers();
+        for (int i = 0; i < levels.length; i++) {
+            levels[i] = levelNumbers[i].longValue();
+        }
+        this.score = score;
+    }
+
+    /**
+     * Like {@link #setScore(Score)}, but does nothing if this already holds that same score instance.
+     * Use this to compare moves against a score which only changes between steps.
+     *
+     * @param score never null, with only int or long levels
+     */
+    public void updateScore(Score_ score) {
+        if (this.score != score) {
+            setScore(score);
+        }
+    }
+
+    /**
+     * @param other never null, of the same score type
+     */
+    public void setFrom(PrimitiveScore<Score_> other) {
+        initScore = other.initScore;
+        System.arraycopy(other.levels, 0, levels, 0, levels.length);
+        score = other.score;
+    }
+
+    /**
+     * Creates the {@link Score} on the first call after the levels changed.
+     *
+     * @return never null
+     */
+    public Score_ toScore() {
+        if (score == null) {
+            Number[] levelNumbers = new Number[levels.length];
+            boolean intLevels = scoreDefinition.getNumericType() == int.class;
+            for (int i = 0; i < levels.length; i++) {
+                levelNumbers[i] = intLevels ? (Number) (int) levels[i] : (Number) levels[i];
+            }
+            score = scoreDefinition.fromLevelNumbers(initScore, levelNumbers);
+        }
+        return score;
+    }
+
+    @Override
+    public int compareTo(PrimitiveScore<Score_> other) {
+        if (initScore != other.initScore) {
+            return Integer.compare(initScore, other.initScore);
+        }
+        for (int i = 0; i < levels.length; i++) {
+            if (levels[i] != other.levels[i]) {
+                return Long.compare(levels[i], other.levels[i]);
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return toScore().toString();
+    }
+
+}
@@ -0,0 +1,162 @@
+package ai.timefold.solver.core.impl.score.director;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+
+/**
+ * A planning clone of the working solution, as it was when {@link InnerScoreDirector#snapshotWorkingSolution()}
+ * was called, which is only created when {@link #getSolution()} is first called.
+ * Until then, the score director records the original value of every genuine or shadow variable
+ * the first time it changes, so the snapshot costs nothing if it is {@link #discard() discarded} in time.
+ * <p>
+ * To create the clone, those variables are temporarily reverted to their original values in the working solution,
+ * the working solution is cloned and then those variables are restored again.
+ * So the clone costs one planning clone, plus reverting and restoring every variable that changed in the meantime.
+ * <p>
+ * Changes that are undone before the step ends are not recorded,
+ * therefore {@link #getSolution()} must not be called while a move is being evaluated.
+ * Adding or removing entities or problem facts, as well as changing the working solution,
+ * creates the clone immediately.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class WorkingSolutionSnapshot<Solution_> {
+
+    private final AbstractScoreDirector<Solution_, ?, ?> scoreDirector;
+    private final Score<?> score;
+    private final Map<VariableDescriptor<Solution_>, Map<Object, Object>> originalValueMapMap = new IdentityHashMap<>();
+
+    private Solution_ solution = null;
+    private boolean discarded = false;
+
+    WorkingSolutionSnapshot(AbstractScoreDirector<Solution_, ?, ?> scoreDirector) {
+        this.scoreDirector = scoreDirector;
+        this.score = scoreDirector.getSolutionDescriptor().getScore(scoreDirector.getWorkingSolution());
+    }
+
+    void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        var originalValueMap = originalValueMapMap.computeIfAbsent(variableDescriptor, k -> new IdentityHashMap<>());
+        // The original value might be null, so putIfAbsent() would overwrite it.
+        if (!originalValueMap.containsKey(entity)) {
+            var value = variableDescriptor.getValue(entity);
+            // Collection shadow variables, such as a collection inverse relation, are changed in place.
+            if (variableDescriptor instanceof ShadowVariableDescriptor<Solution_>
+                    && value instanceof Collection<?> collection) {
+                value = new ArrayList<>(collection);
+            }
+            originalValueMap.put(entity, value);
+        }
+    }
+
+    void beforeListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        var originalValueMap = originalValueMapMap.computeIfAbsent(variableDescriptor, k -> new IdentityHashMap<>());
+        if (!originalValueMap.containsKey(entity)) {
+            originalValueMap.put(entity, new ArrayList<>(variableDescriptor.getValue(entity)));
+        }
+    }
+
+    /**
+     * Creates the planning clone on the first call.
+     *
+     * @return never null, a planning clone of the working solution as it was when this snapshot was taken
+     */
+    public Solution_ getSolution() {
+        if (solution == null) {
+            if (discarded) {
+                throw new IllegalStateException(
+                        "Impossible state: the snapshot (%s) was discarded before its solution was requested."
+                                .formatted(this));
+            }
+            if (scoreDirector.isAllChangesWillBeUndoneBeforeStepEnds()) {
+                throw new IllegalStateException(
+                        "Impossible state: the snapshot (%s) was requested while a move is being evaluated."
+                                .formatted(this));
+            }
+            var solutionDescriptor = scoreDirector.getSolutionDescriptor();
+            var workingSolution = scoreDirector.getWorkingSolution();
+            var workingScore = solutionDescriptor.getScore(workingSolution);
+            swapValues();
+            solutionDescriptor.setScore(workingSolution, score);
+            try {
+                solution = scoreDirector.cloneWorkingSolution();
+            } finally {
+                solutionDescriptor.setScore(workingSolution, workingScore);
+                swapValues();
+            }
+            stopRecording();
+        }
+        return solution;
+    }
+
+    /**
+     * Swaps the recorded values with the current values of the working solution.
+     * Calling this twice in a row leaves the working solution unchanged.
+     * List variables and collection shadow variables are swapped in place,
+     * because the working solution might hold on to their instances.
+     */
+    @SuppressWarnings("unchecked")
+    private void swapValues() {
+        for (var originalValueMapEntry : originalValueMapMap.entrySet()) {
+            var variableDescriptor = originalValueMapEntry.getKey();
+            if (variableDescriptor instanceof ListVariableDescriptor<Solution_> listVariableDescriptor) {
+                for (var entry : originalValueMapEntry.getValue().entrySet()) {
+                    var list = listVariableDescriptor.getValue(entry.getKey());
+                    var currentList = new ArrayList<>(list);
+                    list.clear();
+                    list.addAll((List<Object>) entry.getValue());
+                    entry.setValue(currentList);
+                }
+            } else {
+                for (var entry : originalValueMapEntry.getValue().entrySet()) {
+                    var entity = entry.getKey();
+                    var currentValue = variableDescriptor.getValue(entity);
+                    if (variableDescriptor instanceof ShadowVariableDescriptor<Solution_>
+                            && currentValue instanceof Collection<?> currentCollection
+                            && entry.getValue() instanceof Collection<?> recordedCollection) {
+                        var collection = (Collection<Object>) currentCollection;
+                        var currentElementList = new ArrayList<>(collection);
+                        collection.clear();
+                        collection.addAll(recordedCollection);
+                        entry.setValue(currentElementList);
+                    } else {
+                        variableDescriptor.setValue(entity, entry.getValue());
+                        entry.setValue(currentValue);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops recording the changes of the working solution, if the solution has not been requested yet.
+     * Afterwards, {@link #getSolution()} fails fast, unless it has already been called before.
+     */
+    public void discard() {
+        if (solution == null && !discarded) {
+            discarded = true;
+            stopRecording();
+        }
+    }
+
+    private void stopRecording() {
+        originalValueMapMap.clear();
+        scoreDirector.workingSolutionSnapshotEnded(this);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + score + ")";
+    }
+
+}
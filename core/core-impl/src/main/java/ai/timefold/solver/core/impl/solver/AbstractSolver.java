@@ -1,10 +1,13 @@
 package ai.timefold.solver.core.impl.solver;
 
+import java.time.Duration;
 import java.util.Iterator;
 import java.util.List;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
 import ai.timefold.solver.core.api.solver.event.SolverEventListener;
 import ai.timefold.solver.core.impl.phase.AbstractPhase;
 import ai.timefold.solver.core.impl.phase.Phase;
@@ -34,7 +37,7 @@ public abstract class AbstractSolver<Solution_> implements Solver<Solution_> {
 
     protected final transient Logger logger = LoggerFactory.getLogger(getClass());
 
-    private final SolverEventSupport<Solution_> solverEventSupport = new SolverEventSupport<>(this);
+    protected final SolverEventSupport<Solution_> solverEventSupport = new SolverEventSupport<>(this);
     private final PhaseLifecycleSupport<Solution_> phaseLifecycleSupport = new PhaseLifecycleSupport<>();
 
     protected final BestSolutionRecaller<Solution_> bestSolutionRecaller;
@@ -88,6 +91,19 @@ public abstract class AbstractSolver<Solution_> implements Solver<Solution_> {
         }
     }
 
+    /**
+     * Called by a phase between 2 steps, if it can continue after the working solution
+     * has been changed by problem changes and possibly replaced by the best solution.
+     * If this returns true, the phase must rebuild any cache that depends on the working solution,
+     * before it starts its next step.
+     *
+     * @param phaseScope never null, with a last completed step
+     * @return true if problem changes were applied
+     */
+    public boolean applyProblemChangesBetweenSteps(AbstractPhaseScope<Solution_> phaseScope) {
+        return false;
+    }
+
     public void solvingEnded(SolverScope<Solution_> solverScope) {
         for (Phase<Solution_> phase : phaseList) {
             phase.solvingEnded(solverScope);
@@ -146,6 +162,18 @@ public abstract class AbstractSolver<Solution_> implements Solver<Solution_> {
         solverEventSupport.removeEventListener(eventListener);
     }
 
+    /**
+     * Throttles the {@link BestSolutionChangedEvent}s fired to the {@link SolverEventListener}s.
+     * The last best solution is always fired when solving ends.
+     *
+     * @param minimumInterval never null, the minimum time between the best solutions of 2 events
+     * @param minimumScoreDelta sometimes null, the minimum improvement of the best score between 2 events
+     * @see SolverEventSupport#setBestSolutionEventThrottling(Duration, Score)
+     */
+    public void setBestSolutionEventThrottling(Duration minimumInterval, Score<?> minimumScoreDelta) {
+        solverEventSupport.setBestSolutionEventThrottling(minimumInterval, minimumScoreDelta);
+    }
+
     /**
      * Add a {@link PhaseLifecycleListener} that is notified
      * of {@link PhaseLifecycleListener#solvingStarted(SolverScope) solving} events
@@ -2,11 +2,13 @@ package ai.timefold.solver.core.impl.solver;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.ScoreExplanation;
+import ai.timefold.solver.core.api.score.analysis.ConstraintStreamProfile;
 import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
 import ai.timefold.solver.core.api.solver.RecommendedFit;
 import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
@@ -27,6 +29,8 @@ public final class DefaultSolutionManager<Solution_, Score_ extends Score<Score_
 
     private final DefaultSolverFactory<Solution_> solverFactory;
     private final InnerScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory;
+    private final Executor recommendFitExecutor;
+    private final int recommendFitParallelism;
 
     public <ProblemId_> DefaultSolutionManager(SolverManager<Solution_, ProblemId_> solverManager) {
         this(((DefaultSolverManager<Solution_, ProblemId_>) solverManager).getSolverFactory());
@@ -35,6 +39,20 @@ public final class DefaultSolutionManager<Solution_, Score_ extends Score<Score_
     public DefaultSolutionManager(SolverFactory<Solution_> solverFactory) {
         this.solverFactory = ((DefaultSolverFactory<Solution_>) solverFactory);
         this.scoreDirectorFactory = this.solverFactory.getScoreDirectorFactory();
+        this.recommendFitExecutor = null;
+        this.recommendFitParallelism = 1;
+    }
+
+    public DefaultSolutionManager(SolverFactory<Solution_> solverFactory, Executor recommendFitExecutor,
+            int recommendFitParallelism) {
+        if (recommendFitParallelism < 1) {
+            throw new IllegalArgumentException("The recommendFitParallelism (" + recommendFitParallelism
+                    + ") must be at least 1.");
+        }
+        this.solverFactory = ((DefaultSolverFactory<Solution_>) solverFactory);
+        this.scoreDirectorFactory = this.solverFactory.getScoreDirectorFactory();
+        this.recommendFitExecutor = Objects.requireNonNull(recommendFitExecutor);
+        this.recommendFitParallelism = recommendFitParallelism;
     }
 
     public InnerScoreDirectorFactory<Solution_, Score_> getScoreDirectorFactory() {
@@ -113,11 +131,51 @@ public final class DefaultSolutionManager<Solution_, Score_ extends Score<Score_
         return analysis;
     }
 
+    @Override
+    public ScoreAnalysis<Score_> diff(Solution_ oldSolution, Solution_ newSolution, ScoreAnalysisFetchPolicy fetchPolicy) {
+        Objects.requireNonNull(fetchPolicy, "fetchPolicy");
+        var analyzeConstraintMatches = fetchPolicy == ScoreAnalysisFetchPolicy.FETCH_ALL;
+        var diff = callScoreDirector(oldSolution, SolutionUpdatePolicy.UPDATE_ALL,
+                new ScoreAnalysisDiffer<Solution_, Score_>(newSolution, fetchPolicy), true, true);
+        if (diff == null) {
+            // The solutions differ in more than their genuine planning variables.
+            var newAnalysis = callScoreDirector(newSolution, SolutionUpdatePolicy.UPDATE_ALL,
+                    scoreDirector -> scoreDirector.buildScoreAnalysis(analyzeConstraintMatches), true, true);
+            var oldAnalysis = callScoreDirector(oldSolution, SolutionUpdatePolicy.UPDATE_ALL,
+                    scoreDirector -> scoreDirector.buildScoreAnalysis(analyzeConstraintMatches), true, true);
+            diff = newAnalysis.diff(oldAnalysis);
+        }
+        return ScoreAnalysisDiffer.removeUnchangedMatches(diff);
+    }
+
+    @Override
+    public ConstraintStreamProfile profile(Solution_ solution) {
+        return callScoreDirector(solution, SolutionUpdatePolicy.UPDATE_ALL, scoreDirector -> {
+            var profile = scoreDirector.getConstraintStreamProfile();
+            if (profile == null) {
+                throw new IllegalStateException("""
+                        Requested constraint stream profiling but score director doesn't support it.
+                        Maybe enable constraintStreamProfilingEnabled in the score director factory config?
+                        Only Constraint Streams can be profiled, Easy or Incremental score calculators can not.""");
+            }
+            return profile;
+        }, false, true);
+    }
+
     @Override
     public <In_, Out_> List<RecommendedFit<Out_, Score_>> recommendFit(Solution_ solution, In_ fittedEntityOrElement,
             Function<In_, Out_> propositionFunction, ScoreAnalysisFetchPolicy fetchPolicy) {
+        return recommendFit(solution, fittedEntityOrElement, propositionFunction, fetchPolicy, FitProcessor.NO_LIMIT);
+    }
+
+    @Override
+    public <In_, Out_> List<RecommendedFit<Out_, Score_>> recommendFit(Solution_ solution, In_ fittedEntityOrElement,
+            Function<In_, Out_> propositionFunction, ScoreAnalysisFetchPolicy fetchPolicy, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("The limit (" + limit + ") must be at least 1.");
+        }
         var fitter = new Fitter<Solution_, In_, Out_, Score_>(solverFactory, solution, fittedEntityOrElement,
-                propositionFunction, fetchPolicy);
+                propositionFunction, fetchPolicy, recommendFitExecutor, recommendFitParallelism, limit);
         return callScoreDirector(solution, SolutionUpdatePolicy.UPDATE_ALL, fitter, true, true);
     }
 
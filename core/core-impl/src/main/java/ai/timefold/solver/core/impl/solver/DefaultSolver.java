@@ -18,6 +18,7 @@ import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
 import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessor;
 import ai.timefold.solver.core.impl.phase.Phase;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirectorFactory;
 import ai.timefold.solver.core.impl.solver.change.ProblemChangeAdapter;
@@ -51,6 +52,7 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
     protected final SolverScope<Solution_> solverScope;
 
     private final String moveThreadCountDescription;
+    private boolean incrementalProblemChanges = false;
 
     // ************************************************************************
     // Constructors and simple getters/setters
@@ -84,6 +86,14 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         return solverScope;
     }
 
+    /**
+     * @param incrementalProblemChanges true to apply problem changes between Local Search steps,
+     *        see {@link #applyProblemChangesBetweenSteps(AbstractPhaseScope)}
+     */
+    public void setIncrementalProblemChanges(boolean incrementalProblemChanges) {
+        this.incrementalProblemChanges = incrementalProblemChanges;
+    }
+
     // ************************************************************************
     // Complex getters
     // ************************************************************************
@@ -118,6 +128,7 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
     @Override
     public boolean terminateEarly() {
         boolean terminationEarlySuccessful = basicPlumbingTermination.terminateEarly();
+        solverScope.wakeUpRunnableThreadWait();
         if (terminationEarlySuccessful) {
             logger.info("Terminating solver early.");
         }
@@ -206,6 +217,8 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
             } finally {
                 sample.stop();
                 unregisterSolverSpecificMetrics();
+                // Don't hold on to a runnable thread permit while waiting for problem changes.
+                solverScope.destroyYielding();
             }
             restartSolver = checkProblemFactChanges();
         }
@@ -223,6 +236,8 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
     @Override
     public void solvingStarted(SolverScope<Solution_> solverScope) {
         assertCorrectSolutionState();
+        // Waiting for a runnable thread permit does not count as time spent.
+        solverScope.initializeYielding();
         solverScope.startingNow();
         solverScope.getScoreDirector().resetCalculationCount();
         super.solvingStarted(solverScope);
@@ -332,28 +347,54 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         if (!restartSolver) {
             return false;
         } else {
-            BlockingQueue<ProblemChangeAdapter<Solution_>> problemFactChangeQueue = basicPlumbingTermination
-                    .startProblemFactChangesProcessing();
             solverScope.setWorkingSolutionFromBestSolution();
-
-            int stepIndex = 0;
-            ProblemChangeAdapter<Solution_> problemChangeAdapter = problemFactChangeQueue.poll();
-            while (problemChangeAdapter != null) {
-                problemChangeAdapter.doProblemChange(solverScope);
-                logger.debug("    Real-time problem change applied; step index ({}).", stepIndex);
-                stepIndex++;
-                problemChangeAdapter = problemFactChangeQueue.poll();
-            }
-            // All PFCs are processed, fail fast if any of the new facts have null planning IDs.
-            InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
-            assertCorrectSolutionState();
-            // Everything is fine, proceed.
-            Score<?> score = scoreDirector.calculateScore();
-            basicPlumbingTermination.endProblemFactChangesProcessing();
-            bestSolutionRecaller.updateBestSolutionAndFireIfInitialized(solverScope);
-            logger.info("Real-time problem fact changes done: step total ({}), new best score ({}).",
-                    stepIndex, score);
+            applyProblemChanges();
             return true;
         }
     }
+
+    @Override
+    public boolean applyProblemChangesBetweenSteps(AbstractPhaseScope<Solution_> phaseScope) {
+        if (!incrementalProblemChanges || basicPlumbingTermination.isEveryProblemFactChangeProcessed()
+                || basicPlumbingTermination.isTerminateEarly()) {
+            return false;
+        }
+        Score<?> workingScore = phaseScope.getLastCompletedStepScope().getScore();
+        if (((Score) workingScore).compareTo(solverScope.getBestScore()) < 0) {
+            // The problem changes must not discard a better solution.
+            solverScope.setWorkingSolutionFromBestSolution();
+        }
+        Score<?> score = applyProblemChanges();
+        if (!score.isSolutionInitialized()) {
+            // Restart, so the Construction Heuristic initializes the new entities or values.
+            basicPlumbingTermination.requestRestart();
+            return false;
+        }
+        phaseScope.getLastCompletedStepScope().setScore(score);
+        return true;
+    }
+
+    private Score<?> applyProblemChanges() {
+        BlockingQueue<ProblemChangeAdapter<Solution_>> problemFactChangeQueue = basicPlumbingTermination
+                .startProblemFactChangesProcessing();
+        int stepIndex = 0;
+        ProblemChangeAdapter<Solution_> problemChangeAdapter = problemFactChangeQueue.poll();
+        while (problemChangeAdapter != null) {
+            problemChangeAdapter.doProblemChange(solverScope);
+            logger.debug("    Real-time problem change applied; step index ({}).", stepIndex);
+            stepIndex++;
+            problemChangeAdapter = problemFactChangeQueue.poll();
+        }
+        // All PFCs are processed, fail fast if any of the new facts have null planning IDs.
+        InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
+        assertCorrectSolutionState();
+        // Everything is fine, proceed.
+        Score<?> score = scoreDirector.calculateScore();
+        basicPlumbingTermination.endProblemFactChangesProcessing();
+        solverEventSupport.problemChangesProcessed();
+        bestSolutionRecaller.updateBestSolutionAndFireIfInitialized(solverScope);
+        logger.info("Real-time problem fact changes done: step total ({}), new best score ({}).",
+                stepIndex, score);
+        return score;
+    }
 }
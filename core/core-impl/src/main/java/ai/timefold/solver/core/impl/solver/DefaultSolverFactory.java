@@ -16,6 +16,7 @@ import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristi
 import ai.timefold.solver.core.config.constructionheuristic.placer.EntityPlacerConfig;
 import ai.timefold.solver.core.config.constructionheuristic.placer.QueuedEntityPlacerConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.phase.PhaseConfig;
 import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.solver.SolverConfig;
@@ -59,6 +60,8 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
     private final SolverConfig solverConfig;
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final InnerScoreDirectorFactory<Solution_, ?> scoreDirectorFactory;
+    // Only depends on the solver config, so it is built by the first solver which needs it.
+    private volatile List<PhaseConfig> defaultPhaseConfigList = null;
 
     public DefaultSolverFactory(SolverConfig solverConfig) {
         this.solverConfig = Objects.requireNonNull(solverConfig, "The solverConfig (" + solverConfig + ") cannot be null.");
@@ -108,6 +111,8 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
 
         var moveThreadCount = resolveMoveThreadCount(true);
         var bestSolutionRecaller = BestSolutionRecallerFactory.create().<Solution_> buildBestSolutionRecaller(environmentMode);
+        bestSolutionRecaller.setLazyBestSolutionCloning(
+                Objects.requireNonNullElse(solverConfig.getLazyBestSolutionCloning(), false));
         var randomFactory = buildRandomFactory(environmentMode);
 
         var configPolicy = new HeuristicConfigPolicy.Builder<>(
@@ -124,9 +129,12 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         var termination = buildTerminationConfig(basicPlumbingTermination, configPolicy, configOverride);
         var phaseList = buildPhaseList(configPolicy, bestSolutionRecaller, termination);
 
-        return new DefaultSolver<>(environmentMode, randomFactory, bestSolutionRecaller, basicPlumbingTermination,
+        var solver = new DefaultSolver<>(environmentMode, randomFactory, bestSolutionRecaller, basicPlumbingTermination,
                 termination, phaseList, solverScope,
                 moveThreadCount == null ? SolverConfig.MOVE_THREAD_COUNT_NONE : Integer.toString(moveThreadCount));
+        solver.setIncrementalProblemChanges(
+                Objects.requireNonNullElse(solverConfig.getIncrementalProblemChanges(), false));
+        return solver;
     }
 
     public Integer resolveMoveThreadCount(boolean enforceMaximum) {
@@ -181,6 +189,13 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         ScoreDirectorFactoryConfig scoreDirectorFactoryConfig_ =
                 Objects.requireNonNullElseGet(solverConfig.getScoreDirectorFactoryConfig(),
                         ScoreDirectorFactoryConfig::new);
+        if (solverConfig.determineMetricConfig().getSolverMetricList().contains(SolverMetric.CONSTRAINT_STREAM_PROFILE)
+                && !Objects.requireNonNullElse(scoreDirectorFactoryConfig_.getConstraintStreamProfilingEnabled(), false)) {
+            LOGGER.info("Enabling constraint stream profiling as required by the enabled metric ({}). "
+                    + "This will impact solver performance.", SolverMetric.CONSTRAINT_STREAM_PROFILE);
+            scoreDirectorFactoryConfig_ = scoreDirectorFactoryConfig_.copyConfig()
+                    .withConstraintStreamProfilingEnabled(true);
+        }
         ScoreDirectorFactoryFactory<Solution_, ?> scoreDirectorFactoryFactory =
                 new ScoreDirectorFactoryFactory<>(scoreDirectorFactoryConfig_);
         return scoreDirectorFactoryFactory.buildScoreDirectorFactory(solverConfig.getClassLoader(), environmentMode,
@@ -212,44 +227,54 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
             BestSolutionRecaller<Solution_> bestSolutionRecaller, Termination<Solution_> termination) {
         var phaseConfigList = solverConfig.getPhaseConfigList();
         if (ConfigUtils.isEmptyCollection(phaseConfigList)) {
-            var genuineEntityDescriptorCollection = configPolicy.getSolutionDescriptor().getGenuineEntityDescriptors();
-            var listVariableDescriptor = configPolicy.getSolutionDescriptor().getListVariableDescriptor();
-            var entityClassToListVariableDescriptorListMap =
-                    listVariableDescriptor == null ? Collections.<Class<?>, List<ListVariableDescriptor<Solution_>>> emptyMap()
-                            : Collections.singletonMap(listVariableDescriptor.getEntityDescriptor().getEntityClass(),
-                                    List.of(listVariableDescriptor));
-
-            phaseConfigList = new ArrayList<>(genuineEntityDescriptorCollection.size() + 1);
-            for (var genuineEntityDescriptor : genuineEntityDescriptorCollection) {
-                var constructionHeuristicPhaseConfig = new ConstructionHeuristicPhaseConfig();
-                EntityPlacerConfig<?> entityPlacerConfig;
-
-                if (entityClassToListVariableDescriptorListMap.containsKey(genuineEntityDescriptor.getEntityClass())) {
-                    var listVariableDescriptorList =
-                            entityClassToListVariableDescriptorListMap.get(genuineEntityDescriptor.getEntityClass());
-                    if (listVariableDescriptorList.size() != 1) {
-                        // TODO: Do multiple Construction Heuristics for each list variable descriptor?
-                        throw new IllegalArgumentException(
-                                "Construction Heuristic phase does not support multiple list variables ("
-                                        + listVariableDescriptorList + ") for planning entity (" +
-                                        genuineEntityDescriptor.getEntityClass() + ").");
-                    }
-                    entityPlacerConfig =
-                            DefaultConstructionHeuristicPhaseFactory.buildListVariableQueuedValuePlacerConfig(configPolicy,
-                                    listVariableDescriptorList.get(0));
-                } else {
-                    entityPlacerConfig = new QueuedEntityPlacerConfig().withEntitySelectorConfig(AbstractFromConfigFactory
-                            .getDefaultEntitySelectorConfigForEntity(configPolicy, genuineEntityDescriptor));
-                }
-
-                constructionHeuristicPhaseConfig.setEntityPlacerConfig(entityPlacerConfig);
-                phaseConfigList.add(constructionHeuristicPhaseConfig);
+            // Configs are never modified by the phase factories, so all solvers can share the default ones.
+            phaseConfigList = defaultPhaseConfigList;
+            if (phaseConfigList == null) {
+                phaseConfigList = buildDefaultPhaseConfigList(configPolicy);
+                defaultPhaseConfigList = phaseConfigList;
             }
-            phaseConfigList.add(new LocalSearchPhaseConfig());
         }
         return PhaseFactory.buildPhases(phaseConfigList, configPolicy, bestSolutionRecaller, termination);
     }
 
+    private List<PhaseConfig> buildDefaultPhaseConfigList(HeuristicConfigPolicy<Solution_> configPolicy) {
+        var genuineEntityDescriptorCollection = configPolicy.getSolutionDescriptor().getGenuineEntityDescriptors();
+        var listVariableDescriptor = configPolicy.getSolutionDescriptor().getListVariableDescriptor();
+        var entityClassToListVariableDescriptorListMap =
+                listVariableDescriptor == null ? Collections.<Class<?>, List<ListVariableDescriptor<Solution_>>> emptyMap()
+                        : Collections.singletonMap(listVariableDescriptor.getEntityDescriptor().getEntityClass(),
+                                List.of(listVariableDescriptor));
+
+        var phaseConfigList = new ArrayList<PhaseConfig>(genuineEntityDescriptorCollection.size() + 1);
+        for (var genuineEntityDescriptor : genuineEntityDescriptorCollection) {
+            var constructionHeuristicPhaseConfig = new ConstructionHeuristicPhaseConfig();
+            EntityPlacerConfig<?> entityPlacerConfig;
+
+            if (entityClassToListVariableDescriptorListMap.containsKey(genuineEntityDescriptor.getEntityClass())) {
+                var listVariableDescriptorList =
+                        entityClassToListVariableDescriptorListMap.get(genuineEntityDescriptor.getEntityClass());
+                if (listVariableDescriptorList.size() != 1) {
+                    // TODO: Do multiple Construction Heuristics for each list variable descriptor?
+                    throw new IllegalArgumentException(
+                            "Construction Heuristic phase does not support multiple list variables ("
+                                    + listVariableDescriptorList + ") for planning entity (" +
+                                    genuineEntityDescriptor.getEntityClass() + ").");
+                }
+                entityPlacerConfig =
+                        DefaultConstructionHeuristicPhaseFactory.buildListVariableQueuedValuePlacerConfig(configPolicy,
+                                listVariableDescriptorList.get(0));
+            } else {
+                entityPlacerConfig = new QueuedEntityPlacerConfig().withEntitySelectorConfig(AbstractFromConfigFactory
+                        .getDefaultEntitySelectorConfigForEntity(configPolicy, genuineEntityDescriptor));
+            }
+
+            constructionHeuristicPhaseConfig.setEntityPlacerConfig(entityPlacerConfig);
+            phaseConfigList.add(constructionHeuristicPhaseConfig);
+        }
+        phaseConfigList.add(new LocalSearchPhaseConfig());
+        return Collections.unmodifiableList(phaseConfigList);
+    }
+
     // Required for testability as final classes cannot be mocked.
     static class MoveThreadCountResolver {
 
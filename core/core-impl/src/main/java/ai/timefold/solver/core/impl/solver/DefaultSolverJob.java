@@ -1,5 +1,8 @@
 package ai.timefold.solver.core.impl.solver;
 
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.UUID;
@@ -8,7 +11,10 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
@@ -48,10 +54,15 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     private volatile SolverStatus solverStatus;
     private final CountDownLatch terminatedLatch;
     private final ReentrantLock solverStatusModifyingLock;
-    private Future<Solution_> finalBestSolutionFuture;
+    private FutureTask<Solution_> finalBestSolutionFuture;
     private ConsumerSupport<Solution_, ProblemId_> consumerSupport;
     private final AtomicBoolean terminatedEarly = new AtomicBoolean(false);
     private final BestSolutionHolder<Solution_> bestSolutionHolder = new BestSolutionHolder<>();
+    private SolutionCheckpoint<Solution_> solutionCheckpoint = null; // Null if checkpointing is disabled.
+    private Path checkpointFile = null;
+    private ExecutorService checkpointExecutor = null; // Writes the checkpoint file, so the solver thread does not wait.
+    private long checkpointIntervalNanos = 0L;
+    private long lastCheckpointNanos = 0L;
 
     public DefaultSolverJob(
             DefaultSolverManager<Solution_, ProblemId_> solverManager,
@@ -76,10 +87,22 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         solverStatusModifyingLock = new ReentrantLock();
     }
 
-    public void setFinalBestSolutionFuture(Future<Solution_> finalBestSolutionFuture) {
+    public void setFinalBestSolutionFuture(FutureTask<Solution_> finalBestSolutionFuture) {
         this.finalBestSolutionFuture = finalBestSolutionFuture;
     }
 
+    /**
+     * @param checkpointFile never null
+     * @param checkpointInterval never null, not negative
+     * @see ai.timefold.solver.core.api.solver.SolverJobBuilder#withCheckpoint(Path, Duration)
+     */
+    public void setCheckpoint(Path checkpointFile, Duration checkpointInterval) {
+        this.solutionCheckpoint = new SolutionCheckpoint<>(solver.getSolverScope().getSolutionDescriptor());
+        this.checkpointFile = checkpointFile;
+        this.checkpointIntervalNanos = checkpointInterval.toNanos();
+        this.checkpointExecutor = Executors.newSingleThreadExecutor();
+    }
+
     @Override
     public ProblemId_ getProblemId() {
         return problemId;
@@ -106,10 +129,17 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
                     exceptionHandler, bestSolutionHolder);
 
             Solution_ problem = problemFinder.apply(problemId);
+            if (solutionCheckpoint != null) {
+                resumeFromCheckpoint(problem);
+            }
             // add a phase lifecycle listener that unlock the solver status lock when solving started
             solver.addPhaseLifecycleListener(new UnlockLockPhaseLifecycleListener());
             solver.addEventListener(this::onBestSolutionChangedEvent);
             final Solution_ finalBestSolution = solver.solve(problem);
+            if (solutionCheckpoint != null) {
+                writeCheckpoint(finalBestSolution);
+                awaitCheckpointWrites();
+            }
             consumerSupport.consumeFinalBestSolution(finalBestSolution);
             return finalBestSolution;
         } catch (Throwable e) {
@@ -126,13 +156,63 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
                 // 3. The case NOT_SOLVING does nothing
                 solverStatusModifyingLock.unlock();
             }
+            if (checkpointExecutor != null) {
+                checkpointExecutor.shutdown(); // The checkpoint files being written are finished.
+            }
             solvingTerminated();
         }
     }
 
+    private void resumeFromCheckpoint(Solution_ problem) {
+        lastCheckpointNanos = System.nanoTime();
+        if (!Files.exists(checkpointFile)) {
+            return;
+        }
+        LOGGER.info("Resuming problemId ({}) from the checkpoint file ({}).", problemId, checkpointFile);
+        solutionCheckpoint.restore(checkpointFile, problem);
+        // The checkpoint only holds the genuine variables.
+        try (var scoreDirector = solver.getScoreDirectorFactory().buildScoreDirector(false, false, false)) {
+            scoreDirector.setWorkingSolution(problem);
+            scoreDirector.forceTriggerVariableListeners();
+        }
+    }
+
     private void onBestSolutionChangedEvent(BestSolutionChangedEvent<Solution_> bestSolutionChangedEvent) {
         consumerSupport.consumeIntermediateBestSolution(bestSolutionChangedEvent.getNewBestSolution(),
                 () -> bestSolutionChangedEvent.isEveryProblemChangeProcessed());
+        if (solutionCheckpoint != null && System.nanoTime() - lastCheckpointNanos >= checkpointIntervalNanos) {
+            writeCheckpoint(bestSolutionChangedEvent.getNewBestSolution());
+        }
+    }
+
+    private void writeCheckpoint(Solution_ bestSolution) {
+        var snapshot = solutionCheckpoint.snapshot(bestSolution);
+        checkpointExecutor.execute(() -> {
+            try {
+                solutionCheckpoint.write(snapshot, checkpointFile);
+            } catch (UncheckedIOException e) {
+                // Solving can continue, it will try again later.
+                LOGGER.warn("Writing the checkpoint file ({}) failed for problemId ({}).", checkpointFile, problemId, e);
+            }
+        });
+        lastCheckpointNanos = System.nanoTime();
+    }
+
+    /**
+     * Once the final best solution is consumed, the checkpoint file holds it.
+     */
+    private void awaitCheckpointWrites() {
+        checkpointExecutor.shutdown();
+        try {
+            if (!checkpointExecutor.awaitTermination(1L, TimeUnit.MINUTES)) {
+                LOGGER.warn("Writing the checkpoint file ({}) did not finish in time for problemId ({}).",
+                        checkpointFile, problemId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted when waiting for the checkpoint file (" + checkpointFile
+                    + ") to be written.", e);
+        }
     }
 
     private void solvingTerminated() {
@@ -161,11 +241,15 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     @Override
     public void terminateEarly() {
         terminatedEarly.set(true);
+        // Before solving started, the solver might wait for a runnable thread permit while this job is locked.
+        solver.getSolverScope().wakeUpRunnableThreadWait();
         try {
             solverStatusModifyingLock.lock();
             switch (solverStatus) {
                 case SOLVING_SCHEDULED:
                     finalBestSolutionFuture.cancel(false);
+                    // Otherwise the cancelled job would keep its place in the bounded queue until a solver thread is free.
+                    solverManager.removeScheduledSolverJob(finalBestSolutionFuture);
                     solvingTerminated();
                     break;
                 case SOLVING_ACTIVE:
@@ -239,6 +323,9 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     }
 
     void close() {
+        if (checkpointExecutor != null) {
+            checkpointExecutor.shutdownNow();
+        }
         if (consumerSupport != null) {
             consumerSupport.close();
             consumerSupport = null;
@@ -269,6 +356,11 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     private final class UnlockLockPhaseLifecycleListener extends PhaseLifecycleListenerAdapter<Solution_> {
         @Override
         public void solvingStarted(SolverScope<Solution_> solverScope) {
+            if (terminatedEarly.get()) {
+                // Terminated while the solver started, possibly without a runnable thread permit,
+                // so the solver must not run any phase.
+                solver.terminateEarly();
+            }
             // The solvingStarted event can be emitted as a result of addProblemChange().
             if (solverStatusModifyingLock.isLocked()) {
                 solverStatusModifyingLock.unlock();
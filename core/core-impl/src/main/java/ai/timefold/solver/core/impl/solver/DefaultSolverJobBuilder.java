@@ -1,5 +1,7 @@
 package ai.timefold.solver.core.impl.solver;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.function.BiConsumer;
@@ -7,6 +9,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.SolverConfigOverride;
 import ai.timefold.solver.core.api.solver.SolverJob;
 import ai.timefold.solver.core.api.solver.SolverJobBuilder;
@@ -20,10 +23,15 @@ public final class DefaultSolverJobBuilder<Solution_, ProblemId_> implements Sol
     private final DefaultSolverManager<Solution_, ProblemId_> solverManager;
     private ProblemId_ problemId;
     private Function<? super ProblemId_, ? extends Solution_> problemFinder;
+    private int priority = 0;
     private Consumer<? super Solution_> bestSolutionConsumer;
     private Consumer<? super Solution_> finalBestSolutionConsumer;
     private BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
     private SolverConfigOverride<Solution_> solverConfigOverride;
+    private Duration bestSolutionConsumerMinimumInterval = Duration.ZERO;
+    private Score<?> bestSolutionConsumerMinimumScoreDelta;
+    private Path checkpointFile;
+    private Duration checkpointInterval;
 
     public DefaultSolverJobBuilder(DefaultSolverManager<Solution_, ProblemId_> solverManager) {
         this.solverManager = Objects.requireNonNull(solverManager, "The SolverManager (" + solverManager + ") cannot be null.");
@@ -42,6 +50,12 @@ public final class DefaultSolverJobBuilder<Solution_, ProblemId_> implements Sol
         return this;
     }
 
+    @Override
+    public SolverJobBuilder<Solution_, ProblemId_> withPriority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
     @Override
     public SolverJobBuilder<Solution_, ProblemId_> withBestSolutionConsumer(Consumer<? super Solution_> bestSolutionConsumer) {
         this.bestSolutionConsumer =
@@ -49,6 +63,24 @@ public final class DefaultSolverJobBuilder<Solution_, ProblemId_> implements Sol
         return this;
     }
 
+    @Override
+    public SolverJobBuilder<Solution_, ProblemId_> withBestSolutionConsumerMinimumInterval(Duration minimumInterval) {
+        Objects.requireNonNull(minimumInterval, "Invalid minimumInterval (null) given to SolverJobBuilder.");
+        if (minimumInterval.isNegative()) {
+            throw new IllegalArgumentException(
+                    "Invalid minimumInterval (" + minimumInterval + ") given to SolverJobBuilder, it cannot be negative.");
+        }
+        this.bestSolutionConsumerMinimumInterval = minimumInterval;
+        return this;
+    }
+
+    @Override
+    public SolverJobBuilder<Solution_, ProblemId_> withBestSolutionConsumerMinimumScoreDelta(Score<?> minimumScoreDelta) {
+        this.bestSolutionConsumerMinimumScoreDelta =
+                Objects.requireNonNull(minimumScoreDelta, "Invalid minimumScoreDelta (null) given to SolverJobBuilder.");
+        return this;
+    }
+
     @Override
     public SolverJobBuilder<Solution_, ProblemId_>
             withFinalBestSolutionConsumer(Consumer<? super Solution_> finalBestSolutionConsumer) {
@@ -65,6 +97,19 @@ public final class DefaultSolverJobBuilder<Solution_, ProblemId_> implements Sol
         return this;
     }
 
+    @Override
+    public SolverJobBuilder<Solution_, ProblemId_> withCheckpoint(Path checkpointFile, Duration checkpointInterval) {
+        this.checkpointFile =
+                Objects.requireNonNull(checkpointFile, "Invalid checkpointFile (null) given to SolverJobBuilder.");
+        Objects.requireNonNull(checkpointInterval, "Invalid checkpointInterval (null) given to SolverJobBuilder.");
+        if (checkpointInterval.isNegative()) {
+            throw new IllegalArgumentException("Invalid checkpointInterval (" + checkpointInterval
+                    + ") given to SolverJobBuilder, it cannot be negative.");
+        }
+        this.checkpointInterval = checkpointInterval;
+        return this;
+    }
+
     @Override
     public SolverJobBuilder<Solution_, ProblemId_> withConfigOverride(SolverConfigOverride<Solution_> solverConfigOverride) {
         this.solverConfigOverride =
@@ -81,10 +126,12 @@ public final class DefaultSolverJobBuilder<Solution_, ProblemId_> implements Sol
 
         if (this.bestSolutionConsumer == null) {
             return solverManager.solve(problemId, problemFinder, null, finalBestSolutionConsumer,
-                    exceptionHandler, solverConfigOverride);
+                    exceptionHandler, solverConfigOverride, priority, bestSolutionConsumerMinimumInterval,
+                    bestSolutionConsumerMinimumScoreDelta, checkpointFile, checkpointInterval);
         } else {
             return solverManager.solveAndListen(problemId, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
-                    exceptionHandler, solverConfigOverride);
+                    exceptionHandler, solverConfigOverride, priority, bestSolutionConsumerMinimumInterval,
+                    bestSolutionConsumerMinimumScoreDelta, checkpointFile, checkpointInterval);
         }
     }
 }
@@ -1,19 +1,28 @@
 package ai.timefold.solver.core.impl.solver;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.api.solver.SolverConfigOverride;
 import ai.timefold.solver.core.api.solver.SolverFactory;
@@ -37,7 +46,10 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
 
     private final BiConsumer<ProblemId_, Throwable> defaultExceptionHandler;
     private final SolverFactory<Solution_> solverFactory;
-    private final ExecutorService solverThreadPool;
+    private final ThreadPoolExecutor solverThreadPool;
+    private final AtomicLong submissionSequence = new AtomicLong();
+    private final Semaphore runnableSolverSemaphore;
+    private final long timeSliceMillis;
     private final ConcurrentMap<Object, DefaultSolverJob<Solution_, ProblemId_>> problemIdToSolverJobMap;
 
     public DefaultSolverManager(SolverFactory<Solution_> solverFactory,
@@ -47,7 +59,22 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         this.solverFactory = solverFactory;
         validateSolverFactory();
         int parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
-        solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
+        Integer maximumQueueSize = solverManagerConfig.getMaximumQueueSize();
+        if (maximumQueueSize != null && maximumQueueSize < 0) {
+            throw new IllegalArgumentException("The maximumQueueSize (" + maximumQueueSize + ") cannot be negative.");
+        }
+        BlockingQueue<Runnable> solverJobQueue = maximumQueueSize == null ? new PriorityBlockingQueue<>()
+                : new BoundedPriorityBlockingQueue<>(maximumQueueSize);
+        solverThreadPool = new ThreadPoolExecutor(parallelSolverCount, parallelSolverCount, 0L, TimeUnit.MILLISECONDS,
+                solverJobQueue);
+        Integer activeSolverCount = solverManagerConfig.getActiveSolverCount();
+        if (activeSolverCount != null && activeSolverCount < 1) {
+            throw new IllegalArgumentException("The activeSolverCount (" + activeSolverCount + ") cannot be lower than 1.");
+        }
+        // A fair semaphore, so the solver threads take turns round-robin.
+        runnableSolverSemaphore = activeSolverCount == null || activeSolverCount >= parallelSolverCount ? null
+                : new Semaphore(activeSolverCount, true);
+        timeSliceMillis = solverManagerConfig.resolveTimeSlice().toMillis();
         problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
     }
 
@@ -77,12 +104,15 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
-            SolverConfigOverride<Solution_> solverConfigOverride) {
+            SolverConfigOverride<Solution_> solverConfigOverride, int priority,
+            Duration bestSolutionConsumerMinimumInterval, Score<?> bestSolutionConsumerMinimumScoreDelta,
+            Path checkpointFile, Duration checkpointInterval) {
         if (bestSolutionConsumer == null) {
             throw new IllegalStateException("The consumer bestSolutionConsumer is required.");
         }
         return solve(getProblemIdOrThrow(problemId), problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
-                exceptionHandler, solverConfigOverride);
+                exceptionHandler, solverConfigOverride, priority, bestSolutionConsumerMinimumInterval,
+                bestSolutionConsumerMinimumScoreDelta, checkpointFile, checkpointInterval);
     }
 
     protected SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
@@ -90,9 +120,13 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
-            SolverConfigOverride<Solution_> configOverride) {
+            SolverConfigOverride<Solution_> configOverride, int priority,
+            Duration bestSolutionConsumerMinimumInterval, Score<?> bestSolutionConsumerMinimumScoreDelta,
+            Path checkpointFile, Duration checkpointInterval) {
         Solver<Solution_> solver = solverFactory.buildSolver(configOverride);
         ((DefaultSolver<Solution_>) solver).setMonitorTagMap(Map.of("problem.id", problemId.toString()));
+        ((DefaultSolver<Solution_>) solver).setBestSolutionEventThrottling(bestSolutionConsumerMinimumInterval,
+                bestSolutionConsumerMinimumScoreDelta);
         BiConsumer<? super ProblemId_, ? super Throwable> finalExceptionHandler = (exceptionHandler != null)
                 ? exceptionHandler
                 : defaultExceptionHandler;
@@ -106,8 +140,25 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
                                 bestSolutionConsumer, finalBestSolutionConsumer, finalExceptionHandler);
                     }
                 });
-        Future<Solution_> future = solverThreadPool.submit(solverJob);
+        if (checkpointFile != null) {
+            solverJob.setCheckpoint(checkpointFile, checkpointInterval);
+        }
+        if (runnableSolverSemaphore != null) {
+            var solverScope = ((DefaultSolver<Solution_>) solver).getSolverScope();
+            // The solver job only terminates the solver once solving started, which is after the first permit.
+            solverScope.setRunnableThreadSemaphore(runnableSolverSemaphore,
+                    () -> solverJob.isTerminatedEarly() || solver.isTerminateEarly());
+            solverScope.setRunnableThreadTimeSliceMillis(timeSliceMillis);
+        }
+        var future = new PrioritizedSolverJobTask<>(solverJob, priority, submissionSequence.getAndIncrement());
         solverJob.setFinalBestSolutionFuture(future);
+        try {
+            solverThreadPool.execute(future);
+        } catch (RejectedExecutionException e) {
+            unregisterSolverJob(problemId);
+            throw new IllegalStateException("The problemId (" + problemId + ") cannot be solved, because "
+                    + solverThreadPool.getQueue().size() + " problems are already waiting to be solved.", e);
+        }
         return solverJob;
     }
 
@@ -165,4 +216,59 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         problemIdToSolverJobMap.remove(getProblemIdOrThrow(problemId));
     }
 
+    void removeScheduledSolverJob(Runnable solverJobTask) {
+        solverThreadPool.remove(solverJobTask);
+    }
+
+    /**
+     * Orders the waiting solver jobs by descending priority, and then in the order they were submitted.
+     */
+    private static final class PrioritizedSolverJobTask<Solution_> extends FutureTask<Solution_>
+            implements Comparable<PrioritizedSolverJobTask<?>> {
+
+        private final int priority;
+        private final long submissionSequence;
+
+        public PrioritizedSolverJobTask(Callable<Solution_> solverJob, int priority, long submissionSequence) {
+            super(solverJob);
+            this.priority = priority;
+            this.submissionSequence = submissionSequence;
+        }
+
+        @Override
+        public int compareTo(PrioritizedSolverJobTask<?> other) {
+            if (priority != other.priority) {
+                return Integer.compare(other.priority, priority);
+            }
+            return Long.compare(submissionSequence, other.submissionSequence);
+        }
+
+    }
+
+    /**
+     * Rejects new solver jobs once the capacity is reached, so the {@link ThreadPoolExecutor} fails fast.
+     */
+    private static final class BoundedPriorityBlockingQueue<E> extends PriorityBlockingQueue<E> {
+
+        private final int capacity;
+
+        public BoundedPriorityBlockingQueue(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public synchronized boolean offer(E e) {
+            if (size() >= capacity) {
+                return false;
+            }
+            return super.offer(e);
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return Math.max(capacity - size(), 0);
+        }
+
+    }
+
 }
@@ -3,41 +3,64 @@ package ai.timefold.solver.core.impl.solver;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Random;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
-import ai.timefold.solver.core.api.solver.RecommendedFit;
 import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
 import ai.timefold.solver.core.impl.constructionheuristic.DefaultConstructionHeuristicPhase;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.EntityPlacer;
+import ai.timefold.solver.core.impl.constructionheuristic.placer.Placement;
 import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
 import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
+/**
+ * Evaluates the fits of one part of the moves of the placement,
+ * so that several parts can be evaluated in parallel, each with its own score director.
+ * The move with index {@code i} belongs to the part with index {@code i % partCount}.
+ */
 public final class FitProcessor<Solution_, In_, Out_, Score_ extends Score<Score_>>
-        implements Function<InnerScoreDirector<Solution_, Score_>, List<RecommendedFit<Out_, Score_>>> {
+        implements Function<InnerScoreDirector<Solution_, Score_>, List<DefaultRecommendedFit<Out_, Score_>>> {
+
+    /**
+     * Used as the limit to evaluate every fit.
+     */
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
 
     private final DefaultSolverFactory<Solution_> solverFactory;
     private final ScoreAnalysis<Score_> originalScoreAnalysis;
     private final ScoreAnalysisFetchPolicy fetchPolicy;
     private final Function<In_, Out_> valueResultFunction;
     private final In_ clonedElement;
+    private final int partIndex;
+    private final int partCount;
+    private final int limit;
 
+    /**
+     * @param partIndex {@code 0 <= partIndex < partCount}
+     * @param partCount at least 1
+     * @param limit at least 1, the maximum number of fits to return, or {@link #NO_LIMIT}
+     */
     public FitProcessor(DefaultSolverFactory<Solution_> solverFactory, Function<In_, Out_> valueResultFunction,
-            ScoreAnalysis<Score_> originalScoreAnalysis, In_ clonedElement, ScoreAnalysisFetchPolicy fetchPolicy) {
+            ScoreAnalysis<Score_> originalScoreAnalysis, In_ clonedElement, ScoreAnalysisFetchPolicy fetchPolicy,
+            int partIndex, int partCount, int limit) {
         this.solverFactory = Objects.requireNonNull(solverFactory);
         this.originalScoreAnalysis = Objects.requireNonNull(originalScoreAnalysis);
         this.fetchPolicy = Objects.requireNonNull(fetchPolicy);
         this.valueResultFunction = valueResultFunction;
         this.clonedElement = clonedElement;
+        this.partIndex = partIndex;
+        this.partCount = partCount;
+        this.limit = limit;
     }
 
     @Override
-    public List<RecommendedFit<Out_, Score_>> apply(InnerScoreDirector<Solution_, Score_> scoreDirector) {
+    public List<DefaultRecommendedFit<Out_, Score_>> apply(InnerScoreDirector<Solution_, Score_> scoreDirector) {
         // The placers needs to be filtered.
         // If anything else than the cloned element is unassigned, we want to keep it unassigned.
         // Otherwise the solution would have to explicitly pin everything other than the cloned element.
@@ -61,14 +84,7 @@ public final class FitProcessor<Solution_, In_, Out_, Score_ extends Score<Score
                         """.formatted(entityPlacer));
             }
             var placement = placementIterator.next();
-            var recommendedFitList = new ArrayList<RecommendedFit<Out_, Score_>>();
-            var moveIndex = 0L;
-            for (var move : placement) {
-                recommendedFitList.add(execute(scoreDirector, move, moveIndex, clonedElement, valueResultFunction));
-                moveIndex++;
-            }
-            recommendedFitList.sort(null);
-            return recommendedFitList;
+            return limit == NO_LIMIT ? evaluateAll(scoreDirector, placement) : evaluateBest(scoreDirector, placement);
         } finally {
             entityPlacer.stepEnded(stepScope);
             entityPlacer.phaseEnded(phaseScope);
@@ -97,8 +113,58 @@ public final class FitProcessor<Solution_, In_, Out_, Score_ extends Score<Score
         }
     }
 
-    private RecommendedFit<Out_, Score_> execute(InnerScoreDirector<Solution_, Score_> scoreDirector, Move<Solution_> move,
-            long moveIndex, In_ clonedElement, Function<In_, Out_> propositionFunction) {
+    private boolean isInPart(long moveIndex) {
+        return moveIndex % partCount == partIndex;
+    }
+
+    private List<DefaultRecommendedFit<Out_, Score_>> evaluateAll(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            Placement<Solution_> placement) {
+        var recommendedFitList = new ArrayList<DefaultRecommendedFit<Out_, Score_>>();
+        var moveIndex = 0L;
+        for (var move : placement) {
+            if (isInPart(moveIndex)) {
+                recommendedFitList.add(execute(scoreDirector, move, moveIndex, clonedElement, valueResultFunction));
+            }
+            moveIndex++;
+        }
+        recommendedFitList.sort(null);
+        return recommendedFitList;
+    }
+
+    /**
+     * Only calculates the score of every move and keeps the best ones.
+     * The score analysis and the proposition are only built for those, which requires doing them again.
+     */
+    private List<DefaultRecommendedFit<Out_, Score_>> evaluateBest(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            Placement<Solution_> placement) {
+        // The worst candidate is the head, so it is the one to drop once there are too many.
+        var candidateQueue = new PriorityQueue<FitCandidate<Solution_, Score_>>(limit + 1);
+        var moveIndex = 0L;
+        for (var move : placement) {
+            if (isInPart(moveIndex)) {
+                var undo = move.doMove(scoreDirector);
+                var candidate = new FitCandidate<>(moveIndex, move, scoreDirector.calculateScore());
+                undo.doMoveOnly(scoreDirector);
+                if (candidateQueue.size() < limit) {
+                    candidateQueue.add(candidate);
+                } else if (candidate.compareTo(candidateQueue.peek()) > 0) {
+                    candidateQueue.poll();
+                    candidateQueue.add(candidate);
+                }
+            }
+            moveIndex++;
+        }
+        var recommendedFitList = new ArrayList<DefaultRecommendedFit<Out_, Score_>>(candidateQueue.size());
+        for (var candidate : candidateQueue) {
+            recommendedFitList.add(execute(scoreDirector, candidate.move(), candidate.moveIndex(), clonedElement,
+                    valueResultFunction));
+        }
+        recommendedFitList.sort(null);
+        return recommendedFitList;
+    }
+
+    private DefaultRecommendedFit<Out_, Score_> execute(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            Move<Solution_> move, long moveIndex, In_ clonedElement, Function<In_, Out_> propositionFunction) {
         var undo = move.doMove(scoreDirector);
         var newScoreAnalysis = scoreDirector.buildScoreAnalysis(fetchPolicy == ScoreAnalysisFetchPolicy.FETCH_ALL);
         var newScoreDifference = newScoreAnalysis.diff(originalScoreAnalysis);
@@ -108,4 +174,23 @@ public final class FitProcessor<Solution_, In_, Out_, Score_ extends Score<Score
         return recommendation;
     }
 
+    /**
+     * Ordered from worst to best, the opposite of {@link DefaultRecommendedFit}.
+     */
+    private record FitCandidate<Solution_, Score_ extends Score<Score_>>(long moveIndex, Move<Solution_> move, Score_ score)
+            implements
+                Comparable<FitCandidate<Solution_, Score_>> {
+
+        @Override
+        public int compareTo(FitCandidate<Solution_, Score_> other) {
+            int scoreComparison = score.compareTo(other.score);
+            if (scoreComparison != 0) {
+                return scoreComparison;
+            }
+            // Among equal scores, the later move is worse.
+            return -Long.compareUnsigned(moveIndex, other.moveIndex);
+        }
+
+    }
+
 }
@@ -1,13 +1,21 @@
 package ai.timefold.solver.core.impl.solver;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
 import ai.timefold.solver.core.api.solver.RecommendedFit;
 import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
 final class Fitter<Solution_, In_, Out_, Score_ extends Score<Score_>>
         implements Function<InnerScoreDirector<Solution_, Score_>, List<RecommendedFit<Out_, Score_>>> {
@@ -17,14 +25,26 @@ final class Fitter<Solution_, In_, Out_, Score_ extends Score<Score_>>
     private final In_ originalElement;
     private final Function<In_, Out_> propositionFunction;
     private final ScoreAnalysisFetchPolicy fetchPolicy;
+    private final Executor executor;
+    private final int parallelism;
+    private final int limit;
 
+    /**
+     * @param executor null if parallelism is 1
+     * @param parallelism at least 1, the number of parts the fits are split into
+     * @param limit at least 1, the maximum number of fits to return, or {@link FitProcessor#NO_LIMIT}
+     */
     public Fitter(DefaultSolverFactory<Solution_> solverFactory, Solution_ originalSolution, In_ originalElement,
-            Function<In_, Out_> propositionFunction, ScoreAnalysisFetchPolicy fetchPolicy) {
+            Function<In_, Out_> propositionFunction, ScoreAnalysisFetchPolicy fetchPolicy, Executor executor,
+            int parallelism, int limit) {
         this.solverFactory = Objects.requireNonNull(solverFactory);
         this.originalSolution = Objects.requireNonNull(originalSolution);
         this.originalElement = Objects.requireNonNull(originalElement);
         this.propositionFunction = Objects.requireNonNull(propositionFunction);
         this.fetchPolicy = Objects.requireNonNull(fetchPolicy);
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.limit = limit;
     }
 
     @Override
@@ -41,10 +61,87 @@ final class Fitter<Solution_, In_, Out_, Score_ extends Score<Score_>>
         }
         var originalScoreAnalysis = scoreDirector.buildScoreAnalysis(fetchPolicy == ScoreAnalysisFetchPolicy.FETCH_ALL,
                 InnerScoreDirector.ScoreAnalysisMode.RECOMMENDATION_API);
+        // Every part but the first evaluates its fits on its own clone of the solution, on the executor.
+        var partList = new ArrayList<FitPart<Solution_, Out_, Score_>>(parallelism - 1);
+        try {
+            for (var partIndex = 1; partIndex < parallelism; partIndex++) {
+                var part = new FitPart<Solution_, Out_, Score_>(
+                        scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD));
+                partList.add(part);
+                part.start(buildProcessor(part.scoreDirector, originalScoreAnalysis, partIndex), executor);
+            }
+            var recommendedFitList = new ArrayList<>(buildProcessor(scoreDirector, originalScoreAnalysis, 0)
+                    .apply(scoreDirector));
+            if (partList.isEmpty()) {
+                return new ArrayList<>(recommendedFitList);
+            }
+            for (var part : partList) {
+                recommendedFitList.addAll(part.join());
+            }
+            recommendedFitList.sort(null);
+            return new ArrayList<>(recommendedFitList.subList(0, Math.min(limit, recommendedFitList.size())));
+        } catch (RuntimeException | Error e) {
+            // The fits of the other parts are of no use anymore.
+            partList.forEach(FitPart::cancel);
+            throw e;
+        }
+    }
+
+    private FitProcessor<Solution_, In_, Out_, Score_> buildProcessor(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            ScoreAnalysis<Score_> originalScoreAnalysis, int partIndex) {
         var clonedElement = scoreDirector.lookUpWorkingObject(originalElement);
-        var processor =
-                new FitProcessor<>(solverFactory, propositionFunction, originalScoreAnalysis, clonedElement, fetchPolicy);
-        return processor.apply(scoreDirector);
+        return new FitProcessor<>(solverFactory, propositionFunction, originalScoreAnalysis, clonedElement, fetchPolicy,
+                partIndex, parallelism, limit);
+    }
+
+    /**
+     * Owns the child score director of a part until its task starts, which closes it when done.
+     * If the part is cancelled before its task starts, the cancellation closes it instead.
+     */
+    private static final class FitPart<Solution_, Out_, Score_ extends Score<Score_>> {
+
+        private final InnerScoreDirector<Solution_, Score_> scoreDirector;
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+        private CompletableFuture<List<DefaultRecommendedFit<Out_, Score_>>> future = null;
+
+        private FitPart(InnerScoreDirector<Solution_, Score_> scoreDirector) {
+            this.scoreDirector = scoreDirector;
+        }
+
+        private void start(FitProcessor<Solution_, ?, Out_, Score_> processor, Executor executor) {
+            future = CompletableFuture.supplyAsync(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    throw new CancellationException("The part was cancelled before it started.");
+                }
+                try (scoreDirector) {
+                    return processor.apply(scoreDirector);
+                }
+            }, executor);
+        }
+
+        private List<DefaultRecommendedFit<Out_, Score_>> join() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                // Throw what the part threw, as if it ran on the caller thread.
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+
+        private void cancel() {
+            if (future != null) {
+                future.cancel(true);
+            }
+            if (claimed.compareAndSet(false, true)) {
+                scoreDirector.close();
+            }
+        }
+
     }
 
 }
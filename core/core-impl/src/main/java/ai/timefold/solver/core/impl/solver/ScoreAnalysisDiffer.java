@@ -0,0 +1,229 @@
+package ai.timefold.solver.core.impl.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.analysis.ConstraintAnalysis;
+import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
+import ai.timefold.solver.core.impl.domain.lookup.LookUpStrategy;
+import ai.timefold.solver.core.impl.domain.lookup.NoneLookUpStrategy;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.BasicVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Turns the working solution, a clone of the old solution, into the new solution
+ * by changing only the genuine planning variables which differ between them.
+ * The score director therefore only recalculates the constraints which are affected by those changes,
+ * instead of calculating the score of the new solution from scratch.
+ * <p>
+ * Returns null if the new solution differs in more than its genuine planning variables,
+ * for example if it has different planning entities or different problem facts,
+ * if it uses chained planning variables, which can not be changed one entity at a time,
+ * or if its planning entities or planning values can not be looked up, for example because they lack a planning ID.
+ */
+final class ScoreAnalysisDiffer<Solution_, Score_ extends Score<Score_>>
+        implements Function<InnerScoreDirector<Solution_, Score_>, ScoreAnalysis<Score_>> {
+
+    private final Solution_ newSolution;
+    private final ScoreAnalysisFetchPolicy fetchPolicy;
+
+    public ScoreAnalysisDiffer(Solution_ newSolution, ScoreAnalysisFetchPolicy fetchPolicy) {
+        this.newSolution = Objects.requireNonNull(newSolution);
+        this.fetchPolicy = Objects.requireNonNull(fetchPolicy);
+    }
+
+    @Override
+    public ScoreAnalysis<Score_> apply(InnerScoreDirector<Solution_, Score_> scoreDirector) {
+        var changeList = computeChanges(scoreDirector);
+        if (changeList == null) {
+            return null;
+        }
+        var analyzeConstraintMatches = fetchPolicy == ScoreAnalysisFetchPolicy.FETCH_ALL;
+        var oldScoreAnalysis = scoreDirector.buildScoreAnalysis(analyzeConstraintMatches);
+        var oldConstraintMatchTotalMap = new HashMap<>(scoreDirector.getLazyConstraintMatchTotalMap());
+
+        // Empty the changed list variables first, so that no element is ever assigned to two entities at once.
+        for (var change : changeList) {
+            if (change.variableDescriptor() instanceof ListVariableDescriptor<Solution_> listVariableDescriptor) {
+                var list = listVariableDescriptor.getValue(change.entity());
+                scoreDirector.beforeListVariableChanged(listVariableDescriptor, change.entity(), 0, list.size());
+                list.clear();
+                scoreDirector.afterListVariableChanged(listVariableDescriptor, change.entity(), 0, 0);
+            }
+        }
+        for (var change : changeList) {
+            if (change.variableDescriptor() instanceof ListVariableDescriptor<Solution_> listVariableDescriptor) {
+                var list = listVariableDescriptor.getValue(change.entity());
+                var newList = (List<Object>) change.newValue();
+                scoreDirector.beforeListVariableChanged(listVariableDescriptor, change.entity(), 0, 0);
+                list.addAll(newList);
+                scoreDirector.afterListVariableChanged(listVariableDescriptor, change.entity(), 0, newList.size());
+            } else {
+                scoreDirector.beforeVariableChanged(change.variableDescriptor(), change.entity());
+                change.variableDescriptor().setValue(change.entity(), change.newValue());
+                scoreDirector.afterVariableChanged(change.variableDescriptor(), change.entity());
+            }
+        }
+        scoreDirector.triggerVariableListeners();
+        var newScore = scoreDirector.calculateScore();
+        if (!newScore.isSolutionInitialized()) {
+            throw new IllegalArgumentException("""
+                    Cannot analyze solution (%s) as it is not initialized (%s).
+                    Maybe run the solver first?"""
+                    .formatted(newSolution, newScore));
+        }
+
+        var constraintAnalysisMap = new TreeMap<ConstraintRef, ConstraintAnalysis<Score_>>();
+        for (var constraintMatchTotal : scoreDirector.getLazyConstraintMatchTotalMap().values()) {
+            var constraintRef = constraintMatchTotal.getConstraintRef();
+            if (constraintMatchTotal == oldConstraintMatchTotalMap.get(constraintRef.constraintId())) {
+                // The score director reused the constraint match total, so none of its constraint matches changed.
+                constraintAnalysisMap.put(constraintRef, oldScoreAnalysis.getConstraintAnalysis(constraintRef));
+            } else {
+                constraintAnalysisMap.put(constraintRef,
+                        InnerScoreDirector.getConstraintAnalysis(constraintMatchTotal, analyzeConstraintMatches));
+            }
+        }
+        return new ScoreAnalysis<>(newScore, constraintAnalysisMap).diff(oldScoreAnalysis);
+    }
+
+    private List<VariableChange<Solution_>> computeChanges(InnerScoreDirector<Solution_, Score_> scoreDirector) {
+        var solutionDescriptor = scoreDirector.getSolutionDescriptor();
+        if (solutionDescriptor.getGenuineEntityCount(newSolution) != solutionDescriptor
+                .getGenuineEntityCount(scoreDirector.getWorkingSolution())) {
+            return null;
+        }
+        if (!haveSameProblemFacts(solutionDescriptor, scoreDirector.getWorkingSolution())) {
+            return null;
+        }
+        var changeList = new ArrayList<VariableChange<Solution_>>();
+        var visitedWorkingEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (var entityDescriptor : solutionDescriptor.getGenuineEntityDescriptors()) {
+            var genuineVariableDescriptorList = entityDescriptor.getGenuineVariableDescriptorList();
+            for (var variableDescriptor : genuineVariableDescriptorList) {
+                if (variableDescriptor instanceof BasicVariableDescriptor<Solution_> basicVariableDescriptor
+                        && basicVariableDescriptor.isChained()) {
+                    return null;
+                }
+            }
+            var entityList = new ArrayList<>();
+            entityDescriptor.visitAllEntities(newSolution, entityList::add);
+            for (var entity : entityList) {
+                var workingEntity = lookUpWorkingObjectOrReturnNull(scoreDirector, entity);
+                if (workingEntity == null) {
+                    return null;
+                } else if (!visitedWorkingEntitySet.add(workingEntity)) { // Also visited through another entity class.
+                    continue;
+                }
+                for (var variableDescriptor : genuineVariableDescriptorList) {
+                    if (!computeChange(scoreDirector, variableDescriptor, entity, workingEntity, changeList)) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return changeList;
+    }
+
+    /**
+     * A changed problem fact usually keeps its planning ID, so problem facts can not be compared by looking them up.
+     * The working solution is a planning clone of the old solution, which shares the problem facts of the old solution.
+     * Therefore both solutions have the same problem facts only if the new solution has the same instances too.
+     */
+    private boolean haveSameProblemFacts(SolutionDescriptor<Solution_> solutionDescriptor, Solution_ workingSolution) {
+        var workingProblemFactSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        solutionDescriptor.visitAllProblemFacts(workingSolution, workingProblemFactSet::add);
+        var problemFactSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        solutionDescriptor.visitAllProblemFacts(newSolution, problemFactSet::add);
+        return problemFactSet.equals(workingProblemFactSet);
+    }
+
+    private boolean computeChange(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            GenuineVariableDescriptor<Solution_> variableDescriptor, Object entity, Object workingEntity,
+            List<VariableChange<Solution_>> changeList) {
+        if (variableDescriptor instanceof ListVariableDescriptor<Solution_> listVariableDescriptor) {
+            var list = listVariableDescriptor.getValue(entity);
+            var workingList = listVariableDescriptor.getValue(workingEntity);
+            var newWorkingList = new ArrayList<>(list.size());
+            for (var element : list) {
+                var workingElement = lookUpWorkingObjectOrReturnNull(scoreDirector, element);
+                if (workingElement == null) {
+                    return false;
+                }
+                newWorkingList.add(workingElement);
+            }
+            if (!newWorkingList.equals(workingList)) {
+                changeList.add(new VariableChange<>(variableDescriptor, workingEntity, newWorkingList));
+            }
+        } else {
+            var value = variableDescriptor.getValue(entity);
+            var newWorkingValue = value == null ? null : lookUpWorkingObjectOrReturnNull(scoreDirector, value);
+            if (value != null && newWorkingValue == null) {
+                return false;
+            }
+            if (newWorkingValue != variableDescriptor.getValue(workingEntity)) {
+                changeList.add(new VariableChange<>(variableDescriptor, workingEntity, newWorkingValue));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Unlike {@link InnerScoreDirector#lookUpWorkingObjectOrReturnNull(Object)},
+     * this does not fail if the object can not be looked up.
+     *
+     * @param object never null
+     * @return null if there is no working object for the object or if it can not be looked up
+     */
+    private static Object lookUpWorkingObjectOrReturnNull(InnerScoreDirector<?, ?> scoreDirector, Object object) {
+        LookUpStrategy lookUpStrategy;
+        try {
+            lookUpStrategy = scoreDirector.getSolutionDescriptor().getLookUpStrategyResolver()
+                    .determineLookUpStrategy(object);
+        } catch (IllegalArgumentException e) { // The lookUpStrategyType does not support the object's class.
+            return null;
+        }
+        if (lookUpStrategy instanceof NoneLookUpStrategy) {
+            return null;
+        }
+        return scoreDirector.lookUpWorkingObjectOrReturnNull(object);
+    }
+
+    /**
+     * @param scoreAnalysisDiff never null
+     * @return never null, without the match analyses of which the score did not change
+     */
+    static <Score_ extends Score<Score_>> ScoreAnalysis<Score_> removeUnchangedMatches(
+            ScoreAnalysis<Score_> scoreAnalysisDiff) {
+        var constraintAnalysisMap = new TreeMap<ConstraintRef, ConstraintAnalysis<Score_>>();
+        for (var constraintAnalysis : scoreAnalysisDiff.constraintAnalyses()) {
+            var matchAnalyses = constraintAnalysis.matches();
+            if (matchAnalyses != null) {
+                matchAnalyses = matchAnalyses.stream()
+                        .filter(matchAnalysis -> !matchAnalysis.score().isZero())
+                        .toList();
+            }
+            constraintAnalysisMap.put(constraintAnalysis.constraintRef(),
+                    new ConstraintAnalysis<>(constraintAnalysis.constraintRef(), constraintAnalysis.weight(),
+                            constraintAnalysis.score(), matchAnalyses));
+        }
+        return new ScoreAnalysis<>(scoreAnalysisDiff.score(), constraintAnalysisMap);
+    }
+
+    private record VariableChange<Solution_>(GenuineVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            Object newValue) {
+    }
+
+}
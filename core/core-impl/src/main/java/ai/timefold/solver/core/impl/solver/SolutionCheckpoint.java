@@ -0,0 +1,347 @@
+package ai.timefold.solver.core.impl.solver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+
+/**
+ * Writes the genuine planning variables of a solution to a compact binary file
+ * and restores them onto another instance of the same problem, for example after the JVM restarted.
+ * Only the variable assignments are written, not the problem facts nor the shadow variables,
+ * so the problem must be loaded again before the checkpoint is restored onto it.
+ * <p>
+ * Every entity, as well as every value assigned to a planning variable, must have a {@link PlanningId},
+ * which identifies it in the reloaded problem.
+ * A planning id which is an integral {@link Number} is written as a long, any other planning id as its string.
+ * <p>
+ * The file is first written next to the checkpoint file, forced to the storage device and then moved over it,
+ * so a crash while writing leaves the previous checkpoint intact.
+ * The planning variables can be {@link #snapshot(Object) captured} separately, so that another thread can write them.
+ * It is read through a memory-mapped buffer.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class SolutionCheckpoint<Solution_> {
+
+    private static final int MAGIC_NUMBER = 0x54464350;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte LONG_ID = 1;
+    private static final byte STRING_ID = 2;
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+
+    public SolutionCheckpoint(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this.solutionDescriptor = solutionDescriptor;
+    }
+
+    // ************************************************************************
+    // Write
+    // ************************************************************************
+
+    /**
+     * @param solution never null
+     * @param checkpointFile never null, replaced if it exists
+     */
+    public void write(Solution_ solution, Path checkpointFile) {
+        write(snapshot(solution), checkpointFile);
+    }
+
+    /**
+     * Captures the planning variables of the solution, so that the solution may change before they are written.
+     *
+     * @param solution never null
+     * @return never null, the content of the checkpoint file
+     */
+    public byte[] snapshot(Solution_ solution) {
+        var entityDescriptorToEntityListMap = new LinkedHashMap<EntityDescriptor<Solution_>, List<Object>>();
+        solutionDescriptor.visitAllEntities(solution, entity -> {
+            var entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+            if (entityDescriptor.isGenuine()) {
+                entityDescriptorToEntityListMap.computeIfAbsent(entityDescriptor, k -> new ArrayList<>())
+                        .add(entity);
+            }
+        });
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+            var classIndexMap = new HashMap<Class<?>, Integer>();
+            out.writeInt(entityDescriptorToEntityListMap.size());
+            for (var entry : entityDescriptorToEntityListMap.entrySet()) {
+                writeEntities(out, entry.getKey(), entry.getValue(), classIndexMap);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Impossible state: writing to memory failed.", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param snapshot never null, returned by {@link #snapshot(Object)}
+     * @param checkpointFile never null, replaced if it exists
+     */
+    public void write(byte[] snapshot, Path checkpointFile) {
+        var temporaryFile = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try {
+            try (var channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                var buffer = ByteBuffer.wrap(snapshot);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                // Otherwise a crash right after the move could leave a checkpoint file that was never fully written.
+                channel.force(true);
+            }
+            Files.move(temporaryFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed writing the checkpoint file (" + checkpointFile + ").", e);
+        }
+    }
+
+    private void writeEntities(DataOutputStream out, EntityDescriptor<Solution_> entityDescriptor, List<Object> entityList,
+            Map<Class<?>, Integer> classIndexMap) throws IOException {
+        writeString(out, entityDescriptor.getEntityClass().getName());
+        var variableDescriptorList = entityDescriptor.getGenuineVariableDescriptorList();
+        out.writeInt(variableDescriptorList.size());
+        for (var variableDescriptor : variableDescriptorList) {
+            writeString(out, variableDescriptor.getVariableName());
+        }
+        out.writeInt(entityList.size());
+        for (var entity : entityList) {
+            writeId(out, extractPlanningId(entity, "entity"));
+            for (var variableDescriptor : variableDescriptorList) {
+                if (variableDescriptor instanceof ListVariableDescriptor<Solution_> listVariableDescriptor) {
+                    var valueList = listVariableDescriptor.getValue(entity);
+                    out.writeInt(valueList.size());
+                    for (var value : valueList) {
+                        writeValue(out, value, classIndexMap);
+                    }
+                } else {
+                    writeValue(out, variableDescriptor.getValue(entity), classIndexMap);
+                }
+            }
+        }
+    }
+
+    /**
+     * Every class is written by name the first time one of its values is written,
+     * later values of the same class only refer to it by index.
+     */
+    private void writeValue(DataOutputStream out, Object value, Map<Class<?>, Integer> classIndexMap) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        var valueClass = value.getClass();
+        var classIndex = classIndexMap.get(valueClass);
+        if (classIndex == null) {
+            out.writeInt(classIndexMap.size());
+            writeString(out, valueClass.getName());
+            classIndexMap.put(valueClass, classIndexMap.size());
+        } else {
+            out.writeInt(classIndex);
+        }
+        writeId(out, extractPlanningId(value, "value"));
+    }
+
+    private Object extractPlanningId(Object object, String role) {
+        var planningIdAccessor = solutionDescriptor.getPlanningIdAccessor(object.getClass());
+        if (planningIdAccessor == null) {
+            throw new IllegalArgumentException("The " + role + " (" + object + ") of class (" + object.getClass()
+                    + ") has no @" + PlanningId.class.getSimpleName() + ", so it cannot be written to a checkpoint.\n"
+                    + "Maybe add a @" + PlanningId.class.getSimpleName() + " annotation on its id field or getter.");
+        }
+        var planningId = planningIdAccessor.executeGetter(object);
+        if (planningId == null) {
+            throw new IllegalArgumentException("The " + role + " (" + object + ") of class (" + object.getClass()
+                    + ") has a null @" + PlanningId.class.getSimpleName() + ", so it cannot be written to a checkpoint.");
+        }
+        return planningId;
+    }
+
+    private static void writeId(DataOutputStream out, Object planningId) throws IOException {
+        if (isIntegral(planningId)) {
+            out.writeByte(LONG_ID);
+            out.writeLong(((Number) planningId).longValue());
+        } else {
+            out.writeByte(STRING_ID);
+            writeString(out, planningId.toString());
+        }
+    }
+
+    private static boolean isIntegral(Object planningId) {
+        return planningId instanceof Long || planningId instanceof Integer || planningId instanceof Short
+                || planningId instanceof Byte;
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        // Unlike DataOutputStream.writeUTF(), this is not limited to 65535 bytes.
+        var bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // ************************************************************************
+    // Restore
+    // ************************************************************************
+
+    /**
+     * Assigns the planning variables of the problem's entities as they were when the checkpoint was written.
+     * The shadow variables are not updated.
+     *
+     * @param checkpointFile never null, written by {@link #write(Object, Path)} for the same planning problem
+     * @param problem never null, the freshly loaded problem
+     * @throws IllegalStateException if an entity or value of the checkpoint is not found in the problem
+     */
+    public void restore(Path checkpointFile, Solution_ problem) {
+        var idLookUpMap = buildIdLookUpMap(problem);
+        try (var channel = FileChannel.open(checkpointFile, StandardOpenOption.READ)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC_NUMBER) {
+                throw new IllegalStateException("The file (" + checkpointFile + ") is not a checkpoint file.");
+            }
+            var formatVersion = buffer.getInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalStateException("The checkpoint file (" + checkpointFile + ") has a format version ("
+                        + formatVersion + ") which is not supported, only version (" + FORMAT_VERSION + ") is.");
+            }
+            var classNameList = new ArrayList<String>();
+            var entityClassCount = buffer.getInt();
+            for (var i = 0; i < entityClassCount; i++) {
+                restoreEntities(checkpointFile, buffer, idLookUpMap, classNameList);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed reading the checkpoint file (" + checkpointFile + ").", e);
+        }
+    }
+
+    /**
+     * Values are written with the name of their own class, but entities with the name of their entity class,
+     * which is a superclass if the entity is an instance of a subclass.
+     * Therefore, such an entity is found under both names.
+     */
+    private Map<String, Map<Object, Object>> buildIdLookUpMap(Solution_ problem) {
+        var idLookUpMap = new HashMap<String, Map<Object, Object>>();
+        solutionDescriptor.visitAll(problem, object -> {
+            var objectClass = object.getClass();
+            var planningIdAccessor = solutionDescriptor.getPlanningIdAccessor(objectClass);
+            if (planningIdAccessor != null) {
+                var planningId = planningIdAccessor.executeGetter(object);
+                if (planningId != null) {
+                    var id = isIntegral(planningId) ? (Object) ((Number) planningId).longValue() : planningId.toString();
+                    idLookUpMap.computeIfAbsent(objectClass.getName(), k -> new HashMap<>())
+                            .put(id, object);
+                    var entityDescriptor = solutionDescriptor.findEntityDescriptor(objectClass);
+                    if (entityDescriptor != null && entityDescriptor.getEntityClass() != objectClass) {
+                        idLookUpMap.computeIfAbsent(entityDescriptor.getEntityClass().getName(), k -> new HashMap<>())
+                                .put(id, object);
+                    }
+                }
+            }
+        });
+        return idLookUpMap;
+    }
+
+    private void restoreEntities(Path checkpointFile, ByteBuffer buffer, Map<String, Map<Object, Object>> idLookUpMap,
+            List<String> classNameList) {
+        var entityClassName = readString(buffer);
+        var entityDescriptor = solutionDescriptor.getGenuineEntityDescriptors().stream()
+                .filter(descriptor -> descriptor.getEntityClass().getName().equals(entityClassName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("The checkpoint file (" + checkpointFile
+                        + ") contains entities of class (" + entityClassName + "), which is not a genuine entity class."));
+        var variableCount = buffer.getInt();
+        var variableDescriptors = new GenuineVariableDescriptor[variableCount];
+        for (var i = 0; i < variableCount; i++) {
+            var variableName = readString(buffer);
+            variableDescriptors[i] = entityDescriptor.getGenuineVariableDescriptor(variableName);
+            if (variableDescriptors[i] == null) {
+                throw new IllegalStateException("The checkpoint file (" + checkpointFile
+                        + ") contains the variable (" + variableName + ") which the entity class (" + entityClassName
+                        + ") does not have.");
+            }
+        }
+        var entityIdLookUpMap = idLookUpMap.getOrDefault(entityClassName, Map.of());
+        var entityCount = buffer.getInt();
+        for (var i = 0; i < entityCount; i++) {
+            var entityId = readId(buffer);
+            var entity = entityIdLookUpMap.get(entityId);
+            if (entity == null) {
+                throw new IllegalStateException("The checkpoint file (" + checkpointFile + ") contains an entity of class ("
+                        + entityClassName + ") with planning id (" + entityId + "), which is not in the problem.");
+            }
+            for (var variableDescriptor : variableDescriptors) {
+                if (variableDescriptor instanceof ListVariableDescriptor<?> listVariableDescriptor) {
+                    var valueCount = buffer.getInt();
+                    var valueList = ((ListVariableDescriptor<Solution_>) listVariableDescriptor).getValue(entity);
+                    valueList.clear();
+                    for (var j = 0; j < valueCount; j++) {
+                        valueList.add(readValue(checkpointFile, buffer, idLookUpMap, classNameList));
+                    }
+                } else {
+                    variableDescriptor.setValue(entity, readValue(checkpointFile, buffer, idLookUpMap, classNameList));
+                }
+            }
+        }
+    }
+
+    private static Object readValue(Path checkpointFile, ByteBuffer buffer, Map<String, Map<Object, Object>> idLookUpMap,
+            List<String> classNameList) {
+        var classIndex = buffer.getInt();
+        if (classIndex < 0) {
+            return null;
+        }
+        if (classIndex == classNameList.size()) { // First value of that class.
+            classNameList.add(readString(buffer));
+        }
+        var className = classNameList.get(classIndex);
+        var valueId = readId(buffer);
+        var value = idLookUpMap.getOrDefault(className, Map.of()).get(valueId);
+        if (value == null) {
+            throw new IllegalStateException("The checkpoint file (" + checkpointFile + ") contains a value of class ("
+                    + className + ") with planning id (" + valueId + "), which is not in the problem.\n"
+                    + "Maybe the value is not a problem fact or entity of the solution.");
+        }
+        return value;
+    }
+
+    private static Object readId(ByteBuffer buffer) {
+        var idType = buffer.get();
+        return switch (idType) {
+            case LONG_ID -> buffer.getLong();
+            case STRING_ID -> readString(buffer);
+            default -> throw new IllegalStateException("Impossible state: unknown id type (" + idType + ").");
+        };
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        var bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.impl.solver.event;
 
+import java.time.Duration;
 import java.util.Iterator;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
@@ -18,21 +19,133 @@ public class SolverEventSupport<Solution_> extends AbstractEventSupport<SolverEv
 
     private final Solver<Solution_> solver;
 
+    private long minimumBestSolutionEventIntervalMillis = 0L;
+    private Score minimumBestSolutionEventScoreDelta = null;
+
+    private Long lastFiredBestSolutionTimeMillis = null;
+    private Score lastFiredBestScore = null;
+    private boolean bestSolutionChangedPending = false;
+    private boolean problemChangesProcessed = false;
+
     public SolverEventSupport(Solver<Solution_> solver) {
         this.solver = solver;
     }
 
-    public void fireBestSolutionChanged(SolverScope<Solution_> solverScope, Solution_ newBestSolution) {
+    /**
+     * A best solution changed event that is throttled is not fired, but kept pending.
+     * If a later event is fired, it carries that later best solution instead.
+     * Otherwise, the pending event is fired by {@link #fireElapsedBestSolutionChanged(SolverScope)}
+     * once the minimum interval has elapsed, or by {@link #firePendingBestSolutionChanged(SolverScope)}.
+     * With lazy best solution cloning, the best solution of a throttled event is not even cloned.
+     * <p>
+     * An event is never throttled if its best score is worse than the one of the last fired event
+     * or if it is the first one since problem changes were processed,
+     * so the listeners never keep a stale best solution and learn when their problem changes are done.
+     *
+     * @param minimumInterval never null, the minimum time between the best solutions of 2 fired events,
+     *        {@link Duration#ZERO} to not throttle on time
+     * @param minimumScoreDelta sometimes null, the minimum improvement of the best score since the last fired event,
+     *        null to not throttle on score
+     */
+    public void setBestSolutionEventThrottling(Duration minimumInterval, Score<?> minimumScoreDelta) {
+        if (minimumInterval.isNegative()) {
+            throw new IllegalArgumentException("The minimumInterval (" + minimumInterval + ") cannot be negative.");
+        }
+        this.minimumBestSolutionEventIntervalMillis = minimumInterval.toMillis();
+        this.minimumBestSolutionEventScoreDelta = minimumScoreDelta;
+    }
+
+    public void fireBestSolutionChanged(SolverScope<Solution_> solverScope) {
         final Iterator<SolverEventListener<Solution_>> it = getEventListeners().iterator();
+        if (!it.hasNext()) {
+            return;
+        }
+        if (isBestSolutionChangedThrottled(solverScope, solverScope.getBestSolutionTimeMillis())) {
+            bestSolutionChangedPending = true;
+            return;
+        }
+        fireBestSolutionChanged(solverScope, it);
+    }
+
+    private void fireBestSolutionChanged(SolverScope<Solution_> solverScope, Iterator<SolverEventListener<Solution_>> it) {
         long timeMillisSpent = solverScope.getBestSolutionTimeMillisSpent();
         Score bestScore = solverScope.getBestScore();
+        // Without listeners, the best solution might never need to be cloned.
+        final BestSolutionChangedEvent<Solution_> event = new BestSolutionChangedEvent<>(solver,
+                timeMillisSpent, solverScope.getBestSolution(), bestScore);
+        lastFiredBestSolutionTimeMillis = solverScope.getBestSolutionTimeMillis();
+        lastFiredBestScore = bestScore;
+        bestSolutionChangedPending = false;
+        problemChangesProcessed = false;
+        do {
+            it.next().bestSolutionChanged(event);
+        } while (it.hasNext());
+    }
+
+    private boolean isBestSolutionChangedThrottled(SolverScope<Solution_> solverScope, long timeMillis) {
+        if (lastFiredBestScore == null || problemChangesProcessed) {
+            return false;
+        }
+        Score bestScore = solverScope.getBestScore();
+        if (bestScore.compareTo(lastFiredBestScore) < 0) {
+            return false;
+        }
+        long intervalMillis = timeMillis - lastFiredBestSolutionTimeMillis;
+        if (intervalMillis < minimumBestSolutionEventIntervalMillis) {
+            return true;
+        }
+        if (minimumBestSolutionEventScoreDelta != null) {
+            // A change of the init score, such as after a problem change, is never throttled.
+            return bestScore.initScore() == lastFiredBestScore.initScore()
+                    && bestScore.compareTo(lastFiredBestScore.add(minimumBestSolutionEventScoreDelta)) < 0;
+        }
+        return false;
+    }
+
+    /**
+     * Makes sure that the next best solution changed event is not throttled,
+     * so that it reports the processed problem changes to the listeners.
+     * Called after problem changes have been applied to the working solution.
+     */
+    public void problemChangesProcessed() {
+        problemChangesProcessed = true;
+    }
+
+    /**
+     * Fires the best solution changed event that was throttled, if any,
+     * as soon as the minimum interval since the last fired event has elapsed,
+     * so that the listeners do not have to wait for the next best solution.
+     * An event that is throttled because the best score did not improve enough stays pending.
+     * Called when a step ends.
+     *
+     * @param solverScope never null
+     */
+    public void fireElapsedBestSolutionChanged(SolverScope<Solution_> solverScope) {
+        if (!bestSolutionChangedPending || !solverScope.isBestSolutionInitialized()
+                || isBestSolutionChangedThrottled(solverScope, System.currentTimeMillis())) {
+            return;
+        }
+        final Iterator<SolverEventListener<Solution_>> it = getEventListeners().iterator();
         if (it.hasNext()) {
-            final BestSolutionChangedEvent<Solution_> event = new BestSolutionChangedEvent<>(solver,
-                    timeMillisSpent, newBestSolution, bestScore);
-            do {
-                it.next().bestSolutionChanged(event);
-            } while (it.hasNext());
+            fireBestSolutionChanged(solverScope, it);
+        }
+    }
+
+    /**
+     * Fires the best solution changed event that was throttled, if any,
+     * and forgets the last fired event, so the next event is not throttled.
+     * Called when solving ends, so that the listeners always receive the final best solution.
+     *
+     * @param solverScope never null
+     */
+    public void firePendingBestSolutionChanged(SolverScope<Solution_> solverScope) {
+        if (bestSolutionChangedPending) {
+            lastFiredBestScore = null;
+            fireBestSolutionChanged(solverScope);
         }
+        lastFiredBestSolutionTimeMillis = null;
+        lastFiredBestScore = null;
+        problemChangesProcessed = false;
     }
 
 }
@@ -7,6 +7,7 @@ import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.WorkingSolutionSnapshot;
 import ai.timefold.solver.core.impl.solver.event.SolverEventSupport;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
@@ -20,6 +21,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     protected boolean assertInitialScoreFromScratch = false;
     protected boolean assertShadowVariablesAreNotStale = false;
     protected boolean assertBestScoreIsUnmodified = false;
+    protected boolean lazyBestSolutionCloning = false;
 
     protected SolverEventSupport<Solution_> solverEventSupport;
 
@@ -35,6 +37,14 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         this.assertBestScoreIsUnmodified = assertBestScoreIsUnmodified;
     }
 
+    /**
+     * @param lazyBestSolutionCloning true to only clone a new best solution when it is actually needed,
+     *        see {@link SolverScope#setBestSolutionSnapshot(WorkingSolutionSnapshot)}
+     */
+    public void setLazyBestSolutionCloning(boolean lazyBestSolutionCloning) {
+        this.lazyBestSolutionCloning = lazyBestSolutionCloning;
+    }
+
     public void setSolverEventSupport(SolverEventSupport<Solution_> solverEventSupport) {
         this.solverEventSupport = solverEventSupport;
     }
@@ -65,6 +75,16 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
     }
 
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        solverEventSupport.fireElapsedBestSolutionChanged(stepScope.getPhaseScope().getSolverScope());
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        solverEventSupport.firePendingBestSolutionChanged(solverScope);
+    }
+
     public void processWorkingSolutionDuringConstructionHeuristicsStep(AbstractStepScope<Solution_> stepScope) {
         AbstractPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
         SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
@@ -84,8 +104,13 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         stepScope.setBestScoreImproved(bestScoreImproved);
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            Solution_ newBestSolution = stepScope.createOrGetClonedSolution();
-            updateBestSolutionAndFire(solverScope, score, newBestSolution);
+            if (lazyBestSolutionCloning) {
+                updateBestSolutionSnapshotWithoutFiring(solverScope, score);
+                solverEventSupport.fireBestSolutionChanged(solverScope);
+            } else {
+                Solution_ newBestSolution = stepScope.createOrGetClonedSolution();
+                updateBestSolutionAndFire(solverScope, score, newBestSolution);
+            }
         } else if (assertBestScoreIsUnmodified) {
             solverScope.assertScoreFromScratch(solverScope.getBestSolution());
         }
@@ -111,36 +136,52 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
 
     public void updateBestSolutionAndFire(SolverScope<Solution_> solverScope) {
         updateBestSolutionWithoutFiring(solverScope);
-        solverEventSupport.fireBestSolutionChanged(solverScope, solverScope.getBestSolution());
+        solverEventSupport.fireBestSolutionChanged(solverScope);
     }
 
     public void updateBestSolutionAndFireIfInitialized(SolverScope<Solution_> solverScope) {
         updateBestSolutionWithoutFiring(solverScope);
         if (solverScope.isBestSolutionInitialized()) {
-            solverEventSupport.fireBestSolutionChanged(solverScope, solverScope.getBestSolution());
+            solverEventSupport.fireBestSolutionChanged(solverScope);
         }
     }
 
     private void updateBestSolutionAndFire(SolverScope<Solution_> solverScope, Score bestScore, Solution_ bestSolution) {
         updateBestSolutionWithoutFiring(solverScope, bestScore, bestSolution);
-        solverEventSupport.fireBestSolutionChanged(solverScope, solverScope.getBestSolution());
+        solverEventSupport.fireBestSolutionChanged(solverScope);
     }
 
     private void updateBestSolutionWithoutFiring(SolverScope<Solution_> solverScope) {
-        Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
-        Score newBestScore = solverScope.getSolutionDescriptor().getScore(newBestSolution);
-        updateBestSolutionWithoutFiring(solverScope, newBestScore, newBestSolution);
+        if (lazyBestSolutionCloning) {
+            Score newBestScore = solverScope.getSolutionDescriptor().getScore(solverScope.getWorkingSolution());
+            updateBestSolutionSnapshotWithoutFiring(solverScope, newBestScore);
+        } else {
+            Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+            Score newBestScore = solverScope.getSolutionDescriptor().getScore(newBestSolution);
+            updateBestSolutionWithoutFiring(solverScope, newBestScore, newBestSolution);
+        }
     }
 
     private void updateBestSolutionWithoutFiring(SolverScope<Solution_> solverScope, Score bestScore, Solution_ bestSolution) {
+        updateStartingInitializedScore(solverScope, bestScore);
+        solverScope.setBestSolution(bestSolution);
+        solverScope.setBestScore(bestScore);
+        solverScope.setBestSolutionTimeMillis(System.currentTimeMillis());
+    }
+
+    private void updateBestSolutionSnapshotWithoutFiring(SolverScope<Solution_> solverScope, Score bestScore) {
+        updateStartingInitializedScore(solverScope, bestScore);
+        solverScope.setBestSolutionSnapshot(solverScope.getScoreDirector().snapshotWorkingSolution());
+        solverScope.setBestScore(bestScore);
+        solverScope.setBestSolutionTimeMillis(System.currentTimeMillis());
+    }
+
+    private static void updateStartingInitializedScore(SolverScope<?> solverScope, Score bestScore) {
         if (bestScore.isSolutionInitialized()) {
             if (!solverScope.isBestSolutionInitialized()) {
                 solverScope.setStartingInitializedScore(bestScore);
             }
         }
-        solverScope.setBestSolution(bestSolution);
-        solverScope.setBestScore(bestScore);
-        solverScope.setBestSolutionTimeMillis(System.currentTimeMillis());
     }
 
 }
\ No newline at end of file
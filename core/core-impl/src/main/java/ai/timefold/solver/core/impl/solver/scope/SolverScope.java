@@ -8,6 +8,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
@@ -18,6 +19,7 @@ import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescripto
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.WorkingSolutionSnapshot;
 import ai.timefold.solver.core.impl.solver.change.DefaultProblemChangeDirector;
 import ai.timefold.solver.core.impl.solver.termination.Termination;
 import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
@@ -38,6 +40,19 @@ public class SolverScope<Solution_> {
      * Used for capping CPU power usage in multithreaded scenarios.
      */
     protected Semaphore runnableThreadSemaphore = null;
+    private BooleanSupplier runnableThreadWaitTerminated = () -> false;
+    private final Object runnableThreadWaitLock = new Object();
+    /**
+     * The thread that waits for a permit of the {@link #runnableThreadSemaphore}, if any.
+     * Guarded by {@link #runnableThreadWaitLock}.
+     */
+    private Thread runnableThreadWaitingThread = null;
+    /**
+     * How long to keep a permit of the {@link #runnableThreadSemaphore} while other threads wait for one.
+     */
+    protected long runnableThreadTimeSliceMillis = 0L;
+    private boolean runnableThreadPermitAcquired = false;
+    private long runnableThreadPermitSystemTimeMillis;
 
     protected volatile Long startingSystemTimeMillis;
     protected volatile Long endingSystemTimeMillis;
@@ -47,6 +62,8 @@ public class SolverScope<Solution_> {
 
     protected volatile ProblemSizeStatistics problemSizeStatistics;
     protected volatile Solution_ bestSolution;
+    // Null unless the bestSolution has yet to be cloned
+    protected WorkingSolutionSnapshot<Solution_> bestSolutionSnapshot;
     protected volatile Score bestScore;
     protected Long bestSolutionTimeMillis;
     /**
@@ -110,8 +127,22 @@ public class SolverScope<Solution_> {
         this.scoreDirector = scoreDirector;
     }
 
-    public void setRunnableThreadSemaphore(Semaphore runnableThreadSemaphore) {
+    /**
+     * @param runnableThreadSemaphore never null
+     * @param runnableThreadWaitTerminated never null, true if this thread must stop waiting for a permit,
+     *        because the solver is terminating; after it turns true, call {@link #wakeUpRunnableThreadWait()}
+     */
+    public void setRunnableThreadSemaphore(Semaphore runnableThreadSemaphore, BooleanSupplier runnableThreadWaitTerminated) {
         this.runnableThreadSemaphore = runnableThreadSemaphore;
+        this.runnableThreadWaitTerminated = runnableThreadWaitTerminated;
+    }
+
+    /**
+     * @param runnableThreadTimeSliceMillis at least 0, {@link #checkYielding()} only yields
+     *        once this thread has been runnable that long
+     */
+    public void setRunnableThreadTimeSliceMillis(long runnableThreadTimeSliceMillis) {
+        this.runnableThreadTimeSliceMillis = runnableThreadTimeSliceMillis;
     }
 
     public Long getStartingSystemTimeMillis() {
@@ -163,6 +194,10 @@ public class SolverScope<Solution_> {
     }
 
     public Solution_ getBestSolution() {
+        if (bestSolutionSnapshot != null) {
+            bestSolution = bestSolutionSnapshot.getSolution();
+            bestSolutionSnapshot = null;
+        }
         return bestSolution;
     }
 
@@ -173,9 +208,29 @@ public class SolverScope<Solution_> {
      * @param bestSolution never null
      */
     public void setBestSolution(Solution_ bestSolution) {
+        discardBestSolutionSnapshot();
         this.bestSolution = bestSolution;
     }
 
+    /**
+     * Like {@link #setBestSolution(Object)},
+     * but the {@link PlanningSolution best solution} is only cloned when {@link #getBestSolution()} needs it.
+     *
+     * @param bestSolutionSnapshot never null
+     */
+    public void setBestSolutionSnapshot(WorkingSolutionSnapshot<Solution_> bestSolutionSnapshot) {
+        discardBestSolutionSnapshot();
+        this.bestSolution = null;
+        this.bestSolutionSnapshot = bestSolutionSnapshot;
+    }
+
+    private void discardBestSolutionSnapshot() {
+        if (bestSolutionSnapshot != null) {
+            bestSolutionSnapshot.discard();
+            bestSolutionSnapshot = null;
+        }
+    }
+
     public Score getBestScore() {
         return bestScore;
     }
@@ -249,7 +304,7 @@ public class SolverScope<Solution_> {
 
     public void setWorkingSolutionFromBestSolution() {
         // The workingSolution must never be the same instance as the bestSolution.
-        scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(bestSolution));
+        scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(getBestSolution()));
     }
 
     public SolverScope<Solution_> createChildThreadSolverScope(ChildThreadType childThreadType) {
@@ -265,20 +320,15 @@ public class SolverScope<Solution_> {
         childThreadSolverScope.endingSystemTimeMillis = null;
         childThreadSolverScope.startingInitializedScore = null;
         childThreadSolverScope.bestSolution = null;
+        childThreadSolverScope.bestSolutionSnapshot = null;
         childThreadSolverScope.bestScore = null;
         childThreadSolverScope.bestSolutionTimeMillis = null;
         return childThreadSolverScope;
     }
 
     public void initializeYielding() {
-        if (runnableThreadSemaphore != null) {
-            try {
-                runnableThreadSemaphore.acquire();
-            } catch (InterruptedException e) {
-                // TODO it will take a while before the BasicPlumbingTermination is called
-                // The BasicPlumbingTermination will terminate the solver.
-                Thread.currentThread().interrupt();
-            }
+        if (runnableThreadSemaphore != null && !runnableThreadPermitAcquired) {
+            acquireRunnableThreadPermit();
         }
     }
 
@@ -287,24 +337,76 @@ public class SolverScope<Solution_> {
      * at less than the CPU processor count, so other threads (for example servlet threads that handle REST calls)
      * and other processes (such as SSH) have access to uncontested CPUs and don't suffer any latency.
      * <p>
+     * Only yields if another thread is waiting and this thread has been runnable
+     * for at least the {@link #setRunnableThreadTimeSliceMillis(long) time slice}.
+     * With a fair {@link Semaphore}, the waiting threads therefore take turns round-robin.
+     * <p>
      * Needs to be called <b>before</b> {@link Termination#isPhaseTerminated(AbstractPhaseScope)},
      * so the decision to start a new iteration is after any yield waiting time has been consumed
      * (so {@link Solver#terminateEarly()} reacts immediately).
+     * A thread that waits for a permit stops waiting without one once the solver is terminating,
+     * so the termination takes effect.
      */
     public void checkYielding() {
         if (runnableThreadSemaphore != null) {
-            runnableThreadSemaphore.release();
-            try {
-                runnableThreadSemaphore.acquire();
-            } catch (InterruptedException e) {
+            if (runnableThreadPermitAcquired) {
+                if (!runnableThreadSemaphore.hasQueuedThreads() || System.currentTimeMillis()
+                        - runnableThreadPermitSystemTimeMillis < runnableThreadTimeSliceMillis) {
+                    return;
+                }
+                runnableThreadPermitAcquired = false;
+                runnableThreadSemaphore.release();
+            }
+            acquireRunnableThreadPermit();
+        }
+    }
+
+    private void acquireRunnableThreadPermit() {
+        synchronized (runnableThreadWaitLock) {
+            if (runnableThreadWaitTerminated.getAsBoolean()) {
+                return;
+            }
+            runnableThreadWaitingThread = Thread.currentThread();
+        }
+        // A blocking acquire keeps this thread's place in the queue of a fair semaphore.
+        try {
+            runnableThreadSemaphore.acquire();
+            runnableThreadPermitAcquired = true;
+            runnableThreadPermitSystemTimeMillis = System.currentTimeMillis();
+        } catch (InterruptedException e) {
+            if (!runnableThreadWaitTerminated.getAsBoolean()) {
                 // The BasicPlumbingTermination will terminate the solver.
                 Thread.currentThread().interrupt();
             }
+        } finally {
+            synchronized (runnableThreadWaitLock) {
+                runnableThreadWaitingThread = null;
+            }
+        }
+        if (runnableThreadWaitTerminated.getAsBoolean()) {
+            // Clear the interrupt of a wake-up that came too late, after the permit was acquired,
+            // so that it does not break the rest of this thread's work; the solver is terminating anyway.
+            Thread.interrupted();
+        }
+    }
+
+    /**
+     * Interrupts the thread that waits for a runnable thread permit, if any,
+     * so that it stops waiting once the solver is terminating.
+     * The waiting thread keeps its place in the queue until then.
+     * This method is thread-safe.
+     */
+    public void wakeUpRunnableThreadWait() {
+        synchronized (runnableThreadWaitLock) {
+            if (runnableThreadWaitingThread != null) {
+                runnableThreadWaitingThread.interrupt();
+            }
         }
     }
 
     public void destroyYielding() {
-        if (runnableThreadSemaphore != null) {
+        if (runnableThreadSemaphore != null && runnableThreadPermitAcquired) {
+            runnableThreadPermitAcquired = false;
             runnableThreadSemaphore.release();
         }
     }
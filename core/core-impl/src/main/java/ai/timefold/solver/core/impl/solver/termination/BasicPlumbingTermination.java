@@ -12,7 +12,8 @@ import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
 /**
  * Concurrency notes:
- * Condition predicate on ({@link #problemFactChangeQueue} is not empty or {@link #terminatedEarly} is true).
+ * Condition predicate on ({@link #problemFactChangeQueue} is not empty or {@link #restartRequested} is true
+ * or {@link #terminatedEarly} is true).
  */
 public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Solution_> {
 
@@ -24,6 +25,8 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
 
     protected boolean problemFactChangesBeingProcessed = false;
 
+    protected boolean restartRequested = false;
+
     public BasicPlumbingTermination(boolean daemon) {
         this.daemon = daemon;
     }
@@ -61,17 +64,28 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
     }
 
     /**
-     * If this returns true, then the problemFactChangeQueue is definitely not empty.
+     * Terminates the solver, so it restarts, even though all problem changes have already been processed.
+     * <p>
+     * Concurrency note: unblocks {@link #waitForRestartSolverDecision()}.
+     */
+    public synchronized void requestRestart() {
+        restartRequested = true;
+        notifyAll();
+    }
+
+    /**
+     * If this returns true, then the problemFactChangeQueue is definitely not empty or a restart was requested.
      * <p>
-     * Concurrency note: Blocks until {@link #problemFactChangeQueue} is not empty or {@link #terminatedEarly} is true.
+     * Concurrency note: Blocks until {@link #problemFactChangeQueue} is not empty or {@link #restartRequested}
+     * or {@link #terminatedEarly} is true.
      *
      * @return true if the solver needs to be restarted
      */
     public synchronized boolean waitForRestartSolverDecision() {
         if (!daemon) {
-            return !problemFactChangeQueue.isEmpty() && !terminatedEarly;
+            return (!problemFactChangeQueue.isEmpty() || restartRequested) && !terminatedEarly;
         } else {
-            while (problemFactChangeQueue.isEmpty() && !terminatedEarly) {
+            while (problemFactChangeQueue.isEmpty() && !restartRequested && !terminatedEarly) {
                 try {
                     wait();
                 } catch (InterruptedException e) {
@@ -109,6 +123,7 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
 
     public synchronized BlockingQueue<ProblemChangeAdapter<Solution_>> startProblemFactChangesProcessing() {
         problemFactChangesBeingProcessed = true;
+        restartRequested = false;
         return problemFactChangeQueue;
     }
 
@@ -136,7 +151,7 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
             logger.info("The solver thread got interrupted, so this solver is terminating early.");
             terminatedEarly = true;
         }
-        return terminatedEarly || !problemFactChangeQueue.isEmpty();
+        return terminatedEarly || restartRequested || !problemFactChangeQueue.isEmpty();
     }
 
     @Override
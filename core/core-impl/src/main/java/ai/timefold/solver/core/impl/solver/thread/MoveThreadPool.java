@@ -0,0 +1,191 @@
+package ai.timefold.solver.core.impl.solver.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+
+/**
+ * Move threads which calculate the scores of moves selected on the solver thread,
+ * for the community multithreaded deciders.
+ * Each move thread has its own {@link InnerScoreDirector} with its own clone of the working solution,
+ * to which it rebases the moves.
+ * <p>
+ * The scores are returned in the order of the moves, regardless of the order in which the move threads finish,
+ * so the decider can process them exactly like the single threaded decider does.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class MoveThreadPool<Solution_> {
+
+    /**
+     * The number of moves selected per move thread before they are evaluated together,
+     * unless the moveThreadBufferSize is configured.
+     */
+    public static final int DEFAULT_MOVE_THREAD_BUFFER_SIZE = 10;
+
+    private final String logIndentation;
+    private final ThreadFactory threadFactory;
+    private final int moveThreadCount;
+
+    private boolean assertMoveScoreFromScratch = false;
+    private boolean assertExpectedUndoMoveScore = false;
+
+    private ExecutorService executor;
+    private List<InnerScoreDirector<Solution_, ?>> moveThreadScoreDirectorList;
+
+    /**
+     * @param moveThreadCount at least 1
+     */
+    public MoveThreadPool(String logIndentation, ThreadFactory threadFactory, int moveThreadCount) {
+        this.logIndentation = logIndentation;
+        this.threadFactory = threadFactory;
+        this.moveThreadCount = moveThreadCount;
+    }
+
+    public void setAssertMoveScoreFromScratch(boolean assertMoveScoreFromScratch) {
+        this.assertMoveScoreFromScratch = assertMoveScoreFromScratch;
+    }
+
+    public void setAssertExpectedUndoMoveScore(boolean assertExpectedUndoMoveScore) {
+        this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * Starts the move threads, each with a clone of the current working solution.
+     *
+     * @param solverScope never null
+     */
+    public void start(SolverScope<Solution_> solverScope) {
+        if (executor != null) {
+            throw new IllegalStateException("Impossible state: the move threads are already started.");
+        }
+        executor = Executors.newFixedThreadPool(moveThreadCount, threadFactory);
+        InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
+        moveThreadScoreDirectorList = new ArrayList<>(moveThreadCount);
+        for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
+            InnerScoreDirector<Solution_, ?> moveThreadScoreDirector =
+                    scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
+            moveThreadScoreDirector.calculateScore();
+            moveThreadScoreDirectorList.add(moveThreadScoreDirector);
+        }
+        addCalculationCount(solverScope);
+    }
+
+    /**
+     * Calculates the scores of moves that are doable on the current working solution.
+     * Move thread {@code i} evaluates the moves at index {@code i}, {@code i + moveThreadCount}, and so on.
+     *
+     * @param solverScope never null
+     * @param moveList never null, the moves in the order in which they were selected
+     * @param lastStepScore never null, the score of the current working solution
+     * @return never null, the score of each move, at the index of that move
+     */
+    public Score<?>[] evaluateMoves(SolverScope<Solution_> solverScope, List<Move<Solution_>> moveList,
+            Score<?> lastStepScore) {
+        Score<?>[] moveScores = new Score<?>[moveList.size()];
+        int taskCount = Math.min(moveThreadCount, moveList.size());
+        List<Callable<Void>> taskList = new ArrayList<>(taskCount);
+        for (int moveThreadIndex = 0; moveThreadIndex < taskCount; moveThreadIndex++) {
+            InnerScoreDirector<Solution_, ?> moveThreadScoreDirector = moveThreadScoreDirectorList.get(moveThreadIndex);
+            int firstMoveIndex = moveThreadIndex;
+            taskList.add(() -> {
+                moveThreadScoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
+                for (int i = firstMoveIndex; i < moveScores.length; i += moveThreadCount) {
+                    moveScores[i] = evaluateMove(moveThreadScoreDirector, moveList.get(i), lastStepScore);
+                }
+                moveThreadScoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+                return null;
+            });
+        }
+        invokeAll(taskList);
+        addCalculationCount(solverScope);
+        return moveScores;
+    }
+
+    private <Score_ extends Score<Score_>> Score_ evaluateMove(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            Move<Solution_> move, Score<?> lastStepScore) {
+        Move<Solution_> rebasedMove = move.rebase(scoreDirector);
+        Score_ score = scoreDirector.doAndProcessMove(rebasedMove, assertMoveScoreFromScratch);
+        if (assertExpectedUndoMoveScore) {
+            scoreDirector.assertExpectedUndoMoveScore(rebasedMove, (Score_) lastStepScore);
+        }
+        return score;
+    }
+
+    /**
+     * Does the step, which the solver thread already did on its own working solution, on every move thread.
+     *
+     * @param solverScope never null
+     * @param step never null
+     * @param stepScore never null, the score of the solver thread after the step
+     */
+    public void doStep(SolverScope<Solution_> solverScope, Move<Solution_> step, Score<?> stepScore) {
+        List<Callable<Void>> taskList = new ArrayList<>(moveThreadCount);
+        for (InnerScoreDirector<Solution_, ?> moveThreadScoreDirector : moveThreadScoreDirectorList) {
+            taskList.add(() -> {
+                step.rebase(moveThreadScoreDirector).doMoveOnly(moveThreadScoreDirector);
+                Score<?> moveThreadStepScore = moveThreadScoreDirector.calculateScore();
+                if (assertMoveScoreFromScratch && !moveThreadStepScore.equals(stepScore)) {
+                    throw new IllegalStateException("Impossible state: the move thread's step score ("
+                            + moveThreadStepScore + ") is not the solver thread's step score (" + stepScore
+                            + ") after the step (" + step + ").");
+                }
+                return null;
+            });
+        }
+        invokeAll(taskList);
+        addCalculationCount(solverScope);
+    }
+
+    private void invokeAll(List<Callable<Void>> taskList) {
+        try {
+            for (Future<Void> future : executor.invokeAll(taskList)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Solver thread was interrupted while waiting for the move threads.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A move thread failed to evaluate the moves.", e.getCause());
+        }
+    }
+
+    private void addCalculationCount(SolverScope<Solution_> solverScope) {
+        for (InnerScoreDirector<Solution_, ?> moveThreadScoreDirector : moveThreadScoreDirectorList) {
+            solverScope.addChildThreadsScoreCalculationCount(moveThreadScoreDirector.getCalculationCount());
+            moveThreadScoreDirector.resetCalculationCount();
+        }
+    }
+
+    /**
+     * Stops the move threads, if they are started.
+     *
+     * @param name never null, the name of the user of the move threads, for logging
+     */
+    public void shutdown(String name) {
+        if (executor != null) {
+            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, name);
+            executor = null;
+        }
+        if (moveThreadScoreDirectorList != null) {
+            moveThreadScoreDirectorList.forEach(InnerScoreDirector::close);
+            moveThreadScoreDirectorList = null;
+        }
+    }
+
+}
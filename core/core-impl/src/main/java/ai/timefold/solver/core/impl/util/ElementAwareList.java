@@ -28,6 +28,27 @@ public final class ElementAwareList<T> implements Iterable<T> {
         return entry;
     }
 
+    /**
+     * Adds an entry which was previously removed from this or another list,
+     * instead of allocating a new entry for the same element.
+     *
+     * @param entry never null, must have been {@link ElementAwareListEntry#remove() removed}
+     */
+    public void add(ElementAwareListEntry<T> entry) {
+        if (entry.list != null) {
+            throw new IllegalStateException("The element (" + entry.getElement() + ") was not yet removed.");
+        }
+        entry.list = this;
+        entry.previous = last;
+        if (first == null) {
+            first = entry;
+        } else {
+            last.next = entry;
+        }
+        last = entry;
+        size++;
+    }
+
     public void remove(ElementAwareListEntry<T> entry) {
         if (first == entry) {
             first = entry.next;
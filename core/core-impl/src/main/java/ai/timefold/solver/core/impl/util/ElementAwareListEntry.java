@@ -7,7 +7,7 @@ package ai.timefold.solver.core.impl.util;
  */
 public final class ElementAwareListEntry<T> {
 
-    private ElementAwareList<T> list;
+    ElementAwareList<T> list;
     private final T element;
     ElementAwareListEntry<T> previous;
     ElementAwareListEntry<T> next;
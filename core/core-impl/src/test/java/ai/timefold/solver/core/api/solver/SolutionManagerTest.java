@@ -4,8 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.score.Score;
@@ -33,12 +36,16 @@ import ai.timefold.solver.core.impl.testdata.domain.multivar.TestdataMultiVarEnt
 import ai.timefold.solver.core.impl.testdata.domain.multivar.TestdataMultiVarSolution;
 import ai.timefold.solver.core.impl.testdata.domain.multivar.TestdataMultivarIncrementalScoreCalculator;
 import ai.timefold.solver.core.impl.testdata.domain.multivar.TestdataOtherValue;
+import ai.timefold.solver.core.impl.testdata.domain.noplanningid.TestdataNoPlanningIdEntity;
+import ai.timefold.solver.core.impl.testdata.domain.noplanningid.TestdataNoPlanningIdIncrementalScoreCalculator;
+import ai.timefold.solver.core.impl.testdata.domain.noplanningid.TestdataNoPlanningIdSolution;
 import ai.timefold.solver.core.impl.testdata.domain.shadow.TestdataShadowedEntity;
 import ai.timefold.solver.core.impl.testdata.domain.shadow.TestdataShadowedIncrementalScoreCalculator;
 import ai.timefold.solver.core.impl.testdata.domain.shadow.TestdataShadowedSolution;
 import ai.timefold.solver.core.impl.util.Pair;
 
 import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
@@ -62,6 +69,13 @@ public class SolutionManagerTest {
                     .withScoreDirectorFactory(
                             new ScoreDirectorFactoryConfig().withIncrementalScoreCalculatorClass(
                                     TestdataAllowsUnassignedIncrementalScoreCalculator.class)));
+    public static final SolverFactory<TestdataNoPlanningIdSolution> SOLVER_FACTORY_NO_PLANNING_ID = SolverFactory.create(
+            new SolverConfig()
+                    .withSolutionClass(TestdataNoPlanningIdSolution.class)
+                    .withEntityClasses(TestdataNoPlanningIdEntity.class)
+                    .withScoreDirectorFactory(
+                            new ScoreDirectorFactoryConfig().withIncrementalScoreCalculatorClass(
+                                    TestdataNoPlanningIdIncrementalScoreCalculator.class)));
     public static final SolverFactory<TestdataMultiVarSolution> SOLVER_FACTORY_MULTIVAR = SolverFactory.create(
             new SolverConfig()
                     .withSolutionClass(TestdataMultiVarSolution.class)
@@ -320,6 +334,110 @@ public class SolutionManagerTest {
         });
     }
 
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void diff(SolutionManagerSource SolutionManagerSource) {
+        var oldSolution = TestdataShadowedSolution.generateSolution();
+        var newSolution = TestdataShadowedSolution.generateSolution();
+        // Share the problem facts, as a planning clone does.
+        newSolution.setValueList(oldSolution.getValueList());
+        for (var i = 0; i < newSolution.getEntityList().size(); i++) {
+            newSolution.getEntityList().get(i).setValue(oldSolution.getEntityList().get(i).getValue());
+        }
+        var oldEntity = oldSolution.getEntityList().get(0);
+        var oldValue = oldEntity.getValue();
+        newSolution.getEntityList().get(0).setValue(oldSolution.getValueList().get(1));
+
+        var solutionManager = SolutionManagerSource.createSolutionManager(SOLVER_FACTORY);
+        var scoreAnalysisDiff = solutionManager.diff(oldSolution, newSolution);
+        assertSoftly(softly -> {
+            softly.assertThat(scoreAnalysisDiff.score()).isEqualTo(SimpleScore.of(-2));
+            var constraintAnalysis = scoreAnalysisDiff.constraintAnalyses().iterator().next();
+            softly.assertThat(constraintAnalysis.score()).isEqualTo(SimpleScore.of(-2));
+            // Entity 0 no longer shares its value with entity 5, but with entities 1 and 6 instead.
+            softly.assertThat(constraintAnalysis.matches())
+                    .map(matchAnalysis -> (SimpleScore) matchAnalysis.score())
+                    .containsExactlyInAnyOrder(SimpleScore.ONE, SimpleScore.ONE, SimpleScore.of(-1), SimpleScore.of(-1),
+                            SimpleScore.of(-1), SimpleScore.of(-1));
+            // Neither solution is changed.
+            softly.assertThat(oldEntity.getValue()).isSameAs(oldValue);
+            softly.assertThat(oldSolution.getScore()).isNull();
+            softly.assertThat(newSolution.getScore()).isNull();
+        });
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void diffWithDifferentEntities(SolutionManagerSource SolutionManagerSource) {
+        var oldSolution = TestdataShadowedSolution.generateSolution(5, 7);
+        var newSolution = TestdataShadowedSolution.generateSolution(5, 8);
+
+        SolutionManager<TestdataShadowedSolution, SimpleScore> solutionManager =
+                SolutionManagerSource.createSolutionManager(SOLVER_FACTORY);
+        var scoreAnalysisDiff = solutionManager.diff(oldSolution, newSolution, ScoreAnalysisFetchPolicy.FETCH_SHALLOW);
+        var expectedScoreDiff = solutionManager.analyze(newSolution).score()
+                .subtract(solutionManager.analyze(oldSolution).score());
+        assertSoftly(softly -> {
+            softly.assertThat(scoreAnalysisDiff.score()).isEqualTo(expectedScoreDiff);
+            softly.assertThat(scoreAnalysisDiff.constraintAnalyses())
+                    .allSatisfy(constraintAnalysis -> assertThat(constraintAnalysis.matches()).isNull());
+        });
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void diffWithoutPlanningId(SolutionManagerSource SolutionManagerSource) {
+        var oldSolution = TestdataNoPlanningIdSolution.generateSolution(5, 7);
+        var newSolution = TestdataNoPlanningIdSolution.generateSolution(5, 7);
+        newSolution.getEntityList().get(0).setValue(newSolution.getValueList().get(1));
+
+        SolutionManager<TestdataNoPlanningIdSolution, SimpleScore> solutionManager =
+                SolutionManagerSource.createSolutionManager(SOLVER_FACTORY_NO_PLANNING_ID);
+        // The entities can not be looked up, so both solutions are analyzed in full.
+        var scoreAnalysisDiff = solutionManager.diff(oldSolution, newSolution);
+        var expectedScoreDiff = solutionManager.analyze(newSolution).score()
+                .subtract(solutionManager.analyze(oldSolution).score());
+        assertSoftly(softly -> {
+            softly.assertThat(scoreAnalysisDiff.score()).isEqualTo(expectedScoreDiff);
+            softly.assertThat(scoreAnalysisDiff.score()).isEqualTo(SimpleScore.of(-2));
+        });
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void diffList(SolutionManagerSource SolutionManagerSource) {
+        var a = new TestdataListEntityWithShadowHistory("a");
+        var b0 = new TestdataListValueWithShadowHistory("b0");
+        var b = new TestdataListEntityWithShadowHistory("b", b0);
+        var c0 = new TestdataListValueWithShadowHistory("c0");
+        var c1 = new TestdataListValueWithShadowHistory("c1");
+        var c = new TestdataListEntityWithShadowHistory("c", c0, c1);
+        var oldSolution = new TestdataListSolutionWithShadowHistory();
+        oldSolution.setEntityList(Arrays.asList(a, b, c));
+        oldSolution.setValueList(Arrays.asList(b0, c0, c1));
+
+        var newA = new TestdataListEntityWithShadowHistory("a");
+        var newB0 = new TestdataListValueWithShadowHistory("b0");
+        var newB = new TestdataListEntityWithShadowHistory("b", newB0);
+        var newC0 = new TestdataListValueWithShadowHistory("c0");
+        var newC1 = new TestdataListValueWithShadowHistory("c1");
+        var newC = new TestdataListEntityWithShadowHistory("c", newC0);
+        newA.getValueList().add(newC1);
+        var newSolution = new TestdataListSolutionWithShadowHistory();
+        newSolution.setEntityList(Arrays.asList(newA, newB, newC));
+        newSolution.setValueList(Arrays.asList(newB0, newC0, newC1));
+
+        SolutionManager<TestdataListSolutionWithShadowHistory, SimpleScore> solutionManager =
+                SolutionManagerSource.createSolutionManager(SOLVER_FACTORY_LIST);
+        var scoreAnalysisDiff = solutionManager.diff(oldSolution, newSolution);
+        var expectedScoreDiff = solutionManager.analyze(newSolution).score()
+                .subtract(solutionManager.analyze(oldSolution).score());
+        assertSoftly(softly -> {
+            softly.assertThat(scoreAnalysisDiff.score()).isEqualTo(expectedScoreDiff);
+            softly.assertThat(c.getValueList()).containsExactly(c0, c1);
+        });
+    }
+
     @ParameterizedTest
     @EnumSource(SolutionManagerSource.class)
     void recommendFit(SolutionManagerSource SolutionManagerSource) {
@@ -426,6 +544,85 @@ public class SolutionManagerTest {
         });
     }
 
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void recommendFitWithLimit(SolutionManagerSource SolutionManagerSource) {
+        int valueSize = 3;
+        var solution = TestdataAllowsUnassignedSolution.generateSolution(valueSize, 3);
+        var uninitializedEntity = solution.getEntityList().get(2);
+        uninitializedEntity.setValue(null);
+
+        var solutionManager = SolutionManagerSource.createSolutionManager(SOLVER_FACTORY_UNASSIGNED);
+        var recommendationList = solutionManager.recommendFit(solution, uninitializedEntity,
+                TestdataAllowsUnassignedEntity::getValue, ScoreAnalysisFetchPolicy.FETCH_ALL, 3);
+
+        // Of the four recommendations, the worst one is left out; ties stay in the order of the placer.
+        assertThat(recommendationList).hasSize(3);
+        assertSoftly(softly -> {
+            softly.assertThat(recommendationList.get(0).proposition()).isEqualTo(solution.getValueList().get(0));
+            softly.assertThat(recommendationList.get(0).scoreAnalysisDiff().score()).isEqualTo(SimpleScore.of(2));
+            softly.assertThat(recommendationList.get(1).proposition()).isEqualTo(solution.getValueList().get(2));
+            softly.assertThat(recommendationList.get(1).scoreAnalysisDiff().score()).isEqualTo(SimpleScore.of(2));
+            softly.assertThat(recommendationList.get(2).proposition()).isNull();
+            softly.assertThat(recommendationList.get(2).scoreAnalysisDiff().score()).isEqualTo(SimpleScore.ZERO);
+        });
+        // Ensure the original solution is in its original state.
+        assertSoftly(softly -> {
+            softly.assertThat(uninitializedEntity.getValue()).isNull();
+            softly.assertThat(solution.getEntityList().get(1).getValue()).isEqualTo(solution.getValueList().get(1));
+            softly.assertThat(solution.getScore()).isNull();
+        });
+
+        assertThatThrownBy(() -> solutionManager.recommendFit(solution, uninitializedEntity,
+                TestdataAllowsUnassignedEntity::getValue, ScoreAnalysisFetchPolicy.FETCH_ALL, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void recommendFitInParallelThrowsExceptionOfPart() {
+        var solution = TestdataAllowsUnassignedSolution.generateSolution(3, 3);
+        var uninitializedEntity = solution.getEntityList().get(2);
+        uninitializedEntity.setValue(null);
+        var callerThread = Thread.currentThread();
+        var solutionManager = SolutionManager.create(SOLVER_FACTORY_UNASSIGNED,
+                command -> new Thread(command).start(), 2);
+
+        // Only the part on the executor fails, the part on the caller thread succeeds.
+        assertThatThrownBy(() -> solutionManager.recommendFit(solution, uninitializedEntity,
+                entity -> {
+                    if (Thread.currentThread() != callerThread) {
+                        throw new IllegalStateException("Part failed.");
+                    }
+                    return entity.getValue();
+                }, ScoreAnalysisFetchPolicy.FETCH_ALL))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("Part failed.");
+    }
+
+    @Test
+    void recommendFitInParallelCancelsOtherParts() {
+        var solution = TestdataAllowsUnassignedSolution.generateSolution(3, 3);
+        var uninitializedEntity = solution.getEntityList().get(2);
+        uninitializedEntity.setValue(null);
+        var pendingTaskList = new ArrayList<Runnable>();
+        var solutionManager = SolutionManager.create(SOLVER_FACTORY_UNASSIGNED, pendingTaskList::add, 2);
+
+        var propositionCount = new AtomicInteger();
+        assertThatThrownBy(() -> solutionManager.recommendFit(solution, uninitializedEntity,
+                entity -> {
+                    propositionCount.incrementAndGet();
+                    throw new IllegalStateException("Part failed.");
+                }, ScoreAnalysisFetchPolicy.FETCH_ALL))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("Part failed.");
+        assertThat(propositionCount).hasValue(1);
+
+        // The part on the executor was cancelled before it started, so it never evaluates its fits.
+        assertThat(pendingTaskList).hasSize(1);
+        pendingTaskList.forEach(Runnable::run);
+        assertThat(propositionCount).hasValue(1);
+    }
+
     @ParameterizedTest
     @EnumSource(SolutionManagerSource.class)
     void recommendFitMultivar(SolutionManagerSource SolutionManagerSource) {
@@ -724,7 +921,9 @@ public class SolutionManagerTest {
     public enum SolutionManagerSource {
 
         FROM_SOLVER_FACTORY(SolutionManager::create),
-        FROM_SOLVER_MANAGER(solverFactory -> SolutionManager.create(SolverManager.create(solverFactory)));
+        FROM_SOLVER_MANAGER(solverFactory -> SolutionManager.create(SolverManager.create(solverFactory))),
+        FROM_SOLVER_FACTORY_WITH_PARALLEL_RECOMMEND_FIT(
+                solverFactory -> SolutionManager.create(solverFactory, ForkJoinPool.commonPool(), 2));
 
         private final Function<SolverFactory, SolutionManager> solutionManagerConstructor;
 
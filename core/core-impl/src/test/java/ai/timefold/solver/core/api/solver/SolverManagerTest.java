@@ -16,6 +16,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -35,6 +37,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
@@ -43,8 +46,11 @@ import ai.timefold.solver.core.config.phase.custom.CustomPhaseConfig;
 import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.config.solver.SolverManagerConfig;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.phase.custom.CustomPhaseCommand;
 import ai.timefold.solver.core.impl.solver.DefaultSolverJob;
+import ai.timefold.solver.core.impl.solver.SolutionCheckpoint;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEasyScoreCalculator;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
@@ -56,6 +62,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 
 class SolverManagerTest {
 
@@ -155,6 +162,237 @@ class SolverManagerTest {
         assertThat(solverJob2.getSolverStatus()).isEqualTo(NOT_SOLVING);
     }
 
+    @Test
+    @Timeout(60)
+    void solveWithPriority() throws InterruptedException, ExecutionException {
+        CountDownLatch solverThreadBlocked = new CountDownLatch(1);
+        CountDownLatch unblockSolverThread = new CountDownLatch(1);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
+                        scoreDirector -> {
+                            solverThreadBlocked.countDown();
+                            try {
+                                unblockSolverThread.await();
+                            } catch (InterruptedException e) {
+                                fail("Latch failed.");
+                            }
+                        }), new ConstructionHeuristicPhaseConfig());
+        solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
+        List<Long> solvedProblemIdList = Collections.synchronizedList(new ArrayList<>());
+        Function<Long, TestdataSolution> problemFinder = problemId -> {
+            solvedProblemIdList.add(problemId);
+            return PlannerTestUtils.generateTestdataSolution("s" + problemId);
+        };
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveBuilder()
+                .withProblemId(1L)
+                .withProblemFinder(problemFinder)
+                .run();
+        solverThreadBlocked.await();
+        List<SolverJob<TestdataSolution, Long>> solverJobList = new ArrayList<>();
+        solverJobList.add(solverJob1);
+        for (long problemId = 2L; problemId <= 5L; problemId++) {
+            solverJobList.add(solverManager.solveBuilder()
+                    .withProblemId(problemId)
+                    .withProblemFinder(problemFinder)
+                    .withPriority(problemId % 2 == 0 ? 0 : 10)
+                    .run());
+        }
+        unblockSolverThread.countDown();
+        for (SolverJob<TestdataSolution, Long> solverJob : solverJobList) {
+            assertSolutionInitialized(solverJob.getFinalBestSolution());
+        }
+        // Higher priority first, then in submission order.
+        assertThat(solvedProblemIdList).containsExactly(1L, 3L, 5L, 2L, 4L);
+    }
+
+    @Test
+    @Timeout(60)
+    void solveWithMaximumQueueSize() throws InterruptedException, ExecutionException {
+        CountDownLatch solverThreadBlocked = new CountDownLatch(1);
+        CountDownLatch unblockSolverThread = new CountDownLatch(1);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
+                        scoreDirector -> {
+                            solverThreadBlocked.countDown();
+                            try {
+                                unblockSolverThread.await();
+                            } catch (InterruptedException e) {
+                                fail("Latch failed.");
+                            }
+                        }), new ConstructionHeuristicPhaseConfig());
+        solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1").withMaximumQueueSize(1));
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L,
+                PlannerTestUtils.generateTestdataSolution("s1"));
+        solverThreadBlocked.await();
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L,
+                PlannerTestUtils.generateTestdataSolution("s2"));
+        assertThatIllegalStateException()
+                .isThrownBy(() -> solverManager.solve(3L, PlannerTestUtils.generateTestdataSolution("s3")))
+                .withMessageContaining("already waiting");
+        assertThat(solverManager.getSolverStatus(3L)).isEqualTo(NOT_SOLVING);
+        unblockSolverThread.countDown();
+        assertSolutionInitialized(solverJob1.getFinalBestSolution());
+        assertSolutionInitialized(solverJob2.getFinalBestSolution());
+    }
+
+    @Test
+    @Timeout(60)
+    void terminateEarlyFreesQueueCapacity() throws InterruptedException, ExecutionException {
+        CountDownLatch solverThreadBlocked = new CountDownLatch(1);
+        CountDownLatch unblockSolverThread = new CountDownLatch(1);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
+                        scoreDirector -> {
+                            solverThreadBlocked.countDown();
+                            try {
+                                unblockSolverThread.await();
+                            } catch (InterruptedException e) {
+                                fail("Latch failed.");
+                            }
+                        }), new ConstructionHeuristicPhaseConfig());
+        solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1").withMaximumQueueSize(1));
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L,
+                PlannerTestUtils.generateTestdataSolution("s1"));
+        solverThreadBlocked.await();
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L,
+                PlannerTestUtils.generateTestdataSolution("s2"));
+        solverJob2.terminateEarly();
+        // The terminated job no longer takes up the only place in the queue.
+        SolverJob<TestdataSolution, Long> solverJob3 = solverManager.solve(3L,
+                PlannerTestUtils.generateTestdataSolution("s3"));
+        assertThatIllegalStateException()
+                .isThrownBy(() -> solverManager.solve(4L, PlannerTestUtils.generateTestdataSolution("s4")))
+                .withMessageContaining("already waiting");
+        // The problem ID of the terminated job can be solved again.
+        solverJob3.terminateEarly();
+        SolverJob<TestdataSolution, Long> resubmittedSolverJob2 = solverManager.solve(2L,
+                PlannerTestUtils.generateTestdataSolution("s2"));
+        unblockSolverThread.countDown();
+        assertSolutionInitialized(solverJob1.getFinalBestSolution());
+        assertSolutionInitialized(resubmittedSolverJob2.getFinalBestSolution());
+        assertThat(solverJob2.getSolverStatus()).isEqualTo(NOT_SOLVING);
+    }
+
+    @Test
+    @Timeout(60)
+    void solveWithCheckpoint(@TempDir Path tempDir) throws InterruptedException, ExecutionException {
+        Path checkpointFile = tempDir.resolve("s1.checkpoint");
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig());
+        CompletableFuture<Boolean> checkpointWrittenBeforeConsumption = new CompletableFuture<>();
+        SolverJob<TestdataSolution, Long> solverJob = solverManager.solveBuilder()
+                .withProblemId(1L)
+                .withProblemFinder(problemId -> PlannerTestUtils.generateTestdataSolution("s1"))
+                .withFinalBestSolutionConsumer(
+                        bestSolution -> checkpointWrittenBeforeConsumption.complete(Files.exists(checkpointFile)))
+                .withCheckpoint(checkpointFile, Duration.ZERO)
+                .run();
+        TestdataSolution finalBestSolution = solverJob.getFinalBestSolution();
+        assertThat(checkpointWrittenBeforeConsumption.get()).isTrue();
+
+        // The last checkpoint holds the final best solution.
+        TestdataSolution problem = PlannerTestUtils.generateTestdataSolution("s1");
+        new SolutionCheckpoint<>(TestdataSolution.buildSolutionDescriptor()).restore(checkpointFile, problem);
+        assertThat(problem.getEntityList())
+                .map(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(finalBestSolution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .toList());
+    }
+
+    @Test
+    @Timeout(60)
+    void solveWithTimeSlicing() throws InterruptedException, ExecutionException {
+        CountDownLatch solverJob2Submitted = new CountDownLatch(1);
+        AtomicInteger activeCommandCount = new AtomicInteger();
+        AtomicInteger maximumActiveCommandCount = new AtomicInteger();
+        List<String> commandSolutionCodeList = Collections.synchronizedList(new ArrayList<>());
+        CustomPhaseCommand<TestdataSolution> command = scoreDirector -> {
+            TestdataSolution solution = scoreDirector.getWorkingSolution();
+            maximumActiveCommandCount.accumulateAndGet(activeCommandCount.incrementAndGet(), Math::max);
+            commandSolutionCodeList.add(solution.getCode());
+            try {
+                if (solution.getCode().equals("s1")) {
+                    solverJob2Submitted.await();
+                }
+                Thread.sleep(20L);
+            } catch (InterruptedException e) {
+                fail("Interrupted.");
+            } finally {
+                activeCommandCount.decrementAndGet();
+            }
+        };
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(command, command, command, command, command),
+                        new ConstructionHeuristicPhaseConfig());
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                .withParallelSolverCount("2")
+                .withActiveSolverCount(1)
+                .withTimeSlice(Duration.ZERO));
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L,
+                PlannerTestUtils.generateTestdataSolution("s1"));
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L,
+                PlannerTestUtils.generateTestdataSolution("s2"));
+        solverJob2Submitted.countDown();
+        assertSolutionInitialized(solverJob1.getFinalBestSolution());
+        assertSolutionInitialized(solverJob2.getFinalBestSolution());
+        // Only 1 solver was active at a time, but the second one did not wait for the first one to finish.
+        assertThat(maximumActiveCommandCount).hasValue(1);
+        assertThat(commandSolutionCodeList).hasSize(10);
+        assertThat(commandSolutionCodeList.indexOf("s2")).isLessThan(commandSolutionCodeList.lastIndexOf("s1"));
+    }
+
+    @Test
+    @Timeout(60)
+    void terminateEarlyWhileWaitingForTimeSlice() throws InterruptedException, ExecutionException {
+        CountDownLatch solverJob1Blocked = new CountDownLatch(1);
+        CountDownLatch unblockSolverJob1 = new CountDownLatch(1);
+        List<String> commandSolutionCodeList = Collections.synchronizedList(new ArrayList<>());
+        CustomPhaseCommand<TestdataSolution> command = scoreDirector -> {
+            String code = scoreDirector.getWorkingSolution().getCode();
+            commandSolutionCodeList.add(code);
+            if (code.equals("s1")) {
+                solverJob1Blocked.countDown();
+                try {
+                    unblockSolverJob1.await();
+                } catch (InterruptedException e) {
+                    fail("Latch failed.");
+                }
+            }
+        };
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(command),
+                        new ConstructionHeuristicPhaseConfig());
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                .withParallelSolverCount("2")
+                .withActiveSolverCount(1));
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L,
+                PlannerTestUtils.generateTestdataSolution("s1"));
+        solverJob1Blocked.await();
+        // The second solver job waits for the runnable thread permit that the blocked first solver job holds.
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L,
+                PlannerTestUtils.generateTestdataSolution("s2"));
+        while (solverJob2.getSolverStatus() != SOLVING_ACTIVE) {
+            Thread.sleep(10L);
+        }
+        solverJob2.terminateEarly();
+        assertThat(solverJob2.getSolverStatus()).isEqualTo(NOT_SOLVING);
+        assertThat(solverJob2.getFinalBestSolution()).isNotNull();
+        assertThat(solverJob1.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+
+        unblockSolverJob1.countDown();
+        assertSolutionInitialized(solverJob1.getFinalBestSolution());
+        assertThat(commandSolutionCodeList).containsExactly("s1");
+    }
+
     @Test
     @Timeout(60)
     void exceptionInSolver() {
@@ -625,6 +863,147 @@ class SolverManagerTest {
         }
     }
 
+    @Test
+    @Timeout(60)
+    void solveAndListenWithBestSolutionConsumerMinimumInterval() throws ExecutionException, InterruptedException {
+        CountDownLatch firstBestSolutionConsumed = new CountDownLatch(1);
+        CustomPhaseCommand<TestdataSolution>[] commands = IntStream.range(0, 4)
+                .<CustomPhaseCommand<TestdataSolution>> mapToObj(i -> scoreDirector -> {
+                    if (i == 1) {
+                        // The first best solution is not skipped because the consumer is still busy.
+                        awaitLatch(firstBestSolutionConsumed);
+                    }
+                    TestdataSolution solution = scoreDirector.getWorkingSolution();
+                    TestdataEntity entity = solution.getEntityList().get(i);
+                    scoreDirector.beforeVariableChanged(entity, "value");
+                    entity.setValue(solution.getValueList().get(i));
+                    scoreDirector.afterVariableChanged(entity, "value");
+                    scoreDirector.triggerVariableListeners();
+                })
+                .toArray(CustomPhaseCommand[]::new);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(commands));
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig());
+        List<TestdataSolution> bestSolutionList = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch finalBestSolutionConsumed = new CountDownLatch(1);
+        SolverJob<TestdataSolution, Long> solverJob = solverManager.solveBuilder()
+                .withProblemId(1L)
+                .withProblemFinder(problemId -> PlannerTestUtils.generateTestdataSolution("s1", 4))
+                .withBestSolutionConsumer(bestSolution -> {
+                    bestSolutionList.add(bestSolution);
+                    firstBestSolutionConsumed.countDown();
+                })
+                .withBestSolutionConsumerMinimumInterval(Duration.ofHours(1))
+                .withFinalBestSolutionConsumer(finalBestSolution -> finalBestSolutionConsumed.countDown())
+                .run();
+        assertSolutionInitialized(solverJob.getFinalBestSolution());
+        finalBestSolutionConsumed.await();
+        // The first best solution is consumed, the next 2 are skipped, the last one is fired when solving ends.
+        assertThat(bestSolutionList)
+                .map(SolverManagerTest::countAssignedEntities)
+                .containsExactly(1L, 4L);
+    }
+
+    @Test
+    @Timeout(60)
+    void solveAndListenWithBestSolutionConsumerMinimumScoreDelta() throws ExecutionException, InterruptedException {
+        CountDownLatch firstBestSolutionConsumed = new CountDownLatch(1);
+        CountDownLatch secondBestSolutionConsumed = new CountDownLatch(2);
+        // Each entity moves away from the crowded first value, improving the score from -20 to -12, -6, -2 and 0.
+        CustomPhaseCommand<TestdataSolution>[] commands = IntStream.range(1, 5)
+                .<CustomPhaseCommand<TestdataSolution>> mapToObj(i -> scoreDirector -> {
+                    if (i == 2) {
+                        awaitLatch(firstBestSolutionConsumed);
+                    } else if (i == 4) {
+                        awaitLatch(secondBestSolutionConsumed);
+                    }
+                    TestdataSolution solution = scoreDirector.getWorkingSolution();
+                    TestdataEntity entity = solution.getEntityList().get(i);
+                    scoreDirector.beforeVariableChanged(entity, "value");
+                    entity.setValue(solution.getValueList().get(i));
+                    scoreDirector.afterVariableChanged(entity, "value");
+                    scoreDirector.triggerVariableListeners();
+                })
+                .toArray(CustomPhaseCommand[]::new);
+        SolverConfig solverConfig = new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(commands));
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig());
+        List<SimpleScore> bestScoreList = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch finalBestSolutionConsumed = new CountDownLatch(1);
+        SolverJob<TestdataSolution, Long> solverJob = solverManager.solveBuilder()
+                .withProblemId(1L)
+                .withProblemFinder(problemId -> PlannerTestUtils.generateCrowdedTestdataSolution(5, 5))
+                .withBestSolutionConsumer(bestSolution -> {
+                    bestScoreList.add(bestSolution.getScore());
+                    firstBestSolutionConsumed.countDown();
+                    secondBestSolutionConsumed.countDown();
+                })
+                .withBestSolutionConsumerMinimumScoreDelta(SimpleScore.of(7))
+                .withFinalBestSolutionConsumer(finalBestSolution -> finalBestSolutionConsumed.countDown())
+                .run();
+        assertThat(solverJob.getFinalBestSolution().getScore()).isEqualTo(SimpleScore.ZERO);
+        finalBestSolutionConsumed.await();
+        // -6 and 0 do not improve the last consumed score enough, but 0 is the last one, fired when solving ends.
+        assertThat(bestScoreList)
+                .containsExactly(SimpleScore.of(-12), SimpleScore.of(-2), SimpleScore.ZERO);
+    }
+
+    @Test
+    @Timeout(60)
+    void addProblemChangeWithBestSolutionConsumerMinimumScoreDelta() throws ExecutionException, InterruptedException {
+        SolverConfig solverConfig = new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withIncrementalProblemChanges(true)
+                .withPhases(new LocalSearchPhaseConfig());
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig());
+        AtomicReference<TestdataSolution> lastBestSolution = new AtomicReference<>();
+        CountDownLatch firstBestSolutionConsumed = new CountDownLatch(1);
+        SolverJob<TestdataSolution, Long> solverJob = solverManager.solveBuilder()
+                .withProblemId(1L)
+                .withProblemFinder(problemId -> PlannerTestUtils.generateCrowdedTestdataSolution(5, 5))
+                .withBestSolutionConsumer(bestSolution -> {
+                    lastBestSolution.set(bestSolution);
+                    firstBestSolutionConsumed.countDown();
+                })
+                // No later best solution improves the first one enough to be consumed.
+                .withBestSolutionConsumerMinimumScoreDelta(SimpleScore.of(100))
+                .run();
+        firstBestSolutionConsumed.await();
+
+        // The problem change makes the best score worse and Local Search applies it between 2 steps.
+        CompletableFuture<Void> futureChange = solverJob.addProblemChange((workingSolution, problemChangeDirector) -> {
+            TestdataEntity entity = workingSolution.getEntityList().get(1);
+            TestdataValue value = workingSolution.getEntityList().get(0).getValue();
+            problemChangeDirector.changeVariable(entity, "value", changedEntity -> changedEntity.setValue(value));
+        });
+        futureChange.get();
+        // The best solution with the problem change is consumed, even though its score did not improve enough.
+        TestdataSolution bestSolution = lastBestSolution.get();
+        assertThat(bestSolution.getEntityList().get(1).getValue())
+                .isSameAs(bestSolution.getEntityList().get(0).getValue());
+        solverJob.terminateEarly();
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The latch failed.", e);
+        }
+    }
+
+    private static long countAssignedEntities(TestdataSolution solution) {
+        return solution.getEntityList().stream()
+                .filter(entity -> entity.getValue() != null)
+                .count();
+    }
+
     @Test
     @Timeout(600)
     void terminateEarly() throws InterruptedException, BrokenBarrierException {
@@ -0,0 +1,60 @@
+package ai.timefold.solver.core.impl.constructionheuristic.decider;
+
+import static ai.timefold.solver.core.impl.testdata.util.PlannerTestUtils.generateUninitializedTestdataSolution;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicType;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEasyScoreCalculator;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataThreadRecordingEasyScoreCalculator;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListValue;
+import ai.timefold.solver.core.impl.testdata.util.PlannerTestUtils;
+
+import org.junit.jupiter.api.Test;
+
+class MultiThreadedConstructionHeuristicDeciderTest {
+
+    @Test
+    void evaluateMovesOnMoveThreads() {
+        TestdataThreadRecordingEasyScoreCalculator.clearThreadNameSet();
+        var solverConfig = buildSolverConfig("3")
+                .withEasyScoreCalculatorClass(TestdataThreadRecordingEasyScoreCalculator.class);
+        var solution = PlannerTestUtils.solve(solverConfig, generateUninitializedTestdataSolution(7, 20));
+        assertThat(solution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+        // Every move thread calculates scores, not only the solver thread.
+        assertThat(TestdataThreadRecordingEasyScoreCalculator.getThreadNameSet())
+                .filteredOn(threadName -> threadName.contains("-MoveThread-"))
+                .hasSize(3);
+    }
+
+    @Test
+    void solveListVariableFullAssert() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataListSolution.class, TestdataListEntity.class,
+                TestdataListValue.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withMoveThreadCount("2")
+                .withPhases(new ConstructionHeuristicPhaseConfig());
+        var solution = PlannerTestUtils.solve(solverConfig, TestdataListSolution.generateUninitializedSolution(8, 3));
+        assertThat(solution.getEntityList().stream().mapToInt(entity -> entity.getValueList().size()).sum())
+                .isEqualTo(8);
+    }
+
+    private static SolverConfig buildSolverConfig(String moveThreadCount) {
+        return new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withEnvironmentMode(EnvironmentMode.REPRODUCIBLE)
+                .withMoveThreadCount(moveThreadCount)
+                .withMoveThreadBufferSize(2)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.FIRST_FIT));
+    }
+
+}
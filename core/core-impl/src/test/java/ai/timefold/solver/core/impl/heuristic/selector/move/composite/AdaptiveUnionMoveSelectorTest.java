@@ -0,0 +1,166 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.composite;
+
+import static ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicyTestUtils.buildHeuristicConfigPolicy;
+import static ai.timefold.solver.core.impl.testdata.util.PlannerTestUtils.generateCrowdedTestdataSolution;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionOrder;
+import ai.timefold.solver.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.monitoring.MonitoringConfig;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.heuristic.move.DummyMove;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.SelectorTestUtils;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelectorFactory;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEasyScoreCalculator;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testutil.TestMeterRegistry;
+import ai.timefold.solver.core.impl.testutil.TestRandom;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Metrics;
+
+class AdaptiveUnionMoveSelectorTest {
+
+    @Test
+    void learnFromImprovingStep() {
+        MoveSelector<TestdataSolution> childMoveSelectorA = SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                new DummyMove("a1"), new DummyMove("a2"), new DummyMove("a3"));
+        MoveSelector<TestdataSolution> childMoveSelectorB = SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                new DummyMove("b1"), new DummyMove("b2"));
+        AdaptiveUnionMoveSelector<TestdataSolution> moveSelector =
+                new AdaptiveUnionMoveSelector<>(List.of(childMoveSelectorA, childMoveSelectorB), Map.of());
+
+        SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(new TestRandom(0.0, 0.75));
+        moveSelector.solvingStarted(solverScope);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        phaseScope.getLastCompletedStepScope().setScore(SimpleScore.of(-10));
+        moveSelector.phaseStarted(phaseScope);
+        assertThat(moveSelector.getProbabilityWeight(childMoveSelectorA)).isEqualTo(0.5);
+        assertThat(moveSelector.getProbabilityWeight(childMoveSelectorB)).isEqualTo(0.5);
+
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        moveSelector.stepStarted(stepScope);
+        Iterator<Move<TestdataSolution>> moveIterator = moveSelector.iterator();
+        assertThat(moveIterator.next()).hasToString("a1");
+        Move<TestdataSolution> step = moveIterator.next();
+        assertThat(step).hasToString("b1");
+        stepScope.setStep(step);
+        stepScope.setScore(SimpleScore.of(-5));
+        moveSelector.stepEnded(stepScope);
+
+        // Both children selected a move, but only b selected the improving step.
+        double probabilityWeightA = moveSelector.getProbabilityWeight(childMoveSelectorA);
+        double probabilityWeightB = moveSelector.getProbabilityWeight(childMoveSelectorB);
+        assertThat(probabilityWeightA).isCloseTo(0.9 * 0.9 / 1.9 + 0.05, within(1e-9));
+        assertThat(probabilityWeightB).isCloseTo(0.9 / 1.9 + 0.05, within(1e-9));
+        assertThat(probabilityWeightA + probabilityWeightB).isCloseTo(1.0, within(1e-9));
+        moveSelector.phaseEnded(phaseScope);
+
+        // A new phase learns from scratch.
+        moveSelector.phaseStarted(new LocalSearchPhaseScope<>(solverScope));
+        assertThat(moveSelector.getProbabilityWeight(childMoveSelectorA)).isEqualTo(0.5);
+        assertThat(moveSelector.getProbabilityWeight(childMoveSelectorB)).isEqualTo(0.5);
+    }
+
+    @Test
+    void buildWithFixedProbabilityWeightsAsInitialQualities() {
+        UnionMoveSelectorConfig moveSelectorConfig = new UnionMoveSelectorConfig()
+                .withAdaptiveSelection(true)
+                .withMoveSelectors(new ChangeMoveSelectorConfig().withFixedProbabilityWeight(3.0),
+                        new SwapMoveSelectorConfig().withFixedProbabilityWeight(1.0));
+        MoveSelector<TestdataSolution> moveSelector = MoveSelectorFactory.<TestdataSolution> create(moveSelectorConfig)
+                .buildMoveSelector(buildHeuristicConfigPolicy(), SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM,
+                        false);
+        assertThat(moveSelector).isInstanceOf(AdaptiveUnionMoveSelector.class);
+
+        AdaptiveUnionMoveSelector<TestdataSolution> adaptiveMoveSelector =
+                (AdaptiveUnionMoveSelector<TestdataSolution>) moveSelector;
+        List<MoveSelector<TestdataSolution>> childMoveSelectorList = adaptiveMoveSelector.getChildMoveSelectorList();
+        assertThat(adaptiveMoveSelector.getProbabilityWeight(childMoveSelectorList.get(0)))
+                .isCloseTo(0.9 * 3.0 / 4.0 + 0.05, within(1e-9));
+        assertThat(adaptiveMoveSelector.getProbabilityWeight(childMoveSelectorList.get(1)))
+                .isCloseTo(0.9 * 1.0 / 4.0 + 0.05, within(1e-9));
+    }
+
+    @Test
+    void buildWithOriginalSelectionOrder() {
+        UnionMoveSelectorConfig moveSelectorConfig = new UnionMoveSelectorConfig()
+                .withAdaptiveSelection(true)
+                .withMoveSelectors(new ChangeMoveSelectorConfig(), new SwapMoveSelectorConfig());
+        MoveSelectorFactory<TestdataSolution> moveSelectorFactory = MoveSelectorFactory.create(moveSelectorConfig);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> moveSelectorFactory.buildMoveSelector(buildHeuristicConfigPolicy(),
+                        SelectionCacheType.JUST_IN_TIME, SelectionOrder.ORIGINAL, false))
+                .withMessageContaining("adaptiveSelection");
+    }
+
+    @Test
+    void removeGaugesWhenSolvingEnded() {
+        TestMeterRegistry meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        try {
+            SolverConfig solverConfig = buildSolverConfig()
+                    .withMonitoringConfig(new MonitoringConfig()
+                            .withSolverMetricList(List.of(SolverMetric.MOVE_SELECTOR_PROBABILITY_WEIGHT)));
+            Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+            AtomicLong gaugeCountDuringSolving = new AtomicLong();
+            solver.addEventListener(event -> gaugeCountDuringSolving.set(countProbabilityWeightGauges(meterRegistry)));
+            solver.solve(generateCrowdedTestdataSolution(4, 4));
+
+            assertThat(gaugeCountDuringSolving.get()).isEqualTo(2L); // One per child move selector.
+            assertThat(countProbabilityWeightGauges(meterRegistry)).isZero();
+        } finally {
+            Metrics.removeRegistry(meterRegistry);
+        }
+    }
+
+    private static SolverConfig buildSolverConfig() {
+        return new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withPhases(new LocalSearchPhaseConfig()
+                        .withMoveSelectorConfig(new UnionMoveSelectorConfig()
+                                .withSelectionOrder(SelectionOrder.RANDOM)
+                                .withAdaptiveSelection(true)
+                                .withMoveSelectors(new ChangeMoveSelectorConfig(), new SwapMoveSelectorConfig()))
+                        .withTerminationConfig(new TerminationConfig()
+                                .withBestScoreLimit("0")
+                                .withStepCountLimit(1000)));
+    }
+
+    private static long countProbabilityWeightGauges(TestMeterRegistry meterRegistry) {
+        return meterRegistry.getMeters().stream()
+                .filter(meter -> meter.getId().getName().equals(SolverMetric.MOVE_SELECTOR_PROBABILITY_WEIGHT.getMeterId()))
+                .count();
+    }
+
+}
@@ -53,6 +53,8 @@ class ListAssignMoveTest {
         // undo
         undoMove.doMoveOnly(scoreDirector);
         assertThat(e1.getValueList()).isEmpty();
+        verify(scoreDirector).beforeListVariableElementUnassigned(variableDescriptor, v1);
+        verify(scoreDirector).afterListVariableElementUnassigned(variableDescriptor, v1);
 
         // v2 -> e1[0]
         new ListAssignMove<>(variableDescriptor, v2, e1, 0).doMove(scoreDirector);
@@ -0,0 +1,64 @@
+package ai.timefold.solver.core.impl.localsearch.decider;
+
+import static ai.timefold.solver.core.impl.testdata.util.PlannerTestUtils.generateCrowdedTestdataSolution;
+import static ai.timefold.solver.core.impl.testdata.util.PlannerTestUtils.getValueCodes;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEasyScoreCalculator;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataThreadRecordingEasyScoreCalculator;
+import ai.timefold.solver.core.impl.testdata.util.PlannerTestUtils;
+
+import org.junit.jupiter.api.Test;
+
+class MultiThreadedLocalSearchDeciderTest {
+
+    @Test
+    void solveReproducible() {
+        var solverConfig = buildSolverConfig(EnvironmentMode.REPRODUCIBLE);
+        var solution = PlannerTestUtils.solve(solverConfig, generateCrowdedTestdataSolution(8, 8));
+        assertThat(solution.getScore()).isGreaterThan(SimpleScore.of(-56));
+        var otherSolution = PlannerTestUtils.solve(solverConfig, generateCrowdedTestdataSolution(8, 8));
+        assertThat(otherSolution.getScore()).isEqualTo(solution.getScore());
+        assertThat(getValueCodes(otherSolution)).isEqualTo(getValueCodes(solution));
+    }
+
+    @Test
+    void evaluateMovesOnMoveThreads() {
+        TestdataThreadRecordingEasyScoreCalculator.clearThreadNameSet();
+        var solverConfig = buildSolverConfig(EnvironmentMode.REPRODUCIBLE)
+                .withEasyScoreCalculatorClass(TestdataThreadRecordingEasyScoreCalculator.class)
+                .withMoveThreadCount("3");
+        PlannerTestUtils.solve(solverConfig, generateCrowdedTestdataSolution(8, 8));
+        // Every move thread calculates scores, not only the solver thread.
+        assertThat(TestdataThreadRecordingEasyScoreCalculator.getThreadNameSet())
+                .filteredOn(threadName -> threadName.contains("-MoveThread-"))
+                .hasSize(3);
+    }
+
+    @Test
+    void solveFullAssert() {
+        // Asserts the move scores and that every move thread does the same steps as the solver thread.
+        var solution = PlannerTestUtils.solve(buildSolverConfig(EnvironmentMode.FULL_ASSERT),
+                generateCrowdedTestdataSolution(8, 8));
+        assertThat(solution.getScore()).isGreaterThan(SimpleScore.of(-56));
+    }
+
+    private static SolverConfig buildSolverConfig(EnvironmentMode environmentMode) {
+        return new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withEnvironmentMode(environmentMode)
+                .withMoveThreadCount("2")
+                .withPhases(new LocalSearchPhaseConfig()
+                        .withTerminationConfig(new TerminationConfig().withStepCountLimit(50)));
+    }
+
+}
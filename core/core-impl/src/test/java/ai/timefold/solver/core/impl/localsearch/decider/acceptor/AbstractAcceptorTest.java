@@ -6,6 +6,8 @@ import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.buildin.SimpleScoreDefinition;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 
 public abstract class AbstractAcceptorTest {
 
@@ -17,4 +19,13 @@ public abstract class AbstractAcceptorTest {
         return moveScope;
     }
 
+    protected <Solution_> boolean isAcceptedWithPrimitiveScore(Acceptor<Solution_> acceptor,
+            LocalSearchStepScope<Solution_> stepScope, int score) {
+        Move<Solution_> move = mock(Move.class);
+        LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope, 0, move);
+        PrimitiveScore<SimpleScore> moveScore = new PrimitiveScore<>(new SimpleScoreDefinition());
+        moveScore.setLevels(0, score);
+        return acceptor.isAccepted(moveScope, moveScore);
+    }
+
 }
@@ -63,4 +63,35 @@ class HillClimbingAcceptorTest extends AbstractAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    void primitiveScore() {
+        HillClimbingAcceptor<TestdataSolution> acceptor = new HillClimbingAcceptor<>();
+        assertThat(acceptor.isPrimitiveScoreSupported()).isTrue();
+
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setBestScore(SimpleScore.of(-1000));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(SimpleScore.of(-1000));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        // lastCompletedStepScore = -1000
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        assertThat(isAcceptedWithPrimitiveScore(acceptor, stepScope0, -900)).isTrue();
+        assertThat(isAcceptedWithPrimitiveScore(acceptor, stepScope0, -1000)).isTrue();
+        assertThat(isAcceptedWithPrimitiveScore(acceptor, stepScope0, -2000)).isFalse();
+        stepScope0.setScore(SimpleScore.of(-500));
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        // lastCompletedStepScore = -500
+        LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        assertThat(isAcceptedWithPrimitiveScore(acceptor, stepScope1, -900)).isFalse();
+        assertThat(isAcceptedWithPrimitiveScore(acceptor, stepScope1, -500)).isTrue();
+        assertThat(isAcceptedWithPrimitiveScore(acceptor, stepScope1, 600)).isTrue();
+
+        acceptor.phaseEnded(phaseScope);
+    }
+
 }
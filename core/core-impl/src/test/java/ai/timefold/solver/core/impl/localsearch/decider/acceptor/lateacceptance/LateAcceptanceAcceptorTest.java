@@ -241,6 +241,48 @@ class LateAcceptanceAcceptorTest extends AbstractAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    void primitiveScore() {
+        LateAcceptanceAcceptor<TestdataSolution> acceptor = new LateAcceptanceAcceptor<>();
+        acceptor.setLateAcceptanceSize(2);
+        acceptor.setHillClimbingEnabled(true);
+        assertThat(acceptor.isPrimitiveScoreSupported()).isTrue();
+
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setBestScore(SimpleScore.of(-1000));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(SimpleScore.of(-1000));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        // lateScore = -1000, lastCompletedStepScore = -1000
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        assertThat(isAcceptedWithPrimitiveScore(acceptor, stepScope0, -900)).isTrue();
+        assertThat(isAcceptedWithPrimitiveScore(acceptor, stepScope0, -1000)).isTrue();
+        assertThat(isAcceptedWithPrimitiveScore(acceptor, stepScope0, -1001)).isFalse();
+        stepScope0.setScore(SimpleScore.of(-500));
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        // lateScore = -1000, lastCompletedStepScore = -500
+        LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        assertThat(isAcceptedWithPrimitiveScore(acceptor, stepScope1, -900)).isTrue();
+        assertThat(isAcceptedWithPrimitiveScore(acceptor, stepScope1, -1001)).isFalse();
+        stepScope1.setScore(SimpleScore.of(-600));
+        acceptor.stepEnded(stepScope1);
+        phaseScope.setLastCompletedStepScope(stepScope1);
+
+        // lateScore = -500, lastCompletedStepScore = -600
+        LocalSearchStepScope<TestdataSolution> stepScope2 = new LocalSearchStepScope<>(phaseScope);
+        assertThat(isAcceptedWithPrimitiveScore(acceptor, stepScope2, -500)).isTrue();
+        assertThat(isAcceptedWithPrimitiveScore(acceptor, stepScope2, -550)).isTrue();
+        assertThat(isAcceptedWithPrimitiveScore(acceptor, stepScope2, -600)).isTrue();
+        assertThat(isAcceptedWithPrimitiveScore(acceptor, stepScope2, -601)).isFalse();
+
+        acceptor.phaseEnded(phaseScope);
+    }
+
     @Test
     void zeroLateAcceptanceSize() {
         LateAcceptanceAcceptor acceptor = new LateAcceptanceAcceptor();
@@ -15,6 +15,7 @@ import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 import ai.timefold.solver.core.impl.score.buildin.SimpleScoreDefinition;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.PrimitiveScore;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
 import ai.timefold.solver.core.impl.testutil.TestRandom;
@@ -209,6 +210,57 @@ class AcceptedLocalSearchForagerTest {
         forager.phaseEnded(phaseScope);
     }
 
+    @Test
+    void pickMoveWithPrimitiveScore() {
+        // Setup
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, false);
+        assertThat(forager.isPrimitiveScoreSupported()).isTrue();
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        PrimitiveScore<SimpleScore> moveScore = new PrimitiveScore<>(new SimpleScoreDefinition());
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(stepScope);
+        // Do stuff
+        LocalSearchMoveScope<TestdataSolution> a = addMoveWithPrimitiveScore(forager, stepScope, moveScore, -20, false);
+        LocalSearchMoveScope<TestdataSolution> b = addMoveWithPrimitiveScore(forager, stepScope, moveScore, -1, false);
+        LocalSearchMoveScope<TestdataSolution> c = addMoveWithPrimitiveScore(forager, stepScope, moveScore, -300, false);
+        LocalSearchMoveScope<TestdataSolution> d = addMoveWithPrimitiveScore(forager, stepScope, moveScore, -1, false);
+        // Post conditions
+        assertThat(a.getScore()).isEqualTo(SimpleScore.of(-20));
+        assertThat(b.getScore()).isEqualTo(SimpleScore.of(-1));
+        assertThat(c.getScore()).isNull(); // Never a finalist, so no score was created.
+        assertThat(d.getScore()).isEqualTo(SimpleScore.of(-1));
+        assertThat(forager.pickMove(stepScope)).isSameAs(b);
+        forager.stepEnded(stepScope);
+
+        stepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(stepScope);
+        // Do stuff
+        LocalSearchMoveScope<TestdataSolution> e = addMoveWithPrimitiveScore(forager, stepScope, moveScore, -1, false);
+        LocalSearchMoveScope<TestdataSolution> f = addMoveWithPrimitiveScore(forager, stepScope, moveScore, -20, true);
+        LocalSearchMoveScope<TestdataSolution> g = addMoveWithPrimitiveScore(forager, stepScope, moveScore, -2, false);
+        LocalSearchMoveScope<TestdataSolution> h = addMoveWithPrimitiveScore(forager, stepScope, moveScore, -10, true);
+        // Post conditions
+        assertThat(e.getScore()).isEqualTo(SimpleScore.of(-1));
+        assertThat(g.getScore()).isNull(); // Not accepted, while an accepted move is already a finalist.
+        assertThat(forager.pickMove(stepScope)).isSameAs(h);
+        forager.phaseEnded(phaseScope);
+    }
+
+    private static LocalSearchMoveScope<TestdataSolution> addMoveWithPrimitiveScore(
+            LocalSearchForager<TestdataSolution> forager, LocalSearchStepScope<TestdataSolution> stepScope,
+            PrimitiveScore<SimpleScore> moveScore, int score, boolean accepted) {
+        LocalSearchMoveScope<TestdataSolution> moveScope = new LocalSearchMoveScope<>(stepScope, 0, new DummyMove());
+        moveScore.setLevels(0, score);
+        moveScope.setAccepted(accepted);
+        if (accepted) {
+            moveScope.setScore(moveScore.toScore());
+        }
+        forager.addMove(moveScope, moveScore);
+        return moveScope;
+    }
+
     private LocalSearchPhaseScope<TestdataSolution> createPhaseScope() {
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
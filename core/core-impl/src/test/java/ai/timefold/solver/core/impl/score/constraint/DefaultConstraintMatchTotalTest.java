@@ -3,10 +3,12 @@ package ai.timefold.solver.core.impl.score.constraint;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatch;
 import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.api.score.stream.DefaultConstraintJustification;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
 import ai.timefold.solver.core.impl.testdata.util.PlannerAssert;
 
@@ -42,6 +44,31 @@ class DefaultConstraintMatchTotalTest {
         assertThat(constraintMatchTotal.getScore()).isEqualTo(SimpleScore.ZERO);
     }
 
+    @Test
+    void addConstraintMatchLazily() {
+        TestdataEntity e1 = new TestdataEntity("e1");
+        ConstraintRef constraintRef = ConstraintRef.of("package1", "constraint1");
+        DefaultConstraintMatchTotal<SimpleScore> constraintMatchTotal =
+                new DefaultConstraintMatchTotal<>(constraintRef, SimpleScore.ZERO);
+        AtomicInteger createdCount = new AtomicInteger();
+        constraintMatchTotal.addConstraintMatch(List.of(e1), SimpleScore.of(-1));
+        constraintMatchTotal.addConstraintMatch(() -> {
+            createdCount.incrementAndGet();
+            return new ConstraintMatch<>(constraintRef, DefaultConstraintJustification.of(SimpleScore.of(-20), List.of(e1)),
+                    List.of(e1), SimpleScore.of(-20));
+        }, SimpleScore.of(-20));
+        assertThat(constraintMatchTotal.getScore()).isEqualTo(SimpleScore.of(-21));
+        assertThat(constraintMatchTotal.getConstraintMatchCount()).isEqualTo(2);
+        assertThat(createdCount.get()).isZero();
+
+        assertThat(constraintMatchTotal.getConstraintMatchSet())
+                .map(ConstraintMatch::getScore)
+                .containsExactly(SimpleScore.of(-1), SimpleScore.of(-20));
+        assertThat(constraintMatchTotal.getConstraintMatchSet()).hasSize(2);
+        assertThat(constraintMatchTotal.getConstraintMatchCount()).isEqualTo(2);
+        assertThat(createdCount.get()).isEqualTo(1);
+    }
+
     @Test
     void equalsAndHashCode() {
         PlannerAssert.assertObjectsAreEqual(
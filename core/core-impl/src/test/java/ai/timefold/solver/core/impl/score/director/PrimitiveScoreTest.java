@@ -0,0 +1,85 @@
+package ai.timefold.solver.core.impl.score.director;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.impl.score.buildin.HardMediumSoftLongScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardSoftScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.SimpleScoreDefinition;
+
+import org.junit.jupiter.api.Test;
+
+class PrimitiveScoreTest {
+
+    @Test
+    void toScore() {
+        var simpleScore = new PrimitiveScore<>(new SimpleScoreDefinition());
+        simpleScore.setLevels(-1, -7);
+        assertThat(simpleScore.toScore()).isEqualTo(SimpleScore.ofUninitialized(-1, -7));
+
+        var hardSoftScore = new PrimitiveScore<>(new HardSoftScoreDefinition());
+        hardSoftScore.setLevels(0, -2, -300);
+        var score = hardSoftScore.toScore();
+        assertThat(score).isEqualTo(HardSoftScore.of(-2, -300));
+        assertThat(hardSoftScore.toScore()).isSameAs(score);
+        hardSoftScore.setLevels(0, -2, -300);
+        assertThat(hardSoftScore.toScore())
+                .isNotSameAs(score)
+                .isEqualTo(score);
+
+        var hardMediumSoftLongScore = new PrimitiveScore<>(new HardMediumSoftLongScoreDefinition());
+        hardMediumSoftLongScore.setLevels(0, -1L, Long.MIN_VALUE, Long.MAX_VALUE);
+        assertThat(hardMediumSoftLongScore.toScore())
+                .isEqualTo(HardMediumSoftLongScore.of(-1L, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    void setScore() {
+        var primitiveScore = new PrimitiveScore<>(new HardSoftScoreDefinition());
+        var score = HardSoftScore.ofUninitialized(-3, -2, -300);
+        primitiveScore.setScore(score);
+        assertThat(primitiveScore.toScore()).isSameAs(score);
+
+        var otherPrimitiveScore = new PrimitiveScore<>(new HardSoftScoreDefinition());
+        otherPrimitiveScore.setLevels(-3, -2, -300);
+        assertThat(otherPrimitiveScore.compareTo(primitiveScore)).isZero();
+
+        primitiveScore.updateScore(score);
+        assertThat(primitiveScore.toScore()).isSameAs(score);
+        var otherScore = HardSoftScore.of(-2, -300);
+        primitiveScore.updateScore(otherScore);
+        assertThat(primitiveScore.toScore()).isSameAs(otherScore);
+
+        otherPrimitiveScore.setFrom(primitiveScore);
+        assertThat(otherPrimitiveScore.toScore()).isSameAs(otherScore);
+    }
+
+    @Test
+    void compareTo() {
+        var scoreDefinition = new HardSoftScoreDefinition();
+        var a = new PrimitiveScore<>(scoreDefinition);
+        var b = new PrimitiveScore<>(scoreDefinition);
+        HardSoftScore[] scores = {
+                HardSoftScore.ofUninitialized(-8, 0, 0),
+                HardSoftScore.ofUninitialized(-7, -20, -20),
+                HardSoftScore.ofUninitialized(-7, -1, -300),
+                HardSoftScore.ofUninitialized(-7, 1, -4000),
+                HardSoftScore.of(-20, Integer.MIN_VALUE),
+                HardSoftScore.of(-1, -300),
+                HardSoftScore.of(-1, 4000),
+                HardSoftScore.of(0, Integer.MAX_VALUE)
+        };
+        for (var aScore : scores) {
+            a.setLevels(aScore.initScore(), aScore.hardScore(), aScore.softScore());
+            for (var bScore : scores) {
+                b.setLevels(bScore.initScore(), bScore.hardScore(), bScore.softScore());
+                assertThat(Integer.signum(a.compareTo(b)))
+                        .as(aScore + " compared to " + bScore)
+                        .isEqualTo(Integer.signum(aScore.compareTo(bScore)));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,212 @@
+package ai.timefold.solver.core.impl.score.director;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListValue;
+import ai.timefold.solver.core.impl.testdata.domain.shadow.inverserelation.TestdataInverseRelationEntity;
+import ai.timefold.solver.core.impl.testdata.domain.shadow.inverserelation.TestdataInverseRelationSolution;
+import ai.timefold.solver.core.impl.testdata.domain.shadow.inverserelation.TestdataInverseRelationValue;
+
+import org.junit.jupiter.api.Test;
+
+class WorkingSolutionSnapshotTest {
+
+    private static InnerScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector(TestdataSolution solution) {
+        var scoreDirectorFactory = new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                (TestdataSolution s) -> SimpleScore.of(-(int) s.getEntityList().stream()
+                        .filter(entity -> entity.getValue() == s.getValueList().get(0))
+                        .count()));
+        var scoreDirector = scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.calculateScore();
+        return scoreDirector;
+    }
+
+    private static void changeValue(InnerScoreDirector<TestdataSolution, ?> scoreDirector, TestdataEntity entity,
+            TestdataValue value) {
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(value);
+        scoreDirector.afterVariableChanged(entity, "value");
+    }
+
+    @Test
+    void basicVariable() {
+        var solution = TestdataSolution.generateSolution(3, 3);
+        var scoreDirector = buildScoreDirector(solution);
+        var v1 = solution.getValueList().get(0);
+        var v2 = solution.getValueList().get(1);
+        var e1 = solution.getEntityList().get(0);
+        var e2 = solution.getEntityList().get(1);
+
+        var snapshot = scoreDirector.snapshotWorkingSolution();
+        changeValue(scoreDirector, e1, v2);
+        changeValue(scoreDirector, e2, null);
+        changeValue(scoreDirector, e1, null);
+        scoreDirector.calculateScore();
+
+        var snapshotSolution = snapshot.getSolution();
+        assertThat(snapshotSolution).isNotSameAs(solution);
+        assertThat(snapshotSolution.getScore()).isEqualTo(SimpleScore.of(-1));
+        assertThat(snapshotSolution.getEntityList().get(0).getValue().getCode()).isEqualTo(v1.getCode());
+        assertThat(snapshotSolution.getEntityList().get(1).getValue().getCode()).isEqualTo(v2.getCode());
+        // The working solution is unaffected.
+        assertThat(e1.getValue()).isNull();
+        assertThat(e2.getValue()).isNull();
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.ofUninitialized(-2, 0));
+
+        // Changes after the solution was requested do not affect it anymore.
+        changeValue(scoreDirector, e1, v1);
+        assertThat(snapshot.getSolution()).isSameAs(snapshotSolution);
+        assertThat(snapshotSolution.getEntityList().get(0).getValue().getCode()).isEqualTo(v1.getCode());
+        assertThat(snapshotSolution.getEntityList().get(1).getValue().getCode()).isEqualTo(v2.getCode());
+    }
+
+    @Test
+    void listVariable() {
+        var a = new TestdataListValue("a");
+        var b = new TestdataListValue("b");
+        var c = new TestdataListValue("c");
+        var e1 = TestdataListEntity.createWithValues("e1", a, b);
+        var e2 = TestdataListEntity.createWithValues("e2", c);
+        var solution = new TestdataListSolution();
+        solution.setValueList(List.of(a, b, c));
+        solution.setEntityList(List.of(e1, e2));
+        var scoreDirector = new EasyScoreDirectorFactory<>(TestdataListSolution.buildSolutionDescriptor(),
+                (TestdataListSolution s) -> SimpleScore.of(-s.getEntityList().get(0).getValueList().size()))
+                .buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.calculateScore();
+
+        var snapshot = scoreDirector.snapshotWorkingSolution();
+        // Move "a" to the end of e2.
+        scoreDirector.beforeListVariableChanged(e1, "valueList", 0, 1);
+        e1.getValueList().remove(a);
+        scoreDirector.afterListVariableChanged(e1, "valueList", 0, 0);
+        scoreDirector.beforeListVariableChanged(e2, "valueList", 1, 1);
+        e2.getValueList().add(a);
+        scoreDirector.afterListVariableChanged(e2, "valueList", 1, 2);
+        scoreDirector.triggerVariableListeners();
+        assertThat(a.getEntity()).isSameAs(e2);
+        assertThat(b.getIndex()).isZero();
+
+        var snapshotSolution = snapshot.getSolution();
+        var snapshotE1 = snapshotSolution.getEntityList().get(0);
+        var snapshotE2 = snapshotSolution.getEntityList().get(1);
+        assertThat(snapshotE1.getValueList()).map(TestdataListValue::getCode).containsExactly("a", "b");
+        assertThat(snapshotE2.getValueList()).map(TestdataListValue::getCode).containsExactly("c");
+        var snapshotB = snapshotE1.getValueList().get(1);
+        assertThat(snapshotB.getEntity()).isSameAs(snapshotE1);
+        assertThat(snapshotB.getIndex()).isEqualTo(1);
+        var snapshotA = snapshotE1.getValueList().get(0);
+        assertThat(snapshotA.getEntity()).isSameAs(snapshotE1);
+        assertThat(snapshotA.getIndex()).isZero();
+        // The working solution is unaffected.
+        assertThat(e1.getValueList()).containsExactly(b);
+        assertThat(e2.getValueList()).containsExactly(c, a);
+        assertThat(a.getEntity()).isSameAs(e2);
+        assertThat(a.getIndex()).isEqualTo(1);
+        assertThat(b.getIndex()).isZero();
+    }
+
+    @Test
+    void collectionShadowVariable() {
+        var v1 = new TestdataInverseRelationValue("v1");
+        var v2 = new TestdataInverseRelationValue("v2");
+        var e1 = new TestdataInverseRelationEntity("e1", v1);
+        var e2 = new TestdataInverseRelationEntity("e2", v1);
+        var solution = new TestdataInverseRelationSolution("s");
+        solution.setValueList(List.of(v1, v2));
+        solution.setEntityList(List.of(e1, e2));
+        var scoreDirector = new EasyScoreDirectorFactory<>(TestdataInverseRelationSolution.buildSolutionDescriptor(),
+                (TestdataInverseRelationSolution s) -> SimpleScore.of(-s.getValueList().get(0).getEntities().size()))
+                .buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.calculateScore();
+        var v1Entities = v1.getEntities();
+        var v2Entities = v2.getEntities();
+
+        var snapshot = scoreDirector.snapshotWorkingSolution();
+        // The inverse relation shadow variable changes its collections in place.
+        scoreDirector.beforeVariableChanged(e1, "value");
+        e1.setValue(v2);
+        scoreDirector.afterVariableChanged(e1, "value");
+        scoreDirector.triggerVariableListeners();
+        scoreDirector.calculateScore();
+        assertThat(v1.getEntities()).containsExactly(e2);
+        assertThat(v2.getEntities()).containsExactly(e1);
+
+        var snapshotSolution = snapshot.getSolution();
+        assertThat(snapshotSolution.getScore()).isEqualTo(SimpleScore.of(-2));
+        var snapshotV1 = snapshotSolution.getValueList().get(0);
+        var snapshotV2 = snapshotSolution.getValueList().get(1);
+        assertThat(snapshotV1.getEntities()).map(TestdataInverseRelationEntity::getCode).containsExactlyInAnyOrder("e1", "e2");
+        assertThat(snapshotV2.getEntities()).isEmpty();
+        // The working solution is unaffected and still holds on to the same collections.
+        assertThat(v1.getEntities()).isSameAs(v1Entities).containsExactly(e2);
+        assertThat(v2.getEntities()).isSameAs(v2Entities).containsExactly(e1);
+    }
+
+    @Test
+    void changesUndoneBeforeStepEndsAreNotRecorded() {
+        var solution = TestdataSolution.generateSolution(3, 3);
+        var scoreDirector = buildScoreDirector(solution);
+        var v1 = solution.getValueList().get(0);
+        var v2 = solution.getValueList().get(1);
+        var e1 = solution.getEntityList().get(0);
+
+        var snapshot = scoreDirector.snapshotWorkingSolution();
+        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
+        changeValue(scoreDirector, e1, v2);
+        assertThatIllegalStateException()
+                .isThrownBy(snapshot::getSolution)
+                .withMessageContaining("while a move is being evaluated");
+        changeValue(scoreDirector, e1, v1);
+        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+
+        assertThat(snapshot.getSolution().getEntityList().get(0).getValue().getCode()).isEqualTo(v1.getCode());
+    }
+
+    @Test
+    void discard() {
+        var solution = TestdataSolution.generateSolution(3, 3);
+        var scoreDirector = buildScoreDirector(solution);
+        var v2 = solution.getValueList().get(1);
+        var e1 = solution.getEntityList().get(0);
+
+        var firstSnapshot = scoreDirector.snapshotWorkingSolution();
+        changeValue(scoreDirector, e1, v2);
+        var secondSnapshot = scoreDirector.snapshotWorkingSolution();
+        assertThatIllegalStateException()
+                .isThrownBy(firstSnapshot::getSolution)
+                .withMessageContaining("discarded");
+        assertThat(secondSnapshot.getSolution().getEntityList().get(0).getValue().getCode()).isEqualTo(v2.getCode());
+        // Discarding after the solution was requested has no effect.
+        secondSnapshot.discard();
+        assertThat(secondSnapshot.getSolution()).isNotNull();
+    }
+
+    @Test
+    void setWorkingSolutionClonesPendingSnapshot() {
+        var solution = TestdataSolution.generateSolution(3, 3);
+        var scoreDirector = buildScoreDirector(solution);
+        var v1 = solution.getValueList().get(0);
+        var v2 = solution.getValueList().get(1);
+        var e1 = solution.getEntityList().get(0);
+
+        var snapshot = scoreDirector.snapshotWorkingSolution();
+        changeValue(scoreDirector, e1, v2);
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(3, 3));
+        assertThat(snapshot.getSolution().getEntityList().get(0).getValue().getCode()).isEqualTo(v1.getCode());
+    }
+
+}
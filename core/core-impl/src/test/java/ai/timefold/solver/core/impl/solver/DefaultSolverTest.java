@@ -50,11 +50,14 @@ import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.config.solver.monitoring.MonitoringConfig;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.config.solver.testutil.calculator.TestdataDifferentValuesCalculator;
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionFilter;
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.ChangeMove;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 import ai.timefold.solver.core.impl.phase.custom.CustomPhaseCommand;
 import ai.timefold.solver.core.impl.phase.custom.NoChangeCustomPhaseCommand;
 import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.score.DummySimpleScoreEasyScoreCalculator;
 import ai.timefold.solver.core.impl.score.constraint.DefaultConstraintMatchTotal;
@@ -207,6 +210,27 @@ class DefaultSolverTest {
         assertThat(solution.getScore().isSolutionInitialized()).isTrue();
     }
 
+    @Test
+    void solveWithLazyBestSolutionCloning() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataDifferentValuesCalculator.class)
+                .withEnvironmentMode(EnvironmentMode.REPRODUCIBLE)
+                .withLazyBestSolutionCloning(true);
+        var solverFactory = SolverFactory.<TestdataSolution> create(solverConfig);
+        var solver = solverFactory.buildSolver();
+
+        var solution = TestdataSolution.generateSolution(3, 7);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+        var bestSolution = solver.solve(solution);
+        assertThat(bestSolution).isNotSameAs(solution);
+        assertThat(bestSolution.getEntityList())
+                .doesNotContainAnyElementsOf(solution.getEntityList());
+        var bestScore = bestSolution.getScore();
+        assertThat(bestScore.isSolutionInitialized()).isTrue();
+        // The best solution must be the one that had the best score, not the last working solution.
+        assertThat(SolutionManager.create(solverFactory).update(bestSolution)).isEqualTo(bestScore);
+    }
+
     @Test
     void solveCorruptedEasyUninitialized() {
         var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
@@ -965,6 +989,39 @@ class DefaultSolverTest {
         executorService.shutdown();
     }
 
+    @Test
+    void solveWithIncrementalProblemChanges() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withIncrementalProblemChanges(true);
+        DefaultSolver<TestdataSolution> solver =
+                (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        final int valueCount = 4;
+        TestdataSolution solution = TestdataSolution.generateSolution(valueCount, valueCount);
+
+        AtomicInteger phaseStartedCount = new AtomicInteger();
+        AtomicBoolean problemChangeAdded = new AtomicBoolean();
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void phaseStarted(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                phaseStartedCount.incrementAndGet();
+            }
+
+            @Override
+            public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+                // Add the problem change during Local Search, so it is applied after this step.
+                if (stepScope instanceof LocalSearchStepScope && problemChangeAdded.compareAndSet(false, true)) {
+                    solver.addProblemChange((workingSolution, problemChangeDirector) -> problemChangeDirector
+                            .addProblemFact(new TestdataValue("added value"), workingSolution.getValueList()::add));
+                }
+            }
+        });
+
+        TestdataSolution bestSolution = solver.solve(solution);
+        assertThat(bestSolution.getValueList()).hasSize(valueCount + 1);
+        // Only the Construction Heuristic and the Local Search started, the solver did not restart.
+        assertThat(phaseStartedCount.get()).isEqualTo(2);
+    }
+
     @Test
     void solveRepeatedlyBasicVariable(SoftAssertions softly) {
         SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
@@ -0,0 +1,136 @@
+package ai.timefold.solver.core.impl.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.extended.TestdataUnannotatedExtendedEntity;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListValue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SolutionCheckpointTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void basicVariable() {
+        var solution = TestdataSolution.generateSolution(3, 4);
+        var valueList = solution.getValueList();
+        var entityList = solution.getEntityList();
+        entityList.get(0).setValue(valueList.get(2));
+        entityList.get(1).setValue(null);
+        entityList.get(2).setValue(valueList.get(0));
+        entityList.get(3).setValue(valueList.get(2));
+        var checkpoint = new SolutionCheckpoint<>(TestdataSolution.buildSolutionDescriptor());
+        var checkpointFile = tempDir.resolve("basic.checkpoint");
+        checkpoint.write(solution, checkpointFile);
+
+        var problem = TestdataSolution.generateSolution(3, 4);
+        checkpoint.restore(checkpointFile, problem);
+        var problemValueList = problem.getValueList();
+        assertThat(problem.getEntityList().stream().map(TestdataEntity::getValue).toList())
+                .containsExactly(problemValueList.get(2), null, problemValueList.get(0), problemValueList.get(2));
+    }
+
+    @Test
+    void entitySubclass() {
+        var solution = TestdataSolution.generateSolution(2, 2);
+        var valueList = solution.getValueList();
+        var extendedEntity = new TestdataUnannotatedExtendedEntity("Extended entity", valueList.get(1));
+        solution.setEntityList(List.of(solution.getEntityList().get(0), extendedEntity));
+        solution.getEntityList().get(0).setValue(valueList.get(0));
+        var checkpoint = new SolutionCheckpoint<>(TestdataSolution.buildSolutionDescriptor());
+        var checkpointFile = tempDir.resolve("subclass.checkpoint");
+        checkpoint.write(solution, checkpointFile);
+
+        var problem = TestdataSolution.generateSolution(2, 2);
+        var problemEntity = problem.getEntityList().get(0);
+        problemEntity.setValue(null);
+        var problemExtendedEntity = new TestdataUnannotatedExtendedEntity("Extended entity");
+        problem.setEntityList(List.of(problemEntity, problemExtendedEntity));
+        checkpoint.restore(checkpointFile, problem);
+        var problemValueList = problem.getValueList();
+        assertThat(problemEntity.getValue()).isSameAs(problemValueList.get(0));
+        assertThat(problemExtendedEntity.getValue()).isSameAs(problemValueList.get(1));
+    }
+
+    @Test
+    void listVariable() {
+        var a = new TestdataListValue("a");
+        var b = new TestdataListValue("b");
+        var c = new TestdataListValue("c");
+        var solution = new TestdataListSolution();
+        solution.setValueList(List.of(a, b, c));
+        solution.setEntityList(List.of(TestdataListEntity.createWithValues("e1", c, a),
+                TestdataListEntity.createWithValues("e2"),
+                TestdataListEntity.createWithValues("e3", b)));
+        var checkpoint = new SolutionCheckpoint<>(TestdataListSolution.buildSolutionDescriptor());
+        var checkpointFile = tempDir.resolve("list.checkpoint");
+        checkpoint.write(solution, checkpointFile);
+
+        var problemA = new TestdataListValue("a");
+        var problemB = new TestdataListValue("b");
+        var problemC = new TestdataListValue("c");
+        var problem = new TestdataListSolution();
+        problem.setValueList(List.of(problemA, problemB, problemC));
+        // The entities are in a different order than in the checkpoint.
+        var problemE3 = new TestdataListEntity("e3", new ArrayList<>());
+        var problemE1 = new TestdataListEntity("e1", new ArrayList<>(List.of(problemB)));
+        var problemE2 = new TestdataListEntity("e2", new ArrayList<>());
+        problem.setEntityList(List.of(problemE3, problemE1, problemE2));
+        checkpoint.restore(checkpointFile, problem);
+        assertThat(problemE1.getValueList()).containsExactly(problemC, problemA);
+        assertThat(problemE2.getValueList()).isEmpty();
+        assertThat(problemE3.getValueList()).containsExactly(problemB);
+    }
+
+    @Test
+    void overwritesPreviousCheckpoint() {
+        var solution = TestdataSolution.generateSolution(2, 2);
+        var checkpoint = new SolutionCheckpoint<>(TestdataSolution.buildSolutionDescriptor());
+        var checkpointFile = tempDir.resolve("overwritten.checkpoint");
+        checkpoint.write(solution, checkpointFile);
+        solution.getEntityList().get(0).setValue(solution.getValueList().get(1));
+        checkpoint.write(solution, checkpointFile);
+
+        var problem = TestdataSolution.generateSolution(2, 2);
+        checkpoint.restore(checkpointFile, problem);
+        assertThat(problem.getEntityList().get(0).getValue()).isSameAs(problem.getValueList().get(1));
+    }
+
+    @Test
+    void missingEntity() {
+        var solution = TestdataSolution.generateSolution(2, 3);
+        var checkpoint = new SolutionCheckpoint<>(TestdataSolution.buildSolutionDescriptor());
+        var checkpointFile = tempDir.resolve("missing.checkpoint");
+        checkpoint.write(solution, checkpointFile);
+
+        var problem = TestdataSolution.generateSolution(2, 2);
+        assertThatIllegalStateException()
+                .isThrownBy(() -> checkpoint.restore(checkpointFile, problem))
+                .withMessageContaining("Generated Entity 2")
+                .withMessageContaining("not in the problem");
+    }
+
+    @Test
+    void nullPlanningId() {
+        var solution = TestdataSolution.generateSolution(2, 2);
+        solution.getEntityList().set(1, new TestdataEntity(null, solution.getValueList().get(0)));
+        var checkpoint = new SolutionCheckpoint<>(TestdataSolution.buildSolutionDescriptor());
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> checkpoint.write(solution, tempDir.resolve("null.checkpoint")))
+                .withMessageContaining("null @PlanningId");
+    }
+
+}
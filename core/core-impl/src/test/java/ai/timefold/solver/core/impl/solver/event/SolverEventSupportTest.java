@@ -0,0 +1,136 @@
+package ai.timefold.solver.core.impl.solver.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class SolverEventSupportTest {
+
+    @Test
+    void throttleOnMinimumInterval() {
+        var solverEventSupport = new SolverEventSupport<TestdataSolution>(mock(Solver.class));
+        var eventList = new ArrayList<BestSolutionChangedEvent<TestdataSolution>>();
+        solverEventSupport.addEventListener(eventList::add);
+        solverEventSupport.setBestSolutionEventThrottling(Duration.ofSeconds(1), null);
+        var solverScope = new SolverScope<TestdataSolution>();
+        solverScope.startingNow();
+        var startingTimeMillis = System.currentTimeMillis() - 10_000L;
+
+        var s1 = changeBestSolution(solverScope, startingTimeMillis, -3);
+        solverEventSupport.fireBestSolutionChanged(solverScope);
+        var s2 = changeBestSolution(solverScope, startingTimeMillis + 10L, -2);
+        solverEventSupport.fireBestSolutionChanged(solverScope);
+        assertThat(getBestSolutions(eventList)).containsExactly(s1);
+
+        // The minimum interval since the first event has elapsed, so the pending event is fired without a new best solution.
+        solverEventSupport.fireElapsedBestSolutionChanged(solverScope);
+        assertThat(getBestSolutions(eventList)).containsExactly(s1, s2);
+        assertThat(eventList.get(1).getNewBestScore()).isEqualTo(SimpleScore.of(-2));
+        // Nothing is pending anymore.
+        solverEventSupport.fireElapsedBestSolutionChanged(solverScope);
+        solverEventSupport.firePendingBestSolutionChanged(solverScope);
+        assertThat(getBestSolutions(eventList)).containsExactly(s1, s2);
+    }
+
+    @Test
+    void throttleOnMinimumIntervalNotElapsed() {
+        var solverEventSupport = new SolverEventSupport<TestdataSolution>(mock(Solver.class));
+        var eventList = new ArrayList<BestSolutionChangedEvent<TestdataSolution>>();
+        solverEventSupport.addEventListener(eventList::add);
+        solverEventSupport.setBestSolutionEventThrottling(Duration.ofHours(1), null);
+        var solverScope = new SolverScope<TestdataSolution>();
+        solverScope.startingNow();
+        var startingTimeMillis = System.currentTimeMillis();
+
+        var s1 = changeBestSolution(solverScope, startingTimeMillis, -3);
+        solverEventSupport.fireBestSolutionChanged(solverScope);
+        changeBestSolution(solverScope, startingTimeMillis + 1L, -2);
+        solverEventSupport.fireBestSolutionChanged(solverScope);
+        var s3 = changeBestSolution(solverScope, startingTimeMillis + 2L, -1);
+        solverEventSupport.fireBestSolutionChanged(solverScope);
+        solverEventSupport.fireElapsedBestSolutionChanged(solverScope);
+        assertThat(getBestSolutions(eventList)).containsExactly(s1);
+
+        // The last best solution is always fired when solving ends, skipping the ones in between.
+        solverEventSupport.firePendingBestSolutionChanged(solverScope);
+        assertThat(getBestSolutions(eventList)).containsExactly(s1, s3);
+    }
+
+    @Test
+    void throttleOnMinimumScoreDelta() {
+        var solverEventSupport = new SolverEventSupport<TestdataSolution>(mock(Solver.class));
+        var eventList = new ArrayList<BestSolutionChangedEvent<TestdataSolution>>();
+        solverEventSupport.addEventListener(eventList::add);
+        solverEventSupport.setBestSolutionEventThrottling(Duration.ZERO, SimpleScore.of(10));
+        var solverScope = new SolverScope<TestdataSolution>();
+        solverScope.startingNow();
+        var startingTimeMillis = System.currentTimeMillis();
+
+        var s1 = changeBestSolution(solverScope, startingTimeMillis, -100);
+        solverEventSupport.fireBestSolutionChanged(solverScope);
+        changeBestSolution(solverScope, startingTimeMillis + 1L, -95);
+        solverEventSupport.fireBestSolutionChanged(solverScope);
+        var s3 = changeBestSolution(solverScope, startingTimeMillis + 2L, -90);
+        solverEventSupport.fireBestSolutionChanged(solverScope);
+        var s4 = changeBestSolution(solverScope, startingTimeMillis + 3L, -81);
+        solverEventSupport.fireBestSolutionChanged(solverScope);
+        assertThat(getBestSolutions(eventList)).containsExactly(s1, s3);
+
+        // The interval has elapsed, but the best score did not improve enough.
+        solverEventSupport.fireElapsedBestSolutionChanged(solverScope);
+        assertThat(getBestSolutions(eventList)).containsExactly(s1, s3);
+        solverEventSupport.firePendingBestSolutionChanged(solverScope);
+        assertThat(getBestSolutions(eventList)).containsExactly(s1, s3, s4);
+        assertThat(eventList.get(2).getNewBestScore()).isEqualTo(SimpleScore.of(-81));
+    }
+
+    @Test
+    void initScoreChangeIsNotThrottledOnMinimumScoreDelta() {
+        var solverEventSupport = new SolverEventSupport<TestdataSolution>(mock(Solver.class));
+        var eventList = new ArrayList<BestSolutionChangedEvent<TestdataSolution>>();
+        solverEventSupport.addEventListener(eventList::add);
+        solverEventSupport.setBestSolutionEventThrottling(Duration.ZERO, SimpleScore.of(10));
+        var solverScope = new SolverScope<TestdataSolution>();
+        solverScope.startingNow();
+        var startingTimeMillis = System.currentTimeMillis();
+
+        var s1 = changeBestSolution(solverScope, startingTimeMillis, -100);
+        solverEventSupport.fireBestSolutionChanged(solverScope);
+        // Such as after a problem change that added an uninitialized entity.
+        var s2 = changeBestSolution(solverScope, startingTimeMillis + 1L, SimpleScore.ofUninitialized(-1, -100));
+        solverEventSupport.fireBestSolutionChanged(solverScope);
+        assertThat(getBestSolutions(eventList)).containsExactly(s1, s2);
+    }
+
+    private static TestdataSolution changeBestSolution(SolverScope<TestdataSolution> solverScope, long timeMillis,
+            int score) {
+        return changeBestSolution(solverScope, timeMillis, SimpleScore.of(score));
+    }
+
+    private static TestdataSolution changeBestSolution(SolverScope<TestdataSolution> solverScope, long timeMillis,
+            SimpleScore score) {
+        var bestSolution = new TestdataSolution(score.toString());
+        solverScope.setBestSolution(bestSolution);
+        solverScope.setBestScore(score);
+        solverScope.setBestSolutionTimeMillis(timeMillis);
+        return bestSolution;
+    }
+
+    private static List<TestdataSolution> getBestSolutions(List<BestSolutionChangedEvent<TestdataSolution>> eventList) {
+        return eventList.stream()
+                .map(BestSolutionChangedEvent::getNewBestSolution)
+                .toList();
+    }
+
+}
@@ -0,0 +1,31 @@
+package ai.timefold.solver.core.impl.testdata.domain;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+
+/**
+ * Records the name of every thread that calculates a score,
+ * for tests that assert on which threads the scores are calculated.
+ * The solver creates its own instance, so the thread names are shared by all instances.
+ */
+public class TestdataThreadRecordingEasyScoreCalculator extends TestdataEasyScoreCalculator {
+
+    private static final Set<String> THREAD_NAME_SET = ConcurrentHashMap.newKeySet();
+
+    public static Set<String> getThreadNameSet() {
+        return Set.copyOf(THREAD_NAME_SET);
+    }
+
+    public static void clearThreadNameSet() {
+        THREAD_NAME_SET.clear();
+    }
+
+    @Override
+    public SimpleScore calculateScore(TestdataSolution solution) {
+        THREAD_NAME_SET.add(Thread.currentThread().getName());
+        return super.calculateScore(solution);
+    }
+
+}
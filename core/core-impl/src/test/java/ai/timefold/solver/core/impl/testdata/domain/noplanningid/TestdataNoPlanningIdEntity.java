@@ -0,0 +1,47 @@
+package ai.timefold.solver.core.impl.testdata.domain.noplanningid;
+
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+/**
+ * Unlike {@link ai.timefold.solver.core.impl.testdata.domain.TestdataObject}, it has no planning ID,
+ * so it cannot be looked up.
+ */
+@PlanningEntity
+public class TestdataNoPlanningIdEntity {
+
+    private String code;
+    private TestdataValue value;
+
+    public TestdataNoPlanningIdEntity() {
+    }
+
+    public TestdataNoPlanningIdEntity(String code, TestdataValue value) {
+        this.code = code;
+        this.value = value;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    @PlanningVariable(valueRangeProviderRefs = "valueRange")
+    public TestdataValue getValue() {
+        return value;
+    }
+
+    public void setValue(TestdataValue value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+
+}
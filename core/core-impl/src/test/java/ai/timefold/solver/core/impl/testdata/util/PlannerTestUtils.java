@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
@@ -103,6 +104,31 @@ public class PlannerTestUtils {
         return solution;
     }
 
+    /**
+     * Every entity starts with the same value, so the score is {@code -entityCount * (entityCount - 1)}.
+     */
+    public static TestdataSolution generateCrowdedTestdataSolution(int valueCount, int entityCount) {
+        TestdataSolution solution = TestdataSolution.generateSolution(valueCount, entityCount);
+        TestdataValue value = solution.getValueList().get(0);
+        solution.getEntityList().forEach(entity -> entity.setValue(value));
+        return solution;
+    }
+
+    public static TestdataSolution generateUninitializedTestdataSolution(int valueCount, int entityCount) {
+        TestdataSolution solution = TestdataSolution.generateSolution(valueCount, entityCount);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+        return solution;
+    }
+
+    /**
+     * @return the code of the value of every entity, in order, to compare the solutions of different solvers
+     */
+    public static List<String> getValueCodes(TestdataSolution solution) {
+        return solution.getEntityList().stream()
+                .map(entity -> entity.getValue().getCode())
+                .toList();
+    }
+
     // ************************************************************************
     // ScoreDirector methods
     // ************************************************************************
@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -49,6 +50,31 @@ class ElementAwareListTest {
         assertThat(tupleList.last()).isNull();
     }
 
+    @Test
+    void addRemovedEntry() {
+        ElementAwareList<String> oldList = new ElementAwareList<>();
+        ElementAwareListEntry<String> entryA = oldList.add("A");
+        assertThatThrownBy(() -> new ElementAwareList<String>().add(entryA))
+                .isInstanceOf(IllegalStateException.class);
+        entryA.remove();
+
+        ElementAwareList<String> newList = new ElementAwareList<>();
+        ElementAwareListEntry<String> entryB = newList.add("B");
+        newList.add(entryA);
+        assertThat(newList.size()).isEqualTo(2);
+        assertThat(entryA.getList()).isSameAs(newList);
+        assertThat(newList.first()).isEqualTo(entryB);
+        assertThat(entryB.next).isEqualTo(entryA);
+        assertThat(entryA.previous).isEqualTo(entryB);
+        assertThat(entryA.next).isNull();
+        assertThat(newList.last()).isEqualTo(entryA);
+        assertThat(newList).containsExactly("B", "A");
+
+        entryA.remove();
+        assertThat(newList.size()).isEqualTo(1);
+        assertThat(newList.last()).isEqualTo(entryB);
+    }
+
     @Test
     public void iterator() {
         // create a list and add some elements